@@ -46,10 +46,10 @@ import io.airbyte.db.factory.FlywayFactory
 import io.airbyte.db.instance.DatabaseConstants
 import io.airbyte.db.instance.configs.ConfigsDatabaseMigrator
 import io.airbyte.db.instance.configs.ConfigsDatabaseTestProvider
-import io.airbyte.db.instance.configs.migrations.V1_1_1_024__DropAndAddFkRestraintsForPartialUserConfig
+import io.airbyte.db.instance.configs.migrations.V1_1_1_025__AddWorkloadQueueNotifyTrigger
 import io.airbyte.db.instance.jobs.JobsDatabaseMigrator
 import io.airbyte.db.instance.jobs.JobsDatabaseTestProvider
-import io.airbyte.db.instance.jobs.migrations.V1_1_0_001__AddIsScheduledToJobTable
+import io.airbyte.db.instance.jobs.migrations.V1_1_1_001__AddStreamStatsRollup
 import io.airbyte.featureflag.FeatureFlagClient
 import io.airbyte.featureflag.TestClient
 import io.airbyte.metrics.MetricClient
@@ -774,8 +774,8 @@ internal class BootloaderTest {
 
     // ⚠️ This line should change with every new migration to show that you meant to make a new
     // migration to the prod database
-    private val CURRENT_CONFIGS_MIGRATION = V1_1_1_024__DropAndAddFkRestraintsForPartialUserConfig::class.java
-    private val CURRENT_JOBS_MIGRATION = V1_1_0_001__AddIsScheduledToJobTable::class.java
+    private val CURRENT_CONFIGS_MIGRATION = V1_1_1_025__AddWorkloadQueueNotifyTrigger::class.java
+    private val CURRENT_JOBS_MIGRATION = V1_1_1_001__AddStreamStatsRollup::class.java
 
     private fun getMigrationVersion(cls: Class<*>): String =
       cls.simpleName
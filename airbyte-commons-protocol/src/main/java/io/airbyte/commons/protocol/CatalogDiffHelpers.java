@@ -145,6 +145,17 @@ public class CatalogDiffHelpers {
         .collect(Collectors.toMap(CatalogDiffHelpers::extractStreamDescriptor, s -> s));
   }
 
+  /**
+   * Indexes the configured streams by descriptor. If several configured streams have the same
+   * descriptor, the first one is kept.
+   */
+  private static Map<StreamDescriptor, ConfiguredAirbyteStream> configuredStreamDescriptorToMap(final ConfiguredAirbyteCatalog catalog) {
+    final Map<StreamDescriptor, ConfiguredAirbyteStream> descriptorToStream = new HashMap<>();
+    catalog.getStreams().forEach(s -> descriptorToStream.putIfAbsent(
+        new StreamDescriptor().withName(s.getStream().getName()).withNamespace(s.getStream().getNamespace()), s));
+    return descriptorToStream;
+  }
+
   public static StreamDescriptor extractStreamDescriptor(final AirbyteStream airbyteStream) {
     return new StreamDescriptor().withName(airbyteStream.getName())
         .withNamespace(airbyteStream.getNamespace());
@@ -166,6 +177,8 @@ public class CatalogDiffHelpers {
         oldCatalog);
     final Map<StreamDescriptor, AirbyteStream> descriptorToStreamNew = streamDescriptorToMap(
         newCatalog);
+    final Map<StreamDescriptor, ConfiguredAirbyteStream> descriptorToConfiguredStream = configuredStreamDescriptorToMap(
+        configuredCatalog);
 
     Sets.difference(descriptorToStreamOld.keySet(), descriptorToStreamNew.keySet())
         .forEach(descriptor -> streamTransforms.add(
@@ -178,12 +191,13 @@ public class CatalogDiffHelpers {
           final AirbyteStream streamOld = descriptorToStreamOld.get(descriptor);
           final AirbyteStream streamNew = descriptorToStreamNew.get(descriptor);
 
-          final Optional<ConfiguredAirbyteStream> stream = configuredCatalog.getStreams().stream()
-              .filter(s -> Objects.equals(s.getStream().getNamespace(), descriptor.getNamespace())
-                  && s.getStream().getName().equals(descriptor.getName()))
-              .findFirst();
+          // Most streams are unchanged between two discovers, so the configured stream is only looked up for the ones that changed.
+          if (streamOld.equals(streamNew)) {
+            return;
+          }
+          final Optional<ConfiguredAirbyteStream> stream = Optional.ofNullable(descriptorToConfiguredStream.get(descriptor));
 
-          if (!streamOld.equals(streamNew) && stream.isPresent()) {
+          if (stream.isPresent()) {
             // getStreamDiff only checks for differences in the stream's field name or field type
             // but there are a number of reasons the streams might be different (such as a source-defined
             // primary key or cursor changing). These should not be expressed as "stream updates".
@@ -210,6 +224,11 @@ public class CatalogDiffHelpers {
     }
 
     final Set<FieldTransform> fieldTransforms = new HashSet<>();
+    // The stream may have changed without its schema changing, e.g. when only its primary key did, in which case no field changed
+    // either and the schemas don't need to be walked.
+    if (Objects.equals(streamOld.getJsonSchema(), streamNew.getJsonSchema())) {
+      return new UpdateStreamTransform(fieldTransforms, attributeTransforms);
+    }
     final Map<List<String>, JsonNode> fieldNameToTypeOld = getFullyQualifiedFieldNamesWithTypes(
         streamOld.getJsonSchema())
             .stream()
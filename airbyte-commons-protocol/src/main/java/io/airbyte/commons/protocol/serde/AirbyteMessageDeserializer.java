@@ -5,6 +5,7 @@
 package io.airbyte.commons.protocol.serde;
 
 import io.airbyte.commons.version.Version;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 /**
@@ -20,6 +21,13 @@ public interface AirbyteMessageDeserializer<T> {
    */
   Optional<T> deserializeExact(final String json);
 
+  /**
+   * Same as {@link #deserializeExact(String)}, reading the json from a slice of UTF-8 encoded bytes.
+   */
+  default Optional<T> deserializeExact(final byte[] json, final int offset, final int length) {
+    return deserializeExact(new String(json, offset, length, StandardCharsets.UTF_8));
+  }
+
   Version getTargetVersion();
 
 }
@@ -215,6 +215,34 @@ class CatalogDiffHelpersTest {
     Assertions.assertThat(diff).containsAll(expectedDiff);
   }
 
+  @Test
+  void testCatalogDiffUsesTheConfiguredStreamOfTheSameNamespace() throws IOException {
+    final JsonNode schema1 = Jsons.deserialize(readResource(VALID_SCHEMA_JSON));
+    final JsonNode breakingSchema = Jsons.deserialize(readResource("diffs/breaking_change_schema.json"));
+    final AirbyteCatalog catalog1 = new AirbyteCatalog().withStreams(List.of(
+        new io.airbyte.protocol.models.AirbyteStream().withName(USERS).withNamespace("public").withJsonSchema(schema1)));
+    final AirbyteCatalog catalog2 = new AirbyteCatalog().withStreams(List.of(
+        new io.airbyte.protocol.models.AirbyteStream().withName(USERS).withNamespace("public").withJsonSchema(breakingSchema)));
+
+    // Only the stream of the other namespace is deduped on the removed fields.
+    final ConfiguredAirbyteCatalog configuredAirbyteCatalog = new ConfiguredAirbyteCatalog().withStreams(List.of(
+        new ConfiguredAirbyteStream(new AirbyteStream(USERS, schema1, List.of(SyncMode.INCREMENTAL)).withNamespace("other"), SyncMode.INCREMENTAL,
+            DestinationSyncMode.APPEND_DEDUP)
+                .withCursorField(List.of(DATE)).withPrimaryKey(List.of(List.of("id"))),
+        new ConfiguredAirbyteStream(new AirbyteStream(USERS, schema1, List.of(SyncMode.FULL_REFRESH)).withNamespace("public"), SyncMode.FULL_REFRESH,
+            DestinationSyncMode.APPEND)));
+
+    final Set<StreamTransform> diff = CatalogDiffHelpers.getCatalogDiff(catalog1, catalog2, configuredAirbyteCatalog);
+
+    final List<StreamTransform> expectedDiff = Stream.of(
+        StreamTransform.createUpdateStreamTransform(new StreamDescriptor().withName(USERS).withNamespace("public"), new UpdateStreamTransform(Set.of(
+            FieldTransform.createRemoveFieldTransform(List.of(DATE), schema1.get(PROPERTIES).get(DATE), false),
+            FieldTransform.createRemoveFieldTransform(List.of("id"), schema1.get(PROPERTIES).get("id"), false)), Set.of())))
+        .toList();
+
+    Assertions.assertThat(diff).containsAll(expectedDiff);
+  }
+
   @Test
   void testCatalogDiffWithoutStreamConfig() throws IOException {
     final JsonNode schema1 = Jsons.deserialize(readResource(VALID_SCHEMA_JSON));
@@ -51,6 +51,7 @@ import io.airbyte.api.model.generated.FailureOrigin;
 import io.airbyte.api.model.generated.FailureReason;
 import io.airbyte.api.model.generated.FailureType;
 import io.airbyte.api.model.generated.JobAggregatedStats;
+import io.airbyte.api.model.generated.JobConfigType;
 import io.airbyte.api.model.generated.JobRead;
 import io.airbyte.api.model.generated.JobSyncResultRead;
 import io.airbyte.api.model.generated.JobWithAttemptsRead;
@@ -101,7 +102,6 @@ import io.airbyte.config.ActorCatalog;
 import io.airbyte.config.ActorCatalogWithUpdatedAt;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.Attempt;
-import io.airbyte.config.AttemptWithJobInfo;
 import io.airbyte.config.BasicSchedule;
 import io.airbyte.config.Configs;
 import io.airbyte.config.ConfiguredAirbyteCatalog;
@@ -109,7 +109,6 @@ import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.FieldSelectionData;
 import io.airbyte.config.Job;
 import io.airbyte.config.JobConfig.ConfigType;
-import io.airbyte.config.JobOutput;
 import io.airbyte.config.JobStatus;
 import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
 import io.airbyte.config.Schedule;
@@ -122,7 +121,6 @@ import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSync.ScheduleType;
 import io.airbyte.config.StandardWorkspace;
 import io.airbyte.config.StreamDescriptorForDestination;
-import io.airbyte.config.StreamSyncStats;
 import io.airbyte.config.helpers.CatalogHelpers;
 import io.airbyte.config.helpers.ScheduleHelpers;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
@@ -160,6 +158,9 @@ import io.airbyte.metrics.lib.ApmTraceConstants;
 import io.airbyte.metrics.lib.ApmTraceUtils;
 import io.airbyte.metrics.lib.MetricTags;
 import io.airbyte.persistence.job.JobPersistence;
+import io.airbyte.persistence.job.JobPersistence.JobSummary;
+import io.airbyte.persistence.job.JobPersistence.JobSummaryField;
+import io.airbyte.persistence.job.JobPersistence.StreamDailyRecordsCommitted;
 import io.airbyte.persistence.job.WorkspaceHelper;
 import io.airbyte.validation.json.JsonValidationException;
 import jakarta.inject.Inject;
@@ -167,7 +168,6 @@ import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.time.Instant;
-import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
@@ -180,11 +180,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
@@ -1380,28 +1378,32 @@ public class ConnectionsHandler {
    */
   public List<JobSyncResultRead> getConnectionDataHistory(final ConnectionDataHistoryRequestBody connectionDataHistoryRequestBody) {
 
-    final List<Job> jobs;
+    // The history only needs the timestamps and stats of the jobs, so their configs aren't loaded.
+    final List<JobSummary> jobs;
     try {
-      jobs = jobPersistence.listJobs(
+      jobs = jobPersistence.listJobSummaries(
           Job.SYNC_REPLICATION_TYPES,
-          Set.of(JobStatus.SUCCEEDED, JobStatus.FAILED),
           connectionDataHistoryRequestBody.getConnectionId().toString(),
-          connectionDataHistoryRequestBody.getNumberOfJobs());
+          Set.of(JobStatus.SUCCEEDED, JobStatus.FAILED),
+          null,
+          null,
+          null,
+          null,
+          Set.of(JobSummaryField.TIMESTAMPS, JobSummaryField.STREAM_SYNC_MODES, JobSummaryField.STATS),
+          null,
+          connectionDataHistoryRequestBody.getNumberOfJobs()).jobs();
     } catch (final IOException e) {
       throw new RuntimeException(e);
     }
-    final Map<Long, JobWithAttemptsRead> jobIdToJobRead = StatsAggregationHelper.getJobIdToJobWithAttemptsReadMap(jobs, jobPersistence);
 
     final List<JobSyncResultRead> result = new ArrayList<>();
     jobs.forEach((job) -> {
-      final Long jobId = job.getId();
-      final JobRead jobRead = jobIdToJobRead.get(jobId).getJob();
-      final JobAggregatedStats aggregatedStats = jobRead.getAggregatedStats();
+      final JobAggregatedStats aggregatedStats = StatsAggregationHelper.getJobAggregatedStats(job);
       final JobSyncResultRead jobResult = new JobSyncResultRead()
-          .jobId(jobId)
-          .configType(jobRead.getConfigType())
-          .jobCreatedAt(jobRead.getCreatedAt())
-          .jobUpdatedAt(jobRead.getUpdatedAt())
+          .jobId(job.id())
+          .configType(Enums.convertTo(job.configType(), JobConfigType.class))
+          .jobCreatedAt(job.createdAtInSecond())
+          .jobUpdatedAt(job.updatedAtInSecond())
           .bytesEmitted(aggregatedStats.getBytesEmitted())
           .bytesCommitted(aggregatedStats.getBytesCommitted())
           .recordsEmitted(aggregatedStats.getRecordsEmitted())
@@ -1429,74 +1431,22 @@ public class ConnectionsHandler {
       throws IOException {
 
     // Start time in designated timezone
-    final ZonedDateTime endTimeInUserTimeZone = Instant.now().atZone(ZoneId.of(connectionStreamHistoryRequestBody.getTimezone()));
-    final ZonedDateTime startTimeInUserTimeZone = endTimeInUserTimeZone.minusDays(30);
-    // Convert start time to UTC (since that's what the database uses)
-    final Instant startTimeInUTC = startTimeInUserTimeZone.toInstant();
-
-    final List<AttemptWithJobInfo> attempts = jobPersistence.listAttemptsForConnectionAfterTimestamp(
-        connectionStreamHistoryRequestBody.getConnectionId(),
-        ConfigType.SYNC,
-        startTimeInUTC);
-
-    final NavigableMap<LocalDate, Map<List<String>, Long>> connectionStreamHistoryReadItemsByDate = new TreeMap<>();
     final ZoneId userTimeZone = ZoneId.of(connectionStreamHistoryRequestBody.getTimezone());
+    final ZonedDateTime startTimeInUserTimeZone = Instant.now().atZone(userTimeZone).minusDays(30);
 
-    final LocalDate startDate = startTimeInUserTimeZone.toLocalDate();
-    final LocalDate endDate = endTimeInUserTimeZone.toLocalDate();
-    for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-      connectionStreamHistoryReadItemsByDate.put(date, new HashMap<>());
-    }
-
-    for (final AttemptWithJobInfo attempt : attempts) {
-      final Optional<Long> endedAtOptional = attempt.getAttempt().getEndedAtInSecond();
-
-      if (endedAtOptional.isPresent()) {
-        // Convert the endedAt timestamp from the database to the designated timezone
-        final Instant attemptEndedAt = Instant.ofEpochSecond(endedAtOptional.get());
-        final LocalDate attemptDateInUserTimeZone = attemptEndedAt.atZone(ZoneId.of(connectionStreamHistoryRequestBody.getTimezone()))
-            .toLocalDate();
-
-        // Merge it with the records synced from the attempt
-        final Optional<JobOutput> attemptOutput = attempt.getAttempt().getOutput();
-        if (attemptOutput.isPresent()) {
-          final List<StreamSyncStats> streamSyncStats = attemptOutput.get().getSync().getStandardSyncSummary().getStreamStats();
-          for (final StreamSyncStats streamSyncStat : streamSyncStats) {
-            final String streamName = streamSyncStat.getStreamName();
-            final String streamNamespace = streamSyncStat.getStreamNamespace();
-            final long recordsCommitted = streamSyncStat.getStats().getRecordsCommitted();
-
-            // Update the records loaded for the corresponding stream for that day
-            final Map<List<String>, Long> existingItem = connectionStreamHistoryReadItemsByDate.get(attemptDateInUserTimeZone);
-            final List<String> key = List.of(streamNamespace, streamName);
-            if (existingItem.containsKey(key)) {
-              existingItem.put(key, existingItem.get(key) + recordsCommitted);
-            } else {
-              existingItem.put(key, recordsCommitted);
-            }
-          }
-        }
-      }
-    }
+    // Days are computed in the designated timezone by the database, already sorted by date and stream
+    final List<StreamDailyRecordsCommitted> streamDailyRecords = jobPersistence.getStreamDailyRecordsCommitted(
+        connectionStreamHistoryRequestBody.getConnectionId(),
+        startTimeInUserTimeZone.toInstant(),
+        userTimeZone);
 
     final List<ConnectionStreamHistoryReadItem> result = new ArrayList<>();
-    for (final Entry<LocalDate, Map<List<String>, Long>> entry : connectionStreamHistoryReadItemsByDate.entrySet()) {
-      final LocalDate date = entry.getKey();
-      final Map<List<String>, Long> streamRecordsByStream = entry.getValue();
-
-      streamRecordsByStream.entrySet().stream()
-          .sorted(Comparator.comparing((Entry<List<String>, Long> e) -> e.getKey().get(0))
-              .thenComparing(e -> e.getKey().get(1)))
-          .forEach(streamRecords -> {
-            final List<String> streamNamespaceAndName = streamRecords.getKey();
-            final Long recordsCommitted = streamRecords.getValue();
-
-            result.add(new ConnectionStreamHistoryReadItem()
-                .timestamp(Math.toIntExact(date.atStartOfDay(userTimeZone).toEpochSecond()))
-                .streamNamespace(streamNamespaceAndName.get(0))
-                .streamName(streamNamespaceAndName.get(1))
-                .recordsCommitted(recordsCommitted));
-          });
+    for (final StreamDailyRecordsCommitted streamRecords : streamDailyRecords) {
+      result.add(new ConnectionStreamHistoryReadItem()
+          .timestamp(Math.toIntExact(streamRecords.date().atStartOfDay(userTimeZone).toEpochSecond()))
+          .streamNamespace(streamRecords.streamNamespace())
+          .streamName(streamRecords.streamName())
+          .recordsCommitted(streamRecords.recordsCommitted()));
     }
     return result;
   }
@@ -24,8 +24,11 @@ import io.airbyte.api.model.generated.JobDebugRead;
 import io.airbyte.api.model.generated.JobIdRequestBody;
 import io.airbyte.api.model.generated.JobInfoLightRead;
 import io.airbyte.api.model.generated.JobInfoRead;
+import io.airbyte.api.model.generated.JobListCursor;
 import io.airbyte.api.model.generated.JobListForWorkspacesRequestBody;
 import io.airbyte.api.model.generated.JobListRequestBody;
+import io.airbyte.api.model.generated.JobListRequestBody.OrderByFieldEnum;
+import io.airbyte.api.model.generated.JobListRequestBody.OrderByMethodEnum;
 import io.airbyte.api.model.generated.JobOptionalRead;
 import io.airbyte.api.model.generated.JobRead;
 import io.airbyte.api.model.generated.JobReadList;
@@ -62,6 +65,9 @@ import io.airbyte.featureflag.Workspace;
 import io.airbyte.metrics.lib.ApmTraceUtils;
 import io.airbyte.metrics.lib.MetricTags;
 import io.airbyte.persistence.job.JobPersistence;
+import io.airbyte.persistence.job.JobPersistence.JobSummary;
+import io.airbyte.persistence.job.JobPersistence.JobSummaryCursor;
+import io.airbyte.persistence.job.JobPersistence.JobSummaryPage;
 import io.airbyte.validation.json.JsonValidationException;
 import io.micronaut.core.util.CollectionUtils;
 import jakarta.inject.Singleton;
@@ -143,6 +149,7 @@ public class JobHistoryHandler {
     final int pageSize = (request.getPagination() != null && request.getPagination().getPageSize() != null) ? request.getPagination().getPageSize()
         : DEFAULT_PAGE_SIZE;
     final List<Job> jobs;
+    JobListCursor nextCursor = null;
 
     final Map<String, Object> tags = new HashMap<>(Map.of(MetricTags.CONFIG_TYPES, configTypes.toString()));
     if (configId != null) {
@@ -156,6 +163,23 @@ public class JobHistoryHandler {
           configId,
           request.getIncludingJobId(),
           pageSize);
+    } else if (isListedByCursor(request)) {
+      // The page is found from the (created_at, id) index alone, only the jobs of the page are loaded.
+      final JobSummaryPage page = jobPersistence.listJobSummaries(
+          configTypes,
+          configId,
+          CollectionUtils.isEmpty(request.getStatuses()) ? null : Set.copyOf(mapToDomainJobStatus(request.getStatuses())),
+          request.getCreatedAtStart(),
+          request.getCreatedAtEnd(),
+          request.getUpdatedAtStart(),
+          request.getUpdatedAtEnd(),
+          Set.of(),
+          request.getCursor() == null ? null : new JobSummaryCursor(request.getCursor().getCreatedAt(), request.getCursor().getJobId()),
+          pageSize);
+      jobs = page.jobs().isEmpty() ? List.of() : jobPersistence.listJobs(page.jobs().stream().map(JobSummary::id).collect(Collectors.toSet()));
+      if (page.next() != null) {
+        nextCursor = new JobListCursor().createdAt(page.next().createdAt()).jobId(page.next().id());
+      }
     } else {
       jobs = jobService.listJobs(configTypes, configId, pageSize,
           (request.getPagination() != null && request.getPagination().getRowOffset() != null) ? request.getPagination().getRowOffset() : 0,
@@ -182,7 +206,22 @@ public class JobHistoryHandler {
         request.getCreatedAtEnd(),
         request.getUpdatedAtStart(),
         request.getUpdatedAtEnd());
-    return new JobReadList().jobs(jobReads).totalJobCount(totalJobCount);
+    return new JobReadList().jobs(jobReads).totalJobCount(totalJobCount).nextCursor(nextCursor);
+  }
+
+  /**
+   * Whether the jobs are listed with a cursor rather than an offset. That is the case unless the
+   * request pages by row offset or orders the jobs otherwise than by creation time, descending.
+   */
+  private static boolean isListedByCursor(final JobListRequestBody request) {
+    final boolean defaultOrder = (request.getOrderByField() == null || request.getOrderByField() == OrderByFieldEnum.CREATED_AT)
+        && (request.getOrderByMethod() == null || request.getOrderByMethod() == OrderByMethodEnum.DESC);
+    final boolean pagedByOffset = request.getPagination() != null && request.getPagination().getRowOffset() != null;
+    if (request.getCursor() != null) {
+      Preconditions.checkArgument(defaultOrder && !pagedByOffset, "A cursor can't be combined with a row offset nor with another order.");
+      return true;
+    }
+    return defaultOrder && !pagedByOffset;
   }
 
   public JobReadList listJobsForLight(final JobListRequestBody request) throws IOException {
@@ -60,6 +60,7 @@ import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
 import io.airbyte.commons.server.handlers.helpers.ConnectionTimelineEventHelper;
 import io.airbyte.commons.server.helpers.CatalogConfigDiffHelper;
 import io.airbyte.commons.server.scheduler.EventRunner;
+import io.airbyte.commons.server.scheduling.AirbyteTaskExecutors;
 import io.airbyte.config.ActorCatalog;
 import io.airbyte.config.ActorCatalogFetchEvent;
 import io.airbyte.config.ActorDefinitionVersion;
@@ -82,6 +83,7 @@ import io.airbyte.mappers.transformations.DestinationCatalogGenerator;
 import io.airbyte.metrics.lib.ApmTraceUtils;
 import io.airbyte.metrics.lib.MetricTags;
 import io.airbyte.validation.json.JsonValidationException;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -92,6 +94,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -129,6 +134,7 @@ public class WebBackendConnectionsHandler {
   private final ApiPojoConverters apiPojoConverters;
   private final ConnectionTimelineEventHelper connectionTimelineEventHelper;
   private final CatalogConfigDiffHelper catalogConfigDiffHelper;
+  private final ExecutorService lookupExecutor;
 
   public WebBackendConnectionsHandler(final ActorDefinitionVersionHandler actorDefinitionVersionHandler,
                                       final ConnectionsHandler connectionsHandler,
@@ -151,7 +157,8 @@ public class WebBackendConnectionsHandler {
                                       final ApiPojoConverters apiPojoConverters,
                                       final DestinationCatalogGenerator destinationCatalogGenerator,
                                       final ConnectionTimelineEventHelper connectionTimelineEventHelper,
-                                      final CatalogConfigDiffHelper catalogConfigDiffHelper) {
+                                      final CatalogConfigDiffHelper catalogConfigDiffHelper,
+                                      @Named(AirbyteTaskExecutors.WEB_BACKEND) final ExecutorService lookupExecutor) {
     this.actorDefinitionVersionHandler = actorDefinitionVersionHandler;
     this.connectionsHandler = connectionsHandler;
     this.stateHandler = stateHandler;
@@ -174,6 +181,7 @@ public class WebBackendConnectionsHandler {
     this.destinationCatalogGenerator = destinationCatalogGenerator;
     this.connectionTimelineEventHelper = connectionTimelineEventHelper;
     this.catalogConfigDiffHelper = catalogConfigDiffHelper;
+    this.lookupExecutor = lookupExecutor;
   }
 
   public WebBackendWorkspaceStateResult getWorkspaceState(final WebBackendWorkspaceState webBackendWorkspaceState) throws IOException {
@@ -261,11 +269,27 @@ public class WebBackendConnectionsHandler {
 
   private WebBackendConnectionRead buildWebBackendConnectionRead(final ConnectionRead connectionRead, final Optional<UUID> currentSourceCatalogId)
       throws ConfigNotFoundException, IOException, JsonValidationException, io.airbyte.config.persistence.ConfigNotFoundException {
-    final SourceRead source = getSourceRead(connectionRead.getSourceId());
-    final DestinationRead destination = getDestinationRead(connectionRead.getDestinationId());
-    final OperationReadList operations = getOperationReadList(connectionRead);
-    final Optional<JobRead> latestSyncJob = jobHistoryHandler.getLatestSyncJob(connectionRead.getConnectionId());
-    final Optional<JobRead> latestRunningSyncJob = jobHistoryHandler.getLatestRunningSyncJob(connectionRead.getConnectionId());
+    // The lookups don't depend on each other, so they run concurrently and the request waits for the slowest one only.
+    final CompletableFuture<SourceRead> sourceLookup = lookUp(() -> getSourceRead(connectionRead.getSourceId()));
+    final CompletableFuture<DestinationRead> destinationLookup = lookUp(() -> getDestinationRead(connectionRead.getDestinationId()));
+    final CompletableFuture<OperationReadList> operationsLookup = lookUp(() -> getOperationReadList(connectionRead));
+    final CompletableFuture<Optional<JobRead>> latestSyncJobLookup =
+        lookUp(() -> jobHistoryHandler.getLatestSyncJob(connectionRead.getConnectionId()));
+    final CompletableFuture<Optional<JobRead>> latestRunningSyncJobLookup =
+        lookUp(() -> jobHistoryHandler.getLatestRunningSyncJob(connectionRead.getConnectionId()));
+    final CompletableFuture<Optional<ActorCatalogFetchEvent>> mostRecentFetchEventLookup =
+        lookUp(() -> catalogService.getMostRecentActorCatalogFetchEventForSource(connectionRead.getSourceId()));
+    // find any scheduled or past breaking changes to the connectors
+    final CompletableFuture<ActorDefinitionVersionRead> sourceActorDefinitionVersionLookup = lookUp(() -> actorDefinitionVersionHandler
+        .getActorDefinitionVersionForSourceId(new SourceIdRequestBody().sourceId(connectionRead.getSourceId())));
+    final CompletableFuture<ActorDefinitionVersionRead> destinationActorDefinitionVersionLookup = lookUp(() -> actorDefinitionVersionHandler
+        .getActorDefinitionVersionForDestinationId(new DestinationIdRequestBody().destinationId(connectionRead.getDestinationId())));
+
+    final SourceRead source = await(sourceLookup);
+    final DestinationRead destination = await(destinationLookup);
+    final OperationReadList operations = await(operationsLookup);
+    final Optional<JobRead> latestSyncJob = await(latestSyncJobLookup);
+    final Optional<JobRead> latestRunningSyncJob = await(latestRunningSyncJobLookup);
 
     final WebBackendConnectionRead webBackendConnectionRead = getWebBackendConnectionRead(connectionRead, source, destination, operations)
         .catalogId(connectionRead.getSourceCatalogId());
@@ -277,24 +301,68 @@ public class WebBackendConnectionsHandler {
       webBackendConnectionRead.setLatestSyncJobStatus(job.getStatus());
     });
 
-    final Optional<ActorCatalogFetchEvent> mostRecentFetchEvent =
-        catalogService.getMostRecentActorCatalogFetchEventForSource(connectionRead.getSourceId());
+    final Optional<ActorCatalogFetchEvent> mostRecentFetchEvent = await(mostRecentFetchEventLookup);
 
     final SchemaChange schemaChange = getSchemaChange(connectionRead, currentSourceCatalogId, mostRecentFetchEvent);
 
     webBackendConnectionRead.setSchemaChange(schemaChange);
 
-    // find any scheduled or past breaking changes to the connectors
-    final ActorDefinitionVersionRead sourceActorDefinitionVersionRead = actorDefinitionVersionHandler
-        .getActorDefinitionVersionForSourceId(new SourceIdRequestBody().sourceId(source.getSourceId()));
-    final ActorDefinitionVersionRead destinationActorDefinitionVersionRead = actorDefinitionVersionHandler
-        .getActorDefinitionVersionForDestinationId(new DestinationIdRequestBody().destinationId(destination.getDestinationId()));
-    webBackendConnectionRead.setSourceActorDefinitionVersion(sourceActorDefinitionVersionRead);
-    webBackendConnectionRead.setDestinationActorDefinitionVersion(destinationActorDefinitionVersionRead);
+    webBackendConnectionRead.setSourceActorDefinitionVersion(await(sourceActorDefinitionVersionLookup));
+    webBackendConnectionRead.setDestinationActorDefinitionVersion(await(destinationActorDefinitionVersionLookup));
 
     return webBackendConnectionRead;
   }
 
+  /**
+   * A lookup of the web backend, which may throw the checked exceptions of the handlers it calls.
+   */
+  @FunctionalInterface
+  private interface Lookup<T> {
+
+    T get() throws Exception;
+
+  }
+
+  /**
+   * Runs the lookup on the web backend executor. The lookups must not start other lookups, so a full
+   * executor can't deadlock.
+   */
+  private <T> CompletableFuture<T> lookUp(final Lookup<T> lookup) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return lookup.get();
+      } catch (final Exception e) {
+        throw new CompletionException(e);
+      }
+    }, lookupExecutor);
+  }
+
+  /**
+   * Waits for the lookup, rethrowing its failure as is.
+   */
+  private static <T> T await(final CompletableFuture<T> lookup)
+      throws ConfigNotFoundException, IOException, JsonValidationException, io.airbyte.config.persistence.ConfigNotFoundException {
+    try {
+      return lookup.join();
+    } catch (final CompletionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof final ConfigNotFoundException configNotFoundException) {
+        throw configNotFoundException;
+      } else if (cause instanceof final io.airbyte.config.persistence.ConfigNotFoundException configNotFoundException) {
+        throw configNotFoundException;
+      } else if (cause instanceof final IOException ioException) {
+        throw ioException;
+      } else if (cause instanceof final JsonValidationException jsonValidationException) {
+        throw jsonValidationException;
+      } else if (cause instanceof final RuntimeException runtimeException) {
+        throw runtimeException;
+      } else if (cause instanceof final Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
   private WebBackendConnectionListItem buildWebBackendConnectionListItem(
                                                                          final StandardSync standardSync,
                                                                          final Map<UUID, SourceSnippetRead> sourceReadById,
@@ -444,8 +512,8 @@ public class WebBackendConnectionsHandler {
      * This catalog represents the full catalog that was used to create the configured catalog. It will
      * have all streams that were present at the time. It will have default configuration options set.
      */
-    final Optional<AirbyteCatalog> catalogUsedToMakeConfiguredCatalog = connectionsHandler
-        .getConnectionAirbyteCatalog(webBackendConnectionRequestBody.getConnectionId());
+    final CompletableFuture<Optional<AirbyteCatalog>> catalogUsedToMakeConfiguredCatalogLookup =
+        lookUp(() -> connectionsHandler.getConnectionAirbyteCatalog(webBackendConnectionRequestBody.getConnectionId()));
 
     /*
      * This catalog represents the full catalog that exists now for the source. It will have default
@@ -457,6 +525,7 @@ public class WebBackendConnectionsHandler {
     } else {
       refreshedCatalog = Optional.empty();
     }
+    final Optional<AirbyteCatalog> catalogUsedToMakeConfiguredCatalog = await(catalogUsedToMakeConfiguredCatalogLookup);
 
     final CatalogDiff diff;
     final AirbyteCatalog syncCatalog;
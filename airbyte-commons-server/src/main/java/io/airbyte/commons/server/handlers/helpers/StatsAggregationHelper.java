@@ -19,6 +19,7 @@ import io.airbyte.config.SyncStats;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.persistence.job.JobPersistence.AttemptStats;
 import io.airbyte.persistence.job.JobPersistence.JobAttemptPair;
+import io.airbyte.persistence.job.JobPersistence.JobSummary;
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
@@ -248,6 +249,35 @@ public class StatsAggregationHelper {
         .collect(Collectors.toList()));
   }
 
+  /**
+   * WARNING! billing uses the stats that this method returns. Be careful when changing this method.
+   *
+   * Aggregates the stats of a job listed without its config, the same way as
+   * {@link #hydrateWithStats(List, List, boolean, JobPersistence)}. The job must have been listed
+   * with its stream sync modes and stats.
+   *
+   * @param job job summary with its stream sync modes and stats
+   * @return aggregated stats of the streams of the job
+   */
+  public static JobAggregatedStats getJobAggregatedStats(final JobSummary job) {
+    final Map<StreamNameAndNamespace, List<StreamSyncStats>> streamToAttemptStats = new HashMap<>();
+    // attempt stats are sorted by attempt number, which is the order the aggregation expects.
+    job.attemptStats().values().forEach(stat -> stat.perStreamStats().forEach(s -> streamToAttemptStats
+        .computeIfAbsent(new StreamNameAndNamespace(s.getStreamName(), s.getStreamNamespace()), k -> new ArrayList<>())
+        .add(s)));
+
+    final List<StreamStatsRecord> streamAggregatedStats = new ArrayList<>();
+    job.streamSyncModes().forEach((stream, syncMode) -> {
+      final List<StreamSyncStats> streamStats = streamToAttemptStats.get(new StreamNameAndNamespace(stream.getName(), stream.getNamespace()));
+      if (streamStats == null) {
+        log.debug("No stats have been persisted for job {} stream {}.", job.id(), stream);
+        return;
+      }
+      streamAggregatedStats.add(getAggregatedStats(syncMode, streamStats));
+    });
+    return getJobAggregatedStats(streamAggregatedStats);
+  }
+
   private static JobAggregatedStats getJobAggregatedStats(List<StreamStatsRecord> streamStats) {
     return new JobAggregatedStats()
         .recordsEmitted(streamStats.stream().mapToLong(StreamStatsRecord::recordsEmitted).sum())
@@ -35,4 +35,10 @@ public interface AirbyteTaskExecutors extends TaskExecutors {
    */
   String WEBHOOK = "webhook";
 
+  /**
+   * The name of the {@link java.util.concurrent.ExecutorService} used by the web backend to run the
+   * independent lookups of a request concurrently.
+   */
+  String WEB_BACKEND = "web-backend";
+
 }
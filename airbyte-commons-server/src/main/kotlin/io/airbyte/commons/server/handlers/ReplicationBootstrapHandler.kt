@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers
+
+import io.airbyte.api.model.generated.ActorType
+import io.airbyte.api.model.generated.ConnectionIdRequestBody
+import io.airbyte.api.model.generated.DestinationIdRequestBody
+import io.airbyte.api.model.generated.ReplicationBootstrapRead
+import io.airbyte.api.model.generated.ReplicationBootstrapRequestBody
+import io.airbyte.api.model.generated.ResolveActorDefinitionVersionRequestBody
+import io.airbyte.api.model.generated.SyncInput
+import jakarta.inject.Singleton
+
+/**
+ * Gathers the lookups the input of a replication is hydrated from, so that the worker can start a sync
+ * with a single call instead of one per lookup.
+ */
+@Singleton
+class ReplicationBootstrapHandler(
+  private val jobInputHandler: JobInputHandler,
+  private val destinationHandler: DestinationHandler,
+  private val actorDefinitionVersionHandler: ActorDefinitionVersionHandler,
+  private val connectionsHandler: ConnectionsHandler,
+  private val stateHandler: StateHandler,
+  private val jobHistoryHandler: JobHistoryHandler,
+) {
+  fun getReplicationBootstrap(request: ReplicationBootstrapRequestBody): ReplicationBootstrapRead {
+    val connectionIdRequestBody = ConnectionIdRequestBody().connectionId(request.connectionId)
+    val destination = destinationHandler.getDestination(DestinationIdRequestBody().destinationId(request.destinationId))
+    val destinationVersion =
+      actorDefinitionVersionHandler.resolveActorDefinitionVersionByTag(
+        ResolveActorDefinitionVersionRequestBody()
+          .actorDefinitionId(destination.destinationDefinitionId)
+          .actorType(ActorType.DESTINATION)
+          .dockerImageTag(request.destinationDockerImageTag),
+      )
+    // Destinations supporting refreshes get the catalog the job was created with.
+    val connection =
+      if (destinationVersion.supportRefreshes) {
+        connectionsHandler.getConnectionForJob(request.connectionId, request.jobId)
+      } else {
+        connectionsHandler.getConnection(request.connectionId)
+      }
+
+    return ReplicationBootstrapRead()
+      .jobInput(jobInputHandler.getJobInput(SyncInput().jobId(request.jobId).attemptNumber(request.attemptNumber)))
+      .destinationVersion(destinationVersion)
+      .connection(connection)
+      .state(stateHandler.getState(connectionIdRequestBody))
+      .lastReplicationJob(if (request.isReset) jobHistoryHandler.getLastReplicationJob(connectionIdRequestBody) else null)
+  }
+}
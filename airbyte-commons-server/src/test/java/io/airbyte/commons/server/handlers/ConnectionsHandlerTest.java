@@ -115,7 +115,6 @@ import io.airbyte.config.ActorType;
 import io.airbyte.config.Attempt;
 import io.airbyte.config.AttemptFailureSummary;
 import io.airbyte.config.AttemptStatus;
-import io.airbyte.config.AttemptWithJobInfo;
 import io.airbyte.config.BasicSchedule;
 import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.Configs;
@@ -130,8 +129,6 @@ import io.airbyte.config.FieldSelectionData;
 import io.airbyte.config.Job;
 import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
-import io.airbyte.config.JobOutput;
-import io.airbyte.config.JobOutput.OutputType;
 import io.airbyte.config.JobResetConnectionConfig;
 import io.airbyte.config.JobStatus;
 import io.airbyte.config.JobSyncConfig;
@@ -152,8 +149,6 @@ import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSync.NonBreakingChangesPreference;
 import io.airbyte.config.StandardSync.ScheduleType;
 import io.airbyte.config.StandardSync.Status;
-import io.airbyte.config.StandardSyncOutput;
-import io.airbyte.config.StandardSyncSummary;
 import io.airbyte.config.StandardWorkspace;
 import io.airbyte.config.StreamDescriptorForDestination;
 import io.airbyte.config.StreamSyncStats;
@@ -192,6 +187,11 @@ import io.airbyte.mappers.transformations.DestinationCatalogGenerator.MapperErro
 import io.airbyte.mappers.transformations.HashingMapper;
 import io.airbyte.metrics.MetricClient;
 import io.airbyte.persistence.job.JobPersistence;
+import io.airbyte.persistence.job.JobPersistence.AttemptStats;
+import io.airbyte.persistence.job.JobPersistence.JobSummary;
+import io.airbyte.persistence.job.JobPersistence.JobSummaryField;
+import io.airbyte.persistence.job.JobPersistence.JobSummaryPage;
+import io.airbyte.persistence.job.JobPersistence.StreamDailyRecordsCommitted;
 import io.airbyte.persistence.job.WorkspaceHelper;
 import io.airbyte.persistence.job.factory.OAuthConfigSupplier;
 import io.airbyte.protocol.models.Field;
@@ -200,19 +200,19 @@ import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.ZoneId;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
 import org.jetbrains.annotations.NotNull;
@@ -2294,30 +2294,6 @@ class ConnectionsHandlerTest {
           Configs.AirbyteEdition.COMMUNITY);
     }
 
-    private Attempt generateMockAttemptWithStreamStats(final Instant attemptTime, final List<Map<List<String>, Long>> streamsToRecordsSynced) {
-      final List<StreamSyncStats> streamSyncStatsList = streamsToRecordsSynced.stream().map(streamToRecordsSynced -> {
-        final List<String> streamKey = new ArrayList<>(streamToRecordsSynced.keySet().iterator().next());
-        final String streamNamespace = streamKey.get(0);
-        final String streamName = streamKey.get(1);
-        final long recordsSynced = streamToRecordsSynced.get(streamKey);
-
-        return new StreamSyncStats()
-            .withStreamName(streamName)
-            .withStreamNamespace(streamNamespace)
-            .withStats(new SyncStats().withRecordsCommitted(recordsSynced));
-      }).collect(Collectors.toList());
-
-      final StandardSyncSummary standardSyncSummary = new StandardSyncSummary().withStreamStats(streamSyncStatsList);
-      final StandardSyncOutput standardSyncOutput = new StandardSyncOutput().withStandardSyncSummary(standardSyncSummary);
-      final JobOutput jobOutput = new JobOutput().withOutputType(OutputType.SYNC).withSync(standardSyncOutput);
-
-      return new Attempt(0, 0, null, null, jobOutput, AttemptStatus.FAILED, null, null, 0, 0, attemptTime.getEpochSecond());
-    }
-
-    private Job generateMockJob(final UUID connectionId, final Attempt attempt) {
-      return new Job(0L, JobConfig.ConfigType.SYNC, connectionId.toString(), null, List.of(attempt), JobStatus.RUNNING, 1001L, 1000L, 1002L, true);
-    }
-
     @Nested
     class GetConnectionDataHistory {
 
@@ -2328,68 +2304,73 @@ class ConnectionsHandlerTest {
         final ConnectionDataHistoryRequestBody apiReq = new ConnectionDataHistoryRequestBody().numberOfJobs(numJobs).connectionId(connectionId);
         final long jobOneId = 1L;
         final long jobTwoId = 2L;
-
-        final Job jobOne = new Job(1, ConfigType.SYNC, connectionId.toString(), null, List.of(), JobStatus.SUCCEEDED, 0L, 0L, 0L, true);
-        final Job jobTwo = new Job(2, ConfigType.REFRESH, connectionId.toString(), null, List.of(), JobStatus.FAILED, 0L, 0L, 0L, true);
-
-        when(jobPersistence.listJobs(
-            Job.SYNC_REPLICATION_TYPES,
-            Set.of(JobStatus.SUCCEEDED, JobStatus.FAILED),
-            apiReq.getConnectionId().toString(),
-            apiReq.getNumberOfJobs())).thenReturn(List.of(jobOne, jobTwo));
-
-        final long jobOneBytesCommitted = 12345L;
-        final long jobOneBytesEmitted = 23456L;
-        final long jobOneRecordsCommitted = 19L;
-        final long jobOneRecordsEmmitted = 20L;
         final long jobOneCreatedAt = 1000L;
         final long jobOneUpdatedAt = 2000L;
         final long jobTwoCreatedAt = 3000L;
         final long jobTwoUpdatedAt = 4000L;
-        final long jobTwoBytesCommitted = 98765L;
-        final long jobTwoBytesEmmitted = 87654L;
-        final long jobTwoRecordsCommitted = 50L;
-        final long jobTwoRecordsEmittted = 60L;
-        try (final MockedStatic<StatsAggregationHelper> mockStatsAggregationHelper = Mockito.mockStatic(StatsAggregationHelper.class)) {
-          mockStatsAggregationHelper.when(() -> StatsAggregationHelper.getJobIdToJobWithAttemptsReadMap(Mockito.any(), Mockito.any()))
-              .thenReturn(Map.of(
-                  jobOneId, new JobWithAttemptsRead().job(
-                      new JobRead().createdAt(jobOneCreatedAt).updatedAt(jobOneUpdatedAt).configType(JobConfigType.SYNC).aggregatedStats(
-                          new JobAggregatedStats()
-                              .bytesCommitted(jobOneBytesCommitted)
-                              .bytesEmitted(jobOneBytesEmitted)
-                              .recordsCommitted(jobOneRecordsCommitted)
-                              .recordsEmitted(jobOneRecordsEmmitted))),
-                  jobTwoId, new JobWithAttemptsRead().job(
-                      new JobRead().createdAt(jobTwoCreatedAt).updatedAt(jobTwoUpdatedAt).configType(JobConfigType.SYNC).aggregatedStats(
-                          new JobAggregatedStats()
-                              .bytesCommitted(jobTwoBytesCommitted)
-                              .bytesEmitted(jobTwoBytesEmmitted)
-                              .recordsCommitted(jobTwoRecordsCommitted)
-                              .recordsEmitted(jobTwoRecordsEmittted)))));
-
-          final List<JobSyncResultRead> expected = List.of(
-              new JobSyncResultRead()
-                  .configType(JobConfigType.SYNC)
-                  .jobId(jobOneId)
-                  .bytesCommitted(jobOneBytesCommitted)
-                  .bytesEmitted(jobOneBytesEmitted)
-                  .recordsCommitted(jobOneRecordsCommitted)
-                  .recordsEmitted(jobOneRecordsEmmitted)
-                  .jobCreatedAt(jobOneCreatedAt)
-                  .jobUpdatedAt(jobOneUpdatedAt),
-              new JobSyncResultRead()
-                  .configType(JobConfigType.SYNC)
-                  .jobId(jobTwoId)
-                  .bytesCommitted(jobTwoBytesCommitted)
-                  .bytesEmitted(jobTwoBytesEmmitted)
-                  .recordsCommitted(jobTwoRecordsCommitted)
-                  .recordsEmitted(jobTwoRecordsEmittted)
-                  .jobCreatedAt(jobTwoCreatedAt)
-                  .jobUpdatedAt(jobTwoUpdatedAt));
-
-          assertEquals(expected, connectionsHandler.getConnectionDataHistory(apiReq));
-        }
+        final io.airbyte.config.StreamDescriptor users = new io.airbyte.config.StreamDescriptor().withName("users").withNamespace("public");
+        final io.airbyte.config.StreamDescriptor orders = new io.airbyte.config.StreamDescriptor().withName("orders");
+
+        // Incremental streams sum the stats of every attempt, full refresh streams keep the last attempt.
+        final JobSummary jobOne = new JobSummary(jobOneId, ConfigType.SYNC, connectionId.toString(), jobOneCreatedAt, null, null, jobOneUpdatedAt,
+            Map.of(users, io.airbyte.config.SyncMode.INCREMENTAL, orders, io.airbyte.config.SyncMode.FULL_REFRESH),
+            new TreeMap<>(Map.of(
+                0, attemptStats(streamStats(users, 10L, 100L), streamStats(orders, 1L, 10L)),
+                1, attemptStats(streamStats(users, 5L, 50L), streamStats(orders, 2L, 20L)))),
+            null);
+        // Streams without stats and stats of streams that aren't in the catalog anymore are ignored.
+        final JobSummary jobTwo = new JobSummary(jobTwoId, ConfigType.REFRESH, connectionId.toString(), jobTwoCreatedAt, null, null, jobTwoUpdatedAt,
+            Map.of(users, io.airbyte.config.SyncMode.FULL_REFRESH, orders, io.airbyte.config.SyncMode.INCREMENTAL),
+            new TreeMap<>(Map.of(0, attemptStats(streamStats(users, 7L, 70L),
+                streamStats(new io.airbyte.config.StreamDescriptor().withName("removed"), 100L, 1000L)))),
+            null);
+
+        when(jobPersistence.listJobSummaries(
+            Job.SYNC_REPLICATION_TYPES,
+            apiReq.getConnectionId().toString(),
+            Set.of(JobStatus.SUCCEEDED, JobStatus.FAILED),
+            null,
+            null,
+            null,
+            null,
+            Set.of(JobSummaryField.TIMESTAMPS, JobSummaryField.STREAM_SYNC_MODES, JobSummaryField.STATS),
+            null,
+            apiReq.getNumberOfJobs())).thenReturn(new JobSummaryPage(List.of(jobTwo, jobOne), null));
+
+        final List<JobSyncResultRead> expected = List.of(
+            new JobSyncResultRead()
+                .configType(JobConfigType.SYNC)
+                .jobId(jobOneId)
+                .bytesCommitted(170L)
+                .bytesEmitted(170L)
+                .recordsCommitted(17L)
+                .recordsEmitted(17L)
+                .jobCreatedAt(jobOneCreatedAt)
+                .jobUpdatedAt(jobOneUpdatedAt),
+            new JobSyncResultRead()
+                .configType(JobConfigType.REFRESH)
+                .jobId(jobTwoId)
+                .bytesCommitted(70L)
+                .bytesEmitted(70L)
+                .recordsCommitted(7L)
+                .recordsEmitted(7L)
+                .jobCreatedAt(jobTwoCreatedAt)
+                .jobUpdatedAt(jobTwoUpdatedAt));
+
+        assertEquals(expected, connectionsHandler.getConnectionDataHistory(apiReq));
+      }
+
+      private AttemptStats attemptStats(final StreamSyncStats... streamStats) {
+        return new AttemptStats(new SyncStats(), List.of(streamStats));
+      }
+
+      private StreamSyncStats streamStats(final io.airbyte.config.StreamDescriptor stream,
+                                          final long records,
+                                          final long bytes) {
+        return new StreamSyncStats()
+            .withStreamName(stream.getName())
+            .withStreamNamespace(stream.getNamespace())
+            .withStats(new SyncStats().withRecordsEmitted(records).withBytesEmitted(bytes).withRecordsCommitted(records).withBytesCommitted(bytes));
       }
 
     }
@@ -2405,7 +2386,7 @@ class ConnectionsHandlerTest {
             .connectionId(connectionId)
             .timezone(TIMEZONE_LOS_ANGELES);
 
-        when(jobPersistence.listAttemptsForConnectionAfterTimestamp(eq(connectionId), eq(ConfigType.SYNC), any(Instant.class)))
+        when(jobPersistence.getStreamDailyRecordsCommitted(eq(connectionId), any(Instant.class), eq(ZoneId.of(TIMEZONE_LOS_ANGELES))))
             .thenReturn(Collections.emptyList());
 
         final List<ConnectionStreamHistoryReadItem> actual = connectionsHandler.getConnectionStreamHistory(requestBody);
@@ -2416,82 +2397,47 @@ class ConnectionsHandlerTest {
       }
 
       @Test
-      @DisplayName("Aggregates data correctly")
+      @DisplayName("Returns the daily records of each stream at the start of the day in the requested timezone")
       void testStreamHistoryAggregation() throws IOException {
         final UUID connectionId = UUID.randomUUID();
-        final Instant endTime = Instant.now();
-        final Instant startTime = endTime.minus(30, ChronoUnit.DAYS);
-        final long attempt1Records = 100L;
-        final long attempt2Records = 150L;
-        final long attempt3Records = 200L;
-        final long attempt4Records = 125L;
+        final ZoneId timeZone = ZoneId.of(TIMEZONE_LOS_ANGELES);
+        final LocalDate today = LocalDate.now(timeZone);
         final String streamName = "testStream";
         final String streamNamespace = "testNamespace";
         final String streamName2 = "testStream2";
 
-        // First Attempt - Day 1
-        final Attempt attempt1 = generateMockAttemptWithStreamStats(startTime.plus(1, ChronoUnit.DAYS),
-            List.of(Map.of(List.of(streamNamespace, streamName),
-                attempt1Records))); // 100 records
-        final AttemptWithJobInfo attemptWithJobInfo1 = new AttemptWithJobInfo(attempt1, generateMockJob(connectionId, attempt1));
-
-        // Second Attempt - Same Day as First, same stream as first
-        final Attempt attempt2 = generateMockAttemptWithStreamStats(startTime.plus(1, ChronoUnit.DAYS),
-            List.of(Map.of(List.of(streamNamespace, streamName),
-                attempt2Records))); // 100 records
-        final AttemptWithJobInfo attemptWithJobInfo2 = new AttemptWithJobInfo(attempt2, generateMockJob(connectionId, attempt2));
-
-        // Third Attempt - Same Day, different stream
-        final Attempt attempt3 = generateMockAttemptWithStreamStats(startTime.plus(1, ChronoUnit.DAYS),
-            List.of(Map.of(List.of(streamNamespace, streamName2),
-                attempt3Records))); // 100 records
-        final AttemptWithJobInfo attemptWithJobInfo3 = new AttemptWithJobInfo(attempt3, generateMockJob(connectionId, attempt3));
-
-        // Fourth Attempt - Different day, first stream
-        final Attempt attempt4 = generateMockAttemptWithStreamStats(startTime.plus(2, ChronoUnit.DAYS),
-            List.of(Map.of(List.of(streamNamespace, streamName),
-                attempt4Records))); // 100 records
-        final AttemptWithJobInfo attemptWithJobInfo4 = new AttemptWithJobInfo(attempt4, generateMockJob(connectionId, attempt4));
-
-        final List<AttemptWithJobInfo> attempts = Arrays.asList(attemptWithJobInfo1, attemptWithJobInfo2, attemptWithJobInfo3, attemptWithJobInfo4);
-
-        when(jobPersistence.listAttemptsForConnectionAfterTimestamp(eq(connectionId), eq(ConfigType.SYNC), any(Instant.class)))
-            .thenReturn(attempts);
+        final ArgumentCaptor<Instant> endedAfter = ArgumentCaptor.forClass(Instant.class);
+        when(jobPersistence.getStreamDailyRecordsCommitted(eq(connectionId), endedAfter.capture(), eq(timeZone)))
+            .thenReturn(List.of(
+                new StreamDailyRecordsCommitted(today.minusDays(2), streamNamespace, streamName, 250L),
+                new StreamDailyRecordsCommitted(today.minusDays(2), streamNamespace, streamName2, 200L),
+                new StreamDailyRecordsCommitted(today.minusDays(1), streamNamespace, streamName, 125L)));
 
         final ConnectionStreamHistoryRequestBody requestBody = new ConnectionStreamHistoryRequestBody()
             .connectionId(connectionId)
             .timezone(TIMEZONE_LOS_ANGELES);
         final List<ConnectionStreamHistoryReadItem> actual = connectionsHandler.getConnectionStreamHistory(requestBody);
 
-        final List<ConnectionStreamHistoryReadItem> expected = new ArrayList<>();
-        // expect the first entry to contain stream 1, day 1, 250 records... next item should be stream 2,
-        // day 1, 200 records, and final entry should be stream 1, day 2, 125 records
-        expected.add(new ConnectionStreamHistoryReadItem()
-            .timestamp(Math.toIntExact(startTime.plus(1, ChronoUnit.DAYS)
-                .atZone(ZoneId.of(requestBody.getTimezone()))
-                .toLocalDate().atStartOfDay(ZoneId.of(requestBody.getTimezone()))
-                .toEpochSecond()))
-            .streamName(streamName)
-            .streamNamespace(streamNamespace)
-            .recordsCommitted(attempt1Records + attempt2Records));
-        expected.add(new ConnectionStreamHistoryReadItem()
-            .timestamp(Math.toIntExact(startTime.plus(1, ChronoUnit.DAYS)
-                .atZone(ZoneId.of(requestBody.getTimezone()))
-                .toLocalDate().atStartOfDay(ZoneId.of(requestBody.getTimezone()))
-                .toEpochSecond()))
-            .streamName(streamName2)
-            .streamNamespace(streamNamespace)
-            .recordsCommitted(attempt3Records));
-        expected.add(new ConnectionStreamHistoryReadItem()
-            .timestamp(Math.toIntExact(startTime.plus(2, ChronoUnit.DAYS)
-                .atZone(ZoneId.of(requestBody.getTimezone()))
-                .toLocalDate().atStartOfDay(ZoneId.of(requestBody.getTimezone()))
-                .toEpochSecond()))
-            .streamName(streamName)
-            .streamNamespace(streamNamespace)
-            .recordsCommitted(attempt4Records));
-
-        assertEquals(actual, expected);
+        final List<ConnectionStreamHistoryReadItem> expected = List.of(
+            new ConnectionStreamHistoryReadItem()
+                .timestamp(Math.toIntExact(today.minusDays(2).atStartOfDay(timeZone).toEpochSecond()))
+                .streamName(streamName)
+                .streamNamespace(streamNamespace)
+                .recordsCommitted(250L),
+            new ConnectionStreamHistoryReadItem()
+                .timestamp(Math.toIntExact(today.minusDays(2).atStartOfDay(timeZone).toEpochSecond()))
+                .streamName(streamName2)
+                .streamNamespace(streamNamespace)
+                .recordsCommitted(200L),
+            new ConnectionStreamHistoryReadItem()
+                .timestamp(Math.toIntExact(today.minusDays(1).atStartOfDay(timeZone).toEpochSecond()))
+                .streamName(streamName)
+                .streamNamespace(streamNamespace)
+                .recordsCommitted(125L));
+
+        assertEquals(expected, actual);
+        final long windowInDays = Duration.between(endedAfter.getValue(), Instant.now()).toDays();
+        assertTrue(windowInDays >= 29 && windowInDays <= 30);
       }
 
     }
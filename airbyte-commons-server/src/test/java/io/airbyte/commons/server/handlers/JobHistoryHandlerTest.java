@@ -7,6 +7,8 @@ package io.airbyte.commons.server.handlers;
 import static io.airbyte.config.Job.SYNC_REPLICATION_TYPES;
 import static io.airbyte.featureflag.ContextKt.ANONYMOUS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -31,6 +33,7 @@ import io.airbyte.api.model.generated.JobDebugRead;
 import io.airbyte.api.model.generated.JobIdRequestBody;
 import io.airbyte.api.model.generated.JobInfoLightRead;
 import io.airbyte.api.model.generated.JobInfoRead;
+import io.airbyte.api.model.generated.JobListCursor;
 import io.airbyte.api.model.generated.JobListRequestBody;
 import io.airbyte.api.model.generated.JobRead;
 import io.airbyte.api.model.generated.JobReadList;
@@ -89,9 +92,13 @@ import io.airbyte.featureflag.Workspace;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.persistence.job.JobPersistence.AttemptStats;
 import io.airbyte.persistence.job.JobPersistence.JobAttemptPair;
+import io.airbyte.persistence.job.JobPersistence.JobSummary;
+import io.airbyte.persistence.job.JobPersistence.JobSummaryCursor;
+import io.airbyte.persistence.job.JobPersistence.JobSummaryPage;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -485,6 +492,59 @@ class JobHistoryHandlerTest {
       assertEquals(expectedJobReadList, jobReadList);
     }
 
+    @Test
+    @DisplayName("Should list jobs by cursor when no row offset is given")
+    void testListJobsByCursor() throws IOException {
+      final var job = new Job(JOB_ID, JOB_CONFIG.getConfigType(), JOB_CONFIG_ID, JOB_CONFIG, List.of(testJobAttempt), JOB_STATUS, null, CREATED_AT,
+          CREATED_AT, true);
+      final Set<ConfigType> configTypes = Set.of(Enums.convertTo(CONFIG_TYPE_FOR_API, ConfigType.class));
+      final OffsetDateTime cursorCreatedAt = OffsetDateTime.parse("2025-01-01T00:00:00.123456Z");
+      final OffsetDateTime nextCreatedAt = OffsetDateTime.parse("2024-12-31T00:00:00.654321Z");
+
+      when(jobPersistence.listJobSummaries(configTypes, JOB_CONFIG_ID, null, null, null, null, null, Set.of(),
+          new JobSummaryCursor(cursorCreatedAt, JOB_ID + 100), 25))
+              .thenReturn(new JobSummaryPage(
+                  List.of(new JobSummary(JOB_ID, JOB_CONFIG.getConfigType(), JOB_CONFIG_ID, CREATED_AT, null, null, null, null, null, null)),
+                  new JobSummaryCursor(nextCreatedAt, JOB_ID)));
+      when(jobPersistence.listJobs(Set.of(JOB_ID))).thenReturn(List.of(job));
+      when(jobPersistence.getJobCount(eq(configTypes), eq(JOB_CONFIG_ID), any(), any(), any(), any(), any())).thenReturn(10L);
+
+      final JobReadList jobReadList = jobHistoryHandler.listJobsFor(new JobListRequestBody()
+          .configTypes(List.of(CONFIG_TYPE_FOR_API))
+          .configId(JOB_CONFIG_ID)
+          .pagination(new Pagination().pageSize(25))
+          .cursor(new JobListCursor().createdAt(cursorCreatedAt).jobId(JOB_ID + 100)));
+
+      assertEquals(List.of(JOB_ID), jobReadList.getJobs().stream().map(read -> read.getJob().getId()).toList());
+      assertEquals(new JobListCursor().createdAt(nextCreatedAt).jobId(JOB_ID), jobReadList.getNextCursor());
+      assertEquals(10L, jobReadList.getTotalJobCount());
+    }
+
+    @Test
+    @DisplayName("Should not return a cursor when listing jobs by offset")
+    void testListJobsByOffsetHasNoCursor() throws IOException {
+      when(jobService.listJobs(any(), eq(JOB_CONFIG_ID), eq(25), eq(50), any(), any(), any(), any(), any(), any(), any())).thenReturn(List.of());
+
+      final JobReadList jobReadList = jobHistoryHandler.listJobsFor(new JobListRequestBody()
+          .configTypes(List.of(CONFIG_TYPE_FOR_API))
+          .configId(JOB_CONFIG_ID)
+          .pagination(new Pagination().pageSize(25).rowOffset(50)));
+
+      assertNull(jobReadList.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor combined with a row offset")
+    void testListJobsRejectsCursorWithOffset() {
+      final JobListRequestBody requestBody = new JobListRequestBody()
+          .configTypes(List.of(CONFIG_TYPE_FOR_API))
+          .configId(JOB_CONFIG_ID)
+          .pagination(new Pagination().pageSize(25).rowOffset(50))
+          .cursor(new JobListCursor().createdAt(OffsetDateTime.now()).jobId(JOB_ID));
+
+      assertThrows(IllegalArgumentException.class, () -> jobHistoryHandler.listJobsFor(requestBody));
+    }
+
     @Test
     @DisplayName("Should return jobs including specified job id")
     void testListJobsIncludingJobId() throws IOException {
@@ -144,8 +144,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -190,6 +195,7 @@ class WebBackendConnectionsHandlerTest {
   private ConnectionTimelineEventHelper connectionTimelineEventHelper;
   private CatalogConfigDiffHelper catalogConfigDiffHelper;
   private MetricClient metricClient;
+  private ExecutorService lookupExecutor;
 
   private static final String STREAM1 = "stream1";
   private static final String STREAM2 = "stream2";
@@ -220,6 +226,7 @@ class WebBackendConnectionsHandlerTest {
     catalogConfigDiffHelper = mock(CatalogConfigDiffHelper.class);
     metricClient = mock(MetricClient.class);
     licenseEntitlementChecker = mock(LicenseEntitlementChecker.class);
+    lookupExecutor = Executors.newFixedThreadPool(8);
 
     final JsonSchemaValidator validator = mock(JsonSchemaValidator.class);
     final JsonSecretsProcessor secretsProcessor = mock(JsonSecretsProcessor.class);
@@ -300,7 +307,8 @@ class WebBackendConnectionsHandlerTest {
         apiPojoConverters,
         destinationCatalogGenerator,
         connectionTimelineEventHelper,
-        catalogConfigDiffHelper));
+        catalogConfigDiffHelper,
+        lookupExecutor));
 
     final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
         .withSourceDefinitionId(UUID.randomUUID())
@@ -494,6 +502,11 @@ class WebBackendConnectionsHandlerTest {
         .notifySchemaChangesByEmail(true);
   }
 
+  @AfterEach
+  void tearDown() {
+    lookupExecutor.shutdownNow();
+  }
+
   @Test
   void testGetWorkspaceState() throws IOException {
     final UUID uuid = UUID.randomUUID();
@@ -556,6 +569,32 @@ class WebBackendConnectionsHandlerTest {
     assertEquals(expectedListItem.getDestination().getIcon(), ICON_URL);
   }
 
+  @Test
+  void testWebBackendGetConnectionLooksUpConcurrently()
+      throws ConfigNotFoundException, IOException, JsonValidationException, io.airbyte.config.persistence.ConfigNotFoundException {
+    final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody();
+    connectionIdRequestBody.setConnectionId(connectionRead.getConnectionId());
+
+    final WebBackendConnectionRequestBody webBackendConnectionRequestBody = new WebBackendConnectionRequestBody();
+    webBackendConnectionRequestBody.setConnectionId(connectionRead.getConnectionId());
+
+    final CountDownLatch lookingUp = new CountDownLatch(2);
+    when(connectionsHandler.getConnection(connectionRead.getConnectionId())).thenReturn(connectionRead);
+    when(operationsHandler.listOperationsForConnection(connectionIdRequestBody)).thenAnswer(invocation -> {
+      lookingUp.countDown();
+      // Only returns if the fetch event is looked up at the same time.
+      assertTrue(lookingUp.await(10, TimeUnit.SECONDS));
+      return operationReadList;
+    });
+    when(catalogService.getMostRecentActorCatalogFetchEventForSource(connectionRead.getSourceId())).thenAnswer(invocation -> {
+      lookingUp.countDown();
+      assertTrue(lookingUp.await(10, TimeUnit.SECONDS));
+      return Optional.empty();
+    });
+
+    assertEquals(expected, wbHandler.webBackendGetConnection(webBackendConnectionRequestBody));
+  }
+
   WebBackendConnectionRead testWebBackendGetConnection(final boolean withCatalogRefresh,
                                                        final ConnectionRead connectionRead,
                                                        final OperationReadList operationReadList)
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers
+
+import io.airbyte.api.model.generated.ActorType
+import io.airbyte.api.model.generated.ConnectionIdRequestBody
+import io.airbyte.api.model.generated.ConnectionRead
+import io.airbyte.api.model.generated.ConnectionState
+import io.airbyte.api.model.generated.DestinationIdRequestBody
+import io.airbyte.api.model.generated.DestinationRead
+import io.airbyte.api.model.generated.JobOptionalRead
+import io.airbyte.api.model.generated.ReplicationBootstrapRequestBody
+import io.airbyte.api.model.generated.ResolveActorDefinitionVersionRequestBody
+import io.airbyte.api.model.generated.ResolveActorDefinitionVersionResponse
+import io.airbyte.api.model.generated.SyncInput
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.params.ParameterizedTest
+import org.junit.jupiter.params.provider.ValueSource
+import java.util.UUID
+
+class ReplicationBootstrapHandlerTest {
+  private val jobInputHandler = mockk<JobInputHandler>()
+  private val destinationHandler = mockk<DestinationHandler>()
+  private val actorDefinitionVersionHandler = mockk<ActorDefinitionVersionHandler>()
+  private val connectionsHandler = mockk<ConnectionsHandler>()
+  private val stateHandler = mockk<StateHandler>()
+  private val jobHistoryHandler = mockk<JobHistoryHandler>()
+
+  private val handler =
+    ReplicationBootstrapHandler(
+      jobInputHandler,
+      destinationHandler,
+      actorDefinitionVersionHandler,
+      connectionsHandler,
+      stateHandler,
+      jobHistoryHandler,
+    )
+
+  private val connectionId = UUID.randomUUID()
+  private val destinationId = UUID.randomUUID()
+  private val destinationDefinitionId = UUID.randomUUID()
+  private val jobId = 12L
+  private val attemptNumber = 1
+  private val jobInput = mapOf("syncInput" to mapOf<String, Any>())
+  private val connection = ConnectionRead().connectionId(connectionId)
+  private val connectionForJob = ConnectionRead().connectionId(connectionId).name("for job")
+  private val state = ConnectionState().connectionId(connectionId)
+  private val lastReplicationJob = JobOptionalRead()
+
+  @BeforeEach
+  fun setup() {
+    every { jobInputHandler.getJobInput(SyncInput().jobId(jobId).attemptNumber(attemptNumber)) } returns jobInput
+    every {
+      destinationHandler.getDestination(DestinationIdRequestBody().destinationId(destinationId))
+    } returns DestinationRead().destinationId(destinationId).destinationDefinitionId(destinationDefinitionId)
+    every { connectionsHandler.getConnection(connectionId) } returns connection
+    every { connectionsHandler.getConnectionForJob(connectionId, jobId) } returns connectionForJob
+    every { stateHandler.getState(ConnectionIdRequestBody().connectionId(connectionId)) } returns state
+    every { jobHistoryHandler.getLastReplicationJob(ConnectionIdRequestBody().connectionId(connectionId)) } returns lastReplicationJob
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = [true, false])
+  fun `returns the lookups of the replication`(supportRefreshes: Boolean) {
+    val destinationVersion = mockDestinationVersion(supportRefreshes)
+
+    val bootstrap = handler.getReplicationBootstrap(request(isReset = false))
+
+    assertEquals(jobInput, bootstrap.jobInput)
+    assertEquals(destinationVersion, bootstrap.destinationVersion)
+    assertEquals(if (supportRefreshes) connectionForJob else connection, bootstrap.connection)
+    assertEquals(state, bootstrap.state)
+    assertNull(bootstrap.lastReplicationJob)
+    verify(exactly = 0) { jobHistoryHandler.getLastReplicationJob(any()) }
+  }
+
+  @Test
+  fun `returns the last replication job of a reset`() {
+    mockDestinationVersion(false)
+
+    val bootstrap = handler.getReplicationBootstrap(request(isReset = true))
+
+    assertEquals(lastReplicationJob, bootstrap.lastReplicationJob)
+  }
+
+  private fun mockDestinationVersion(supportRefreshes: Boolean): ResolveActorDefinitionVersionResponse {
+    val destinationVersion =
+      ResolveActorDefinitionVersionResponse()
+        .versionId(UUID.randomUUID())
+        .dockerImageTag("1.0.0")
+        .supportRefreshes(supportRefreshes)
+        .supportFileTransfer(false)
+    every {
+      actorDefinitionVersionHandler.resolveActorDefinitionVersionByTag(
+        ResolveActorDefinitionVersionRequestBody()
+          .actorDefinitionId(destinationDefinitionId)
+          .actorType(ActorType.DESTINATION)
+          .dockerImageTag("1.0.0"),
+      )
+    } returns destinationVersion
+    return destinationVersion
+  }
+
+  private fun request(isReset: Boolean) =
+    ReplicationBootstrapRequestBody()
+      .jobId(jobId)
+      .attemptNumber(attemptNumber)
+      .connectionId(connectionId)
+      .destinationId(destinationId)
+      .destinationDockerImageTag("1.0.0")
+      .isReset(isReset)
+}
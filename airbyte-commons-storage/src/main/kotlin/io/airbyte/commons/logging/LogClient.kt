@@ -4,10 +4,15 @@
 
 package io.airbyte.commons.logging
 
+import com.fasterxml.jackson.core.JsonToken
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.fasterxml.jackson.databind.module.SimpleModule
 import com.fasterxml.jackson.module.kotlin.readValue
-import io.airbyte.commons.logging.logback.STRUCTURED_LOG_FILE_EXTENSION
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.google.common.io.CountingInputStream
+import io.airbyte.commons.logging.logback.COMPRESSED_STRUCTURED_LOG_FILE_EXTENSION
+import io.airbyte.commons.logging.logback.isStructuredLogFile
 import io.airbyte.commons.storage.DocumentType
 import io.airbyte.commons.storage.StorageClientFactory
 import io.airbyte.metrics.MetricAttribute
@@ -17,7 +22,10 @@ import io.airbyte.metrics.lib.MetricTags
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micrometer.core.instrument.Counter
 import jakarta.inject.Singleton
+import java.io.InputStream
+import java.nio.charset.StandardCharsets
 import java.util.regex.Pattern
+import java.util.zip.GZIPInputStream
 
 private val logger = KotlinLogging.logger {}
 
@@ -28,8 +36,25 @@ private val LOG_LINE_PATTERN =
   )
 private val TIMESTAMP_PATTERN = "^(\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}).*".toPattern()
 
+/**
+ * Maximum number of events kept in memory across all the log files parsed by a [LogClient].
+ */
+private const val MAX_CACHED_LOG_EVENTS = 250_000L
+
+/**
+ * Size of the first range read from the end of an unstructured log file, each following range is twice as large up to
+ * [MAX_TAIL_RANGE_BYTES].
+ */
+private const val TAIL_RANGE_BYTES = 64 * 1024
+private const val MAX_TAIL_RANGE_BYTES = 8 * 1024 * 1024
+
 /**
  * Client that retrieves operation job logs from storage.
+ * <p>
+ * Logs are uploaded as a series of files, each file holding the events logged since the previous one and named after
+ * the time it was uploaded at. The last lines of a log are read from the newest files first, stopping once enough lines
+ * were read. Uploaded files never change, so the events parsed from a file are cached to serve the repeated polling of a
+ * running job's logs.
  */
 @Singleton
 class LogClient(
@@ -43,6 +68,13 @@ class LogClient(
   // Copy the mapper to avoid changing deserialization for all usages in the containing application
   private val objectMapper = mapper.copy()
 
+  private val parsedSegments: Cache<String, List<LogEvent>> =
+    Caffeine
+      .newBuilder()
+      .maximumWeight(MAX_CACHED_LOG_EVENTS)
+      .weigher { _: String, events: List<LogEvent> -> events.size }
+      .build()
+
   init {
     val structuredLogEventModule = SimpleModule()
     structuredLogEventModule.addDeserializer(StackTraceElement::class.java, StackTraceElementDeserializer())
@@ -52,6 +84,7 @@ class LogClient(
   fun deleteLogs(logPath: String) {
     logger.debug { "Deleting logs from path '$logPath' using ${client.storageType} storage client..." }
     client.delete(id = logPath)
+    parsedSegments.asMap().keys.removeIf { it.contains(logPath) }
     logger.debug { "Log delete request complete." }
   }
 
@@ -60,7 +93,7 @@ class LogClient(
     numLines: Int,
   ): LogEvents {
     logger.debug { "Tailing $numLines line(s) from logs from path '$logPath' using ${client.storageType} storage client..." }
-    val files = client.list(id = logPath).filter { it.endsWith(STRUCTURED_LOG_FILE_EXTENSION) }
+    val files = client.list(id = logPath).filter { isStructuredLogFile(it) }
     logger.debug { "Found ${files.size} files from path '$logPath' using ${client.storageType} storage client." }
 
     val instrumentedFiles =
@@ -140,7 +173,7 @@ class LogClient(
         attributes = arrayOf(MetricAttribute(MetricTags.LOG_CLIENT_TYPE, client.storageType.name.lowercase())),
       )
 
-    val isStructured = files.all { it.endsWith(suffix = STRUCTURED_LOG_FILE_EXTENSION) }
+    val isStructured = files.all { isStructuredLogFile(it) }
 
     /*
      * This logic is here to handle logs created before the introduction of structured logs.  If any of the log files
@@ -162,21 +195,19 @@ class LogClient(
     lineCounter: Counter?,
     byteCounter: Counter?,
   ): List<LogEvent> {
+    val segments = mutableListOf<List<LogEvent>>()
     var count = 0
-    val logLines =
-      files
-        .asSequence()
-        .map { file ->
-          val events = client.read(id = file)
-          byteCounter?.increment(events?.length?.toDouble() ?: 0.0)
-          extractEvents(events = events)
-        }.flatMap { it.events }
-        .takeWhile { _ ->
-          count++
-          lineCounter?.increment()
-          count <= numLines
-        }.sortedBy { it.timestamp }
-        .toList()
+    for (file in files.sortedDescending()) {
+      if (count >= numLines) {
+        break
+      }
+      val events = readEvents(file = file, byteCounter = byteCounter)
+      segments.add(events)
+      count += events.size
+    }
+
+    val logLines = segments.flatten().sortedBy { it.timestamp }.takeLast(maxOf(numLines, 0))
+    lineCounter?.increment(logLines.size.toDouble())
     return logLines
   }
 
@@ -186,34 +217,105 @@ class LogClient(
     lineCounter: Counter?,
     byteCounter: Counter?,
   ): List<String> {
-    val lines = mutableListOf<String>()
-
-    // run is necessary to allow the forEach calls to return early
-    run {
-      files.forEach { file ->
-        val fileLines =
-          if (file.endsWith(suffix = STRUCTURED_LOG_FILE_EXTENSION)) {
-            val logEvents = extractEvents(events = client.read(id = file))
-            logEvents.events.map(logEventLayout::doLayout)
-          } else {
-            extractLogLines(fileContents = client.read(id = file))
-          }
-        fileLines.forEach { line ->
-          lines.add(line)
-          lineCounter?.increment()
-          byteCounter?.increment(line.length.toDouble())
+    val segments = mutableListOf<List<String>>()
+    var count = 0
+    for (file in files.sortedDescending()) {
+      if (count >= numLines) {
+        break
+      }
+      val fileLines =
+        if (isStructuredLogFile(file)) {
+          readEvents(file = file, byteCounter = byteCounter).map(logEventLayout::doLayout)
+        } else {
+          readLastLogLines(file = file, numLines = numLines - count, byteCounter = byteCounter)
+        }
+      segments.add(fileLines)
+      count += fileLines.size
+    }
 
-          if (lines.size >= numLines) {
-            return@run
+    val lines = orderLogLines(lines = segments.flatten()).takeLast(maxOf(numLines, 0))
+    lineCounter?.increment(lines.size.toDouble())
+    return lines
+  }
+
+  /**
+   * Returns the events of a structured log file, from the cache if the file was already parsed.
+   */
+  private fun readEvents(
+    file: String,
+    byteCounter: Counter?,
+  ): List<LogEvent> {
+    parsedSegments.getIfPresent(file)?.let { return it }
+
+    val events =
+      client.readStream(id = file)?.let { CountingInputStream(it) }?.use { stream ->
+        val content = if (file.endsWith(suffix = COMPRESSED_STRUCTURED_LOG_FILE_EXTENSION)) GZIPInputStream(stream) else stream
+        extractEvents(stream = content).also { byteCounter?.increment(stream.count.toDouble()) }
+      } ?: return emptyList()
+    parsedSegments.put(file, events)
+    return events
+  }
+
+  /**
+   * Parses the events of a structured log file one at a time, without holding the whole file in memory.
+   */
+  private fun extractEvents(stream: InputStream): List<LogEvent> {
+    val events = mutableListOf<LogEvent>()
+    objectMapper.createParser(stream).use { parser ->
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return events
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        val fieldName = parser.currentName()
+        val token = parser.nextToken()
+        if (fieldName == LogEvents::events.name && token == JsonToken.START_ARRAY) {
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            events.add(objectMapper.readValue<LogEvent>(parser))
           }
+        } else {
+          parser.skipChildren()
         }
       }
     }
+    return events
+  }
 
-    return orderLogLines(lines = lines)
+  /**
+   * Returns the last lines of an unstructured log file, reading ranges of the file backwards until enough lines were
+   * found.
+   */
+  private fun readLastLogLines(
+    file: String,
+    numLines: Int,
+    byteCounter: Counter?,
+  ): List<String> {
+    var offset = client.size(id = file) ?: return emptyList()
+    var rangeLength = TAIL_RANGE_BYTES
+    var tail = ByteArray(0)
+    var lines = emptyList<String>()
+    while (offset > 0 && lines.size < numLines) {
+      val length = minOf(rangeLength.toLong(), offset).toInt()
+      offset -= length
+      val range = client.readRange(id = file, offset = offset, length = length) ?: return emptyList()
+      byteCounter?.increment(range.size.toDouble())
+      tail = range + tail
+      lines = extractLogLines(fileContents = decodeCompleteLines(bytes = tail, isFileStart = offset == 0L))
+      rangeLength = minOf(rangeLength * 2, MAX_TAIL_RANGE_BYTES)
+    }
+    return lines.takeLast(maxOf(numLines, 0))
   }
 
-  private fun extractEvents(events: String?): LogEvents = events?.let { objectMapper.readValue(it) } ?: LogEvents(events = emptyList())
+  /**
+   * Decodes the complete lines of a range of a file. Unless the range starts the file, it may start in the middle of a
+   * line or of a character, so the first complete line starts after the first line break.
+   */
+  private fun decodeCompleteLines(
+    bytes: ByteArray,
+    isFileStart: Boolean,
+  ): String {
+    val start = if (isFileStart) 0 else bytes.indexOf('\n'.code.toByte()) + 1
+    return if (!isFileStart && start == 0) "" else String(bytes, start, bytes.size - start, StandardCharsets.UTF_8)
+  }
 
   private fun extractLogLines(fileContents: String?): List<String> {
     val fileLines = mutableListOf<String>()
@@ -5,8 +5,10 @@
 package io.airbyte.commons.logging.logback
 
 import ch.qos.logback.classic.spi.ILoggingEvent
+import ch.qos.logback.classic.spi.IThrowableProxy
 import ch.qos.logback.core.AppenderBase
 import ch.qos.logback.core.status.ErrorStatus
+import ch.qos.logback.core.status.WarnStatus
 import com.google.common.util.concurrent.ThreadFactoryBuilder
 import io.airbyte.commons.envvar.EnvVar
 import io.airbyte.commons.storage.AzureStorageClient
@@ -22,6 +24,13 @@ import io.airbyte.commons.storage.S3StorageClient
 import io.airbyte.commons.storage.S3StorageConfig
 import io.airbyte.commons.storage.StorageBucketConfig
 import io.airbyte.commons.storage.StorageClient
+import io.airbyte.metrics.MetricClient
+import io.airbyte.metrics.OssMetricsRegistry
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.event.ApplicationEventListener
+import io.micronaut.context.event.StartupEvent
+import jakarta.inject.Singleton
+import java.io.ByteArrayOutputStream
 import java.net.InetAddress
 import java.time.LocalDateTime
 import java.time.format.DateTimeFormatter
@@ -31,6 +40,9 @@ import java.util.concurrent.LinkedBlockingQueue
 import java.util.concurrent.ScheduledFuture
 import java.util.concurrent.ScheduledThreadPoolExecutor
 import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicLong
+import java.util.zip.GZIPOutputStream
 
 /**
  * Builds the ID of the uploaded file.  This is typically the path in blob storage.
@@ -46,11 +58,18 @@ fun createFileId(
   timestamp: String = LocalDateTime.now().format(DATE_FORMAT),
   hostname: String = InetAddress.getLocalHost().hostName,
   uniqueIdentifier: String = UUID.randomUUID().toString(),
+  extension: String = STRUCTURED_LOG_FILE_EXTENSION,
 ): String {
   // Remove the leading/trailing "/" from the base storage ID if present to avoid duplicates in the storage ID
-  return "${baseId.trim('/')}/${timestamp}_${hostname}_${uniqueIdentifier.replace("-", "")}$STRUCTURED_LOG_FILE_EXTENSION"
+  return "${baseId.trim('/')}/${timestamp}_${hostname}_${uniqueIdentifier.replace("-", "")}$extension"
 }
 
+/**
+ * Returns true if the file is a structured log file, compressed or not.
+ */
+fun isStructuredLogFile(id: String): Boolean =
+  id.endsWith(suffix = STRUCTURED_LOG_FILE_EXTENSION) || id.endsWith(suffix = COMPRESSED_STRUCTURED_LOG_FILE_EXTENSION)
+
 object AirbyteCloudStorageAppenderExecutorServiceHelper {
   /**
    * Shared executor service used to reduce the number of threads created to handle
@@ -78,6 +97,15 @@ object AirbyteCloudStorageAppenderExecutorServiceHelper {
     unit: TimeUnit,
   ): ScheduledFuture<*> = executorService.scheduleAtFixedRate(runnable, initDelay, period, unit)
 
+  /**
+   * Runs a task once on the underlying executor service, as soon as possible.
+   *
+   * @param runnable The task to be executed.
+   */
+  fun submitTask(runnable: Runnable) {
+    executorService.execute(runnable)
+  }
+
   /**
    * Stops the shared executor service.  This method should be called from a JVM shutdown hook
    * to ensure that the thread pool is stopped prior to exit/stopping the appenders.
@@ -99,6 +127,15 @@ object AirbyteCloudStorageAppenderExecutorServiceHelper {
  * Custom Logback [AppenderBase] that uploads log events to remove storage.  Log data
  * is uploaded on a scheduled cadence that produces a new remote storage file each time.
  * This is necessary because most cloud storage systems do not support an append mode.
+ * <p>
+ * Log data is also uploaded as soon as the buffered events reach [flushBytes], so that a noisy
+ * job produces fewer, larger files rather than holding everything in memory until the next
+ * scheduled upload. At most [maxBufferedEvents] events are buffered: once the buffer is full,
+ * new events are dropped, and the next upload reports them as a Logback warning and, once the
+ * application has started, through the [MetricClient] registered in [AirbyteCloudStorageAppenderMetrics].
+ * <p>
+ * Job logs are gzipped before being uploaded, the [io.airbyte.commons.logging.LogClient] reads
+ * both compressed and uncompressed files.
  */
 class AirbyteCloudStorageAppender(
   val baseStorageId: String,
@@ -106,9 +143,16 @@ class AirbyteCloudStorageAppender(
   val storageClient: StorageClient = buildStorageClient(storageConfig = buildStorageConfig(), documentType = documentType),
   val period: Long = 60L,
   val unit: TimeUnit = TimeUnit.SECONDS,
+  val compress: Boolean = documentType == DocumentType.LOGS,
+  val flushBytes: Long = DEFAULT_FLUSH_BYTES,
+  val maxBufferedEvents: Int = DEFAULT_MAX_BUFFERED_EVENTS,
 ) : AppenderBase<ILoggingEvent>() {
-  private val buffer = LinkedBlockingQueue<ILoggingEvent>()
-  private var currentStorageId: String = createFileId(baseId = baseStorageId)
+  private val buffer = LinkedBlockingQueue<ILoggingEvent>(maxBufferedEvents)
+  private val bufferedBytes = AtomicLong()
+  private val flushRequested = AtomicBoolean()
+  private val droppedEvents = AtomicLong()
+  private val extension = if (compress) COMPRESSED_STRUCTURED_LOG_FILE_EXTENSION else STRUCTURED_LOG_FILE_EXTENSION
+  private var currentStorageId: String = createFileId(baseId = baseStorageId, extension = extension)
   private val encoder = AirbyteLogEventEncoder()
   private val uploadLock = Any()
   private lateinit var uploadTask: ScheduledFuture<*>
@@ -131,27 +175,94 @@ class AirbyteCloudStorageAppender(
   }
 
   override fun append(eventObject: ILoggingEvent) {
-    buffer.offer(eventObject)
+    if (!buffer.offer(eventObject)) {
+      droppedEvents.incrementAndGet()
+      return
+    }
+
+    if (bufferedBytes.addAndGet(estimateSize(eventObject)) >= flushBytes && flushRequested.compareAndSet(false, true)) {
+      AirbyteCloudStorageAppenderExecutorServiceHelper.submitTask(this::upload)
+    }
   }
 
+  /**
+   * Number of events dropped since this appender started because the buffer was full.
+   */
+  fun getDroppedEvents(): Long = droppedEvents.get()
+
   private fun upload() {
     try {
       synchronized(uploadLock) {
+        flushRequested.set(false)
         val events = mutableListOf<ILoggingEvent>()
         buffer.drainTo(events)
+        bufferedBytes.addAndGet(-events.sumOf { estimateSize(it) })
+
+        val dropped = droppedEvents.getAndSet(0)
+        if (dropped > 0) {
+          addStatus(WarnStatus("Dropped $dropped log events for $baseStorageId because the upload buffer was full.", this))
+          AirbyteCloudStorageAppenderMetrics.metricClient?.count(metric = OssMetricsRegistry.LOG_APPENDER_EVENTS_DROPPED, value = dropped)
+        }
 
         if (events.isNotEmpty()) {
-          val document = encoder.bulkEncode(loggingEvents = events)
-          storageClient.write(id = currentStorageId, document = document)
+          if (compress) {
+            storageClient.write(id = currentStorageId, document = compressedDocument(events))
+          } else {
+            storageClient.write(id = currentStorageId, document = encoder.bulkEncode(loggingEvents = events))
+          }
 
           // Move to next file to avoid overwriting in log storage that doesn't support append mode
-          this.currentStorageId = createFileId(baseId = baseStorageId)
+          this.currentStorageId = createFileId(baseId = baseStorageId, extension = extension)
         }
       }
     } catch (t: Throwable) {
       addStatus(ErrorStatus("Failed to upload logs to cloud storage location $currentStorageId.", this, t))
     }
   }
+
+  private fun compressedDocument(events: List<ILoggingEvent>): ByteArray {
+    val output = ByteArrayOutputStream()
+    GZIPOutputStream(output).use { encoder.bulkEncode(loggingEvents = events, outputStream = it) }
+    return output.toByteArray()
+  }
+}
+
+/**
+ * Rough size of the encoded event, only used to decide when to upload the buffered events.
+ */
+private fun estimateSize(event: ILoggingEvent): Long =
+  (event.formattedMessage?.length ?: 0) + EVENT_OVERHEAD_BYTES + (event.throwableProxy?.let { estimateSize(it) } ?: 0L)
+
+/**
+ * Rough size of the encoded stack trace, including its causes and suppressed exceptions, without rendering it.
+ */
+private fun estimateSize(throwable: IThrowableProxy): Long =
+  (throwable.className?.length ?: 0) +
+    (throwable.message?.length ?: 0) +
+    (throwable.stackTraceElementProxyArray?.size ?: 0) * STACK_FRAME_BYTES +
+    (throwable.cause?.let { estimateSize(it) } ?: 0L) +
+    (throwable.suppressed?.sumOf { estimateSize(it) } ?: 0L)
+
+/**
+ * Holds the [MetricClient] used by the [AirbyteCloudStorageAppender]s, which Logback creates before the application context
+ * exists.
+ */
+object AirbyteCloudStorageAppenderMetrics {
+  @Volatile
+  var metricClient: MetricClient? = null
+}
+
+/**
+ * Registers the application's [MetricClient] with the [AirbyteCloudStorageAppender]s on startup.
+ */
+@Singleton
+@Requires(beans = [MetricClient::class])
+class AirbyteCloudStorageAppenderMetricsRegistrar(
+  private val metricClient: MetricClient,
+) : ApplicationEventListener<StartupEvent> {
+  override fun onApplicationEvent(event: StartupEvent) {
+    AirbyteCloudStorageAppenderMetrics.metricClient = metricClient
+  }
 }
 
 internal fun buildStorageClient(
@@ -214,6 +325,15 @@ internal fun buildStorageClient(
 }
 
 const val STRUCTURED_LOG_FILE_EXTENSION = ".json"
+const val COMPRESSED_STRUCTURED_LOG_FILE_EXTENSION = "$STRUCTURED_LOG_FILE_EXTENSION.gz"
+private const val DEFAULT_FLUSH_BYTES = 4L * 1024 * 1024
+private const val DEFAULT_MAX_BUFFERED_EVENTS = 100_000
+
+// Timestamp, level, source, caller and the JSON around them.
+private const val EVENT_OVERHEAD_BYTES = 200L
+
+// "at", the frame's class, method, file and line, and the JSON around them.
+private const val STACK_FRAME_BYTES = 100L
 private val DATE_FORMAT: DateTimeFormatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmss")
 
 internal fun buildBucketConfig(storageConfig: Map<EnvVar, String>): StorageBucketConfig =
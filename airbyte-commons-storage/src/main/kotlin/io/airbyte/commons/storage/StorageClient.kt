@@ -4,8 +4,10 @@
 
 package io.airbyte.commons.storage
 
+import com.azure.core.util.BinaryData
 import com.azure.storage.blob.BlobServiceClient
 import com.azure.storage.blob.BlobServiceClientBuilder
+import com.azure.storage.blob.models.BlobRange
 import com.google.auth.oauth2.ServiceAccountCredentials
 import com.google.cloud.storage.BlobId
 import com.google.cloud.storage.BlobInfo
@@ -34,7 +36,11 @@ import software.amazon.awssdk.services.s3.model.ListObjectsV2Request
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException
 import software.amazon.awssdk.services.s3.model.PutObjectRequest
 import java.io.ByteArrayInputStream
+import java.io.InputStream
 import java.net.URI
+import java.nio.ByteBuffer
+import java.nio.channels.Channels
+import java.nio.channels.FileChannel
 import java.nio.charset.StandardCharsets
 import java.nio.file.Files
 import java.nio.file.Path
@@ -134,6 +140,18 @@ interface StorageClient {
     document: String,
   )
 
+  /**
+   * Writes a binary document with a given id. If a document already exists at this id it will be
+   * overwritten.
+   *
+   * @param id of the document to write
+   * @param document to write
+   */
+  fun write(
+    id: String,
+    document: ByteArray,
+  )
+
   /**
    * Reads document with a given id.
    *
@@ -142,6 +160,41 @@ interface StorageClient {
    */
   fun read(id: String): String?
 
+  /**
+   * Opens a stream over the document with a given id, so that it can be read without holding all
+   * of it in memory.
+   *
+   * @param id of the document to read.
+   * @return a stream over the document, which must be closed by the caller, or null if there is no such document.
+   */
+  fun readStream(id: String): InputStream? = read(id)?.byteInputStream(StandardCharsets.UTF_8)
+
+  /**
+   * Returns the size of the document with a given id.
+   *
+   * @param id of the document.
+   * @return the size of the document in bytes, or null if there is no such document.
+   */
+  fun size(id: String): Long? = read(id)?.toByteArray(StandardCharsets.UTF_8)?.size?.toLong()
+
+  /**
+   * Reads a range of the document with a given id.
+   *
+   * @param id of the document to read.
+   * @param offset of the first byte to read, which must be within the document.
+   * @param length number of bytes to read, fewer are returned if the document ends before.
+   * @return the bytes read, or null if there is no such document.
+   */
+  fun readRange(
+    id: String,
+    offset: Long,
+    length: Int,
+  ): ByteArray? =
+    readStream(id)?.use {
+      it.skipNBytes(offset)
+      it.readNBytes(length)
+    }
+
   /**
    * Deletes the document with provided id.
    *
@@ -207,6 +260,17 @@ class AzureStorageClient(
       .upload(document.byteInputStream(StandardCharsets.UTF_8))
   }
 
+  override fun write(
+    id: String,
+    document: ByteArray,
+  ) {
+    azureClient
+      .getBlobContainerClient(bucketName)
+      .getBlobClient(key(id))
+      // Documents written as bytes may be addressed by their content, so writing one that exists is expected.
+      .upload(BinaryData.fromBytes(document), true)
+  }
+
   override fun read(id: String): String? =
     azureClient
       .getBlobContainerClient(bucketName)
@@ -216,6 +280,33 @@ class AzureStorageClient(
       ?.downloadContent()
       ?.toString()
 
+  override fun readStream(id: String): InputStream? =
+    azureClient
+      .getBlobContainerClient(bucketName)
+      .getBlobClient(key(id))
+      .takeIf { it.exists() }
+      ?.openInputStream()
+
+  override fun size(id: String): Long? =
+    azureClient
+      .getBlobContainerClient(bucketName)
+      .getBlobClient(key(id))
+      .takeIf { it.exists() }
+      ?.properties
+      ?.blobSize
+
+  override fun readRange(
+    id: String,
+    offset: Long,
+    length: Int,
+  ): ByteArray? =
+    azureClient
+      .getBlobContainerClient(bucketName)
+      .getBlobClient(key(id))
+      .takeIf { it.exists() }
+      ?.openInputStream(BlobRange(offset, length.toLong()), null)
+      ?.use { it.readAllBytes() }
+
   override fun delete(id: String): Boolean =
     azureClient
       .getBlobContainerClient(bucketName)
@@ -273,6 +364,14 @@ class GcsStorageClient(
     gcsClient.create(blobInfo, document.toByteArray(StandardCharsets.UTF_8))
   }
 
+  override fun write(
+    id: String,
+    document: ByteArray,
+  ) {
+    val blobInfo = BlobInfo.newBuilder(blobId(id)).build()
+    gcsClient.create(blobInfo, document)
+  }
+
   override fun read(id: String): String? {
     val blobId = blobId(key(id))
 
@@ -282,6 +381,34 @@ class GcsStorageClient(
       ?.let { gcsClient.readAllBytes(it.blobId).toString(StandardCharsets.UTF_8) }
   }
 
+  override fun readStream(id: String): InputStream? =
+    gcsClient
+      .get(blobId(id))
+      ?.takeIf { it.exists() }
+      ?.let { Channels.newInputStream(gcsClient.reader(it.blobId)) }
+
+  override fun size(id: String): Long? =
+    gcsClient
+      .get(blobId(id))
+      ?.takeIf { it.exists() }
+      ?.size
+
+  override fun readRange(
+    id: String,
+    offset: Long,
+    length: Int,
+  ): ByteArray? =
+    gcsClient
+      .get(blobId(id))
+      ?.takeIf { it.exists() }
+      ?.let { blob ->
+        gcsClient.reader(blob.blobId).use { reader ->
+          reader.seek(offset)
+          reader.limit(offset + length)
+          Channels.newInputStream(reader).readNBytes(length)
+        }
+      }
+
   override fun delete(id: String): Boolean = gcsClient.delete(BlobId.of(bucketName, key(id)))
 
   @VisibleForTesting
@@ -329,11 +456,49 @@ class LocalStorageClient(
     IOs.writeFile(path, document)
   }
 
+  override fun write(
+    id: String,
+    document: ByteArray,
+  ) {
+    val path =
+      toPath(id).also { it.createParentDirectories() }
+    Files.write(path, document)
+  }
+
   override fun read(id: String): String? =
     toPath(id)
       .takeIf { it.exists() }
       ?.let { IOs.readFile(it) }
 
+  override fun readStream(id: String): InputStream? =
+    toPath(id)
+      .takeIf { it.exists() }
+      ?.let { Files.newInputStream(it) }
+
+  override fun size(id: String): Long? =
+    toPath(id)
+      .takeIf { it.exists() }
+      ?.let { Files.size(it) }
+
+  override fun readRange(
+    id: String,
+    offset: Long,
+    length: Int,
+  ): ByteArray? =
+    toPath(id)
+      .takeIf { it.exists() }
+      ?.let { path ->
+        FileChannel.open(path).use { channel ->
+          val buffer = ByteBuffer.allocate(minOf(length.toLong(), maxOf(channel.size() - offset, 0L)).toInt())
+          while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+              break
+            }
+          }
+          buffer.array().copyOf(buffer.position())
+        }
+      }
+
   override fun delete(id: String): Boolean =
     toPath(id)
       .deleteIfExists()
@@ -440,6 +605,20 @@ abstract class AbstractS3StorageClient internal constructor(
     s3Client.putObject(request, RequestBody.fromString(document))
   }
 
+  override fun write(
+    id: String,
+    document: ByteArray,
+  ) {
+    val request =
+      PutObjectRequest
+        .builder()
+        .bucket(bucketName)
+        .key(key(id))
+        .build()
+
+    s3Client.putObject(request, RequestBody.fromBytes(document))
+  }
+
   override fun read(id: String): String? =
     try {
       s3Client
@@ -454,6 +633,53 @@ abstract class AbstractS3StorageClient internal constructor(
       null
     }
 
+  override fun readStream(id: String): InputStream? =
+    try {
+      s3Client.getObject(
+        GetObjectRequest
+          .builder()
+          .bucket(bucketName)
+          .key(key(id))
+          .build(),
+      )
+    } catch (e: NoSuchKeyException) {
+      null
+    }
+
+  override fun size(id: String): Long? =
+    try {
+      s3Client
+        .headObject(
+          HeadObjectRequest
+            .builder()
+            .bucket(bucketName)
+            .key(key(id))
+            .build(),
+        ).contentLength()
+    } catch (e: NoSuchKeyException) {
+      null
+    }
+
+  override fun readRange(
+    id: String,
+    offset: Long,
+    length: Int,
+  ): ByteArray? =
+    try {
+      s3Client
+        .getObjectAsBytes(
+          GetObjectRequest
+            .builder()
+            .bucket(bucketName)
+            .key(key(id))
+            // HTTP ranges are inclusive
+            .range("bytes=$offset-${offset + length - 1}")
+            .build(),
+        ).asByteArray()
+    } catch (e: NoSuchKeyException) {
+      null
+    }
+
   override fun delete(id: String): Boolean {
     val exists =
       try {
@@ -8,6 +8,7 @@ import ch.qos.logback.classic.Level
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.fasterxml.jackson.databind.module.SimpleModule
 import io.airbyte.commons.jackson.MoreMappers
+import io.airbyte.commons.logging.logback.COMPRESSED_STRUCTURED_LOG_FILE_EXTENSION
 import io.airbyte.commons.logging.logback.STRUCTURED_LOG_FILE_EXTENSION
 import io.airbyte.commons.storage.DocumentType
 import io.airbyte.commons.storage.StorageClient
@@ -27,11 +28,13 @@ import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.EnumSource
+import java.io.ByteArrayOutputStream
 import java.time.Instant
 import java.time.LocalDateTime
 import java.time.ZoneId
 import java.time.format.DateTimeFormatter
 import java.util.concurrent.Callable
+import java.util.zip.GZIPOutputStream
 import kotlin.io.path.createTempFile
 import kotlin.io.path.pathString
 
@@ -121,7 +124,7 @@ internal class LogClientTest {
     val storageClient =
       mockk<StorageClient> {
         every { list(any()) } returns listOf(logPath)
-        every { read(any()) } returns logFile.toFile().readText()
+        stubDocuments(this, mapOf(logPath to logFile.toFile().readText()))
         every { storageType } returns StorageType.LOCAL
       }
     val storageClientFactory =
@@ -138,10 +141,10 @@ internal class LogClientTest {
 
     val result = logClient.getLogs(logPath = logPath, numLines = numLines)
     assertEquals(numLines, result.events.size)
-    assertEquals("log line 1", result.events.first().message)
-    assertEquals(1000L, result.events.first().timestamp)
-    assertEquals("log line $numLines", result.events.last().message)
-    assertEquals((numLines * 1000).toLong(), result.events.last().timestamp)
+    assertEquals("log line ${numLines + 1}", result.events.first().message)
+    assertEquals(((numLines + 1) * 1000).toLong(), result.events.first().timestamp)
+    assertEquals("log line ${numLines * 2}", result.events.last().message)
+    assertEquals((numLines * 2 * 1000).toLong(), result.events.last().timestamp)
     verify(exactly = 1) { storageClient.list(logPath) }
   }
 
@@ -164,7 +167,7 @@ internal class LogClientTest {
     val storageClient =
       mockk<StorageClient> {
         every { list(any()) } returns listOf(logPath)
-        every { read(any()) } returns logFile.toFile().readText()
+        stubDocuments(this, mapOf(logPath to logFile.toFile().readText()))
         every { storageType } returns StorageType.LOCAL
       }
     val storageClientFactory =
@@ -181,8 +184,8 @@ internal class LogClientTest {
 
     val logs = logClient.tailCloudLogs(logPath = logPath, numLines = numLines)
     assertEquals(numLines, logs.size)
-    assertEquals("1970-01-01 00:01:00 log line 1", logs.first())
-    assertEquals("1970-01-01 01:40:00 log line $numLines", logs.last())
+    assertEquals("1970-01-01 01:41:00 log line ${numLines + 1}", logs.first())
+    assertEquals("1970-01-01 03:20:00 log line ${numLines * 2}", logs.last())
     verify(exactly = 1) { storageClient.list(logPath) }
   }
 
@@ -201,7 +204,7 @@ internal class LogClientTest {
     val storageClient =
       mockk<StorageClient> {
         every { list(any()) } returns listOf(logPath)
-        every { read(any()) } returns logFile.toFile().readText()
+        stubDocuments(this, mapOf(logPath to logFile.toFile().readText()))
         every { storageType } returns StorageType.LOCAL
       }
     val storageClientFactory =
@@ -218,8 +221,8 @@ internal class LogClientTest {
 
     val logs = logClient.tailCloudLogs(logPath = logPath, numLines = numLines)
     assertEquals(numLines, logs.size)
-    assertEquals(logEventLayout.doLayout(logEvents.events.first()), logs.first())
-    assertEquals(logEventLayout.doLayout(logEvents.events.take(numLines).last()), logs.last())
+    assertEquals(logEventLayout.doLayout(logEvents.events.takeLast(numLines).first()), logs.first())
+    assertEquals(logEventLayout.doLayout(logEvents.events.last()), logs.last())
     verify(exactly = 1) { storageClient.list(logPath) }
   }
 
@@ -265,10 +268,7 @@ internal class LogClientTest {
     val storageClient =
       mockk<StorageClient> {
         every { list(any()) } returns fileList
-        every { read("file1") } returns fileContents1
-        every { read("file2") } returns fileContents2
-        every { read("file3") } returns fileContents3
-        every { read("file4") } returns fileContents4
+        stubDocuments(this, mapOf("file1" to fileContents1, "file2" to fileContents2, "file3" to fileContents3, "file4" to fileContents4))
         every { this@mockk.storageType } returns storageType
       }
     val storageClientFactory =
@@ -313,10 +313,12 @@ internal class LogClientTest {
     val storageClient =
       mockk<StorageClient> {
         every { list(any()) } returns fileList
-        every { read("file1$STRUCTURED_LOG_FILE_EXTENSION") } returns objectMapper.writeValueAsString(logEvents1)
-        every { read("file2$STRUCTURED_LOG_FILE_EXTENSION") } returns objectMapper.writeValueAsString(logEvents2)
-        every { read("file3$STRUCTURED_LOG_FILE_EXTENSION") } returns objectMapper.writeValueAsString(logEvents3)
-        every { read("file4$STRUCTURED_LOG_FILE_EXTENSION") } returns objectMapper.writeValueAsString(logEvents4)
+        stubDocuments(
+          this,
+          listOf(logEvents1, logEvents2, logEvents3, logEvents4)
+            .mapIndexed { index, events -> files[index] to objectMapper.writeValueAsString(events) }
+            .toMap(),
+        )
         every { this@mockk.storageType } returns storageType
       }
     val storageClientFactory =
@@ -424,7 +426,7 @@ internal class LogClientTest {
     val storageClient =
       mockk<StorageClient> {
         every { list(any()) } returns listOf(logPath)
-        every { read(any()) } returns logFile.toFile().readText()
+        stubDocuments(this, mapOf(logPath to logFile.toFile().readText()))
         every { storageType } returns StorageType.LOCAL
       }
     val storageClientFactory =
@@ -636,7 +638,7 @@ internal class LogClientTest {
     val storageClient =
       mockk<StorageClient> {
         every { list(any()) } returns listOf(logPath)
-        every { read(any()) } returns logFile.toFile().readText()
+        stubDocuments(this, mapOf(logPath to logFile.toFile().readText()))
         every { storageType } returns StorageType.LOCAL
       }
     val storageClientFactory =
@@ -658,6 +660,134 @@ internal class LogClientTest {
     verify(exactly = 1) { storageClient.list(logPath) }
   }
 
+  @Test
+  fun testGetStructuredLogsReadsNewestFilesFirstAndCachesThem() {
+    val logPath = "log-path"
+    val numLines = 3
+    val startingInstant = Instant.now().toEpochMilli()
+    val files = (1..3).map { "$logPath/2024100112000${it}_host_id$STRUCTURED_LOG_FILE_EXTENSION" }
+    val documents =
+      files
+        .mapIndexed { index, file ->
+          file to objectMapper.writeValueAsString(buildLogEvents(numLines = 4, startingTimestamp = startingInstant + index * 10_000))
+        }.toMap()
+
+    val storageClient =
+      mockk<StorageClient> {
+        every { list(any()) } returns files
+        stubDocuments(this, documents)
+        every { storageType } returns StorageType.GCS
+      }
+    val storageClientFactory =
+      mockk<StorageClientFactory> {
+        every { create(DocumentType.LOGS) } returns storageClient
+      }
+    val logClient =
+      LogClient(
+        storageClientFactory = storageClientFactory,
+        mapper = objectMapper,
+        logEventLayout = logEventLayout,
+        metricClient = metricClient,
+      )
+
+    repeat(2) {
+      val result = logClient.getLogs(logPath = logPath, numLines = numLines)
+      assertEquals(listOf("log line 2", "log line 3", "log line 4"), result.events.map { it.message })
+      assertEquals(startingInstant + 20_000 + 4_000, result.events.last().timestamp)
+    }
+    verify(exactly = 1) { storageClient.readStream(files[2]) }
+    verify(exactly = 0) { storageClient.readStream(files[0]) }
+    verify(exactly = 0) { storageClient.readStream(files[1]) }
+    verify(exactly = 0) { storageClient.read(any()) }
+  }
+
+  @Test
+  fun testTailLogFilesReadsTheEndOfLargeFiles() {
+    val logPath = "log-path"
+    val numLines = 10
+    val formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+    val lines =
+      (1..10_000).map {
+        "${Instant.ofEpochMilli(it.toLong() * 1000).atZone(ZoneId.of("UTC")).format(formatter)} log line $it"
+      }
+
+    val storageClient =
+      mockk<StorageClient> {
+        every { list(any()) } returns listOf("file1")
+        stubDocuments(this, mapOf("file1" to lines.joinToString(separator = "\n")))
+        every { storageType } returns StorageType.S3
+      }
+    val storageClientFactory =
+      mockk<StorageClientFactory> {
+        every { create(DocumentType.LOGS) } returns storageClient
+      }
+    val logClient =
+      LogClient(
+        storageClientFactory = storageClientFactory,
+        mapper = objectMapper,
+        logEventLayout = logEventLayout,
+        metricClient = metricClient,
+      )
+
+    val logs = logClient.tailCloudLogs(logPath = logPath, numLines = numLines)
+    assertEquals(lines.takeLast(numLines), logs)
+    verify(exactly = 1) { storageClient.readRange("file1", any(), any()) }
+    verify(exactly = 0) { storageClient.read(any()) }
+  }
+
+  @Test
+  fun testGetCompressedStructuredLogs() {
+    val logPath = "log-path"
+    val numLines = 100
+    val logEvents1 = buildLogEvents(numLines = 4, startingTimestamp = 0L)
+    val logEvents2 = buildLogEvents(numLines = 4, startingTimestamp = 10_000L)
+    val compressedFile = "$logPath/20241001120002_host_id$COMPRESSED_STRUCTURED_LOG_FILE_EXTENSION"
+    val compressedDocument =
+      ByteArrayOutputStream()
+        .also { output -> GZIPOutputStream(output).use { objectMapper.writeValue(it, logEvents2) } }
+        .toByteArray()
+
+    val storageClient =
+      mockk<StorageClient> {
+        every { list(any()) } returns listOf("$logPath/20241001120001_host_id$STRUCTURED_LOG_FILE_EXTENSION", compressedFile)
+        stubDocuments(this, mapOf("$logPath/20241001120001_host_id$STRUCTURED_LOG_FILE_EXTENSION" to objectMapper.writeValueAsString(logEvents1)))
+        every { readStream(compressedFile) } answers { compressedDocument.inputStream() }
+        every { storageType } returns StorageType.S3
+      }
+    val storageClientFactory =
+      mockk<StorageClientFactory> {
+        every { create(DocumentType.LOGS) } returns storageClient
+      }
+    val logClient =
+      LogClient(
+        storageClientFactory = storageClientFactory,
+        mapper = objectMapper,
+        logEventLayout = logEventLayout,
+        metricClient = metricClient,
+      )
+
+    val result = logClient.getLogs(logPath = logPath, numLines = numLines)
+    assertEquals(logEvents1.events + logEvents2.events, result.events)
+  }
+
+  /**
+   * Stubs the reads of a mocked [StorageClient] to serve the given documents.
+   */
+  private fun stubDocuments(
+    storageClient: StorageClient,
+    documents: Map<String, String>,
+  ) {
+    every { storageClient.read(any()) } answers { documents[firstArg()] }
+    every { storageClient.readStream(any()) } answers { documents[firstArg()]?.byteInputStream() }
+    every { storageClient.size(any()) } answers { documents[firstArg()]?.toByteArray()?.size?.toLong() }
+    every { storageClient.readRange(any(), any(), any()) } answers {
+      documents[firstArg()]?.toByteArray()?.let {
+        val offset = secondArg<Long>().toInt()
+        it.copyOfRange(offset, minOf(it.size, offset + thirdArg<Int>()))
+      }
+    }
+  }
+
   private fun buildLogEvents(
     numLines: Int,
     startingTimestamp: Long,
@@ -11,7 +11,11 @@ import ch.qos.logback.core.Context
 import ch.qos.logback.core.status.ErrorStatus
 import ch.qos.logback.core.status.Status
 import ch.qos.logback.core.status.StatusManager
+import ch.qos.logback.core.status.WarnStatus
+import com.fasterxml.jackson.module.kotlin.readValue
 import io.airbyte.commons.envvar.EnvVar
+import io.airbyte.commons.jackson.MoreMappers
+import io.airbyte.commons.logging.LogEvents
 import io.airbyte.commons.resources.MoreResources
 import io.airbyte.commons.storage.AzureStorageClient
 import io.airbyte.commons.storage.DocumentType
@@ -20,24 +24,33 @@ import io.airbyte.commons.storage.LocalStorageClient
 import io.airbyte.commons.storage.MinioStorageClient
 import io.airbyte.commons.storage.S3StorageClient
 import io.airbyte.commons.storage.StorageClient
+import io.airbyte.metrics.MetricClient
+import io.airbyte.metrics.OssMetricsRegistry
 import io.mockk.every
 import io.mockk.mockk
 import io.mockk.verify
 import org.junit.jupiter.api.AfterEach
 import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Test
 import java.io.IOException
 import java.nio.file.Files
 import java.util.UUID
+import java.util.concurrent.CountDownLatch
 import java.util.concurrent.TimeUnit
+import java.util.zip.GZIPInputStream
 import kotlin.io.path.Path
 
 private class AirbyteCloudStorageAppenderTest {
+  private val objectMapper = MoreMappers.initMapper()
+
   @AfterEach
   fun tearDown() {
     Files.newDirectoryStream(Path("."), "*.log").use { stream ->
       stream.forEach { Files.deleteIfExists(it) }
     }
+    AirbyteCloudStorageAppenderMetrics.metricClient = null
   }
 
   @Test
@@ -207,7 +220,7 @@ private class AirbyteCloudStorageAppenderTest {
 
     Thread.sleep(TimeUnit.SECONDS.toMillis(period * 2))
 
-    verify(exactly = 1) { storageClient.write(any<String>(), any<String>()) }
+    verify(exactly = 1) { storageClient.write(any<String>(), any<ByteArray>()) }
   }
 
   @Test
@@ -215,7 +228,7 @@ private class AirbyteCloudStorageAppenderTest {
     val baseStorageId = "/path/to/logs"
     val storageClient =
       mockk<StorageClient> {
-        every { write(any<String>(), any<String>()) } throws IOException("test")
+        every { write(any<String>(), any<ByteArray>()) } throws IOException("test")
       }
     val className = "io.airbyte.TestClass"
     val context = emptyMap<String, String>()
@@ -263,10 +276,110 @@ private class AirbyteCloudStorageAppenderTest {
 
     Thread.sleep(TimeUnit.SECONDS.toMillis(period * 2))
 
-    verify(exactly = 1) { storageClient.write(any<String>(), any<String>()) }
+    verify(exactly = 1) { storageClient.write(any<String>(), any<ByteArray>()) }
     verify(exactly = 1) { statusManager.add(any<ErrorStatus>()) }
   }
 
+  @Test
+  fun testStorageUploadOnceTheBufferedEventsReachTheFlushSize() {
+    val documents = mutableListOf<ByteArray>()
+    val uploaded = CountDownLatch(1)
+    val storageClient =
+      mockk<StorageClient> {
+        every { write(any<String>(), capture(documents)) } answers { uploaded.countDown() }
+      }
+    val appender =
+      AirbyteCloudStorageAppender(
+        documentType = DocumentType.LOGS,
+        storageClient = storageClient,
+        baseStorageId = "/path/to/logs",
+        period = 1L,
+        unit = TimeUnit.HOURS,
+        flushBytes = 1000L,
+      )
+    appender.context = mockk<Context>(relaxed = true)
+    appender.start()
+
+    repeat(10) { appender.doAppend(buildEvent(message = "test message $it")) }
+
+    assertTrue(uploaded.await(10, TimeUnit.SECONDS))
+    val logEvents = objectMapper.readValue<LogEvents>(GZIPInputStream(documents.first().inputStream()))
+    assertTrue(logEvents.events.isNotEmpty())
+    assertEquals("test message 0", logEvents.events.first().message)
+    appender.stop()
+  }
+
+  @Test
+  fun testEventsAreDroppedOnceTheBufferIsFull() {
+    val documents = mutableListOf<String>()
+    val storageClient =
+      mockk<StorageClient> {
+        every { write(any<String>(), capture(documents)) } returns Unit
+      }
+    val statusManager = mockk<StatusManager>(relaxed = true)
+    val metricClient = mockk<MetricClient>(relaxed = true)
+    AirbyteCloudStorageAppenderMetrics.metricClient = metricClient
+    val appender =
+      AirbyteCloudStorageAppender(
+        documentType = DocumentType.AUDIT_LOGS,
+        storageClient = storageClient,
+        baseStorageId = "/path/to/logs",
+        period = 1L,
+        unit = TimeUnit.HOURS,
+        maxBufferedEvents = 3,
+      )
+    appender.context =
+      mockk<Context> {
+        every { getStatusManager() } returns statusManager
+      }
+    appender.start()
+
+    repeat(5) { appender.doAppend(buildEvent(message = "test message $it")) }
+    assertEquals(2, appender.getDroppedEvents())
+    appender.stop()
+
+    val logEvents = objectMapper.readValue<LogEvents>(documents.single())
+    assertEquals(listOf("test message 0", "test message 1", "test message 2"), logEvents.events.map { it.message })
+    verify(exactly = 1) { statusManager.add(any<WarnStatus>()) }
+    verify(exactly = 1) { metricClient.count(metric = OssMetricsRegistry.LOG_APPENDER_EVENTS_DROPPED, value = 2L) }
+  }
+
+  @Test
+  fun testStackTracesCountTowardsTheFlushSize() {
+    val uploaded = CountDownLatch(1)
+    val storageClient =
+      mockk<StorageClient> {
+        every { write(any<String>(), any<ByteArray>()) } answers { uploaded.countDown() }
+      }
+    val appender =
+      AirbyteCloudStorageAppender(
+        documentType = DocumentType.LOGS,
+        storageClient = storageClient,
+        baseStorageId = "/path/to/logs",
+        period = 1L,
+        unit = TimeUnit.HOURS,
+        flushBytes = 5000L,
+      )
+    appender.context = mockk<Context>(relaxed = true)
+    appender.start()
+
+    val exception = IllegalStateException("failure", IOException("cause"))
+    exception.stackTrace = Array(50) { StackTraceElement("io.airbyte.TestClass", "testMethod", "TestClass.kt", it) }
+    val event = buildEvent(message = "test message")
+    every { event.throwableProxy } returns ThrowableProxy(exception)
+    appender.doAppend(event)
+
+    assertTrue(uploaded.await(10, TimeUnit.SECONDS))
+    appender.stop()
+  }
+
+  @Test
+  fun testIsStructuredLogFile() {
+    assertTrue(isStructuredLogFile("path/file$STRUCTURED_LOG_FILE_EXTENSION"))
+    assertTrue(isStructuredLogFile("path/file$COMPRESSED_STRUCTURED_LOG_FILE_EXTENSION"))
+    assertFalse(isStructuredLogFile("path/file.log"))
+  }
+
   @Test
   fun testIdScrubbing() {
     val baseStorageId = "/path/to/logs/"
@@ -278,4 +391,16 @@ private class AirbyteCloudStorageAppenderTest {
 
     assertEquals("${baseStorageId.trim('/')}/${timestamp}_${hostname}_${uniqueId.replace("-","")}$STRUCTURED_LOG_FILE_EXTENSION", id)
   }
+
+  private fun buildEvent(message: String): ILoggingEvent =
+    mockk<ILoggingEvent> {
+      every { callerData } returns arrayOf(StackTraceElement("io.airbyte.TestClass", "testMethod", "TestClass.kt", 12345))
+      every { formattedMessage } returns message
+      every { level } returns Level.INFO
+      every { loggerName } returns PLATFORM_LOGGER_NAME
+      every { mdcPropertyMap } returns emptyMap()
+      every { threadName } returns "Test Thread"
+      every { throwableProxy } returns null
+      every { timeStamp } returns 0L
+    }
 }
@@ -167,6 +167,26 @@ internal class AzureStorageClientTest {
     verify { blobClient.upload(any<InputStream>()) }
   }
 
+  @Test
+  fun `write bytes overwrites an existing doc`() {
+    val azureClient: BlobServiceClient = mockk()
+    val blobClient: BlobClient = mockk()
+    val blobContainerClient: BlobContainerClient = mockk()
+
+    every { azureClient.getBlobContainerClient(config.bucketName(DocumentType.STATE)) } returns blobContainerClient
+    every { blobContainerClient.exists() } returns false
+    every { blobContainerClient.createIfNotExists() } returns true
+
+    every { blobClient.upload(any<BinaryData>(), true) } returns Unit
+
+    val client = AzureStorageClient(config = config, type = DocumentType.STATE, azureClient = azureClient)
+    every { blobContainerClient.getBlobClient(client.key(KEY)) } returns blobClient
+
+    client.write(KEY, DOC1.toByteArray())
+    client.write(KEY, DOC1.toByteArray())
+    verify(exactly = 2) { blobClient.upload(match<BinaryData> { it.toString() == DOC1 }, true) }
+  }
+
   @Test
   fun `delete doc`() {
     val azureClient: BlobServiceClient = mockk()
@@ -386,6 +406,25 @@ internal class LocalStorageClientTest {
     }
   }
 
+  @Test
+  fun `stream and ranged reads`(
+    @TempDir tempDir: Path,
+  ) {
+    val config = LocalStorageConfig(buckets = buckets, root = tempDir.toString())
+    val client = LocalStorageClient(config = config, type = DocumentType.LOGS)
+
+    assertNull(client.readStream(KEY))
+    assertNull(client.size(KEY))
+    assertNull(client.readRange(KEY, 0, 1))
+
+    client.write(KEY, DOC1)
+    assertEquals(DOC1, client.readStream(KEY)?.use { it.readAllBytes().toString(StandardCharsets.UTF_8) })
+    assertEquals(DOC1.length.toLong(), client.size(KEY))
+    assertEquals("ell", client.readRange(KEY, 1, 3)?.toString(StandardCharsets.UTF_8))
+    // a range going past the end of the document stops at its end
+    assertEquals("lo", client.readRange(KEY, 3, 10)?.toString(StandardCharsets.UTF_8))
+  }
+
   @Test
   fun `list docs`() {
     val root = createTempDirectory(prefix = "local-test")
@@ -6,6 +6,7 @@ package io.airbyte.commons.temporal
 
 import com.google.common.annotations.VisibleForTesting
 import com.google.protobuf.ByteString
+import com.google.protobuf.Timestamp
 import io.airbyte.commons.annotation.InternalForTesting
 import io.airbyte.commons.temporal.config.TemporalQueueConfiguration
 import io.airbyte.commons.temporal.exception.DeletedWorkflowException
@@ -44,7 +45,9 @@ import io.airbyte.persistence.job.models.JobRunConfig
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.temporal.api.common.v1.WorkflowType
 import io.temporal.api.enums.v1.WorkflowExecutionStatus
+import io.temporal.api.filter.v1.StartTimeFilter
 import io.temporal.api.filter.v1.StatusFilter
+import io.temporal.api.filter.v1.WorkflowExecutionFilter
 import io.temporal.api.filter.v1.WorkflowTypeFilter
 import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsRequest
 import io.temporal.api.workflowservice.v1.ListOpenWorkflowExecutionsRequest
@@ -55,9 +58,12 @@ import jakarta.inject.Named
 import jakarta.inject.Singleton
 import java.io.IOException
 import java.nio.file.Path
+import java.time.Instant
 import java.util.UUID
+import java.util.concurrent.Callable
 import java.util.concurrent.CompletableFuture
 import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
 import java.util.concurrent.TimeUnit
 import java.util.concurrent.TimeoutException
 import java.util.function.Supplier
@@ -107,30 +113,74 @@ class TemporalClient(
    * Restart workflows stuck in a certain status.
    *
    * @param executionStatus execution status
+   * @param closedSince only restart the workflows closed since this time, or all of them if null
+   * @param parallelism how many workflows to restart at once
    * @return set of connection ids that were restarted, primarily used for tracking purposes
    */
-  fun restartClosedWorkflowByStatus(executionStatus: WorkflowExecutionStatus): Int {
-    val workflowExecutionInfos = fetchClosedWorkflowsByStatus(executionStatus)
-    val nonRunningWorkflow = filterOutRunningWorkspaceId(workflowExecutionInfos)
+  @JvmOverloads
+  fun restartClosedWorkflowByStatus(
+    executionStatus: WorkflowExecutionStatus,
+    closedSince: Instant? = null,
+    parallelism: Int = 1,
+  ): Int {
+    val workflowExecutionInfos = fetchClosedWorkflowsByStatus(executionStatus, closedSince)
+    // Listing every open workflow is only worth it for a full scan, a few recently closed workflows are checked one by one.
+    val nonRunningWorkflow =
+      if (closedSince == null) {
+        filterOutRunningWorkspaceId(workflowExecutionInfos)
+      } else {
+        workflowExecutionInfos.filterNot { isConnectionManagerWorkflowOpen(it) }.toSet()
+      }
 
-    nonRunningWorkflow.forEach { connectionId ->
+    val restart: (UUID) -> Unit = { connectionId ->
       with(connectionManagerUtils) {
         safeTerminateWorkflow(connectionId, SAFE_TERMINATE_MESSAGE)
         startConnectionManagerNoSignal(connectionId)
       }
     }
+    if (parallelism <= 1 || nonRunningWorkflow.size <= 1) {
+      nonRunningWorkflow.forEach(restart)
+    } else {
+      val executor = Executors.newFixedThreadPool(minOf(parallelism, nonRunningWorkflow.size))
+      try {
+        nonRunningWorkflow
+          .map { connectionId -> executor.submit(Callable { restart(connectionId) }) }
+          .forEach {
+            try {
+              it.get()
+            } catch (e: ExecutionException) {
+              throw e.cause ?: e
+            }
+          }
+      } finally {
+        executor.shutdownNow()
+      }
+    }
 
     return nonRunningWorkflow.size
   }
 
-  fun fetchClosedWorkflowsByStatus(executionStatus: WorkflowExecutionStatus): MutableSet<UUID> {
+  /**
+   * List the connection ids of the connection manager workflows closed with the given status.
+   *
+   * @param executionStatus execution status
+   * @param closedSince only list the workflows closed since this time, or all of them if null
+   */
+  @JvmOverloads
+  fun fetchClosedWorkflowsByStatus(
+    executionStatus: WorkflowExecutionStatus,
+    closedSince: Instant? = null,
+  ): MutableSet<UUID> {
+    // The filters are exclusive: filter by status on the server and by type below.
     var workflowExecutionsRequest =
       ListClosedWorkflowExecutionsRequest
         .newBuilder()
         .setNamespace(workflowClientWrapped.getNamespace())
         .setStatusFilter(StatusFilter.newBuilder().setStatus(executionStatus).build())
-        .setTypeFilter(WorkflowTypeFilter.newBuilder().setName(ConnectionManagerWorkflow::class.java.getSimpleName()).build())
-        .build()
+        .also { request ->
+          // The time filter of closed workflows applies to their close time.
+          closedSince?.let { request.setStartTimeFilter(StartTimeFilter.newBuilder().setEarliestTime(it.toProtoTimestamp()).build()) }
+        }.build()
 
     val workflowExecutionInfos = mutableSetOf<UUID>()
     do {
@@ -150,9 +200,8 @@ class TemporalClient(
       val token: ByteString? = listOpenWorkflowExecutionsRequest.nextPageToken
 
       workflowExecutionsRequest =
-        ListClosedWorkflowExecutionsRequest
-          .newBuilder()
-          .setNamespace(workflowClientWrapped.namespace)
+        workflowExecutionsRequest
+          .toBuilder()
           .setNextPageToken(token)
           .build()
     } while (token != null && token.size() > 0)
@@ -160,6 +209,22 @@ class TemporalClient(
     return workflowExecutionInfos
   }
 
+  /**
+   * Whether the connection manager workflow of the connection is running.
+   */
+  // once tests have been migrated to kotlin, mark internal
+  @InternalForTesting
+  fun isConnectionManagerWorkflowOpen(connectionId: UUID): Boolean =
+    serviceStubsWrapped
+      .blockingStubListOpenWorkflowExecutions(
+        ListOpenWorkflowExecutionsRequest
+          .newBuilder()
+          .setNamespace(workflowClientWrapped.namespace)
+          .setExecutionFilter(
+            WorkflowExecutionFilter.newBuilder().setWorkflowId(connectionManagerUtils.getConnectionManagerName(connectionId)).build(),
+          ).build(),
+      ).executionsCount > 0
+
   // once tests have been migrated to kotlin, mark internal
   @InternalForTesting
   fun filterOutRunningWorkspaceId(workflowIds: MutableSet<UUID>): Set<UUID> {
@@ -202,6 +267,13 @@ class TemporalClient(
     } while (token != null && token.size() > 0)
   }
 
+  private fun Instant.toProtoTimestamp(): Timestamp =
+    Timestamp
+      .newBuilder()
+      .setSeconds(epochSecond)
+      .setNanos(nano)
+      .build()
+
   private fun extractConnectionIdFromWorkflowId(workflowId: String): UUID? =
     when {
       workflowId.startsWith("connection_manager_") -> {
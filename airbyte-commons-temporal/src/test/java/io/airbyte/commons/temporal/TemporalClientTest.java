@@ -18,6 +18,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -66,6 +67,7 @@ import io.temporal.workflow.Functions.Proc;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -169,7 +171,7 @@ public class TemporalClientTest {
       final Set<UUID> workflowIds = Set.of(connectionId);
 
       doReturn(workflowIds)
-          .when(temporalClient).fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED);
+          .when(temporalClient).fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, null);
       doReturn(workflowIds)
           .when(temporalClient).filterOutRunningWorkspaceId(workflowIds);
       mockWorkflowStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED);
@@ -178,6 +180,24 @@ public class TemporalClientTest {
       verify(mConnectionManagerUtils).startConnectionManagerNoSignal(eq(connectionId));
     }
 
+    @Test
+    void testRestartFailedSince() {
+      final UUID runningConnectionId = UUID.randomUUID();
+      final UUID failedConnectionId = UUID.randomUUID();
+      final Instant closedSince = Instant.now().minusSeconds(60);
+
+      doReturn(Set.of(runningConnectionId, failedConnectionId))
+          .when(temporalClient).fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, closedSince);
+      doReturn(true).when(temporalClient).isConnectionManagerWorkflowOpen(runningConnectionId);
+      doReturn(false).when(temporalClient).isConnectionManagerWorkflowOpen(failedConnectionId);
+
+      assertEquals(1, temporalClient.restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, closedSince, 2));
+      verify(temporalClient, never()).refreshRunningWorkflow();
+      verify(mConnectionManagerUtils).safeTerminateWorkflow(eq(failedConnectionId), anyString());
+      verify(mConnectionManagerUtils).startConnectionManagerNoSignal(eq(failedConnectionId));
+      verify(mConnectionManagerUtils, never()).safeTerminateWorkflow(eq(runningConnectionId), anyString());
+    }
+
   }
 
   @Nested
@@ -62,6 +62,7 @@ dependencies {
   testAnnotationProcessor(platform(libs.micronaut.platform))
   testAnnotationProcessor(libs.bundles.micronaut.annotation.processor)
   testAnnotationProcessor(libs.bundles.micronaut.test.annotation.processor)
+  testAnnotationProcessor(libs.jmh.annotation.processor)
 
   kspTest(platform(libs.micronaut.platform))
   kspTest(libs.bundles.micronaut.annotation.processor)
@@ -85,6 +86,7 @@ dependencies {
   testImplementation(libs.mockk)
   testImplementation(libs.bundles.logback)
   testImplementation(libs.kotlin.coroutines.test)
+  testImplementation(libs.jmh.core)
 
   testRuntimeOnly(libs.junit.jupiter.engine)
   testRuntimeOnly(libs.javax.databind)
@@ -12,25 +12,62 @@ import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import kotlin.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Validates that AirbyteRecordMessage data conforms to the JSON schema defined by the source's
  * configured catalog.
+ * <p>
+ * Validations run in the background on a bounded queue: a record is dropped rather than queued when
+ * validation falls behind, so records can't pile up in memory waiting to be validated. Past the
+ * first records of a stream, only a sample of its records is validated.
  */
 public class RecordSchemaValidator implements Closeable {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(RecordSchemaValidator.class);
+
+  /**
+   * How validations are run.
+   *
+   * @param threads number of threads validating records.
+   * @param queueSize number of records waiting for validation before new ones are dropped.
+   * @param validatedRecordsPerStream number of records of each stream that are all validated.
+   * @param sampleRate 1 in sampleRate records of a stream are validated once its first records are.
+   */
+  public record ValidationConfiguration(int threads, int queueSize, long validatedRecordsPerStream, int sampleRate) {
+
+    public static final int DEFAULT_THREADS = 1;
+    public static final int DEFAULT_QUEUE_SIZE = 1000;
+    public static final long DEFAULT_VALIDATED_RECORDS_PER_STREAM = Long.MAX_VALUE;
+    public static final int DEFAULT_SAMPLE_RATE = 1;
+
+    public static ValidationConfiguration withDefaultConfiguration() {
+      return new ValidationConfiguration(DEFAULT_THREADS, DEFAULT_QUEUE_SIZE, DEFAULT_VALIDATED_RECORDS_PER_STREAM, DEFAULT_SAMPLE_RATE);
+    }
+
+  }
+
   private final JsonSchemaValidator validator;
   private final ExecutorService validationExecutor;
   private final Map<AirbyteStreamNameNamespacePair, JsonNode> streams;
+  private final long validatedRecordsPerStream;
+  private final int sampleRate;
+  private final ConcurrentMap<AirbyteStreamNameNamespacePair, AtomicLong> recordsSeen = new ConcurrentHashMap<>();
+  private final AtomicLong droppedValidations = new AtomicLong();
 
   /**
    * Creates a RecordSchemaValidator.
@@ -38,7 +75,19 @@ public class RecordSchemaValidator implements Closeable {
    * @param streamNamesToSchemas Name of streams.
    */
   public RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas) {
-    this(streamNamesToSchemas, Executors.newFixedThreadPool(1));
+    this(streamNamesToSchemas, ValidationConfiguration.withDefaultConfiguration());
+  }
+
+  /**
+   * Creates a RecordSchemaValidator.
+   *
+   * @param streamNamesToSchemas Name of streams.
+   * @param configuration How validations are run.
+   */
+  public RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas,
+                               final ValidationConfiguration configuration) {
+    this(streamNamesToSchemas, newValidationExecutor(configuration.threads(), configuration.queueSize()), new JsonSchemaValidator(),
+        configuration.validatedRecordsPerStream(), configuration.sampleRate());
   }
 
   @VisibleForTesting
@@ -50,11 +99,23 @@ public class RecordSchemaValidator implements Closeable {
   public RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas,
                                final ExecutorService validationExecutor,
                                final JsonSchemaValidator jsonSchemaValidator) {
+    this(streamNamesToSchemas, validationExecutor, jsonSchemaValidator, ValidationConfiguration.DEFAULT_VALIDATED_RECORDS_PER_STREAM,
+        ValidationConfiguration.DEFAULT_SAMPLE_RATE);
+  }
+
+  @VisibleForTesting
+  public RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas,
+                               final ExecutorService validationExecutor,
+                               final JsonSchemaValidator jsonSchemaValidator,
+                               final long validatedRecordsPerStream,
+                               final int sampleRate) {
     // streams is Map of a stream source namespace + name mapped to the stream schema
     // for easy access when we check each record's schema
     this.streams = streamNamesToSchemas;
     this.validationExecutor = validationExecutor;
     this.validator = jsonSchemaValidator;
+    this.validatedRecordsPerStream = Math.max(validatedRecordsPerStream, 0);
+    this.sampleRate = Math.max(sampleRate, 1);
     // initialize schema validator to avoid creating validators each time.
     for (final AirbyteStreamNameNamespacePair stream : streamNamesToSchemas.keySet()) {
       // We must choose a JSON validator version for validating the schema
@@ -78,7 +139,10 @@ public class RecordSchemaValidator implements Closeable {
                              final AirbyteRecordMessage message,
                              final AirbyteStreamNameNamespacePair airbyteStream,
                              final ConcurrentMap<AirbyteStreamNameNamespacePair, Pair<Set<String>, Integer>> validationErrors) {
-    validationExecutor.execute(() -> {
+    if (!isSampled(airbyteStream)) {
+      return;
+    }
+    submit(() -> {
       Set<String> errorMessages = validator.validateInitializedSchema(airbyteStream.toString(), message.getData());
       if (!errorMessages.isEmpty()) {
         updateValidationErrors(errorMessages, airbyteStream, validationErrors);
@@ -94,14 +158,41 @@ public class RecordSchemaValidator implements Closeable {
                                             final AirbyteRecordMessage message,
                                             final AirbyteStreamNameNamespacePair airbyteStream,
                                             final ConcurrentMap<AirbyteStreamNameNamespacePair, Set<String>> validationErrors) {
-    validationExecutor.execute(() -> {
+    if (!isSampled(airbyteStream)) {
+      return;
+    }
+    submit(() -> {
       final Set<String> errorMessages = validator.validateInitializedSchema(airbyteStream.toString(), message.getData());
       if (!errorMessages.isEmpty()) {
-        validationErrors.computeIfAbsent(airbyteStream, k -> new HashSet<>()).addAll(errorMessages);
+        validationErrors.computeIfAbsent(airbyteStream, k -> ConcurrentHashMap.newKeySet()).addAll(errorMessages);
       }
     });
   }
 
+  /**
+   * Whether the next record of a stream should be validated: all the first records of the stream
+   * are, then 1 in sampleRate.
+   */
+  private boolean isSampled(final AirbyteStreamNameNamespacePair airbyteStream) {
+    final long seen = recordsSeen.computeIfAbsent(airbyteStream, k -> new AtomicLong()).getAndIncrement();
+    return seen < validatedRecordsPerStream || (seen - validatedRecordsPerStream) % sampleRate == 0;
+  }
+
+  private void submit(final Runnable validation) {
+    try {
+      validationExecutor.execute(validation);
+    } catch (final RejectedExecutionException e) {
+      droppedValidations.incrementAndGet();
+    }
+  }
+
+  /**
+   * Number of records that were not validated because validation was falling behind.
+   */
+  public long getDroppedValidations() {
+    return droppedValidations.get();
+  }
+
   private void updateValidationErrors(final Set<String> errorMessages,
                                       final AirbyteStreamNameNamespacePair airbyteStream,
                                       final ConcurrentMap<AirbyteStreamNameNamespacePair, Pair<Set<String>, Integer>> validationErrors) {
@@ -122,6 +213,19 @@ public class RecordSchemaValidator implements Closeable {
   @Override
   public void close() throws IOException {
     validationExecutor.shutdownNow();
+    if (droppedValidations.get() > 0) {
+      LOGGER.info("{} records were not validated because schema validation was falling behind.", droppedValidations.get());
+    }
+  }
+
+  /**
+   * Validation pool with a bounded queue, which rejects validations once the queue is full.
+   */
+  @VisibleForTesting
+  static ExecutorService newValidationExecutor(final int threads, final int queueSize) {
+    final int poolSize = Math.max(threads, 1);
+    return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(Math.max(queueSize, 1)),
+        new ThreadPoolExecutor.AbortPolicy());
   }
 
   /**
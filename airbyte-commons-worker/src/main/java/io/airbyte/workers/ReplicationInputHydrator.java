@@ -10,6 +10,7 @@ import static io.airbyte.metrics.lib.MetricTags.CONNECTOR_TYPE;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import dev.failsafe.Failsafe;
 import dev.failsafe.RetryPolicy;
 import dev.failsafe.function.CheckedSupplier;
@@ -23,7 +24,10 @@ import io.airbyte.api.client.model.generated.ConnectionStateCreateOrUpdate;
 import io.airbyte.api.client.model.generated.ConnectionStateType;
 import io.airbyte.api.client.model.generated.DestinationIdRequestBody;
 import io.airbyte.api.client.model.generated.JobOptionalRead;
+import io.airbyte.api.client.model.generated.ReplicationBootstrapRead;
+import io.airbyte.api.client.model.generated.ReplicationBootstrapRequestBody;
 import io.airbyte.api.client.model.generated.ResolveActorDefinitionVersionRequestBody;
+import io.airbyte.api.client.model.generated.ResolveActorDefinitionVersionResponse;
 import io.airbyte.api.client.model.generated.SaveStreamAttemptMetadataRequestBody;
 import io.airbyte.api.client.model.generated.StreamAttemptMetadata;
 import io.airbyte.api.client.model.generated.SyncInput;
@@ -61,10 +65,19 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import secrets.persistence.SecretCoordinateException;
 
 public class ReplicationInputHydrator {
@@ -81,6 +94,10 @@ public class ReplicationInputHydrator {
   private final BackfillHelper backfillHelper;
   private final CatalogClientConverters catalogClientConverters;
   private final MetricClient metricClient;
+  // Bounds the threads running the lookups, which are shared by the hydrations running concurrently.
+  private static final int LOOKUP_THREADS = 8;
+  private final ExecutorService executor =
+      Executors.newFixedThreadPool(LOOKUP_THREADS, new ThreadFactoryBuilder().setNameFormat("replication-input-hydrator-%d").setDaemon(true).build());
 
   static final String FILE_TRANSFER_DELIVERY_TYPE = "use_file_transfer";
 
@@ -118,7 +135,10 @@ public class ReplicationInputHydrator {
         new SyncInput(
             Long.parseLong(parsed.getJobRunConfig().getJobId()),
             parsed.getJobRunConfig().getAttemptId().intValue())));
+    refreshSecretsReferences(parsed, jobInput);
+  }
 
+  private void refreshSecretsReferences(final ReplicationActivityInput parsed, final Object jobInput) {
     if (jobInput != null) {
       final JobInput apiResult = Jsons.convertValue(jobInput, JobInput.class);
       if (apiResult != null && apiResult.getSyncInput() != null) {
@@ -147,67 +167,139 @@ public class ReplicationInputHydrator {
    */
   public ReplicationInput getHydratedReplicationInput(final ReplicationActivityInput replicationActivityInput) throws Exception {
     ApmTraceUtils.addTagsToTrace(Map.of("api_base_url", airbyteApiClient.getDestinationApi().getBaseUrl()));
-    refreshSecretsReferences(replicationActivityInput);
-    final var destination =
-        airbyteApiClient.getDestinationApi().getDestination(new DestinationIdRequestBody(replicationActivityInput.getDestinationId()));
-    final var tag = DockerImageName.INSTANCE.extractTag(replicationActivityInput.getDestinationLauncherConfig().getDockerImage());
-    final var resolvedDestinationVersion = airbyteApiClient.getActorDefinitionVersionApi().resolveActorDefinitionVersionByTag(
-        new ResolveActorDefinitionVersionRequestBody(destination.getDestinationDefinitionId(), ActorType.DESTINATION, tag));
-
-    final SourceActorConfig sourceActorConfig = Jsons.object(replicationActivityInput.getSourceConfiguration(), SourceActorConfig.class);
-    final boolean useFileTransfer =
-        sourceActorConfig != null && (sourceActorConfig.getUseFileTransfer() || (sourceActorConfig.getDeliveryMethod() != null
-            && FILE_TRANSFER_DELIVERY_TYPE.equals(sourceActorConfig.getDeliveryMethod().getDeliveryType())));
-
-    if (useFileTransfer && !resolvedDestinationVersion.getSupportFileTransfer()) {
-      final String errorMessage = "Destination does not support file transfers, but source requires it. The destination version is: "
-          + resolvedDestinationVersion.getDockerImageTag();
-      LOGGER.error(errorMessage);
-      throw new WorkerException(errorMessage);
-    }
-
-    // Retrieve the connection, which we need in a few places.
     final long jobId = Long.parseLong(replicationActivityInput.getJobRunConfig().getJobId());
-    final ConnectionRead connectionInfo = resolvedDestinationVersion.getSupportRefreshes()
-        ? airbyteApiClient.getConnectionApi()
-            .getConnectionForJob(new ConnectionAndJobIdRequestBody(replicationActivityInput.getConnectionId(), jobId))
-        : airbyteApiClient.getConnectionApi().getConnection(new ConnectionIdRequestBody(replicationActivityInput.getConnectionId()));
-
-    final ConfiguredAirbyteCatalog catalog = retrieveCatalog(connectionInfo);
-    if (replicationActivityInput.isReset()) {
-      // If this is a reset, we need to set the streams being reset to Full Refresh | Overwrite.
-      updateCatalogForReset(replicationActivityInput, catalog);
-    }
-    // Retrieve the state.
-    State state = retrieveState(replicationActivityInput);
-    List<StreamDescriptor> streamsToBackfill = null;
-    if (backfillHelper.syncShouldBackfill(replicationActivityInput, connectionInfo)) {
-      streamsToBackfill = backfillHelper.getStreamsToBackfill(replicationActivityInput.getSchemaRefreshOutput().getAppliedDiff(), catalog);
-      state =
-          getUpdatedStateForBackfill(state, replicationActivityInput.getSchemaRefreshOutput(), replicationActivityInput.getConnectionId(), catalog);
+
+    final String destinationTag = DockerImageName.INSTANCE.extractTag(replicationActivityInput.getDestinationLauncherConfig().getDockerImage());
+
+    try (final Lookups lookups = new Lookups()) {
+      final CompletableFuture<Void> secretsReferencesRefresh;
+      final CompletableFuture<ResolveActorDefinitionVersionResponse> destinationVersionLookup;
+      final CompletableFuture<ConnectionRead> connectionLookup;
+      final CompletableFuture<State> stateLookup;
+      final CompletableFuture<JobOptionalRead> lastReplicationJobLookup;
+      final ReplicationBootstrapRead bootstrap = fetchBootstrap(replicationActivityInput, jobId, destinationTag);
+      if (bootstrap != null) {
+        refreshSecretsReferences(replicationActivityInput, bootstrap.getJobInput());
+        secretsReferencesRefresh = CompletableFuture.completedFuture(null);
+        destinationVersionLookup = CompletableFuture.completedFuture(bootstrap.getDestinationVersion());
+        connectionLookup = CompletableFuture.completedFuture(bootstrap.getConnection());
+        stateLookup = CompletableFuture.completedFuture(toState(bootstrap.getState()));
+        lastReplicationJobLookup = CompletableFuture.completedFuture(bootstrap.getLastReplicationJob());
+      } else {
+        // Start the lookups that don't depend on each other, so the sync waits for the slowest chain instead of their sum.
+        secretsReferencesRefresh = lookups.async(() -> {
+          refreshSecretsReferences(replicationActivityInput);
+          return null;
+        });
+        destinationVersionLookup = lookups.async(() -> {
+          final var destination =
+              airbyteApiClient.getDestinationApi().getDestination(new DestinationIdRequestBody(replicationActivityInput.getDestinationId()));
+          return airbyteApiClient.getActorDefinitionVersionApi().resolveActorDefinitionVersionByTag(
+              new ResolveActorDefinitionVersionRequestBody(destination.getDestinationDefinitionId(), ActorType.DESTINATION, destinationTag));
+        });
+        // Retrieve the connection, which we need in a few places.
+        connectionLookup = destinationVersionLookup.thenCompose(resolvedDestinationVersion -> lookups.async(
+            () -> resolvedDestinationVersion.getSupportRefreshes()
+                ? airbyteApiClient.getConnectionApi()
+                    .getConnectionForJob(new ConnectionAndJobIdRequestBody(replicationActivityInput.getConnectionId(), jobId))
+                : airbyteApiClient.getConnectionApi().getConnection(new ConnectionIdRequestBody(replicationActivityInput.getConnectionId()))));
+        stateLookup = lookups.async(() -> retrieveState(replicationActivityInput));
+        lastReplicationJobLookup = replicationActivityInput.isReset()
+            ? lookups.async(
+                () -> airbyteApiClient.getJobsApi().getLastReplicationJob(new ConnectionIdRequestBody(replicationActivityInput.getConnectionId())))
+            : CompletableFuture.completedFuture(null);
+      }
+
+      // The secrets are hydrated from the refreshed configurations.
+      lookups.await(secretsReferencesRefresh);
+      final UUID organizationId = replicationActivityInput.getConnectionContext().getOrganizationId();
+      final UUID workspaceId = replicationActivityInput.getConnectionContext().getWorkspaceId();
+      final SecretHydrationContext hydrationContext = new SecretHydrationContext(organizationId, workspaceId);
+      final CompletableFuture<JsonNode> destinationConfigHydration =
+          lookups.async(() -> hydrateDestinationConfig(replicationActivityInput, hydrationContext));
+      final CompletableFuture<JsonNode> sourceConfigHydration = lookups.async(() -> hydrateSourceConfig(replicationActivityInput, hydrationContext));
+
+      final ResolveActorDefinitionVersionResponse resolvedDestinationVersion = lookups.await(destinationVersionLookup);
+      final SourceActorConfig sourceActorConfig = Jsons.object(replicationActivityInput.getSourceConfiguration(), SourceActorConfig.class);
+      final boolean useFileTransfer =
+          sourceActorConfig != null && (sourceActorConfig.getUseFileTransfer() || (sourceActorConfig.getDeliveryMethod() != null
+              && FILE_TRANSFER_DELIVERY_TYPE.equals(sourceActorConfig.getDeliveryMethod().getDeliveryType())));
+
+      if (useFileTransfer && !resolvedDestinationVersion.getSupportFileTransfer()) {
+        final String errorMessage = "Destination does not support file transfers, but source requires it. The destination version is: "
+            + resolvedDestinationVersion.getDockerImageTag();
+        LOGGER.error(errorMessage);
+        throw new WorkerException(errorMessage);
+      }
+
+      final ConnectionRead connectionInfo = lookups.await(connectionLookup);
+      final ConfiguredAirbyteCatalog catalog = retrieveCatalog(connectionInfo);
+      if (replicationActivityInput.isReset()) {
+        // If this is a reset, we need to set the streams being reset to Full Refresh | Overwrite.
+        updateCatalogForReset(lookups.await(lastReplicationJobLookup), catalog);
+      }
+      // Retrieve the state.
+      State state = lookups.await(stateLookup);
+      List<StreamDescriptor> streamsToBackfill = null;
+      if (backfillHelper.syncShouldBackfill(replicationActivityInput, connectionInfo)) {
+        streamsToBackfill = backfillHelper.getStreamsToBackfill(replicationActivityInput.getSchemaRefreshOutput().getAppliedDiff(), catalog);
+        state =
+            getUpdatedStateForBackfill(state, replicationActivityInput.getSchemaRefreshOutput(), replicationActivityInput.getConnectionId(), catalog);
+      }
+
+      try {
+        trackBackfillAndResume(
+            jobId,
+            replicationActivityInput.getJobRunConfig().getAttemptId(),
+            resumableFullRefreshStatsHelper.getStreamsWithStates(state).stream().toList(),
+            streamsToBackfill);
+      } catch (final Exception e) {
+        LOGGER.error("Failed to track stream metadata for connectionId:{} attempt:{}", replicationActivityInput.getConnectionId(),
+            replicationActivityInput.getJobRunConfig().getAttemptId(), e);
+      }
+
+      // Hydrate mapper secrets
+      final ConfiguredAirbyteCatalog hydratedCatalog =
+          mapperSecretHydrationHelper.hydrateMapperSecrets(catalog, useRuntimeSecretPersistence, organizationId);
+
+      final JsonNode fullDestinationConfig = lookups.await(destinationConfigHydration);
+      final JsonNode fullSourceConfig = lookups.await(sourceConfigHydration);
+
+      return mapper.toReplicationInput(replicationActivityInput)
+          .withSourceConfiguration(fullSourceConfig)
+          .withDestinationConfiguration(fullDestinationConfig)
+          .withCatalog(hydratedCatalog)
+          .withState(state)
+          .withDestinationSupportsRefreshes(resolvedDestinationVersion.getSupportRefreshes());
     }
+  }
 
+  /**
+   * Fetches everything the input is hydrated from in a single call. Returns null if that failed, e.g.
+   * because the server predates the call, in which case the lookups are made one by one.
+   */
+  private ReplicationBootstrapRead fetchBootstrap(final ReplicationActivityInput replicationActivityInput,
+                                                  final long jobId,
+                                                  final String destinationTag) {
     try {
-      trackBackfillAndResume(
+      return airbyteApiClient.getJobsApi().getReplicationBootstrap(new ReplicationBootstrapRequestBody(
           jobId,
-          replicationActivityInput.getJobRunConfig().getAttemptId(),
-          resumableFullRefreshStatsHelper.getStreamsWithStates(state).stream().toList(),
-          streamsToBackfill);
+          replicationActivityInput.getJobRunConfig().getAttemptId().intValue(),
+          replicationActivityInput.getConnectionId(),
+          replicationActivityInput.getDestinationId(),
+          destinationTag,
+          replicationActivityInput.isReset()));
     } catch (final Exception e) {
-      LOGGER.error("Failed to track stream metadata for connectionId:{} attempt:{}", replicationActivityInput.getConnectionId(),
-          replicationActivityInput.getJobRunConfig().getAttemptId(), e);
+      LOGGER.warn("Failed to fetch the replication bootstrap for connection {}, falling back to separate lookups.",
+          replicationActivityInput.getConnectionId(), e);
+      return null;
     }
+  }
 
-    // Hydrate the secrets.
-    final UUID organizationId = replicationActivityInput.getConnectionContext().getOrganizationId();
-    final UUID workspaceId = replicationActivityInput.getConnectionContext().getWorkspaceId();
-    final SecretHydrationContext hydrationContext = new SecretHydrationContext(organizationId, workspaceId);
-
-    final JsonNode fullDestinationConfig;
-    final JsonNode fullSourceConfig;
-
+  private JsonNode hydrateDestinationConfig(final ReplicationActivityInput replicationActivityInput,
+                                            final SecretHydrationContext hydrationContext) {
     try {
-      fullDestinationConfig = connectorSecretsHydrator.hydrateConfig(replicationActivityInput.getDestinationConfiguration(), hydrationContext);
+      return connectorSecretsHydrator.hydrateConfig(replicationActivityInput.getDestinationConfiguration(), hydrationContext);
     } catch (final SecretCoordinateException e) {
       metricClient.count(
           OssMetricsRegistry.SECRETS_HYDRATION_FAILURE,
@@ -216,9 +308,12 @@ public class ReplicationInputHydrator {
           new MetricAttribute(CONNECTION_ID, replicationActivityInput.getDestinationLauncherConfig().getConnectionId().toString()));
       throw e;
     }
+  }
 
+  private JsonNode hydrateSourceConfig(final ReplicationActivityInput replicationActivityInput,
+                                       final SecretHydrationContext hydrationContext) {
     try {
-      fullSourceConfig = connectorSecretsHydrator.hydrateConfig(replicationActivityInput.getSourceConfiguration(), hydrationContext);
+      return connectorSecretsHydrator.hydrateConfig(replicationActivityInput.getSourceConfiguration(), hydrationContext);
     } catch (final SecretCoordinateException e) {
       metricClient.count(
           OssMetricsRegistry.SECRETS_HYDRATION_FAILURE,
@@ -227,17 +322,79 @@ public class ReplicationInputHydrator {
           new MetricAttribute(CONNECTION_ID, replicationActivityInput.getSourceLauncherConfig().getConnectionId().toString()));
       throw e;
     }
+  }
 
-    // Hydrate mapper secrets
-    final ConfiguredAirbyteCatalog hydratedCatalog =
-        mapperSecretHydrationHelper.hydrateMapperSecrets(catalog, useRuntimeSecretPersistence, organizationId);
+  /**
+   * The lookups of a single hydration. Once one of them fails, the others are cancelled as their
+   * results won't be used, and so are the ones left running when the hydration ends.
+   */
+  private final class Lookups implements AutoCloseable {
+
+    private final List<CompletableFuture<?>> results = new CopyOnWriteArrayList<>();
+    private final List<Future<?>> tasks = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * Runs the supplier on the executor, with the MDC of the caller so its logs are attributed to the
+     * same job.
+     */
+    <T> CompletableFuture<T> async(final CheckedSupplier<T> supplier) {
+      final Map<String, String> mdc = MDC.getCopyOfContextMap();
+      final CompletableFuture<T> result = new CompletableFuture<>();
+      result.whenComplete((value, t) -> {
+        if (t != null && !(t instanceof CancellationException) && failure.compareAndSet(null, t)) {
+          cancel();
+        }
+      });
+      results.add(result);
+      tasks.add(executor.submit(() -> {
+        final Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+        if (mdc != null) {
+          MDC.setContextMap(mdc);
+        }
+        try {
+          result.complete(supplier.get());
+        } catch (final Throwable t) {
+          result.completeExceptionally(t);
+        } finally {
+          if (previousMdc != null) {
+            MDC.setContextMap(previousMdc);
+          } else {
+            MDC.clear();
+          }
+        }
+      }));
+      return result;
+    }
+
+    /**
+     * Waits for the future, rethrowing the first failure of the lookups as is.
+     */
+    <T> T await(final CompletableFuture<T> future) throws Exception {
+      try {
+        return future.join();
+      } catch (final CompletionException | CancellationException e) {
+        final Throwable cause = failure.get() != null ? failure.get() : e.getCause();
+        if (cause instanceof final Exception exception) {
+          throw exception;
+        }
+        if (cause instanceof final Error error) {
+          throw error;
+        }
+        throw e;
+      }
+    }
+
+    private void cancel() {
+      results.forEach(result -> result.cancel(false));
+      tasks.forEach(task -> task.cancel(true));
+    }
+
+    @Override
+    public void close() {
+      cancel();
+    }
 
-    return mapper.toReplicationInput(replicationActivityInput)
-        .withSourceConfiguration(fullSourceConfig)
-        .withDestinationConfiguration(fullDestinationConfig)
-        .withCatalog(hydratedCatalog)
-        .withState(state)
-        .withDestinationSupportsRefreshes(resolvedDestinationVersion.getSupportRefreshes());
   }
 
   @VisibleForTesting
@@ -306,8 +463,10 @@ public class ReplicationInputHydrator {
   }
 
   private State retrieveState(final ReplicationActivityInput replicationActivityInput) throws IOException {
-    final ConnectionState connectionState =
-        airbyteApiClient.getStateApi().getState(new ConnectionIdRequestBody(replicationActivityInput.getConnectionId()));
+    return toState(airbyteApiClient.getStateApi().getState(new ConnectionIdRequestBody(replicationActivityInput.getConnectionId())));
+  }
+
+  private State toState(final ConnectionState connectionState) {
     final State state =
         connectionState != null && !ConnectionStateType.NOT_SET.equals(connectionState.getStateType())
             ? StateMessageHelper.getState(StateConverter.toInternal(StateConverter.fromClientToApi(connectionState)))
@@ -315,10 +474,7 @@ public class ReplicationInputHydrator {
     return state;
   }
 
-  private void updateCatalogForReset(final ReplicationActivityInput replicationActivityInput, final ConfiguredAirbyteCatalog catalog)
-      throws IOException {
-    final JobOptionalRead jobInfo = airbyteApiClient.getJobsApi().getLastReplicationJob(
-        new ConnectionIdRequestBody(replicationActivityInput.getConnectionId()));
+  private void updateCatalogForReset(final JobOptionalRead jobInfo, final ConfiguredAirbyteCatalog catalog) {
     final boolean hasStreamsToReset = jobInfo != null && jobInfo.getJob() != null && jobInfo.getJob().getResetConfig() != null
         && jobInfo.getJob().getResetConfig().getStreamsToReset() != null;
     if (hasStreamsToReset) {
@@ -61,6 +61,15 @@ public class WorkerMetricReporter {
     metricClient.count(OssMetricsRegistry.NUM_UNEXPECTED_FIELDS_IN_STREAMS, unexpectedFieldNames.size(), attributesArr);
   }
 
+  /**
+   * Produce a DataDog count of the records that were not validated because validation was falling
+   * behind.
+   */
+  public void trackDroppedSchemaValidations(final long droppedValidations) {
+    metricClient.count(OssMetricsRegistry.NUM_DROPPED_SCHEMA_VALIDATIONS, droppedValidations, new MetricAttribute("docker_repo", dockerRepo),
+        new MetricAttribute("docker_version", dockerVersion));
+  }
+
   public void trackStateMetricTrackerError() {
     metricClient.count(OssMetricsRegistry.STATE_METRIC_TRACKER_ERROR, new MetricAttribute("docker_repo", dockerRepo),
         new MetricAttribute("docker_version", dockerVersion));
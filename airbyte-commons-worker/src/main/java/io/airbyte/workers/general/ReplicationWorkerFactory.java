@@ -26,7 +26,15 @@ import io.airbyte.featureflag.FieldSelectionEnabled;
 import io.airbyte.featureflag.Multi;
 import io.airbyte.featureflag.PrintLongRecordPks;
 import io.airbyte.featureflag.RemoveValidationLimit;
+import io.airbyte.featureflag.ReplicationBufferMaxBytes;
 import io.airbyte.featureflag.ReplicationBufferOverride;
+import io.airbyte.featureflag.ReplicationMaxLineBytes;
+import io.airbyte.featureflag.ReplicationRecordPassthrough;
+import io.airbyte.featureflag.ReplicationRingBufferQueues;
+import io.airbyte.featureflag.ReplicationSchemaValidationQueueSize;
+import io.airbyte.featureflag.ReplicationSchemaValidationRecordsPerStream;
+import io.airbyte.featureflag.ReplicationSchemaValidationSampleRate;
+import io.airbyte.featureflag.ReplicationSchemaValidationThreads;
 import io.airbyte.featureflag.ShouldFailSyncOnDestinationTimeout;
 import io.airbyte.featureflag.SingleContainerTest;
 import io.airbyte.featureflag.Source;
@@ -39,6 +47,7 @@ import io.airbyte.metrics.MetricClient;
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig;
 import io.airbyte.persistence.job.models.JobRunConfig;
 import io.airbyte.persistence.job.models.ReplicationInput;
+import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
 import io.airbyte.workers.RecordSchemaValidator;
 import io.airbyte.workers.WorkerMetricReporter;
 import io.airbyte.workers.WorkerUtils;
@@ -49,8 +58,8 @@ import io.airbyte.workers.internal.AirbyteDestination;
 import io.airbyte.workers.internal.AirbyteMapper;
 import io.airbyte.workers.internal.AirbyteMessageBufferedWriterFactory;
 import io.airbyte.workers.internal.AirbyteSource;
-import io.airbyte.workers.internal.AirbyteStreamFactory;
 import io.airbyte.workers.internal.AnalyticsMessageTracker;
+import io.airbyte.workers.internal.ByteLineReader;
 import io.airbyte.workers.internal.ContainerIOHandle;
 import io.airbyte.workers.internal.DestinationTimeoutMonitor;
 import io.airbyte.workers.internal.EmptyAirbyteSource;
@@ -63,6 +72,7 @@ import io.airbyte.workers.internal.LocalContainerAirbyteDestination;
 import io.airbyte.workers.internal.LocalContainerAirbyteSource;
 import io.airbyte.workers.internal.MessageMetricsTracker;
 import io.airbyte.workers.internal.NamespacingMapper;
+import io.airbyte.workers.internal.PassthroughAirbyteRecordMessage;
 import io.airbyte.workers.internal.VersionedAirbyteMessageBufferedWriterFactory;
 import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
 import io.airbyte.workers.internal.bookkeeping.AirbyteMessageTracker;
@@ -79,8 +89,10 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -164,7 +176,7 @@ public class ReplicationWorkerFactory {
     final HeartbeatTimeoutChaperone heartbeatTimeoutChaperone = createHeartbeatTimeoutChaperone(heartbeatMonitor,
         featureFlagClient, replicationInput, sourceLauncherConfig.getDockerImage(), metricClient);
     final DestinationTimeoutMonitor destinationTimeout = createDestinationTimeout(featureFlagClient, replicationInput, metricClient);
-    final RecordSchemaValidator recordSchemaValidator = createRecordSchemaValidator(replicationInput);
+    final RecordSchemaValidator recordSchemaValidator = createRecordSchemaValidator(featureFlagClient, replicationInput);
 
     log.info("Setting up source with image {}.", replicationInput.getSourceLauncherConfig().getDockerImage());
     final boolean printLongRecordPks = featureFlagClient.boolVariation(PrintLongRecordPks.INSTANCE,
@@ -172,6 +184,7 @@ public class ReplicationWorkerFactory {
             new Connection(sourceLauncherConfig.getConnectionId()),
             new Workspace(sourceLauncherConfig.getWorkspaceId()))));
     final var invalidLineConfig = new VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration(printLongRecordPks);
+    final boolean fieldSelectionEnabled = isFieldSelectionEnabled(featureFlagClient, replicationInput.getWorkspaceId(), sourceDefinitionId);
 
     // reset jobs use an empty source to induce resetting all data in destination.
     final boolean singleConnectorTest =
@@ -182,7 +195,9 @@ public class ReplicationWorkerFactory {
                 ? new EmptyAirbyteSource(replicationInput.getNamespaceDefinition() == JobSyncConfig.NamespaceDefinitionType.CUSTOMFORMAT)
                 : new LocalContainerAirbyteSource(
                     heartbeatMonitor,
-                    getStreamFactory(sourceLauncherConfig, replicationInput.getCatalog(), SOURCE_LOG_MDC_BUILDER, invalidLineConfig),
+                    getStreamFactory(sourceLauncherConfig, replicationInput.getCatalog(), SOURCE_LOG_MDC_BUILDER, invalidLineConfig)
+                        .withRecordPassthrough(getPassthroughStreams(replicationInput, featureFlagClient, fieldSelectionEnabled))
+                        .withMaxLineBytes(getMaxLineBytes(replicationInput, featureFlagClient)),
                     new MessageMetricsTracker(metricClient),
                     ContainerIOHandle.source()));
 
@@ -206,7 +221,7 @@ public class ReplicationWorkerFactory {
     final AnalyticsMessageTracker analyticsMessageTracker = new AnalyticsMessageTracker(trackingClient);
 
     final FieldSelector fieldSelector =
-        createFieldSelector(recordSchemaValidator, metricReporter, featureFlagClient, replicationInput.getWorkspaceId(), sourceDefinitionId);
+        createFieldSelector(recordSchemaValidator, metricReporter, featureFlagClient, replicationInput.getWorkspaceId(), fieldSelectionEnabled);
 
     log.info("Setting up replication worker...");
     final SyncPersistence syncPersistence = createSyncPersistence(syncPersistenceFactory, replicationInput, sourceLauncherConfig);
@@ -231,7 +246,7 @@ public class ReplicationWorkerFactory {
         new SourceIdRequestBody(replicationInput.getSourceId())).getSourceDefinitionId();
     final HeartbeatMonitor heartbeatMonitor = createHeartbeatMonitor(sourceDefinitionId, airbyteApiClient.getSourceDefinitionApi());
     final DestinationTimeoutMonitor destinationTimeout = createDestinationTimeout(featureFlagClient, replicationInput, metricClient);
-    final RecordSchemaValidator recordSchemaValidator = createRecordSchemaValidator(replicationInput);
+    final RecordSchemaValidator recordSchemaValidator = createRecordSchemaValidator(featureFlagClient, replicationInput);
 
     log.info("Setting up source with image {}.", replicationInput.getSourceLauncherConfig().getDockerImage());
     final boolean printLongRecordPks = featureFlagClient.boolVariation(PrintLongRecordPks.INSTANCE,
@@ -239,6 +254,7 @@ public class ReplicationWorkerFactory {
             new Connection(sourceLauncherConfig.getConnectionId()),
             new Workspace(sourceLauncherConfig.getWorkspaceId()))));
     final var invalidLineConfig = new VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration(printLongRecordPks);
+    final boolean fieldSelectionEnabled = isFieldSelectionEnabled(featureFlagClient, replicationInput.getWorkspaceId(), sourceDefinitionId);
 
     // reset jobs use an empty source to induce resetting all data in destination.
     final boolean singleConnectorTest =
@@ -249,7 +265,9 @@ public class ReplicationWorkerFactory {
                 ? new EmptyAirbyteSource(replicationInput.getNamespaceDefinition() == JobSyncConfig.NamespaceDefinitionType.CUSTOMFORMAT)
                 : new LocalContainerAirbyteSource(
                     heartbeatMonitor,
-                    getStreamFactory(sourceLauncherConfig, replicationInput.getCatalog(), SOURCE_LOG_MDC_BUILDER, invalidLineConfig),
+                    getStreamFactory(sourceLauncherConfig, replicationInput.getCatalog(), SOURCE_LOG_MDC_BUILDER, invalidLineConfig)
+                        .withRecordPassthrough(getPassthroughStreams(replicationInput, featureFlagClient, fieldSelectionEnabled))
+                        .withMaxLineBytes(getMaxLineBytes(replicationInput, featureFlagClient)),
                     new MessageMetricsTracker(metricClient),
                     ContainerIOHandle.source()));
 
@@ -272,15 +290,13 @@ public class ReplicationWorkerFactory {
     final AnalyticsMessageTracker analyticsMessageTracker = new AnalyticsMessageTracker(trackingClient);
 
     final FieldSelector fieldSelector =
-        createFieldSelector(recordSchemaValidator, metricReporter, featureFlagClient, replicationInput.getWorkspaceId(), sourceDefinitionId);
+        createFieldSelector(recordSchemaValidator, metricReporter, featureFlagClient, replicationInput.getWorkspaceId(), fieldSelectionEnabled);
 
     log.info("Setting up replication worker...");
     final SyncPersistence syncPersistence = createSyncPersistence(syncPersistenceFactory, replicationInput, sourceLauncherConfig);
     final AirbyteMessageTracker messageTracker = createMessageTracker(syncPersistence, replicationInput, featureFlagClient);
     final Context flagContext = getFeatureFlagContext(replicationInput);
-    final int bufferSize = featureFlagClient.intVariation(ReplicationBufferOverride.INSTANCE, flagContext);
-    final BufferConfiguration bufferConfiguration =
-        bufferSize > 0 ? BufferConfiguration.withBufferSize(bufferSize) : BufferConfiguration.withDefaultConfiguration();
+    final BufferConfiguration bufferConfiguration = getBufferConfiguration(featureFlagClient, flagContext);
 
     return ReplicationWorkerKFactory.create(
         jobRunConfig.getJobId(),
@@ -382,17 +398,60 @@ public class ReplicationWorkerFactory {
   /**
    * Create RecordSchemaValidator.
    */
-  private static RecordSchemaValidator createRecordSchemaValidator(final ReplicationInput replicationInput) {
-    return new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()));
+  private static RecordSchemaValidator createRecordSchemaValidator(final FeatureFlagClient featureFlagClient,
+                                                                   final ReplicationInput replicationInput) {
+    final Context flagContext = getFeatureFlagContext(replicationInput);
+    final int threads = featureFlagClient.intVariation(ReplicationSchemaValidationThreads.INSTANCE, flagContext);
+    final int queueSize = featureFlagClient.intVariation(ReplicationSchemaValidationQueueSize.INSTANCE, flagContext);
+    final int recordsPerStream = featureFlagClient.intVariation(ReplicationSchemaValidationRecordsPerStream.INSTANCE, flagContext);
+    final int sampleRate = featureFlagClient.intVariation(ReplicationSchemaValidationSampleRate.INSTANCE, flagContext);
+    final var validationConfiguration = new RecordSchemaValidator.ValidationConfiguration(
+        threads > 0 ? threads : RecordSchemaValidator.ValidationConfiguration.DEFAULT_THREADS,
+        queueSize > 0 ? queueSize : RecordSchemaValidator.ValidationConfiguration.DEFAULT_QUEUE_SIZE,
+        recordsPerStream >= 0 ? recordsPerStream : RecordSchemaValidator.ValidationConfiguration.DEFAULT_VALIDATED_RECORDS_PER_STREAM,
+        sampleRate > 0 ? sampleRate : RecordSchemaValidator.ValidationConfiguration.DEFAULT_SAMPLE_RATE);
+    return new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()), validationConfiguration);
+  }
+
+  private static boolean isFieldSelectionEnabled(final FeatureFlagClient featureFlagClient,
+                                                 final UUID workspaceId,
+                                                 final UUID sourceDefinitionId) {
+    return workspaceId != null && featureFlagClient.boolVariation(FieldSelectionEnabled.INSTANCE, new Multi(
+        List.of(new Workspace(workspaceId), new SourceDefinition(sourceDefinitionId))));
+  }
+
+  /**
+   * Streams whose records can be forwarded to the destination without being deserialized, see
+   * {@link PassthroughAirbyteRecordMessage}. Field selection and mappers modify records in place, which
+   * rules out the passthrough.
+   */
+  private static Set<AirbyteStreamNameNamespacePair> getPassthroughStreams(final ReplicationInput replicationInput,
+                                                                           final FeatureFlagClient featureFlagClient,
+                                                                           final boolean fieldSelectionEnabled) {
+    if (fieldSelectionEnabled
+        || !featureFlagClient.boolVariation(ReplicationRecordPassthrough.INSTANCE, getFeatureFlagContext(replicationInput))) {
+      return Set.of();
+    }
+    return replicationInput.getCatalog().getStreams().stream()
+        .filter(stream -> stream.getMappers().isEmpty())
+        .map(stream -> new AirbyteStreamNameNamespacePair(stream.getStream().getName(), stream.getStream().getNamespace()))
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Lines of the source output longer than this fail the sync, see
+   * {@link VersionedAirbyteStreamFactory#withMaxLineBytes(int)}. Not set or negative means no limit.
+   */
+  private static int getMaxLineBytes(final ReplicationInput replicationInput, final FeatureFlagClient featureFlagClient) {
+    final int maxLineBytes = featureFlagClient.intVariation(ReplicationMaxLineBytes.INSTANCE, getFeatureFlagContext(replicationInput));
+    return maxLineBytes > 0 ? Math.min(maxLineBytes, ByteLineReader.UNLIMITED) : ByteLineReader.UNLIMITED;
   }
 
   private static FieldSelector createFieldSelector(final RecordSchemaValidator recordSchemaValidator,
                                                    final WorkerMetricReporter metricReporter,
                                                    final FeatureFlagClient featureFlagClient,
                                                    final UUID workspaceId,
-                                                   final UUID sourceDefinitionId) {
-    final boolean fieldSelectionEnabled = workspaceId != null && featureFlagClient.boolVariation(FieldSelectionEnabled.INSTANCE, new Multi(
-        List.of(new Workspace(workspaceId), new SourceDefinition(sourceDefinitionId))));
+                                                   final boolean fieldSelectionEnabled) {
     final boolean removeValidationLimit =
         workspaceId != null && featureFlagClient.boolVariation(RemoveValidationLimit.INSTANCE, new Workspace(workspaceId));
     return new FieldSelector(recordSchemaValidator, metricReporter, fieldSelectionEnabled, removeValidationLimit);
@@ -424,10 +483,7 @@ public class ReplicationWorkerFactory {
                                                                    final RecordMapper recordMapper,
                                                                    final DestinationCatalogGenerator destinationCatalogGenerator) {
     final Context flagContext = getFeatureFlagContext(replicationInput);
-
-    final int bufferSize = featureFlagClient.intVariation(ReplicationBufferOverride.INSTANCE, flagContext);
-    final BufferConfiguration bufferConfiguration =
-        bufferSize > 0 ? BufferConfiguration.withBufferSize(bufferSize) : BufferConfiguration.withDefaultConfiguration();
+    final BufferConfiguration bufferConfiguration = getBufferConfiguration(featureFlagClient, flagContext);
 
     return buildReplicationWorkerInstance(
         jobRunConfig.getJobId(),
@@ -461,6 +517,18 @@ public class ReplicationWorkerFactory {
         destinationCatalogGenerator);
   }
 
+  private static BufferConfiguration getBufferConfiguration(final FeatureFlagClient featureFlagClient, final Context flagContext) {
+    final int bufferSize = featureFlagClient.intVariation(ReplicationBufferOverride.INSTANCE, flagContext);
+    final int maxBufferBytes = featureFlagClient.intVariation(ReplicationBufferMaxBytes.INSTANCE, flagContext);
+    final BufferConfiguration defaultConfiguration = BufferConfiguration.withDefaultConfiguration();
+    return new BufferConfiguration(
+        bufferSize > 0 ? bufferSize : defaultConfiguration.getSourceMaxBufferSize(),
+        bufferSize > 0 ? bufferSize : defaultConfiguration.getDestinationMaxBufferSize(),
+        defaultConfiguration.getPollTimeoutDuration(),
+        featureFlagClient.boolVariation(ReplicationRingBufferQueues.INSTANCE, flagContext),
+        maxBufferBytes > 0 ? maxBufferBytes : defaultConfiguration.getMaxBufferBytes());
+  }
+
   private static Context getFeatureFlagContext(final ReplicationInput replicationInput) {
     final List<Context> contexts = new ArrayList<>();
     if (replicationInput.getWorkspaceId() != null) {
@@ -532,10 +600,10 @@ public class ReplicationWorkerFactory {
         sourceLauncherConfig.getAttemptId().intValue(), replicationInput.getCatalog());
   }
 
-  private AirbyteStreamFactory getStreamFactory(final IntegrationLauncherConfig launcherConfig,
-                                                final ConfiguredAirbyteCatalog configuredAirbyteCatalog,
-                                                final MdcScope.Builder mdcScopeBuilder,
-                                                final VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration invalidLineFailureConfiguration) {
+  private VersionedAirbyteStreamFactory<?> getStreamFactory(final IntegrationLauncherConfig launcherConfig,
+                                                            final ConfiguredAirbyteCatalog configuredAirbyteCatalog,
+                                                            final MdcScope.Builder mdcScopeBuilder,
+                                                            final VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration invalidLineFailureConfiguration) {
     return new VersionedAirbyteStreamFactory<>(serDeProvider, migratorFactory, launcherConfig.getProtocolVersion(),
         Optional.of(launcherConfig.getConnectionId()), Optional.of(configuredAirbyteCatalog), mdcScopeBuilder,
         invalidLineFailureConfiguration, gsonPksExtractor, metricClient);
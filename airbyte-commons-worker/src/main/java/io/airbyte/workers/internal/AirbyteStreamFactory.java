@@ -4,8 +4,11 @@
 
 package io.airbyte.workers.internal;
 
+import io.airbyte.commons.io.IOs;
 import io.airbyte.protocol.models.AirbyteMessage;
 import java.io.BufferedReader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.stream.Stream;
 
 /**
@@ -15,4 +18,12 @@ public interface AirbyteStreamFactory {
 
   Stream<AirbyteMessage> create(BufferedReader bufferedReader);
 
+  /**
+   * Create the stream from a channel. Implementations able to work on raw bytes should override this
+   * to avoid decoding every line.
+   */
+  default Stream<AirbyteMessage> create(final ReadableByteChannel channel) {
+    return create(IOs.newBufferedReader(Channels.newInputStream(channel)));
+  }
+
 }
@@ -10,6 +10,7 @@ import io.airbyte.config.ConfiguredAirbyteCatalog;
 import io.airbyte.config.ConfiguredAirbyteStream;
 import io.airbyte.config.SyncMode;
 import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.workers.helper.AirbyteMessageExtractor;
 import io.airbyte.workers.internal.exception.SourceException;
 import java.util.List;
@@ -53,7 +54,7 @@ public class BasicAirbyteMessageValidator {
         }
         // required fields
         final var record = message.getRecord();
-        if (record.getStream() == null || record.getData() == null) {
+        if (record.getStream() == null || !hasData(record)) {
           return Optional.empty();
         }
         if (catalog.isPresent()) {
@@ -63,7 +64,8 @@ public class BasicAirbyteMessageValidator {
             throw new SourceException(String.format("Missing catalog stream for the stream (namespace: %s, name: %s",
                 record.getStream(), record.getNamespace()));
           } else if (catalogStream.get().getSyncMode().equals(SyncMode.INCREMENTAL)
-              && CatalogDiffHelpers.isDedup(catalogStream.get().getDestinationSyncMode())) {
+              && CatalogDiffHelpers.isDedup(catalogStream.get().getDestinationSyncMode())
+              && !isPassthrough(record)) {
             // required PKs
             final List<List<String>> pksList = AirbyteMessageExtractor.getPks(catalogStream);
             if (pksList.isEmpty()) {
@@ -134,4 +136,17 @@ public class BasicAirbyteMessageValidator {
     return Optional.of(message);
   }
 
+  private static boolean hasData(final AirbyteRecordMessage record) {
+    // Passthrough records always have data, checking it would deserialize it.
+    return record instanceof PassthroughAirbyteRecordMessage || record.getData() != null;
+  }
+
+  /**
+   * Whether the record is forwarded without its data being deserialized. Its primary keys aren't
+   * checked, as that would deserialize the data, the destination still rejects records without them.
+   */
+  private static boolean isPassthrough(final AirbyteRecordMessage record) {
+    return record instanceof final PassthroughAirbyteRecordMessage passthrough && passthrough.hasOriginalData();
+  }
+
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Splits the output of a connector into lines without decoding it.
+ * <p>
+ * Bytes are read from the channel into a single buffer that only grows to fit the longest line read
+ * so far, and lines are handed out as {@link Line} views over that buffer. A line is only valid
+ * until the next one is read: anything that needs to keep it must copy it.
+ * <p>
+ * Lines longer than the maximum line size are never held in memory: only their length is reported to
+ * the oversized line listener, which fails the read by throwing. The stream factory does so, failing
+ * the sync on the first oversized line. Should the listener return, the reader moves on to the next
+ * line.
+ * <p>
+ * Lines are terminated by {@code \n}, a {@code \r} preceding it is dropped. The last line doesn't
+ * need to be terminated.
+ */
+public class ByteLineReader implements Iterator<ByteLineReader.Line> {
+
+  /**
+   * Largest line the reader can hold, arrays can't get much larger than this.
+   */
+  public static final int UNLIMITED = Integer.MAX_VALUE - 8;
+
+  private static final int DEFAULT_INITIAL_BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * A line, as a slice of the reader's buffer.
+   */
+  public record Line(byte[] array, int offset, int length) {
+
+    public String asString() {
+      return new String(array, offset, length, StandardCharsets.UTF_8);
+    }
+
+  }
+
+  private final ReadableByteChannel channel;
+  private final int maxLineBytes;
+  private final LongConsumer oversizedLineListener;
+
+  private byte[] buffer;
+  // Bytes in [lineStart, limit) are read but not consumed yet, [lineStart, scanPosition) are known
+  // not to contain a line terminator.
+  private int lineStart;
+  private int scanPosition;
+  private int limit;
+
+  private boolean skipping;
+  private long skippedBytes;
+  private boolean endOfInput;
+  private Line next;
+
+  /**
+   * Create a reader.
+   *
+   * @param channel channel to read from, it is not closed by the reader.
+   * @param maxLineBytes lines longer than this are reported to the listener instead of being read, use
+   *        {@link #UNLIMITED} to read all of them.
+   * @param oversizedLineListener called with the length of each line over the maximum, throws to fail
+   *        the read.
+   */
+  public ByteLineReader(final ReadableByteChannel channel, final int maxLineBytes, final LongConsumer oversizedLineListener) {
+    this(channel, maxLineBytes, oversizedLineListener, DEFAULT_INITIAL_BUFFER_SIZE);
+  }
+
+  @VisibleForTesting
+  ByteLineReader(final ReadableByteChannel channel,
+                 final int maxLineBytes,
+                 final LongConsumer oversizedLineListener,
+                 final int initialBufferSize) {
+    if (maxLineBytes < 0 || maxLineBytes > UNLIMITED) {
+      throw new IllegalArgumentException("The maximum line size must be between 0 and " + UNLIMITED + ", got " + maxLineBytes);
+    }
+    this.channel = channel;
+    this.maxLineBytes = maxLineBytes;
+    this.oversizedLineListener = oversizedLineListener;
+    // The buffer never needs to hold more than one byte past the maximum line size.
+    this.buffer = new byte[Math.max(1, Math.min(initialBufferSize, maxLineBytes + 1))];
+  }
+
+  /**
+   * Stream of the lines of the channel. The same caveat as for the iterator applies: a line is only
+   * valid until the stream advances to the next one.
+   */
+  public Stream<Line> lines() {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      try {
+        next = readLine();
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public Line next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    final Line line = next;
+    next = null;
+    return line;
+  }
+
+  private Line readLine() throws IOException {
+    while (true) {
+      final int newline = indexOfNewline(scanPosition, limit);
+      if (newline >= 0) {
+        final int start = lineStart;
+        lineStart = newline + 1;
+        scanPosition = lineStart;
+        if (skipping) {
+          skipping = false;
+          oversizedLineListener.accept(skippedBytes + newline - start);
+          continue;
+        }
+        final Line line = toLine(start, newline);
+        if (line != null) {
+          return line;
+        }
+        continue;
+      }
+      scanPosition = limit;
+
+      if (skipping || limit - lineStart > maxLineBytes) {
+        // Forget what was read of the line, only keep track of its length.
+        skippedBytes = (skipping ? skippedBytes : 0) + limit - lineStart;
+        skipping = true;
+        lineStart = 0;
+        scanPosition = 0;
+        limit = 0;
+      }
+
+      if (!fill()) {
+        if (skipping) {
+          skipping = false;
+          oversizedLineListener.accept(skippedBytes);
+        } else if (limit > lineStart) {
+          final int start = lineStart;
+          lineStart = limit;
+          return toLine(start, limit);
+        }
+        return null;
+      }
+    }
+  }
+
+  /**
+   * Line between start and end, end being the position of the line terminator. Returns null if the
+   * line is too long.
+   */
+  private Line toLine(final int start, final int end) {
+    final int length = end > start && buffer[end - 1] == '\r' ? end - start - 1 : end - start;
+    if (length > maxLineBytes) {
+      oversizedLineListener.accept(length);
+      return null;
+    }
+    return new Line(buffer, start, length);
+  }
+
+  private int indexOfNewline(final int from, final int to) {
+    for (int i = from; i < to; i++) {
+      if (buffer[i] == '\n') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Read more bytes, making room for them first.
+   *
+   * @return false once the end of the channel is reached.
+   */
+  private boolean fill() throws IOException {
+    if (endOfInput) {
+      return false;
+    }
+
+    if (limit == buffer.length) {
+      if (lineStart > 0) {
+        System.arraycopy(buffer, lineStart, buffer, 0, limit - lineStart);
+        limit -= lineStart;
+        scanPosition -= lineStart;
+        lineStart = 0;
+      } else {
+        final byte[] grown = new byte[(int) Math.min(2L * buffer.length, (long) maxLineBytes + 1)];
+        System.arraycopy(buffer, 0, grown, 0, limit);
+        buffer = grown;
+      }
+    }
+
+    final int read = channel.read(ByteBuffer.wrap(buffer, limit, buffer.length - limit));
+    if (read < 0) {
+      endOfInput = true;
+      return false;
+    }
+    limit += read;
+    return true;
+  }
+
+}
@@ -22,10 +22,23 @@ public class DefaultAirbyteMessageBufferedWriter implements AirbyteMessageBuffer
 
   @Override
   public void write(final AirbyteMessage message) throws IOException {
-    writer.write(Jsons.serialize(message));
+    if (isPassthrough(message)) {
+      ((PassthroughAirbyteRecordMessage) message.getRecord()).writeMessage(writer);
+    } else {
+      writer.write(Jsons.serialize(message));
+    }
     writer.newLine();
   }
 
+  /**
+   * Whether the message is a record that can be written without serializing its data again.
+   */
+  protected static boolean isPassthrough(final AirbyteMessage message) {
+    return message.getRecord() instanceof final PassthroughAirbyteRecordMessage record
+        && record.hasOriginalData()
+        && message.getAdditionalProperties().isEmpty();
+  }
+
   @Override
   public void flush() throws IOException {
     writer.flush();
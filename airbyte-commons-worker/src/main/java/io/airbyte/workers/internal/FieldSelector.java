@@ -108,7 +108,12 @@ public class FieldSelector {
     final List<String> selectedFields = streamToSelectedFields.getOrDefault(messageStream, Collections.emptyList());
     final JsonNode data = record.getData();
     if (data.isObject()) {
+      final int fieldCount = data.size();
       ((ObjectNode) data).retain(selectedFields);
+      if (data.size() != fieldCount) {
+        // The size measured when reading the record no longer matches its data.
+        SizedAirbyteRecordMessage.invalidateDataSize(record);
+      }
     } else {
       throw new RuntimeException(String.format("Unexpected data in record: %s", data));
     }
@@ -133,6 +138,10 @@ public class FieldSelector {
         metricReporter.trackSchemaValidationErrors(stream, errorPair.getFirst());
       });
     }
+    final long droppedValidations = recordSchemaValidator.getDroppedValidations();
+    if (droppedValidations > 0) {
+      metricReporter.trackDroppedSchemaValidations(droppedValidations);
+    }
     unexpectedFields.forEach((stream, unexpectedFieldNames) -> {
       if (!unexpectedFieldNames.isEmpty()) {
         log.warn("Source {} has unexpected fields [{}] in stream {}", sourceId, String.join(", ", unexpectedFieldNames), stream);
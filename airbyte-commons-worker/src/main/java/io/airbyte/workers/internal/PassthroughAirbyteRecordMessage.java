@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessageMeta;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Record read in passthrough mode: only its envelope (stream, namespace, emitted_at and meta) is
+ * parsed, its data is kept as the UTF-8 bytes it was read as. Only the data is copied out of the
+ * line, so lines can be parsed from a buffer that gets reused.
+ * <p>
+ * The data is only deserialized if something asks for it, and the original slice is written to the
+ * destination unless the data gets replaced. This is only safe for streams whose data is never
+ * modified in place, i.e. streams without mappers nor field selection, read and written with a
+ * protocol version that doesn't require a migration.
+ * <p>
+ * Equality, hash code and string representation use the original bytes as long as the data wasn't
+ * replaced, so that they don't deserialize the data either.
+ */
+public class PassthroughAirbyteRecordMessage extends AirbyteRecordMessage {
+
+  private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+      .streamReadConstraints(StreamReadConstraints.builder().maxStringLength(Integer.MAX_VALUE).build())
+      .build();
+
+  private static final String RECORD_TYPE = "RECORD";
+
+  private final byte[] originalData;
+  private volatile boolean dataLoaded;
+  private volatile boolean dataReplaced;
+
+  private PassthroughAirbyteRecordMessage(final byte[] originalData) {
+    super();
+    this.originalData = originalData;
+  }
+
+  /**
+   * Same as {@link #tryParse(byte[], int, int)} for a decoded line.
+   */
+  public static Optional<AirbyteMessage> tryParse(final String line) {
+    final byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+    return tryParse(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Parse the envelope of a RECORD message.
+   *
+   * @param line bytes holding the line read from the connector, UTF-8 encoded
+   * @param offset start of the line in the array
+   * @param length length of the line
+   * @return the record message, empty if the line isn't a record or carries anything the passthrough
+   *         mode doesn't know how to forward, in which case it should be fully deserialized.
+   */
+  public static Optional<AirbyteMessage> tryParse(final byte[] line, final int offset, final int length) {
+    try (final JsonParser parser = JSON_FACTORY.createParser(line, offset, length)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
+
+      boolean isRecord = false;
+      PassthroughAirbyteRecordMessage record = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String fieldName = parser.currentName();
+        final JsonToken token = parser.nextToken();
+        switch (fieldName) {
+          case "type" -> isRecord = token == JsonToken.VALUE_STRING && RECORD_TYPE.equals(parser.getText());
+          case "record" -> {
+            record = token == JsonToken.START_OBJECT ? parseRecord(parser, line, offset) : null;
+            if (record == null) {
+              return Optional.empty();
+            }
+          }
+          default -> {
+            return Optional.empty();
+          }
+        }
+      }
+
+      if (!isRecord || record == null) {
+        return Optional.empty();
+      }
+      return Optional.of(new AirbyteMessage().withType(AirbyteMessage.Type.RECORD).withRecord(record));
+    } catch (final IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  // Byte offsets of the parser are relative to the start of the line.
+  private static PassthroughAirbyteRecordMessage parseRecord(final JsonParser parser, final byte[] line, final int offset) throws IOException {
+    String stream = null;
+    String namespace = null;
+    Long emittedAt = null;
+    AirbyteRecordMessageMeta meta = null;
+    int dataStart = -1;
+    int dataEnd = -1;
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String fieldName = parser.currentName();
+      final JsonToken token = parser.nextToken();
+      switch (fieldName) {
+        case "stream" -> {
+          if (token != JsonToken.VALUE_STRING) {
+            return null;
+          }
+          stream = parser.getText();
+        }
+        case "namespace" -> {
+          if (token != JsonToken.VALUE_STRING && token != JsonToken.VALUE_NULL) {
+            return null;
+          }
+          namespace = token == JsonToken.VALUE_NULL ? null : parser.getText();
+        }
+        case "emitted_at" -> {
+          if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NULL) {
+            return null;
+          }
+          emittedAt = token == JsonToken.VALUE_NULL ? null : parser.getLongValue();
+        }
+        case "data" -> {
+          if (token != JsonToken.START_OBJECT) {
+            return null;
+          }
+          dataStart = offset + Math.toIntExact(parser.currentTokenLocation().getByteOffset());
+          parser.skipChildren();
+          dataEnd = offset + Math.toIntExact(parser.currentTokenLocation().getByteOffset()) + 1;
+        }
+        case "meta" -> {
+          if (token == JsonToken.START_OBJECT) {
+            final int metaStart = offset + Math.toIntExact(parser.currentTokenLocation().getByteOffset());
+            parser.skipChildren();
+            final int metaEnd = offset + Math.toIntExact(parser.currentTokenLocation().getByteOffset()) + 1;
+            meta = Jsons.tryDeserializeExact(line, metaStart, metaEnd - metaStart, AirbyteRecordMessageMeta.class).orElse(null);
+            if (meta == null) {
+              return null;
+            }
+          } else if (token != JsonToken.VALUE_NULL) {
+            return null;
+          }
+        }
+        // Anything else, e.g. file transfer information, needs the full deserialization.
+        default -> {
+          return null;
+        }
+      }
+    }
+
+    if (stream == null || dataStart < 0) {
+      return null;
+    }
+    final PassthroughAirbyteRecordMessage record = new PassthroughAirbyteRecordMessage(Arrays.copyOfRange(line, dataStart, dataEnd));
+    record.setStream(stream);
+    record.setNamespace(namespace);
+    record.setEmittedAt(emittedAt);
+    record.setMeta(meta);
+    return record;
+  }
+
+  /**
+   * Deserializes the data on first access.
+   */
+  @Override
+  public JsonNode getData() {
+    if (!dataLoaded) {
+      synchronized (this) {
+        if (!dataLoaded) {
+          super.setData(Jsons.tryDeserializeExact(originalData, 0, originalData.length, JsonNode.class).orElseThrow());
+          dataLoaded = true;
+        }
+      }
+    }
+    return super.getData();
+  }
+
+  @Override
+  public void setData(final JsonNode data) {
+    synchronized (this) {
+      super.setData(data);
+      dataReplaced = true;
+      dataLoaded = true;
+    }
+  }
+
+  @Override
+  public AirbyteRecordMessage withData(final JsonNode data) {
+    setData(data);
+    return this;
+  }
+
+  /**
+   * Length of the serialized data in UTF-8 bytes, known without deserializing it.
+   */
+  public int dataLength() {
+    return originalData.length;
+  }
+
+  /**
+   * Whether the data can still be written from the original line.
+   */
+  public boolean hasOriginalData() {
+    return !dataReplaced && getAdditionalProperties().isEmpty();
+  }
+
+  /**
+   * Write the record as an AirbyteMessage, copying the original data.
+   */
+  void writeMessage(final Writer writer) throws IOException {
+    writer.write("{\"type\":\"RECORD\",\"record\":{");
+    if (getNamespace() != null) {
+      writer.write("\"namespace\":");
+      writer.write(Jsons.serialize(getNamespace()));
+      writer.write(',');
+    }
+    writer.write("\"stream\":");
+    writer.write(Jsons.serialize(getStream()));
+    writer.write(",\"data\":");
+    writer.write(new String(originalData, StandardCharsets.UTF_8));
+    if (getEmittedAt() != null) {
+      writer.write(",\"emitted_at\":");
+      writer.write(Long.toString(getEmittedAt()));
+    }
+    if (getMeta() != null) {
+      writer.write(",\"meta\":");
+      writer.write(Jsons.serialize(getMeta()));
+    }
+    writer.write("}}");
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (other instanceof final PassthroughAirbyteRecordMessage that && hasOriginalData() && that.hasOriginalData()) {
+      return Objects.equals(getNamespace(), that.getNamespace())
+          && Objects.equals(getStream(), that.getStream())
+          && Objects.equals(getEmittedAt(), that.getEmittedAt())
+          && Objects.equals(getMeta(), that.getMeta())
+          && Arrays.equals(originalData, that.originalData);
+    }
+    // Compared with any other record, the data of both sides needs to be loaded.
+    getData();
+    if (other instanceof final PassthroughAirbyteRecordMessage that) {
+      that.getData();
+    }
+    return super.equals(other);
+  }
+
+  @Override
+  public int hashCode() {
+    if (hasOriginalData()) {
+      return Objects.hash(getNamespace(), getStream(), getEmittedAt(), getMeta(), Arrays.hashCode(originalData));
+    }
+    return super.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    if (hasOriginalData()) {
+      return PassthroughAirbyteRecordMessage.class.getName() + "[namespace=" + getNamespace()
+          + ",stream=" + getStream()
+          + ",data=" + new String(originalData, StandardCharsets.UTF_8)
+          + ",emittedAt=" + getEmittedAt()
+          + ",meta=" + getMeta() + "]";
+    }
+    return super.toString();
+  }
+
+}
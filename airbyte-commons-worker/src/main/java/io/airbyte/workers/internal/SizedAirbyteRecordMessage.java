@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.node.NullNode;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Record read from a connector, carrying the size of its data as the connector emitted it, so that
+ * the record doesn't need to be serialized again to be counted.
+ * <p>
+ * Messages read with {@link #deserialize(byte[], int, int)} or {@link #deserialize(String)} carry
+ * their records as this class directly: the size is the span of the {@code record.data} value on
+ * the line, whitespace included, in UTF-8 bytes whichever way the line was read. It is taken from
+ * the parse that deserializes the message.
+ * <p>
+ * The size is forgotten when the data is replaced. Anything modifying the data in place, e.g. field
+ * selection or mappers, must call {@link #invalidateDataSize(AirbyteRecordMessage)}.
+ */
+public class SizedAirbyteRecordMessage extends AirbyteRecordMessage {
+
+  private static final long UNKNOWN_SIZE = -1;
+
+  private static final String DATA_SPAN_ATTRIBUTE = "airbyte.recordDataSpan";
+
+  // Same configuration as the exact mapper of Jsons, records being deserialized as this class.
+  private static final ObjectReader MESSAGE_READER = createMapper().readerFor(AirbyteMessage.class);
+
+  private volatile long dataSize = UNKNOWN_SIZE;
+
+  public SizedAirbyteRecordMessage() {
+    super();
+  }
+
+  private static ObjectMapper createMapper() {
+    final ObjectMapper mapper = MoreMappers.initMapper();
+    mapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    mapper.getFactory().setStreamReadConstraints(StreamReadConstraints.builder().maxStringLength(Integer.MAX_VALUE).build());
+    mapper.addMixIn(AirbyteRecordMessage.class, SizedRecordMixIn.class);
+    return mapper;
+  }
+
+  /**
+   * Deserializes a message from a slice of UTF-8 encoded bytes, measuring the data of its record.
+   *
+   * @return the message, empty if the line isn't a valid message.
+   */
+  public static Optional<AirbyteMessage> deserialize(final byte[] line, final int offset, final int length) {
+    final DataSpan span = new DataSpan(null);
+    try {
+      return Optional.of(withDataSize(MESSAGE_READER.withAttribute(DATA_SPAN_ATTRIBUTE, span).readValue(line, offset, length), span));
+    } catch (final Throwable e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Same as {@link #deserialize(byte[], int, int)} for a decoded line, the size is still in UTF-8
+   * bytes.
+   */
+  public static Optional<AirbyteMessage> deserialize(final String line) {
+    final DataSpan span = new DataSpan(line);
+    try {
+      return Optional.of(withDataSize(MESSAGE_READER.withAttribute(DATA_SPAN_ATTRIBUTE, span).readValue(line), span));
+    } catch (final Throwable e) {
+      return Optional.empty();
+    }
+  }
+
+  private static AirbyteMessage withDataSize(final AirbyteMessage message, final DataSpan span) {
+    // Set once the record is deserialized, as setting its data forgets the size.
+    if (message.getRecord() instanceof final SizedAirbyteRecordMessage sized) {
+      sized.dataSize = span.size;
+    }
+    return message;
+  }
+
+  /**
+   * Sets the size of the data of a record built from one already measured.
+   */
+  void setDataSize(final long dataSize) {
+    this.dataSize = dataSize;
+  }
+
+  /**
+   * Returns the size of the data of the record, if it is known without measuring the data.
+   */
+  public static Long knownDataSize(final AirbyteRecordMessage record) {
+    if (record instanceof final SizedAirbyteRecordMessage sized) {
+      final long size = sized.dataSize;
+      return size == UNKNOWN_SIZE ? null : size;
+    }
+    if (record instanceof final PassthroughAirbyteRecordMessage passthrough && passthrough.hasOriginalData()) {
+      return (long) passthrough.dataLength();
+    }
+    return null;
+  }
+
+  /**
+   * Forgets the size of the data of the record, which was modified in place.
+   */
+  public static void invalidateDataSize(final AirbyteRecordMessage record) {
+    if (record instanceof final SizedAirbyteRecordMessage sized) {
+      sized.dataSize = UNKNOWN_SIZE;
+    }
+  }
+
+  @Override
+  public void setData(final JsonNode data) {
+    super.setData(data);
+    dataSize = UNKNOWN_SIZE;
+  }
+
+  @Override
+  public AirbyteRecordMessage withData(final JsonNode data) {
+    setData(data);
+    return this;
+  }
+
+  /**
+   * Deserializes records as {@link SizedAirbyteRecordMessage}, measuring their data.
+   */
+  @JsonDeserialize(as = SizedAirbyteRecordMessage.class)
+  private abstract static class SizedRecordMixIn {
+
+    @JsonDeserialize(using = MeasuringDataDeserializer.class)
+    private JsonNode data;
+
+    @JsonDeserialize(using = MeasuringDataDeserializer.class)
+    public abstract void setData(JsonNode data);
+
+  }
+
+  /**
+   * Where the data of the record being deserialized starts and ends on the line.
+   */
+  private static final class DataSpan {
+
+    // The decoded line, null when reading bytes.
+    private final String line;
+    private long size = UNKNOWN_SIZE;
+
+    private DataSpan(final String line) {
+      this.line = line;
+    }
+
+    private void measure(final JsonLocation start, final JsonLocation end) {
+      if (line == null) {
+        size = end.getByteOffset() - start.getByteOffset();
+      } else {
+        size = utf8Length(line, Math.toIntExact(start.getCharOffset()), Math.toIntExact(end.getCharOffset()));
+      }
+    }
+
+    private static long utf8Length(final String line, final int start, final int end) {
+      long length = 0;
+      for (int i = start; i < end; i++) {
+        final char c = line.charAt(i);
+        if (c < 0x80) {
+          length += 1;
+        } else if (c < 0x800) {
+          length += 2;
+        } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(line.charAt(i + 1))) {
+          length += 4;
+          i++;
+        } else {
+          length += 3;
+        }
+      }
+      return length;
+    }
+
+  }
+
+  /**
+   * Reads the data as a tree, like the default deserializer, noting where it starts and ends.
+   */
+  private static final class MeasuringDataDeserializer extends StdDeserializer<JsonNode> {
+
+    private MeasuringDataDeserializer() {
+      super(JsonNode.class);
+    }
+
+    @Override
+    public JsonNode deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+      final JsonLocation start = parser.currentTokenLocation();
+      final JsonNode data = context.readTree(parser);
+      if (context.getAttribute(DATA_SPAN_ATTRIBUTE) instanceof final DataSpan span) {
+        span.measure(start, parser.currentLocation());
+      }
+      return data;
+    }
+
+    @Override
+    public JsonNode getNullValue(final DeserializationContext context) {
+      return NullNode.getInstance();
+    }
+
+  }
+
+}
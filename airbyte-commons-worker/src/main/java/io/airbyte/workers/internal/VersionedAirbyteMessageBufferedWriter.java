@@ -36,7 +36,12 @@ public class VersionedAirbyteMessageBufferedWriter<T> extends DefaultAirbyteMess
   @Override
   public void write(final AirbyteMessage message) throws IOException {
     final T downgradedMessage = migrator.downgrade(message, configuredAirbyteCatalog);
-    writer.write(serializer.serialize(downgradedMessage));
+    // The message is left as-is when the destination speaks the current protocol version.
+    if (downgradedMessage == message && isPassthrough(message)) {
+      ((PassthroughAirbyteRecordMessage) message.getRecord()).writeMessage(writer);
+    } else {
+      writer.write(serializer.serialize(downgradedMessage));
+    }
     writer.newLine();
   }
 
@@ -7,6 +7,8 @@ package io.airbyte.workers.internal;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Utf8;
+import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.logging.MdcScope;
 import io.airbyte.commons.protocol.AirbyteMessageMigrator;
@@ -28,15 +30,21 @@ import io.airbyte.metrics.OssMetricsRegistry;
 import io.airbyte.metrics.lib.MetricTags;
 import io.airbyte.protocol.models.AirbyteLogMessage;
 import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
 import io.airbyte.workers.helper.GsonPksExtractor;
+import io.airbyte.workers.internal.exception.SourceException;
 import io.micronaut.core.util.StringUtils;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -76,7 +84,8 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
   private static final int BUFFER_READ_AHEAD_LIMIT = 2 * 1024 * 1024; // 2 megabytes
   private static final int MESSAGES_LOOK_AHEAD_FOR_DETECTION = 10;
   private static final String TYPE_FIELD_NAME = "type";
-  private static final int MAXIMUM_CHARACTERS_ALLOWED = 20_000_000;
+  // Lines are measured in UTF-8 bytes, whether they are read as bytes or decoded.
+  private static final int LARGE_LINE_BYTES = 20_000_000;
 
   // BASIC PROCESSING FIELDS
   protected final Logger logger;
@@ -91,8 +100,11 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
   private AirbyteMessageDeserializer<AirbyteMessage> deserializer;
   private AirbyteMessageVersionedMigrator<AirbyteMessage> migrator;
   private Version protocolVersion;
+  private boolean migrationRequired;
 
   private boolean shouldDetectVersion = false;
+  private Set<AirbyteStreamNameNamespacePair> passthroughStreams = Set.of();
+  private int maxLineBytes = ByteLineReader.UNLIMITED;
 
   private final InvalidLineFailureConfiguration invalidLineFailureConfiguration;
   private final GsonPksExtractor gsonPksExtractor;
@@ -196,13 +208,40 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
   @Override
   public Stream<AirbyteMessage> create(final BufferedReader bufferedReader) {
     detectAndInitialiseMigrators(bufferedReader);
-    final boolean needMigration = !protocolVersion.getMajorVersion().equals(migratorFactory.getMostRecentVersion().getMajorVersion());
+    logProtocolVersion();
+
+    return addLineReadLogic(bufferedReader);
+  }
+
+  /**
+   * Create the AirbyteMessage stream from a channel, framing lines on raw bytes and handing them to
+   * the deserializer without decoding them first, see {@link ByteLineReader}. A line longer than the
+   * maximum line size fails the sync, without ever being held in memory.
+   *
+   * Passthrough records keep a reference to the line they were read from, which outlives the reader's
+   * buffer: while passthrough streams are set, lines are decoded before being parsed.
+   *
+   * Version detection needs to look ahead in the stream, it falls back to reading from a
+   * BufferedReader.
+   */
+  @Override
+  public Stream<AirbyteMessage> create(final ReadableByteChannel channel) {
+    if (shouldDetectVersion) {
+      return create(IOs.newBufferedReader(Channels.newInputStream(channel)));
+    }
+    logProtocolVersion();
+
+    return new ByteLineReader(channel, maxLineBytes, this::failOnTooLongLine)
+        .lines()
+        .flatMap(this::toAirbyteMessage)
+        .filter(this::filterLog);
+  }
+
+  private void logProtocolVersion() {
     logger.info(
         "Reading messages from protocol version {}{}",
         protocolVersion.serialize(),
-        needMigration ? ", messages will be upgraded to protocol version " + migratorFactory.getMostRecentVersion().serialize() : "");
-
-    return addLineReadLogic(bufferedReader);
+        migrationRequired ? ", messages will be upgraded to protocol version " + migratorFactory.getMostRecentVersion().serialize() : "");
   }
 
   private void detectAndInitialiseMigrators(final BufferedReader bufferedReader) {
@@ -285,10 +324,30 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
     return this;
   }
 
+  /**
+   * Read the records of the given streams in passthrough mode, see
+   * {@link PassthroughAirbyteRecordMessage}. The caller is responsible for only passing streams whose
+   * records are never modified in place.
+   */
+  public VersionedAirbyteStreamFactory<T> withRecordPassthrough(final Set<AirbyteStreamNameNamespacePair> streams) {
+    this.passthroughStreams = Set.copyOf(streams);
+    return this;
+  }
+
+  /**
+   * Fail the sync on lines longer than the given number of UTF-8 bytes. Lines read from a channel are
+   * never held in memory past that size, see {@link #create(ReadableByteChannel)}.
+   */
+  public VersionedAirbyteStreamFactory<T> withMaxLineBytes(final int maxLineBytes) {
+    this.maxLineBytes = maxLineBytes;
+    return this;
+  }
+
   protected final void initializeForProtocolVersion(final Version protocolVersion) {
     this.deserializer = (AirbyteMessageDeserializer<AirbyteMessage>) serDeProvider.getDeserializer(protocolVersion).orElseThrow();
     this.migrator = migratorFactory.getAirbyteMessageMigrator(protocolVersion);
     this.protocolVersion = protocolVersion;
+    this.migrationRequired = !protocolVersion.getMajorVersion().equals(migratorFactory.getMostRecentVersion().getMajorVersion());
   }
 
   protected boolean filterLog(final AirbyteMessage message) {
@@ -323,11 +382,27 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
    * 2. validate the message.
    * <p>
    * 3. upgrade the message to the platform version, if needed.
+   * <p>
+   * 4. attach the size of the data of records as it appears on the line, so they don't need to be
+   * serialized again to be counted. The size is taken from the parse that deserializes the message,
+   * see {@link SizedAirbyteRecordMessage#deserialize(String)}.
    */
   protected Stream<AirbyteMessage> toAirbyteMessage(final String line) {
-    logLargeRecordWarning(line);
+    final int lineBytes = lineBytes(line);
+    if (lineBytes > maxLineBytes) {
+      failOnTooLongLine(lineBytes);
+    }
+    logLargeRecordWarning(lineBytes, () -> line);
 
-    Optional<AirbyteMessage> m = deserializer.deserializeExact(line);
+    if (!passthroughStreams.isEmpty() && !migrationRequired) {
+      final Optional<AirbyteMessage> passthroughMessage = PassthroughAirbyteRecordMessage.tryParse(line);
+      if (passthroughMessage.isPresent()) {
+        return toPassthroughRecord(passthroughMessage.get(), () -> line);
+      }
+    }
+
+    // Messages that need a migration are read as their own protocol version, which is not measured.
+    Optional<AirbyteMessage> m = migrationRequired ? deserializer.deserializeExact(line) : SizedAirbyteRecordMessage.deserialize(line);
 
     if (m.isPresent()) {
       m = BasicAirbyteMessageValidator.validate(m.get(), configuredAirbyteCatalog);
@@ -344,26 +419,104 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
     return m.stream();
   }
 
-  private void logLargeRecordWarning(final String line) {
-    if (line.length() < MAXIMUM_CHARACTERS_ALLOWED) {
+  /**
+   * Same as {@link #toAirbyteMessage(String)} for a line that wasn't decoded. The line is only decoded
+   * if it can't be deserialized as is, or needs a migration, which works on the decoded line.
+   */
+  private Stream<AirbyteMessage> toAirbyteMessage(final ByteLineReader.Line line) {
+    if (migrationRequired) {
+      return toAirbyteMessage(line.asString());
+    }
+
+    final int lineLength = line.length();
+    logLargeRecordWarning(lineLength, line::asString);
+
+    if (!passthroughStreams.isEmpty()) {
+      final Optional<AirbyteMessage> passthroughMessage = PassthroughAirbyteRecordMessage.tryParse(line.array(), line.offset(), lineLength);
+      if (passthroughMessage.isPresent()) {
+        return toPassthroughRecord(passthroughMessage.get(), line::asString);
+      }
+    }
+
+    final Optional<AirbyteMessage> m = SizedAirbyteRecordMessage.deserialize(line.array(), line.offset(), lineLength);
+    if (m.isEmpty()) {
+      // Malformed lines are logged from their decoded form, which also gives lines that aren't valid
+      // UTF-8 the same treatment as when reading through a Reader.
+      return toAirbyteMessage(line.asString());
+    }
+
+    final Optional<AirbyteMessage> validated = BasicAirbyteMessageValidator.validate(m.get(), configuredAirbyteCatalog);
+    if (validated.isEmpty()) {
+      logger.error("Validation failed: {}", Jsons.serialize(line.asString()));
+      return Stream.empty();
+    }
+    return upgradeMessage(validated.get());
+  }
+
+  private Stream<AirbyteMessage> toPassthroughRecord(final AirbyteMessage message, final Supplier<String> line) {
+    final PassthroughAirbyteRecordMessage record = (PassthroughAirbyteRecordMessage) message.getRecord();
+    if (!passthroughStreams.contains(new AirbyteStreamNameNamespacePair(record.getStream(), record.getNamespace()))) {
+      // The envelope is already parsed, only the data is left to deserialize.
+      final SizedAirbyteRecordMessage sized = new SizedAirbyteRecordMessage();
+      sized.setStream(record.getStream());
+      sized.setNamespace(record.getNamespace());
+      sized.setEmittedAt(record.getEmittedAt());
+      sized.setMeta(record.getMeta());
+      sized.setData(record.getData());
+      sized.setDataSize(record.dataLength());
+      message.setRecord(sized);
+    }
+
+    final Optional<AirbyteMessage> validated = BasicAirbyteMessageValidator.validate(message, configuredAirbyteCatalog);
+    if (validated.isEmpty()) {
+      logger.error("Validation failed: {}", Jsons.serialize(line.get()));
+      return Stream.empty();
+    }
+    return Stream.of(message);
+  }
+
+  /**
+   * Length of the line in UTF-8 bytes. Lines too short to reach any of the limits even if they only
+   * had 3-byte characters are not measured, their length in chars is returned instead.
+   */
+  private int lineBytes(final String line) {
+    if ((long) line.length() * 3 < Math.min(maxLineBytes, LARGE_LINE_BYTES)) {
+      return line.length();
+    }
+    return Utf8.encodedLength(line);
+  }
+
+  private void logLargeRecordWarning(final int lineLength, final Supplier<String> line) {
+    if (lineLength < LARGE_LINE_BYTES) {
       return;
     }
     try (final MdcScope ignored = containerLogMdcBuilder.build()) {
-      connectionId.ifPresentOrElse(c -> metricClient.count(OssMetricsRegistry.LINE_SKIPPED_TOO_LONG,
-          new MetricAttribute(MetricTags.CONNECTION_ID, c.toString())),
-          () -> metricClient.count(OssMetricsRegistry.LINE_SKIPPED_TOO_LONG));
-      metricClient.distribution(OssMetricsRegistry.TOO_LONG_LINES_DISTRIBUTION, line.length());
+      countTooLongLine(lineLength);
       if (invalidLineFailureConfiguration.printLongRecordPks) {
-        logger.warn("[LARGE RECORD] Risk of Destinations not being able to properly handle: " + line.length());
+        logger.warn("[LARGE RECORD] Risk of Destinations not being able to properly handle: " + lineLength);
         configuredAirbyteCatalog.ifPresent(
             airbyteCatalog -> logger
-                .warn("[LARGE RECORD] The primary keys of the long record are: " + gsonPksExtractor.extractPks(airbyteCatalog, line)));
+                .warn("[LARGE RECORD] The primary keys of the long record are: " + gsonPksExtractor.extractPks(airbyteCatalog, line.get())));
       }
     } catch (final Exception e) {
       throw e;
     }
   }
 
+  private void failOnTooLongLine(final long lineLength) {
+    countTooLongLine(lineLength);
+    // The line can't be skipped, it may be a STATE message or a record that would be silently lost.
+    throw new SourceException(String.format("The source emitted a line of %d bytes, more than the maximum of %d bytes (connectionId = %s)",
+        lineLength, maxLineBytes, getConnectionId()));
+  }
+
+  private void countTooLongLine(final long lineLength) {
+    connectionId.ifPresentOrElse(c -> metricClient.count(OssMetricsRegistry.LINE_SKIPPED_TOO_LONG,
+        new MetricAttribute(MetricTags.CONNECTION_ID, c.toString())),
+        () -> metricClient.count(OssMetricsRegistry.LINE_SKIPPED_TOO_LONG));
+    metricClient.distribution(OssMetricsRegistry.TOO_LONG_LINES_DISTRIBUTION, lineLength);
+  }
+
   /**
    * If a line cannot be deserialized into an AirbyteMessage, either:
    * <p>
@@ -5,16 +5,39 @@
 package io.airbyte.workers.general
 
 import io.airbyte.commons.concurrency.ClosableLinkedBlockingQueue
+import io.airbyte.commons.concurrency.ClosableQueue
+import io.airbyte.commons.concurrency.ClosableRingBufferQueue
+import io.airbyte.commons.json.Jsons
+import io.airbyte.protocol.models.AirbyteMessage
+import io.airbyte.workers.internal.SizedAirbyteRecordMessage
 
 data class BufferConfiguration(
   val sourceMaxBufferSize: Int = DEFAULT_SOURCE_MAX_BUFFER_SIZE,
   val destinationMaxBufferSize: Int = DEFAULT_DESTINATION_MAX_BUFFER_SIZE,
   val pollTimeoutDuration: Int = DEFAULT_POLL_TIME_OUT_DURATION_SECONDS,
+  // Use ClosableRingBufferQueue, bounded by maxBufferBytes on top of the number of messages.
+  val useRingBufferQueues: Boolean = false,
+  val maxBufferBytes: Long = DEFAULT_MAX_BUFFER_BYTES,
 ) {
+  fun newSourceQueue(): ClosableQueue<AirbyteMessage> = newQueue(sourceMaxBufferSize)
+
+  fun newDestinationQueue(): ClosableQueue<AirbyteMessage> = newQueue(destinationMaxBufferSize)
+
+  private fun newQueue(maxBufferSize: Int): ClosableQueue<AirbyteMessage> =
+    if (useRingBufferQueues) {
+      ClosableRingBufferQueue<AirbyteMessage>(maxBufferSize, maxBufferBytes, pollTimeoutDuration, ::estimateMessageSize)
+    } else {
+      ClosableLinkedBlockingQueue(maxBufferSize, pollTimeoutDuration)
+    }
+
   companion object {
     const val DEFAULT_SOURCE_MAX_BUFFER_SIZE = 1000
     const val DEFAULT_DESTINATION_MAX_BUFFER_SIZE = 1000
     const val DEFAULT_POLL_TIME_OUT_DURATION_SECONDS = ClosableLinkedBlockingQueue.DEFAULT_POLL_TIME_OUT_DURATION_SECONDS
+    const val DEFAULT_MAX_BUFFER_BYTES = 256L * 1024 * 1024
+
+    // Messages other than records are small, and not worth measuring.
+    private const val NON_RECORD_MESSAGE_SIZE_ESTIMATE = 1024L
 
     // Helpers for Java due to the lack of named parameters
 
@@ -26,5 +49,16 @@ data class BufferConfiguration(
 
     @JvmStatic
     fun withDefaultConfiguration() = BufferConfiguration()
+
+    /**
+     * Size of a message for the queues' byte capacity. Records are measured from the size they were
+     * read with when it is still known, which is the case for most of them, and walked otherwise.
+     */
+    @JvmStatic
+    fun estimateMessageSize(message: AirbyteMessage): Long {
+      val record = message.record ?: return NON_RECORD_MESSAGE_SIZE_ESTIMATE
+      return SizedAirbyteRecordMessage.knownDataSize(record)
+        ?: Jsons.getEstimatedByteSize(record.data).toLong()
+    }
   }
 }
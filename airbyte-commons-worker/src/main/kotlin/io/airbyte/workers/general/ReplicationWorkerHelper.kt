@@ -17,7 +17,6 @@ import io.airbyte.commons.helper.DockerImageName
 import io.airbyte.commons.io.LineGobbler
 import io.airbyte.config.ConfiguredAirbyteCatalog
 import io.airbyte.config.FailureReason
-import io.airbyte.config.MapperConfig
 import io.airbyte.config.PerformanceMetrics
 import io.airbyte.config.ReplicationAttemptSummary
 import io.airbyte.config.ReplicationOutput
@@ -29,6 +28,7 @@ import io.airbyte.config.WorkerDestinationConfig
 import io.airbyte.config.adapters.AirbyteJsonRecordAdapter
 import io.airbyte.config.adapters.AirbyteRecord
 import io.airbyte.featureflag.FeatureFlagClient
+import io.airbyte.mappers.application.MapperPipeline
 import io.airbyte.mappers.application.RecordMapper
 import io.airbyte.mappers.transformations.DestinationCatalogGenerator
 import io.airbyte.metrics.MetricAttribute
@@ -55,6 +55,7 @@ import io.airbyte.workers.internal.AnalyticsMessageTracker
 import io.airbyte.workers.internal.DestinationTimeoutMonitor
 import io.airbyte.workers.internal.FieldSelector
 import io.airbyte.workers.internal.HeartbeatTimeoutChaperone
+import io.airbyte.workers.internal.SizedAirbyteRecordMessage
 import io.airbyte.workers.internal.bookkeeping.AirbyteMessageOrigin
 import io.airbyte.workers.internal.bookkeeping.AirbyteMessageTracker
 import io.airbyte.workers.internal.bookkeeping.events.ReplicationAirbyteMessageEvent
@@ -124,7 +125,8 @@ class ReplicationWorkerHelper(
   private lateinit var replicationFeatureFlags: ReplicationFeatureFlags
   private lateinit var streamStatusTracker: StreamStatusTracker
   private var supportRefreshes by Delegates.notNull<Boolean>()
-  private lateinit var mappersPerStreamDescriptor: Map<StreamDescriptor, List<MapperConfig>>
+  private lateinit var mappersPerStreamDescriptor: Map<StreamDescriptor, MapperPipeline>
+  private var mappersConfigured = false
 
   fun markCancelled(): Unit = _cancelled.set(true)
 
@@ -235,9 +237,10 @@ class ReplicationWorkerHelper(
     val catalogWithoutInvalidMappers = destinationCatalogGenerator.generateDestinationCatalog(configuredAirbyteCatalog)
 
     mappersPerStreamDescriptor =
-      catalogWithoutInvalidMappers.catalog.streams.associate { stream ->
-        stream.streamDescriptor to stream.mappers
-      }
+      catalogWithoutInvalidMappers.catalog.streams
+        .filter { stream -> stream.mappers.isNotEmpty() }
+        .associate { stream -> stream.streamDescriptor to recordMapper.compile(stream.mappers) }
+    mappersConfigured = mappersPerStreamDescriptor.isNotEmpty()
   }
 
   fun startDestination(
@@ -418,8 +421,14 @@ class ReplicationWorkerHelper(
   }
 
   private fun processRecordMessage(sourceRawMessage: AirbyteMessage): AirbyteMessage? {
+    if (!mappersConfigured) {
+      // Wrapping the record would deserialize its data for nothing.
+      return sourceRawMessage
+    }
     val adapter = AirbyteJsonRecordAdapter(sourceRawMessage)
     applyTransformationMappers(adapter)
+    // Mappers change the data in place, the size it was read with no longer applies.
+    SizedAirbyteRecordMessage.invalidateDataSize(sourceRawMessage.record)
     if (!adapter.shouldInclude()) {
       messageTracker.syncStatsTracker.updateFilteredOutRecordsStats(sourceRawMessage.record)
       return null
@@ -488,13 +497,7 @@ class ReplicationWorkerHelper(
     airbyteApiClient.destinationApi.getDestination(DestinationIdRequestBody(destinationId = destinationId)).destinationDefinitionId
 
   fun applyTransformationMappers(message: AirbyteRecord) {
-    val mappersForStream: List<MapperConfig> =
-      mappersPerStreamDescriptor[message.streamDescriptor] ?: listOf()
-
-    if (mappersForStream.isEmpty()) {
-      return
-    }
-    recordMapper.applyMappers(message, mappersForStream)
+    mappersPerStreamDescriptor[message.streamDescriptor]?.apply(message)
   }
 
   private fun getTotalStats(
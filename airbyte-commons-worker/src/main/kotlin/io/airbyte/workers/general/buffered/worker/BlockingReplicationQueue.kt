@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.buffered.worker
+
+import io.airbyte.commons.concurrency.ClosableQueue
+import kotlinx.coroutines.channels.ClosedSendChannelException
+import kotlinx.coroutines.currentCoroutineContext
+import kotlinx.coroutines.ensureActive
+
+/**
+ * [ReplicationQueue] over a blocking [ClosableQueue], such as a ClosableRingBufferQueue.
+ *
+ * Sending and receiving block the calling thread for up to the poll timeout of the queue, which is
+ * fine for the replication stages as each of them runs on a thread of its own. Cancellation is
+ * checked on every call. Batches are handed over to the queue as a whole, see [ClosableQueue.addAll]
+ * and [ClosableQueue.drainTo].
+ */
+class BlockingReplicationQueue<T>(
+  private val queue: ClosableQueue<T>,
+) : ReplicationQueue<T> {
+  override suspend fun receive(): T? {
+    currentCoroutineContext().ensureActive()
+    return queue.poll()
+  }
+
+  override suspend fun receiveBatch(
+    batch: MutableList<T>,
+    maxMessages: Int,
+  ): Int {
+    currentCoroutineContext().ensureActive()
+    return queue.drainTo(batch, maxMessages)
+  }
+
+  override suspend fun send(e: T) {
+    while (!queue.add(e)) {
+      if (queue.isClosed) {
+        // Same behavior as a closed channel.
+        throw ClosedSendChannelException("Queue is closed")
+      }
+      currentCoroutineContext().ensureActive()
+    }
+  }
+
+  override suspend fun sendAll(messages: List<T>) {
+    var sent = 0
+    while (true) {
+      sent += queue.addAll(messages.subList(sent, messages.size))
+      if (sent == messages.size) {
+        return
+      }
+      if (queue.isClosed) {
+        throw ClosedSendChannelException("Queue is closed")
+      }
+      currentCoroutineContext().ensureActive()
+    }
+  }
+
+  override fun close() {
+    queue.close()
+  }
+
+  override fun isClosedForSending(): Boolean = queue.isClosed
+
+  override fun isClosedForReceiving(): Boolean = queue.isDone
+}
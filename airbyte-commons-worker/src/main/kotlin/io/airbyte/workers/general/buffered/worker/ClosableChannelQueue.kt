@@ -8,18 +8,32 @@ import kotlinx.coroutines.channels.Channel
 
 class ClosableChannelQueue<T>(
   capacity: Int,
-) {
+) : ReplicationQueue<T> {
   private val channel = Channel<T>(capacity)
 
-  suspend fun receive(): T? = channel.receiveCatching().getOrNull()
+  override suspend fun receive(): T? = channel.receiveCatching().getOrNull()
+
+  override suspend fun receiveBatch(
+    batch: MutableList<T>,
+    maxMessages: Int,
+  ): Int {
+    var count = 0
+    var message = receive()
+    while (message != null) {
+      batch.add(message)
+      count++
+      message = if (count < maxMessages) channel.tryReceive().getOrNull() else null
+    }
+    return count
+  }
 
-  suspend fun send(e: T) = channel.send(e)
+  override suspend fun send(e: T) = channel.send(e)
 
-  fun close() {
+  override fun close() {
     channel.close()
   }
 
-  fun isClosedForSending(): Boolean = channel.isClosedForSend
+  override fun isClosedForSending(): Boolean = channel.isClosedForSend
 
-  fun isClosedForReceiving(): Boolean = channel.isClosedForReceive
+  override fun isClosedForReceiving(): Boolean = channel.isClosedForReceive
 }
@@ -17,17 +17,21 @@ class DestinationWriter(
   private val destination: AirbyteDestination,
   private val replicationWorkerState: ReplicationWorkerState,
   private val replicationWorkerHelper: ReplicationWorkerHelperK,
-  private val destinationQueue: ClosableChannelQueue<AirbyteMessage>,
+  private val destinationQueue: ReplicationQueue<AirbyteMessage>,
 ) {
   suspend fun run() {
     logger.info { "DestinationWriter started." }
     try {
+      val batch = ArrayList<AirbyteMessage>(ReplicationQueue.MAX_BATCH_SIZE)
       while (!replicationWorkerState.shouldAbort && !destinationQueue.isClosedForReceiving()) {
-        val message = destinationQueue.receive() ?: continue
-        try {
-          destination.accept(message)
-        } catch (e: Exception) {
-          throw DestinationException("Destination process message delivery failed", e)
+        batch.clear()
+        destinationQueue.receiveBatch(batch, ReplicationQueue.MAX_BATCH_SIZE)
+        for (message in batch) {
+          try {
+            destination.accept(message)
+          } catch (e: Exception) {
+            throw DestinationException("Destination process message delivery failed", e)
+          }
         }
       }
       val statusMessages = replicationWorkerHelper.getStreamStatusToSend(source.exitValue)
@@ -13,22 +13,32 @@ private val logger = KotlinLogging.logger {}
 class MessageProcessor(
   private val replicationWorkerState: ReplicationWorkerState,
   private val replicationWorkerHelper: ReplicationWorkerHelperK,
-  private val sourceQueue: ClosableChannelQueue<AirbyteMessage>,
-  private val destinationQueue: ClosableChannelQueue<AirbyteMessage>,
+  private val sourceQueue: ReplicationQueue<AirbyteMessage>,
+  private val destinationQueue: ReplicationQueue<AirbyteMessage>,
 ) {
   suspend fun run() {
     logger.info { "MessageProcessor started." }
     try {
+      val batch = ArrayList<AirbyteMessage>(ReplicationQueue.MAX_BATCH_SIZE)
+      val processedBatch = ArrayList<AirbyteMessage>(ReplicationQueue.MAX_BATCH_SIZE)
       while (!replicationWorkerState.shouldAbort && !sourceQueue.isClosedForReceiving() && !destinationQueue.isClosedForSending()) {
-        val message = sourceQueue.receive() ?: continue
-        val processedMessageOpt = replicationWorkerHelper.processMessageFromSource(message)
+        batch.clear()
+        if (sourceQueue.receiveBatch(batch, ReplicationQueue.MAX_BATCH_SIZE) == 0) {
+          continue
+        }
+
+        processedBatch.clear()
+        for (message in batch) {
+          val processedMessageOpt = replicationWorkerHelper.processMessageFromSource(message)
 
-        if (processedMessageOpt.isPresent) {
-          val processedMessage = processedMessageOpt.get()
-          if (processedMessage.type == Type.RECORD || processedMessage.type == Type.STATE) {
-            destinationQueue.send(processedMessage)
+          if (processedMessageOpt.isPresent) {
+            val processedMessage = processedMessageOpt.get()
+            if (processedMessage.type == Type.RECORD || processedMessage.type == Type.STATE) {
+              processedBatch.add(processedMessage)
+            }
           }
         }
+        destinationQueue.sendAll(processedBatch)
       }
     } finally {
       sourceQueue.close()
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.buffered.worker
+
+/**
+ * Queue handing messages from one stage of the replication to the next.
+ */
+interface ReplicationQueue<T> {
+  companion object {
+    // Largest number of messages the stages hand over at once.
+    const val MAX_BATCH_SIZE = 256
+  }
+
+  /**
+   * Next message, null if none is available yet or the queue is closed.
+   */
+  suspend fun receive(): T?
+
+  /**
+   * Moves the messages available, up to [maxMessages], to [batch], waiting for one the same way as
+   * [receive].
+   *
+   * @return the number of messages moved, 0 if none is available yet or the queue is closed.
+   */
+  suspend fun receiveBatch(
+    batch: MutableList<T>,
+    maxMessages: Int,
+  ): Int {
+    val message = receive() ?: return 0
+    batch.add(message)
+    return 1
+  }
+
+  suspend fun send(e: T)
+
+  suspend fun sendAll(messages: List<T>) {
+    messages.forEach { send(it) }
+  }
+
+  fun close()
+
+  fun isClosedForSending(): Boolean
+
+  fun isClosedForReceiving(): Boolean
+}
@@ -9,7 +9,6 @@ import com.fasterxml.jackson.databind.ObjectMapper
 import com.google.common.annotations.VisibleForTesting
 import io.airbyte.commons.io.LineGobbler
 import io.airbyte.config.FailureReason
-import io.airbyte.config.MapperConfig
 import io.airbyte.config.PerformanceMetrics
 import io.airbyte.config.ReplicationAttemptSummary
 import io.airbyte.config.ReplicationOutput
@@ -19,6 +18,7 @@ import io.airbyte.config.SyncStats
 import io.airbyte.config.WorkerDestinationConfig
 import io.airbyte.config.adapters.AirbyteJsonRecordAdapter
 import io.airbyte.config.adapters.AirbyteRecord
+import io.airbyte.mappers.application.MapperPipeline
 import io.airbyte.mappers.application.RecordMapper
 import io.airbyte.mappers.transformations.DestinationCatalogGenerator
 import io.airbyte.metrics.lib.ApmTraceUtils
@@ -36,6 +36,7 @@ import io.airbyte.workers.internal.AirbyteMapper
 import io.airbyte.workers.internal.AirbyteSource
 import io.airbyte.workers.internal.AnalyticsMessageTracker
 import io.airbyte.workers.internal.FieldSelector
+import io.airbyte.workers.internal.SizedAirbyteRecordMessage
 import io.airbyte.workers.internal.bookkeeping.AirbyteMessageOrigin
 import io.airbyte.workers.internal.bookkeeping.AirbyteMessageTracker
 import io.airbyte.workers.internal.bookkeeping.events.ReplicationAirbyteMessageEvent
@@ -67,7 +68,7 @@ class ReplicationWorkerHelperK(
   private val context: ReplicationContextProvider.Context,
   destinationCatalogGenerator: DestinationCatalogGenerator,
 ) {
-  private val streamMappers: Map<StreamDescriptor, List<MapperConfig>>
+  private val streamMappers: Map<StreamDescriptor, MapperPipeline>
   private val destinationConfig: WorkerDestinationConfig
   private val mappersConfigured: Boolean
 
@@ -77,7 +78,10 @@ class ReplicationWorkerHelperK(
     streamStatusCompletionTracker.startTracking(context.configuredCatalog, context.supportRefreshes)
 
     val catalogWithoutInvalidMappers = destinationCatalogGenerator.generateDestinationCatalog(context.configuredCatalog)
-    streamMappers = catalogWithoutInvalidMappers.catalog.streams.associate { stream -> stream.streamDescriptor to stream.mappers }
+    streamMappers =
+      catalogWithoutInvalidMappers.catalog.streams
+        .filter { stream -> stream.mappers.isNotEmpty() }
+        .associate { stream -> stream.streamDescriptor to recordMapper.compile(stream.mappers) }
     destinationConfig =
       WorkerUtils.syncToWorkerDestinationConfig(context.replicationInput).apply {
         catalog = mapper.mapCatalog(catalog)
@@ -225,6 +229,8 @@ class ReplicationWorkerHelperK(
     if (mappersConfigured) {
       val adapter = AirbyteJsonRecordAdapter(sourceRawMessage)
       applyTransformationMappers(adapter)
+      // Mappers change the data in place, the size it was read with no longer applies.
+      SizedAirbyteRecordMessage.invalidateDataSize(sourceRawMessage.record)
       return if (!adapter.shouldInclude()) {
         messageTracker.syncStatsTracker.updateFilteredOutRecordsStats(sourceRawMessage.record)
         null
@@ -264,9 +270,7 @@ class ReplicationWorkerHelperK(
       ?.let { Optional.of(it) } ?: Optional.empty()
 
   private fun applyTransformationMappers(message: AirbyteRecord) {
-    streamMappers[message.streamDescriptor]?.takeIf { it.isNotEmpty() }?.let { mappers ->
-      recordMapper.applyMappers(message, mappers)
-    }
+    streamMappers[message.streamDescriptor]?.apply(message)
   }
 
   private fun getTotalStats(
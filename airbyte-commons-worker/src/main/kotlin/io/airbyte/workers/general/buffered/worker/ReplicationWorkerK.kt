@@ -37,9 +37,18 @@ class ReplicationWorkerK(
   private val recordSchemaValidator: RecordSchemaValidator,
   private val context: ReplicationWorkerContext,
 ) {
-  private val messagesFromSourceQueue: ClosableChannelQueue<AirbyteMessage> = ClosableChannelQueue(context.bufferConfiguration.sourceMaxBufferSize)
-  private val messagesForDestinationQueue: ClosableChannelQueue<AirbyteMessage> =
-    ClosableChannelQueue(context.bufferConfiguration.destinationMaxBufferSize)
+  private val messagesFromSourceQueue: ReplicationQueue<AirbyteMessage> =
+    if (context.bufferConfiguration.useRingBufferQueues) {
+      BlockingReplicationQueue(context.bufferConfiguration.newSourceQueue())
+    } else {
+      ClosableChannelQueue(context.bufferConfiguration.sourceMaxBufferSize)
+    }
+  private val messagesForDestinationQueue: ReplicationQueue<AirbyteMessage> =
+    if (context.bufferConfiguration.useRingBufferQueues) {
+      BlockingReplicationQueue(context.bufferConfiguration.newDestinationQueue())
+    } else {
+      ClosableChannelQueue(context.bufferConfiguration.destinationMaxBufferSize)
+    }
   private val dedicatedDispatcher = Executors.newFixedThreadPool(4).asCoroutineDispatcher()
 
   /**
@@ -20,7 +20,7 @@ class SourceReader(
   private val replicationWorkerState: ReplicationWorkerState,
   private val streamStatusCompletionTracker: StreamStatusCompletionTracker,
   private val replicationWorkerHelper: ReplicationWorkerHelperK,
-  private val messagesFromSourceQueue: ClosableChannelQueue<AirbyteMessage>,
+  private val messagesFromSourceQueue: ReplicationQueue<AirbyteMessage>,
 ) {
   suspend fun run() {
     logger.info { "SourceReader started." }
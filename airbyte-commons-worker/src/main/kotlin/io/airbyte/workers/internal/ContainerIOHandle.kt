@@ -11,6 +11,7 @@ import java.io.InputStream
 import java.io.OutputStream
 import java.nio.channels.Channels
 import java.nio.channels.FileChannel
+import java.nio.channels.ReadableByteChannel
 import java.nio.file.FileSystems
 import java.nio.file.Files
 import java.nio.file.Path
@@ -27,6 +28,7 @@ data class ContainerIOHandle(
   private val errInputStream: InputStream,
   private val exitValueFile: File,
   private val terminationFile: File,
+  private val inputChannel: ReadableByteChannel = Channels.newChannel(inputStream),
 ) {
   companion object {
     const val EXIT_CODE_CHECK_EXISTS_FAILURE = "No exit code found."
@@ -71,20 +73,18 @@ data class ContainerIOHandle(
         Channels.newInputStream(
           FileChannel.open(Path.of(FileConstants.SOURCE_DIR, FileConstants.STDERR_PIPE_FILE), StandardOpenOption.READ),
         )
-      val stdOutPipe =
-        Channels.newInputStream(
-          FileChannel.open(Path.of(FileConstants.SOURCE_DIR, FileConstants.STDOUT_PIPE_FILE), StandardOpenOption.READ),
-        )
+      val stdOutChannel = FileChannel.open(Path.of(FileConstants.SOURCE_DIR, FileConstants.STDOUT_PIPE_FILE), StandardOpenOption.READ)
       val nullPipe = NullOutputStream
       val exitValueFile = Path.of(FileConstants.SOURCE_DIR, FileConstants.EXIT_CODE_FILE).toFile()
       val terminationFile = Path.of(FileConstants.SOURCE_DIR, FileConstants.TERMINATION_MARKER_FILE).toFile()
 
       return ContainerIOHandle(
-        inputStream = stdOutPipe,
+        inputStream = Channels.newInputStream(stdOutChannel),
         outputStream = nullPipe,
         errInputStream = stdErrPipe,
         exitValueFile = exitValueFile,
         terminationFile = terminationFile,
+        inputChannel = stdOutChannel,
       )
     }
   }
@@ -93,6 +93,12 @@ data class ContainerIOHandle(
 
   fun getInputStream(): InputStream = inputStream
 
+  /**
+   * Same data as [getInputStream], read straight from the underlying pipe when possible. Only one of
+   * them should be read from.
+   */
+  fun getInputChannel(): ReadableByteChannel = inputChannel
+
   fun getOutputStream(): OutputStream = outputStream
 
   fun exitCodeExists(): Boolean = exitValueFile.exists()
@@ -6,7 +6,6 @@ package io.airbyte.workers.internal
 
 import dev.failsafe.Failsafe
 import dev.failsafe.function.CheckedRunnable
-import io.airbyte.commons.io.IOs
 import io.airbyte.commons.io.LineGobbler
 import io.airbyte.commons.logging.LogSource
 import io.airbyte.commons.logging.MdcScope
@@ -67,7 +66,7 @@ class LocalContainerAirbyteSource(
       CheckedRunnable {
         messageIterator =
           streamFactory
-            .create(IOs.newBufferedReader(containerIOHandle.getInputStream()))
+            .create(containerIOHandle.getInputChannel())
             .peek { message: AirbyteMessage ->
               if (shouldBeat(message.type)) {
                 heartbeatMonitor.beat()
@@ -14,6 +14,7 @@ import io.airbyte.protocol.models.AirbyteEstimateTraceMessage
 import io.airbyte.protocol.models.AirbyteRecordMessage
 import io.airbyte.protocol.models.AirbyteStateMessage
 import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair
+import io.airbyte.workers.internal.SizedAirbyteRecordMessage
 import io.airbyte.workers.models.StateWithId
 import io.github.oshai.kotlinlogging.KotlinLogging
 import java.time.LocalDateTime
@@ -114,6 +115,7 @@ class StreamStatsTracker(
 
   fun updateFilteredOutRecordsStats(recordMessage: AirbyteRecordMessage) {
     val emittedStatsToUpdate = emittedStats
+    // Mappers may have changed the record since it was read, we can't rely on the size read from the source.
     val filteredOutByteSize = Jsons.getEstimatedByteSize(recordMessage.data).toLong()
     with(emittedStatsToUpdate) {
       filteredOutRecords.incrementAndGet()
@@ -134,15 +136,17 @@ class StreamStatsTracker(
    */
   fun trackRecord(recordMessage: AirbyteRecordMessage) {
     // TODO: we can probably wrap this in an extension method and encapsulate the keys somewhere as constants.
+    // Records read from the connector carry the size of their data, see SizedAirbyteRecordMessage.
+    val sizeHint = SizedAirbyteRecordMessage.knownDataSize(recordMessage)
     val estimatedBytesSize: Long =
       if (!useFileTransfer) {
-        Jsons.getEstimatedByteSize(recordMessage.data).toLong()
+        sizeHint ?: Jsons.getEstimatedByteSize(recordMessage.data).toLong()
       } else {
         recordMessage.additionalProperties["file"]?.let {
           logger.info { "Received a file transfer record: $it" }
           val fileTransferInformations = Jsons.deserialize(Jsons.serialize(it), FileTransferInformations::class.java)
           fileTransferInformations.bytes
-        } ?: Jsons.getEstimatedByteSize(recordMessage.data).toLong()
+        } ?: sizeHint ?: Jsons.getEstimatedByteSize(recordMessage.data).toLong()
       }
 
     // Update the current emitted stats
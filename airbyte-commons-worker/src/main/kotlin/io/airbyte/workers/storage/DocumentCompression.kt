@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.storage
+
+import com.google.common.hash.Hashing
+import java.io.BufferedInputStream
+import java.io.ByteArrayOutputStream
+import java.io.InputStream
+import java.nio.charset.StandardCharsets
+import java.util.zip.GZIPInputStream
+import java.util.zip.GZIPOutputStream
+
+/**
+ * Compresses the JSON documents written to object storage.
+ *
+ * Documents written before they were compressed, or while [io.airbyte.featureflag.CompressStorageDocuments] is off, are plain JSON,
+ * which never starts with the gzip magic number, so reads detect compressed documents and return the others as they are.
+ */
+object DocumentCompression {
+  private const val GZIP_MAGIC_FIRST_BYTE = 0x1f
+  private const val GZIP_MAGIC_SECOND_BYTE = 0x8b
+
+  fun compress(document: String): ByteArray {
+    val output = ByteArrayOutputStream()
+    GZIPOutputStream(output).use { it.write(document.toByteArray(StandardCharsets.UTF_8)) }
+    return output.toByteArray()
+  }
+
+  /**
+   * Reads a document, decompressing it if it is compressed. Closes the stream.
+   */
+  fun decompress(document: InputStream): String {
+    val input = BufferedInputStream(document)
+    input.mark(2)
+    val compressed = input.read() == GZIP_MAGIC_FIRST_BYTE && input.read() == GZIP_MAGIC_SECOND_BYTE
+    input.reset()
+    return (if (compressed) GZIPInputStream(input) else input).use { String(it.readAllBytes(), StandardCharsets.UTF_8) }
+  }
+
+  /**
+   * The SHA-256 digest of the uncompressed document, used to address documents by content.
+   */
+  fun digest(document: String): String = Hashing.sha256().hashString(document, StandardCharsets.UTF_8).toString()
+}
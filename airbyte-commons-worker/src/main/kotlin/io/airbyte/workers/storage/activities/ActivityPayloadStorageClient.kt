@@ -4,26 +4,49 @@
 
 package io.airbyte.workers.storage.activities
 
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
 import io.airbyte.commons.json.JsonSerde
 import io.airbyte.commons.storage.StorageClient
+import io.airbyte.featureflag.CompressStorageDocuments
+import io.airbyte.featureflag.Empty
+import io.airbyte.featureflag.FeatureFlagClient
 import io.airbyte.metrics.MetricAttribute
 import io.airbyte.metrics.MetricClient
 import io.airbyte.metrics.OssMetricsRegistry
 import io.airbyte.metrics.lib.ApmTraceUtils
 import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.workers.storage.DocumentCompression
 import io.github.oshai.kotlinlogging.KotlinLogging
+import java.nio.charset.StandardCharsets
+import java.time.Duration
 
 private val logger = KotlinLogging.logger {}
 
 /**
  * Writes and reads activity payloads to and from the configured object store.
- * Currently just handles JSON serialization, but can be updated as necessary.
+ * Payloads are written as compressed JSON when [CompressStorageDocuments] is on, both compressed and plain payloads are read.
  * */
 class ActivityPayloadStorageClient(
   private val storageClientRaw: StorageClient,
   private val jsonSerde: JsonSerde,
   private val metricClient: MetricClient,
+  private val featureFlagClient: FeatureFlagClient,
 ) {
+  companion object {
+    // How long a content-addressed payload written by this client isn't written again. Kept short, so the objects referenced by new
+    // payloads are never much older than they would be if they were rewritten, when the bucket expires objects by age.
+    private val RECENTLY_WRITTEN_TTL = Duration.ofHours(1)
+    private const val RECENTLY_WRITTEN_MAX_SIZE = 10_000L
+  }
+
+  private val recentlyWritten: Cache<String, Boolean> =
+    Caffeine
+      .newBuilder()
+      .maximumSize(RECENTLY_WRITTEN_MAX_SIZE)
+      .expireAfterWrite(RECENTLY_WRITTEN_TTL)
+      .build()
+
   /**
    * It reads the object from the location described by the given [uri] and unmarshals it from JSON.
    * Any Exceptions thrown by the raw object storage client or json deserializer will be forwarded to the caller.
@@ -45,7 +68,8 @@ class ActivityPayloadStorageClient(
     metricClient.count(metric = OssMetricsRegistry.ACTIVITY_PAYLOAD_READ_FROM_DOC_STORE)
 
     return storageClientRaw
-      .read(uri.id)
+      .readStream(uri.id)
+      ?.let { DocumentCompression.decompress(it) }
       ?.let { jsonSerde.deserialize(it, target) }
   }
 
@@ -61,9 +85,35 @@ class ActivityPayloadStorageClient(
   ) {
     metricClient.count(metric = OssMetricsRegistry.ACTIVITY_PAYLOAD_WRITTEN_TO_DOC_STORE)
 
-    return storageClientRaw.write(uri.id, jsonSerde.serialize(payload))
+    val json = jsonSerde.serialize(payload)
+    return if (compressDocuments()) {
+      storageClientRaw.write(uri.id, DocumentCompression.compress(json))
+    } else {
+      storageClientRaw.write(uri.id, json)
+    }
+  }
+
+  /**
+   * It marshals the given object to JSON and writes it to object storage at a location determined by the digest of the JSON, so
+   * identical payloads are stored once. A payload this client wrote recently isn't written again.
+   * Any Exceptions thrown by the raw object storage client or json serializer will be forwarded to the caller.
+   *
+   * @return the uri of the payload
+   */
+  fun <T : Any> writeContentAddressedJSON(payload: T): ActivityPayloadURI {
+    val json = jsonSerde.serialize(payload)
+    val uri = ActivityPayloadURI.v2(DocumentCompression.digest(json))
+    if (recentlyWritten.getIfPresent(uri.id) == null) {
+      metricClient.count(metric = OssMetricsRegistry.ACTIVITY_PAYLOAD_WRITTEN_TO_DOC_STORE)
+      // Always written as bytes, which overwrite an existing payload, as the same digest can be written concurrently.
+      storageClientRaw.write(uri.id, if (compressDocuments()) DocumentCompression.compress(json) else json.toByteArray(StandardCharsets.UTF_8))
+      recentlyWritten.put(uri.id, true)
+    }
+    return uri
   }
 
+  private fun compressDocuments(): Boolean = featureFlagClient.boolVariation(CompressStorageDocuments, Empty)
+
   /**
    * It reads the object from the location described by the given [uri] and unmarshals it from JSON to [target] class
    * and compares it to the [expected] recording a metric based on the result.
@@ -9,6 +9,9 @@ import io.airbyte.config.ActivityPayloadURI as OpenApi
 
 enum class ActivityPayloadURIVersion {
   V1,
+
+  // Addressed by the digest of the payload, see ActivityPayloadStorageClient.writeContentAddressedJSON.
+  V2,
 }
 
 class ActivityPayloadURI(
@@ -24,6 +27,9 @@ class ActivityPayloadURI(
       payloadName: String,
     ): ActivityPayloadURI = ActivityPayloadURI("${connectionId}_${jobId}_${attemptNumber}_$payloadName", ActivityPayloadURIVersion.V1.name)
 
+    @JvmStatic
+    fun v2(digest: String): ActivityPayloadURI = ActivityPayloadURI("sha256/$digest", ActivityPayloadURIVersion.V2.name)
+
     @JvmStatic
     fun fromOpenApi(dto: OpenApi?): ActivityPayloadURI? {
       if (dto == null || dto.version == null || dto.id == null) {
@@ -29,7 +29,10 @@ class OutputStorageClient<T : Any>
     private val comparator: Comparator<T> = NaiveEqualityComparator(),
   ) {
     /**
-     * Persists and object to storage id-ed by connection, job and attempt number.
+     * Persists and object to storage, addressed by its content so identical objects, e.g. unchanged catalogs, are stored once.
+     * The connection, job and attempt number are only used to report failures.
+     *
+     * @return the uri of the object, or null if it couldn't be written
      */
     fun persist(
       obj: T?,
@@ -40,16 +43,15 @@ class OutputStorageClient<T : Any>
     ): OpenApiURI? {
       if (obj == null) return null
 
-      val uri = ActivityPayloadURI.v1(connectionId, jobId, attemptNumber, payloadName)
-
       try {
-        storageClient.writeJSON(uri, obj)
+        return storageClient.writeContentAddressedJSON(obj).toOpenApi()
       } catch (e: Exception) {
         val attrs =
           listOf(*metricAttributes) +
             listOf(
-              MetricAttribute(MetricTags.URI_ID, uri.id),
-              MetricAttribute(MetricTags.URI_VERSION, uri.version),
+              MetricAttribute(MetricTags.CONNECTION_ID, connectionId.toString()),
+              MetricAttribute(MetricTags.JOB_ID, jobId.toString()),
+              MetricAttribute(MetricTags.ATTEMPT_NUMBER, attemptNumber.toString()),
               MetricAttribute(MetricTags.FAILURE_CAUSE, e.javaClass.simpleName),
               MetricAttribute(MetricTags.PAYLOAD_NAME, payloadName),
             )
@@ -62,9 +64,8 @@ class OutputStorageClient<T : Any>
         logger.error { "Stack Trace: ${e.stackTrace}" }
 
         metricClient.count(metric = OssMetricsRegistry.PAYLOAD_FAILURE_WRITE, attributes = attrs.toTypedArray())
+        return null
       }
-
-      return uri.toOpenApi()
     }
 
     /**
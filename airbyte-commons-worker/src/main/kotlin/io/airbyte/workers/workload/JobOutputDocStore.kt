@@ -8,25 +8,34 @@ import io.airbyte.commons.json.Jsons
 import io.airbyte.commons.storage.StorageClient
 import io.airbyte.config.ConnectorJobOutput
 import io.airbyte.config.ReplicationOutput
+import io.airbyte.featureflag.CompressStorageDocuments
+import io.airbyte.featureflag.Empty
+import io.airbyte.featureflag.FeatureFlagClient
 import io.airbyte.metrics.MetricAttribute
 import io.airbyte.metrics.MetricClient
 import io.airbyte.metrics.OssMetricsRegistry
 import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.workers.storage.DocumentCompression
 import io.airbyte.workers.workload.exception.DocStoreAccessException
 import jakarta.inject.Named
 import jakarta.inject.Singleton
 import java.util.Optional
 
+/**
+ * Stores the outputs of the workloads as JSON, compressed when [CompressStorageDocuments] is on. Both compressed and plain outputs
+ * are read.
+ */
 @Singleton
 class JobOutputDocStore(
   @Named("outputDocumentStore") val storageClient: StorageClient,
   val metricClient: MetricClient,
+  val featureFlagClient: FeatureFlagClient,
 ) {
   @Throws(DocStoreAccessException::class)
   fun read(workloadId: String): Optional<ConnectorJobOutput> {
     val output: String? =
       try {
-        storageClient.read(workloadId)
+        readOutput(workloadId)
       } catch (e: Exception) {
         throw DocStoreAccessException("Unable to read output for $workloadId", e)
       }
@@ -46,7 +55,7 @@ class JobOutputDocStore(
   fun readSyncOutput(workloadId: String): Optional<ReplicationOutput> {
     val output: String? =
       try {
-        storageClient.read(workloadId).also { _ ->
+        readOutput(workloadId).also { _ ->
           metricClient.count(metric = OssMetricsRegistry.JOB_OUTPUT_READ, attributes = arrayOf(MetricAttribute(MetricTags.STATUS, "success")))
         }
       } catch (e: Exception) {
@@ -69,11 +78,18 @@ class JobOutputDocStore(
     output: Any,
   ) {
     try {
-      storageClient.write(workloadId, Jsons.serialize(output))
+      val json = Jsons.serialize(output)
+      if (featureFlagClient.boolVariation(CompressStorageDocuments, Empty)) {
+        storageClient.write(workloadId, DocumentCompression.compress(json))
+      } else {
+        storageClient.write(workloadId, json)
+      }
       metricClient.count(metric = OssMetricsRegistry.JOB_OUTPUT_WRITE, attributes = arrayOf(MetricAttribute(MetricTags.STATUS, "success")))
     } catch (e: Exception) {
       metricClient.count(metric = OssMetricsRegistry.JOB_OUTPUT_WRITE, attributes = arrayOf(MetricAttribute(MetricTags.STATUS, "error")))
       throw DocStoreAccessException("Unable to write output for $workloadId", e)
     }
   }
+
+  private fun readOutput(workloadId: String): String? = storageClient.readStream(workloadId)?.let { DocumentCompression.decompress(it) }
 }
@@ -12,6 +12,7 @@ import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.Jsons;
+import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.workers.testutils.AirbyteMessageUtils;
 import io.airbyte.workers.testutils.TestConfigHelpers;
 import java.io.IOException;
@@ -22,8 +23,11 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import kotlin.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -118,4 +122,51 @@ class RecordSchemaValidatorTest {
     assertEquals(0, uncountedValidationErrors.size());
   }
 
+  @Test
+  void testValidateFirstRecordsThenSample() throws InterruptedException {
+    final ExecutorService executorService = Executors.newFixedThreadPool(1);
+    final var recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()),
+        executorService, new JsonSchemaValidator(), 3, 4);
+
+    // Records 0, 1, 2 are validated, then 1 in 4: 3, 7 and 11.
+    IntStream.range(0, 12).forEach(i -> recordSchemaValidator.validateSchema(
+        INVALID_RECORD_1.getRecord(),
+        AIRBYTE_STREAM_NAME_NAMESPACE_PAIR,
+        validationErrors));
+
+    executorService.shutdown();
+    executorService.awaitTermination(3, TimeUnit.SECONDS);
+    assertEquals(5, (int) validationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).getSecond());
+  }
+
+  @Test
+  void testDropValidationsOnceTheQueueIsFull() throws InterruptedException, IOException {
+    final ExecutorService executorService = RecordSchemaValidator.newValidationExecutor(1, 1);
+    final var recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()), executorService);
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    executorService.execute(() -> {
+      started.countDown();
+      try {
+        release.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    started.await(3, TimeUnit.SECONDS);
+
+    // The only thread is busy, the first validation fills the queue and the others are dropped.
+    IntStream.range(0, 3).forEach(i -> recordSchemaValidator.validateSchema(
+        INVALID_RECORD_1.getRecord(),
+        AIRBYTE_STREAM_NAME_NAMESPACE_PAIR,
+        validationErrors));
+    release.countDown();
+
+    executorService.shutdown();
+    executorService.awaitTermination(3, TimeUnit.SECONDS);
+    assertEquals(2, recordSchemaValidator.getDroppedValidations());
+    assertEquals(1, (int) validationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).getSecond());
+    recordSchemaValidator.close();
+  }
+
 }
@@ -7,9 +7,11 @@ package io.airbyte.workers;
 import static io.airbyte.workers.ReplicationInputHydrator.FILE_TRANSFER_DELIVERY_TYPE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,6 +42,8 @@ import io.airbyte.api.client.model.generated.JobConfigType;
 import io.airbyte.api.client.model.generated.JobOptionalRead;
 import io.airbyte.api.client.model.generated.JobRead;
 import io.airbyte.api.client.model.generated.JobStatus;
+import io.airbyte.api.client.model.generated.ReplicationBootstrapRead;
+import io.airbyte.api.client.model.generated.ReplicationBootstrapRequestBody;
 import io.airbyte.api.client.model.generated.ResetConfig;
 import io.airbyte.api.client.model.generated.ResolveActorDefinitionVersionResponse;
 import io.airbyte.api.client.model.generated.SaveStreamAttemptMetadataRequestBody;
@@ -75,6 +79,8 @@ import io.airbyte.workers.models.ReplicationActivityInput;
 import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.assertj.core.api.CollectionAssert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -344,6 +350,90 @@ class ReplicationInputHydratorTest {
     assertEquals(JsonNodeFactory.instance.nullNode(), typedState.get().getStateMessages().get(0).getStream().getStreamState());
   }
 
+  @Test
+  void testGenerateReplicationInputLooksUpTheStateConcurrently() throws Exception {
+    mockNonRefresh();
+    final CountDownLatch lookingUp = new CountDownLatch(2);
+    when(destinationApi.getDestination(any())).thenAnswer(invocation -> {
+      lookingUp.countDown();
+      // Only returns if the state is looked up at the same time.
+      assertTrue(lookingUp.await(10, TimeUnit.SECONDS));
+      return DESTINATION_READ;
+    });
+    when(stateApi.getState(new ConnectionIdRequestBody(CONNECTION_ID))).thenAnswer(invocation -> {
+      lookingUp.countDown();
+      assertTrue(lookingUp.await(10, TimeUnit.SECONDS));
+      return CONNECTION_STATE_RESPONSE;
+    });
+    final ReplicationInputHydrator replicationInputHydrator = getReplicationInputHydrator();
+
+    final var replicationInput = replicationInputHydrator.getHydratedReplicationInput(getDefaultReplicationActivityInputForTest());
+    assertEquals(EXPECTED_STATE, replicationInput.getState());
+  }
+
+  @Test
+  void testGenerateReplicationInputUsesTheBootstrap() throws Exception {
+    final ConnectionRead connection = new ConnectionRead(CONNECTION_ID, CONNECTION_NAME, SOURCE_ID, DESTINATION_ID, SYNC_CATALOG,
+        ConnectionStatus.ACTIVE, false, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null);
+    when(jobsApi.getReplicationBootstrap(new ReplicationBootstrapRequestBody(JOB_ID, ATTEMPT_NUMBER.intValue(), CONNECTION_ID, DESTINATION_ID,
+        "dockertag", false))).thenReturn(new ReplicationBootstrapRead(
+            Jsons.emptyObject(),
+            new ResolveActorDefinitionVersionResponse(UUID.randomUUID(), "dockerRepo", "dockerTag", true, false),
+            connection,
+            CONNECTION_STATE_RESPONSE,
+            null));
+    final ReplicationInputHydrator replicationInputHydrator = getReplicationInputHydrator();
+
+    final var replicationInput = replicationInputHydrator.getHydratedReplicationInput(getDefaultReplicationActivityInputForTest());
+    assertEquals(EXPECTED_STATE, replicationInput.getState());
+    assertEquals(TEST_STREAM_NAME, replicationInput.getCatalog().getStreams().get(0).getStream().getName());
+    assertTrue(replicationInput.getDestinationSupportsRefreshes());
+    verify(jobsApi, never()).getJobInput(any());
+    verify(destinationApi, never()).getDestination(any());
+    verify(stateApi, never()).getState(any());
+    verify(connectionApi, never()).getConnectionForJob(any());
+  }
+
+  @Test
+  void testGenerateReplicationInputFallsBackToSeparateLookupsWithoutTheBootstrap() throws Exception {
+    mockNonRefresh();
+    when(jobsApi.getReplicationBootstrap(any())).thenThrow(new IOException("not found"));
+    final ReplicationInputHydrator replicationInputHydrator = getReplicationInputHydrator();
+
+    final var replicationInput = replicationInputHydrator.getHydratedReplicationInput(getDefaultReplicationActivityInputForTest());
+    assertEquals(EXPECTED_STATE, replicationInput.getState());
+    assertEquals(TEST_STREAM_NAME, replicationInput.getCatalog().getStreams().get(0).getStream().getName());
+    verify(stateApi).getState(new ConnectionIdRequestBody(CONNECTION_ID));
+  }
+
+  @Test
+  void testGenerateReplicationInputCancelsTheOtherLookupsOnFailure() throws Exception {
+    mockNonRefresh();
+    final CountDownLatch lookingUpState = new CountDownLatch(1);
+    final CountDownLatch stateLookupInterrupted = new CountDownLatch(1);
+    when(stateApi.getState(new ConnectionIdRequestBody(CONNECTION_ID))).thenAnswer(invocation -> {
+      lookingUpState.countDown();
+      try {
+        Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+      } catch (final InterruptedException e) {
+        stateLookupInterrupted.countDown();
+        throw e;
+      }
+      return CONNECTION_STATE_RESPONSE;
+    });
+    final IOException failure = new IOException("destination lookup failed");
+    when(destinationApi.getDestination(any())).thenAnswer(invocation -> {
+      assertTrue(lookingUpState.await(10, TimeUnit.SECONDS));
+      throw failure;
+    });
+    final ReplicationInputHydrator replicationInputHydrator = getReplicationInputHydrator();
+
+    final IOException thrown =
+        assertThrows(IOException.class, () -> replicationInputHydrator.getHydratedReplicationInput(getDefaultReplicationActivityInputForTest()));
+    assertEquals(failure, thrown);
+    assertTrue(stateLookupInterrupted.await(10, TimeUnit.SECONDS));
+  }
+
   @Test
   void testGenerateReplicationFailsIfNonCompatibleFileTransfer() throws Exception {
     mockNonRefresh();
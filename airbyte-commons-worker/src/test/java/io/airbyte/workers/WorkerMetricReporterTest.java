@@ -81,6 +81,19 @@ class WorkerMetricReporterTest {
     );
   }
 
+  @Test
+  void trackDroppedSchemaValidations() {
+    final var reporter = new WorkerMetricReporter(metricClient, DOCKER_IMAGE);
+    reporter.trackDroppedSchemaValidations(3);
+
+    verify(metricClient).count(
+        eq(OssMetricsRegistry.NUM_DROPPED_SCHEMA_VALIDATIONS),
+        eq(3L),
+        any(MetricAttribute.class), // new MetricAttribute("docker_repo", "scratch"),
+        any(MetricAttribute.class) // new MetricAttribute("docker_version", "")
+    );
+  }
+
   @Test
   void trackStateMetricTrackerError() {
     final var reporter = new WorkerMetricReporter(metricClient, DOCKER_IMAGE);
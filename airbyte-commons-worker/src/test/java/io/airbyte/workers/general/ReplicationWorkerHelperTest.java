@@ -33,6 +33,7 @@ import io.airbyte.config.WorkerDestinationConfig;
 import io.airbyte.config.adapters.AirbyteJsonRecordAdapter;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.TestClient;
+import io.airbyte.mappers.application.MapperPipeline;
 import io.airbyte.mappers.application.RecordMapper;
 import io.airbyte.mappers.transformations.DestinationCatalogGenerator;
 import io.airbyte.metrics.MetricClient;
@@ -372,6 +373,8 @@ class ReplicationWorkerHelperTest {
 
     });
 
+    final MapperPipeline pipeline = mock(MapperPipeline.class);
+    when(recordMapper.compile(mappers)).thenReturn(pipeline);
     when(stream.getStreamDescriptor()).thenReturn(new StreamDescriptor().withName("stream"));
     when(stream.getMappers()).thenReturn(mappers);
     when(catalog.getStreams()).thenReturn(List.of(stream));
@@ -392,7 +395,7 @@ class ReplicationWorkerHelperTest {
 
     replicationWorkerHelper.applyTransformationMappers(recordAdapter);
 
-    verify(recordMapper).applyMappers(recordAdapter, mappers);
+    verify(pipeline).apply(recordAdapter);
   }
 
   private void mockSupportRefreshes(final boolean supportsRefreshes) throws IOException {
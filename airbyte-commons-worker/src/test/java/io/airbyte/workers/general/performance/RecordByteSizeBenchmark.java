@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.performance;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.workers.internal.SizedAirbyteRecordMessage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the ways of reading a record line and measuring the size of its data for stats tracking:
+ * serializing the data again, walking the data tree, and measuring the data while the line is
+ * parsed.
+ * <p>
+ * Run with {@code org.openjdk.jmh.Main.main(new String[] {"RecordByteSizeBenchmark", "-prof",
+ * "gc"})} to also compare allocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordByteSizeBenchmark {
+
+  @Param({"10", "200"})
+  public int columns;
+
+  private String line;
+
+  @Setup
+  public void setup() {
+    final ObjectNode data = (ObjectNode) Jsons.emptyObject();
+    for (int i = 0; i < columns; i++) {
+      data.put("string_column_" + i, "some \"quoted\" value for column " + i);
+      data.put("long_column_" + i, 1_000_000L * i);
+      data.put("double_column_" + i, i / 3.0);
+    }
+    final AirbyteRecordMessage record = new AirbyteRecordMessage()
+        .withStream("wide_stream")
+        .withNamespace("public")
+        .withEmittedAt(System.currentTimeMillis())
+        .withData(data);
+    line = Jsons.serialize(new AirbyteMessage().withType(AirbyteMessage.Type.RECORD).withRecord(record));
+  }
+
+  @Benchmark
+  public int serializedLength() {
+    final AirbyteMessage message = Jsons.tryDeserializeExact(line, AirbyteMessage.class).orElseThrow();
+    return Jsons.serialize(message.getRecord().getData()).length();
+  }
+
+  @Benchmark
+  public int treeWalk() {
+    final AirbyteMessage message = Jsons.tryDeserializeExact(line, AirbyteMessage.class).orElseThrow();
+    return Jsons.getEstimatedByteSize(message.getRecord().getData());
+  }
+
+  @Benchmark
+  public Long measuredDuringParse() {
+    final AirbyteMessage message = SizedAirbyteRecordMessage.deserialize(line).orElseThrow();
+    return SizedAirbyteRecordMessage.knownDataSize(message.getRecord());
+  }
+
+}
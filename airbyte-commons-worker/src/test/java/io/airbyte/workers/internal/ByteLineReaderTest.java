@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ByteLineReaderTest {
+
+  @Test
+  void testSplitsLinesAcrossReads() {
+    final ByteLineReader reader = new ByteLineReader(channel("a\n\nbcdefghij\nk\r\nlm"), ByteLineReader.UNLIMITED, length -> {}, 4);
+
+    assertEquals(List.of("a", "", "bcdefghij", "k", "lm"), reader.lines().map(ByteLineReader.Line::asString).toList());
+  }
+
+  @Test
+  void testKeepsMultiByteCharacters() {
+    final ByteLineReader reader = new ByteLineReader(channel("héllo\nwörld\n"), ByteLineReader.UNLIMITED, length -> {}, 3);
+
+    assertEquals(List.of("héllo", "wörld"), reader.lines().map(ByteLineReader.Line::asString).toList());
+  }
+
+  @Test
+  void testSkipsOversizedLines() {
+    final List<Long> skipped = new ArrayList<>();
+    final ByteLineReader reader = new ByteLineReader(channel("12345\n123456789\nabc\n123456"), 5, skipped::add, 4);
+
+    assertEquals(List.of("12345", "abc"), reader.lines().map(ByteLineReader.Line::asString).toList());
+    assertEquals(List.of(9L, 6L), skipped);
+  }
+
+  @Test
+  void testSkipsOversizedLinesReadInOneGo() {
+    final List<Long> skipped = new ArrayList<>();
+    final ByteLineReader reader = new ByteLineReader(channel("123456\nabc\n"), 5, skipped::add);
+
+    assertEquals(List.of("abc"), reader.lines().map(ByteLineReader.Line::asString).toList());
+    assertEquals(List.of(6L), skipped);
+  }
+
+  private static ReadableByteChannel channel(final String content) {
+    return Channels.newChannel(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+  }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PassthroughAirbyteRecordMessageTest {
+
+  private static final String RECORD_LINE =
+      "{\"type\":\"RECORD\",\"record\":{\"namespace\":\"public\",\"stream\":\"users\",\"emitted_at\":1700000000000,"
+          + "\"data\":{\"id\":1,\"name\":\"}{\\\"\",\"nested\":{\"values\":[1.50,null,true]}}}}";
+
+  @Test
+  void testParsesEnvelopeAndKeepsData() {
+    final AirbyteMessage message = PassthroughAirbyteRecordMessage.tryParse(RECORD_LINE).orElseThrow();
+    final AirbyteRecordMessage record = message.getRecord();
+
+    assertEquals(AirbyteMessage.Type.RECORD, message.getType());
+    assertInstanceOf(PassthroughAirbyteRecordMessage.class, record);
+    assertEquals("public", record.getNamespace());
+    assertEquals("users", record.getStream());
+    assertEquals(1700000000000L, record.getEmittedAt());
+    assertEquals(Jsons.tryDeserializeExact(RECORD_LINE, AirbyteMessage.class).orElseThrow().getRecord().getData(), record.getData());
+  }
+
+  @Test
+  void testParsesALineInTheMiddleOfABuffer() {
+    final String line = RECORD_LINE.replace("\"name\":\"}{\\\"\"", "\"name\":\"é\"");
+    final byte[] buffer = ("previous line\n" + line + "\nnext line").getBytes(StandardCharsets.UTF_8);
+    final int offset = "previous line\n".length();
+
+    final AirbyteMessage message =
+        PassthroughAirbyteRecordMessage.tryParse(buffer, offset, line.getBytes(StandardCharsets.UTF_8).length).orElseThrow();
+
+    final PassthroughAirbyteRecordMessage record = (PassthroughAirbyteRecordMessage) message.getRecord();
+    final String data = "{\"id\":1,\"name\":\"é\",\"nested\":{\"values\":[1.50,null,true]}}";
+    assertEquals(data.getBytes(StandardCharsets.UTF_8).length, record.dataLength());
+    assertEquals(Jsons.deserialize(data), record.getData());
+  }
+
+  @Test
+  void testComparesTheOriginalData() {
+    final AirbyteRecordMessage record = PassthroughAirbyteRecordMessage.tryParse(RECORD_LINE).orElseThrow().getRecord();
+    final AirbyteRecordMessage sameRecord = PassthroughAirbyteRecordMessage.tryParse(RECORD_LINE).orElseThrow().getRecord();
+    final AirbyteRecordMessage otherRecord =
+        PassthroughAirbyteRecordMessage.tryParse(RECORD_LINE.replace("\"id\":1", "\"id\":2")).orElseThrow().getRecord();
+
+    assertEquals(record, sameRecord);
+    assertEquals(record.hashCode(), sameRecord.hashCode());
+    assertNotEquals(record, otherRecord);
+    assertTrue(record.toString().contains("{\"values\":[1.50,null,true]}"));
+    assertEquals(Jsons.tryDeserializeExact(RECORD_LINE, AirbyteMessage.class).orElseThrow().getRecord(), record);
+  }
+
+  @Test
+  void testWritesOriginalData() throws IOException {
+    final AirbyteMessage message = PassthroughAirbyteRecordMessage.tryParse(RECORD_LINE).orElseThrow();
+    // reading the data must not prevent the original bytes from being forwarded
+    message.getRecord().getData();
+    message.getRecord().setNamespace("renamed");
+
+    final String written = write(message);
+
+    assertTrue(written.contains("{\"values\":[1.50,null,true]}"));
+    final AirbyteMessage expected = Jsons.deserialize(RECORD_LINE, AirbyteMessage.class);
+    expected.getRecord().setNamespace("renamed");
+    assertEquals(expected, Jsons.deserialize(written, AirbyteMessage.class));
+  }
+
+  @Test
+  void testReplacedDataIsSerialized() throws IOException {
+    final AirbyteMessage message = PassthroughAirbyteRecordMessage.tryParse(RECORD_LINE).orElseThrow();
+    message.getRecord().setData(Jsons.jsonNode(Map.of("id", 2)));
+
+    assertFalse(((PassthroughAirbyteRecordMessage) message.getRecord()).hasOriginalData());
+    assertEquals(Jsons.jsonNode(Map.of("id", 2)), Jsons.deserialize(write(message), AirbyteMessage.class).getRecord().getData());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "{\"type\":\"STATE\",\"state\":{\"data\":{}}}",
+    "{\"type\":\"RECORD\",\"record\":{\"stream\":\"users\",\"data\":[]}}",
+    "{\"type\":\"RECORD\",\"record\":{\"stream\":\"users\",\"data\":{},\"file\":{\"bytes\":1}}}",
+    "{\"type\":\"RECORD\",\"record\":{\"data\":{}}}",
+    "{\"type\":\"Record\",\"record\":{\"stream\":\"users\",\"data\":{}}}",
+    "{\"type\":\"RECORD\",\"record\":{\"stream\":\"users\",\"data\":{\"a\":}}}",
+    "not json"
+  })
+  void testFallsBackToFullDeserialization(final String line) {
+    assertTrue(PassthroughAirbyteRecordMessage.tryParse(line).isEmpty());
+  }
+
+  private static String write(final AirbyteMessage message) throws IOException {
+    final StringWriter output = new StringWriter();
+    final DefaultAirbyteMessageBufferedWriter writer = new DefaultAirbyteMessageBufferedWriter(new BufferedWriter(output));
+    writer.write(message);
+    writer.flush();
+    return output.toString().trim();
+  }
+
+}
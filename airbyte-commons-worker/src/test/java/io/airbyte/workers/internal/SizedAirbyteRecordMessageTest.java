@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SizedAirbyteRecordMessageTest {
+
+  private static final String DATA = "{ \"id\": 1, \"name\": \"é\" }";
+  private static final String RECORD_LINE =
+      "{\"type\":\"RECORD\", \"record\": {\"stream\":\"users\", \"meta\": {\"changes\": []}, \"data\": " + DATA + ", \"emitted_at\":1}}";
+
+  @Test
+  void testMeasuresTheDataInUtf8BytesWhileParsing() {
+    final byte[] bytes = RECORD_LINE.getBytes(StandardCharsets.UTF_8);
+    final Long expected = Long.valueOf(DATA.getBytes(StandardCharsets.UTF_8).length);
+
+    final AirbyteMessage fromString = SizedAirbyteRecordMessage.deserialize(RECORD_LINE).orElseThrow();
+    final AirbyteMessage fromBytes = SizedAirbyteRecordMessage.deserialize(bytes, 0, bytes.length).orElseThrow();
+
+    assertInstanceOf(SizedAirbyteRecordMessage.class, fromString.getRecord());
+    assertEquals(expected, SizedAirbyteRecordMessage.knownDataSize(fromString.getRecord()));
+    assertEquals(expected, SizedAirbyteRecordMessage.knownDataSize(fromBytes.getRecord()));
+    assertEquals(Jsons.deserialize(DATA), fromBytes.getRecord().getData());
+  }
+
+  @Test
+  void testDoesNotMeasureLinesWithoutRecordData() {
+    assertNull(SizedAirbyteRecordMessage.deserialize("{\"type\":\"STATE\",\"state\":{\"data\":{}}}").orElseThrow().getRecord());
+    assertNull(SizedAirbyteRecordMessage.knownDataSize(
+        SizedAirbyteRecordMessage.deserialize("{\"type\":\"RECORD\",\"record\":{\"stream\":\"users\"}}").orElseThrow().getRecord()));
+    assertTrue(SizedAirbyteRecordMessage.deserialize("not json").isEmpty());
+  }
+
+  @Test
+  void testSizeIsForgottenWhenTheDataChanges() {
+    final AirbyteRecordMessage replaced = SizedAirbyteRecordMessage.deserialize(RECORD_LINE).orElseThrow().getRecord();
+    replaced.setData(Jsons.jsonNode(Map.of("id", 2)));
+    assertNull(SizedAirbyteRecordMessage.knownDataSize(replaced));
+
+    final AirbyteRecordMessage modifiedInPlace = SizedAirbyteRecordMessage.deserialize(RECORD_LINE).orElseThrow().getRecord();
+    SizedAirbyteRecordMessage.invalidateDataSize(modifiedInPlace);
+    assertNull(SizedAirbyteRecordMessage.knownDataSize(modifiedInPlace));
+  }
+
+  @Test
+  void testSerializesLikeThePlainRecord() {
+    final AirbyteMessage plain = Jsons.deserialize(RECORD_LINE, AirbyteMessage.class);
+
+    final AirbyteMessage sized = SizedAirbyteRecordMessage.deserialize(RECORD_LINE).orElseThrow();
+
+    assertEquals(Jsons.serialize(plain), Jsons.serialize(sized));
+    assertEquals(plain, sized);
+  }
+
+}
@@ -8,6 +8,8 @@ import static io.airbyte.workers.internal.VersionedAirbyteStreamFactory.CONNECTI
 import static io.airbyte.workers.internal.VersionedAirbyteStreamFactory.MALFORMED_AIRBYTE_RECORD_LOG_MESSAGE;
 import static io.airbyte.workers.internal.VersionedAirbyteStreamFactory.MALFORMED_NON_AIRBYTE_RECORD_LOG_MESSAGE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
@@ -28,7 +30,9 @@ import io.airbyte.commons.version.Version;
 import io.airbyte.metrics.MetricClient;
 import io.airbyte.protocol.models.AirbyteLogMessage;
 import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
 import io.airbyte.workers.helper.GsonPksExtractor;
+import io.airbyte.workers.internal.exception.SourceException;
 import io.airbyte.workers.testutils.AirbyteMessageUtils;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
@@ -37,11 +41,14 @@ import java.io.InputStreamReader;
 import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
@@ -86,6 +93,78 @@ class VersionedAirbyteStreamFactoryTest {
       assertEquals(expectedStream.collect(Collectors.toList()), messageStream.collect(Collectors.toList()));
     }
 
+    @Test
+    void testRecordSizeIsMeasuredFromTheLine() {
+      final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+
+      final List<AirbyteMessage> messages = stringToMessageStream(Jsons.serialize(record)).toList();
+
+      assertEquals(Long.valueOf(Jsons.getEstimatedByteSize(record.getRecord().getData())),
+          SizedAirbyteRecordMessage.knownDataSize(messages.get(0).getRecord()));
+    }
+
+    @Test
+    void testRecordSizeIsTheUtf8LengthOfTheDataOnTheLine() {
+      final String data = "{\"" + FIELD_NAME + "\": \"grün\"}";
+      final String line = "{\"type\": \"RECORD\", \"record\": {\"stream\": \"" + STREAM_NAME + "\", \"data\": " + data
+          + ", \"emitted_at\": 1, \"meta\": {\"changes\": []}}}";
+
+      final List<AirbyteMessage> messages = stringToMessageStream(line).toList();
+
+      assertEquals(Long.valueOf(data.getBytes(StandardCharsets.UTF_8).length), SizedAirbyteRecordMessage.knownDataSize(messages.get(0).getRecord()));
+    }
+
+    @Test
+    void testReadsFromChannel() {
+      final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+      final AirbyteMessage longRecord = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green".repeat(100));
+      final String input = String.join("\n", Jsons.serialize(record), "not a message", Jsons.serialize(longRecord), Jsons.serialize(record));
+      final ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+
+      final List<AirbyteMessage> messages = getFactory().withMaxLineBytes(1000).create(channel).toList();
+
+      assertEquals(List.of(record, longRecord, record), messages);
+      assertEquals(Long.valueOf(Jsons.getEstimatedByteSize(record.getRecord().getData())),
+          SizedAirbyteRecordMessage.knownDataSize(messages.get(0).getRecord()));
+    }
+
+    @Test
+    void testReadsPassthroughRecordsFromChannel() {
+      final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "grün");
+      final AirbyteMessage otherRecord = AirbyteMessageUtils.createRecordMessage("other_stream", FIELD_NAME, "green");
+      final String input = String.join("\n", Jsons.serialize(record), Jsons.serialize(otherRecord), Jsons.serialize(record));
+      final ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+
+      final List<AirbyteMessage> messages = getFactory()
+          .withRecordPassthrough(Set.of(new AirbyteStreamNameNamespacePair(STREAM_NAME, null)))
+          .withMaxLineBytes(1000)
+          .create(channel)
+          .toList();
+
+      assertInstanceOf(PassthroughAirbyteRecordMessage.class, messages.get(0).getRecord());
+      assertInstanceOf(SizedAirbyteRecordMessage.class, messages.get(1).getRecord());
+      assertEquals(Long.valueOf(Jsons.serialize(record.getRecord().getData()).getBytes(StandardCharsets.UTF_8).length),
+          SizedAirbyteRecordMessage.knownDataSize(messages.get(0).getRecord()));
+      // The lines are read from a reused buffer, the passthrough records must not point into it.
+      assertEquals(messages.get(0), messages.get(2));
+      assertEquals(record.getRecord().getData(), messages.get(0).getRecord().getData());
+      assertEquals(otherRecord, messages.get(1));
+    }
+
+    @Test
+    void testFailsOnLinesLongerThanTheMaximum() {
+      final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+      final AirbyteMessage longRecord = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "é".repeat(100));
+      final String input = String.join("\n", Jsons.serialize(record), Jsons.serialize(longRecord));
+      final int maxLineBytes = Jsons.serialize(longRecord).length() + 50;
+
+      // The line is shorter than the maximum in chars, but not in bytes.
+      final ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+      assertThrows(SourceException.class, () -> getFactory().withMaxLineBytes(maxLineBytes).create(channel).toList());
+      final BufferedReader reader = new BufferedReader(new StringReader(input));
+      assertThrows(SourceException.class, () -> getFactory().withMaxLineBytes(maxLineBytes).create(reader).toList());
+    }
+
     @Test
     void testValidBigInteger() {
       final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME,
@@ -41,6 +41,12 @@ class DestinationWriterTest {
 
     // By default, queue is not closed for receiving.
     every { mockDestinationQueue.isClosedForReceiving() } returns false
+    // Batches are handed over one message at a time
+    coEvery { mockDestinationQueue.receiveBatch(any(), any()) } coAnswers {
+      val message = mockDestinationQueue.receive()
+      message?.let { firstArg<MutableList<AirbyteMessage>>().add(it) }
+      if (message == null) 0 else 1
+    }
 
     // By default, the source exit value is 0 (typical success code).
     every { mockSource.exitValue } returns 0
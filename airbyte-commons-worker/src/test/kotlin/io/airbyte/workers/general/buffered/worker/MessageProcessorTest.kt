@@ -36,6 +36,15 @@ class MessageProcessorTest {
     // By default, queues are open
     every { mockSourceQueue.isClosedForReceiving() } returns false
     every { mockDestinationQueue.isClosedForSending() } returns false
+    // Batches are handed over one message at a time
+    coEvery { mockSourceQueue.receiveBatch(any(), any()) } coAnswers {
+      val message = mockSourceQueue.receive()
+      message?.let { firstArg<MutableList<AirbyteMessage>>().add(it) }
+      if (message == null) 0 else 1
+    }
+    coEvery { mockDestinationQueue.sendAll(any()) } coAnswers {
+      firstArg<List<AirbyteMessage>>().forEach { mockDestinationQueue.send(it) }
+    }
   }
 
   @AfterEach
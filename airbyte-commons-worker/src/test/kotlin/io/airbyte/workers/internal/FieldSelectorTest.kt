@@ -13,12 +13,16 @@ import io.airbyte.config.SyncMode
 import io.airbyte.protocol.models.AirbyteMessage
 import io.airbyte.protocol.models.AirbyteRecordMessage
 import io.airbyte.workers.RecordSchemaValidator
+import io.airbyte.workers.WorkerMetricReporter
 import io.airbyte.workers.WorkerUtils
+import io.mockk.every
 import io.mockk.mockk
+import io.mockk.verify
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.ValueSource
+import java.util.UUID
 
 internal class FieldSelectorTest {
   companion object {
@@ -196,6 +200,17 @@ internal class FieldSelectorTest {
     assertEquals(expectedMessage, message)
   }
 
+  @Test
+  fun `reports the validations dropped because validation fell behind`() {
+    val schemaValidator: RecordSchemaValidator = mockk(relaxed = true)
+    val metricReporter: WorkerMetricReporter = mockk(relaxed = true)
+    every { schemaValidator.droppedValidations } returns 3
+
+    FieldSelector(schemaValidator, metricReporter, true, false).reportMetrics(UUID.randomUUID())
+
+    verify(exactly = 1) { metricReporter.trackDroppedSchemaValidations(3) }
+  }
+
   private fun createFieldSelector(
     configuredCatalog: ConfiguredAirbyteCatalog,
     fieldSelectionEnabled: Boolean,
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Assertions.assertThrows
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertDoesNotThrow
+import java.io.BufferedReader
 import java.io.File
 import java.io.IOException
 import java.io.InputStream
@@ -82,7 +83,7 @@ internal class LocalContainerAirbyteDestinationTest {
       }
     streamFactory =
       mockk<AirbyteStreamFactory> {
-        every { create(any()) } returns stream
+        every { create(any<BufferedReader>()) } returns stream
       }
     workerDestinationConfig =
       mockk<WorkerDestinationConfig> {
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertDoesNotThrow
 import java.io.File
+import java.nio.channels.ReadableByteChannel
 import java.nio.file.Path
 import java.util.UUID
 import java.util.stream.Stream
@@ -67,7 +68,7 @@ internal class LocalContainerAirbyteSourceTest {
       }
     streamFactory =
       mockk<AirbyteStreamFactory> {
-        every { create(any()) } returns stream
+        every { create(any<ReadableByteChannel>()) } returns stream
       }
     workerSourceConfig = mockk<WorkerSourceConfig>()
   }
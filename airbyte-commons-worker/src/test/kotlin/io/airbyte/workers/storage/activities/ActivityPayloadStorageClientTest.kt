@@ -7,9 +7,12 @@ package io.airbyte.workers.storage.activities
 import io.airbyte.commons.json.JsonSerde
 import io.airbyte.commons.storage.StorageClient
 import io.airbyte.config.StandardSyncOutput
+import io.airbyte.featureflag.CompressStorageDocuments
+import io.airbyte.featureflag.FeatureFlagClient
 import io.airbyte.metrics.MetricClient
 import io.airbyte.metrics.OssMetricsRegistry
 import io.airbyte.workers.models.RefreshSchemaActivityOutput
+import io.airbyte.workers.storage.DocumentCompression
 import io.micrometer.core.instrument.Counter
 import io.mockk.every
 import io.mockk.impl.annotations.MockK
@@ -32,19 +35,25 @@ class ActivityPayloadStorageClientTest {
   @MockK
   private lateinit var serde: JsonSerde
 
+  @MockK
+  private lateinit var featureFlagClient: FeatureFlagClient
+
   private lateinit var client: ActivityPayloadStorageClient
 
   private var comparator = NaiveEqualityComparator<StandardSyncOutput>()
 
   @BeforeEach
   fun setup() {
-    client = ActivityPayloadStorageClient(storageClientRaw, serde, metricClient)
+    client = ActivityPayloadStorageClient(storageClientRaw, serde, metricClient, featureFlagClient)
+
+    every { featureFlagClient.boolVariation(CompressStorageDocuments, any()) } returns true
 
     every { metricClient.count(metric = any(), value = any(), attributes = anyVararg()) } returns mockk<Counter>()
 
-    every { storageClientRaw.write(any(), any()) } returns Unit
+    every { storageClientRaw.write(any(), any<String>()) } returns Unit
+    every { storageClientRaw.write(any(), any<ByteArray>()) } returns Unit
 
-    every { storageClientRaw.read(any()) } returns ""
+    every { storageClientRaw.readStream(any()) } answers { "".byteInputStream() }
   }
 
   @Test
@@ -53,8 +62,8 @@ class ActivityPayloadStorageClientTest {
     val refreshOutput = RefreshSchemaActivityOutput()
 
     every {
-      storageClientRaw.read("sync-output")
-    } returns "serialized-sync-output"
+      storageClientRaw.readStream("sync-output")
+    } returns "serialized-sync-output".byteInputStream()
 
     every {
       serde.deserialize("serialized-sync-output", StandardSyncOutput::class.java)
@@ -65,8 +74,8 @@ class ActivityPayloadStorageClientTest {
     Assertions.assertEquals(syncOutput, result1)
 
     every {
-      storageClientRaw.read("refresh-output")
-    } returns "serialized-refresh-output"
+      storageClientRaw.readStream("refresh-output")
+    } returns DocumentCompression.compress("serialized-refresh-output").inputStream()
 
     every {
       serde.deserialize("serialized-refresh-output", RefreshSchemaActivityOutput::class.java)
@@ -80,7 +89,7 @@ class ActivityPayloadStorageClientTest {
   @Test
   fun `readJSON handles null`() {
     every {
-      storageClientRaw.read("sync-output")
+      storageClientRaw.readStream("sync-output")
     } returns null
 
     val result = client.readJSON<StandardSyncOutput>(ActivityPayloadURI("sync-output"))
@@ -98,7 +107,45 @@ class ActivityPayloadStorageClientTest {
 
     client.writeJSON(ActivityPayloadURI("sync-output"), syncOutput)
 
-    verify { storageClientRaw.write("sync-output", "serialized-sync-output") }
+    verify {
+      storageClientRaw.write("sync-output", match<ByteArray> { DocumentCompression.decompress(it.inputStream()) == "serialized-sync-output" })
+    }
+  }
+
+  @Test
+  fun `writeJSON writes plain json when compression is disabled`() {
+    val syncOutput = StandardSyncOutput().withAdditionalProperty("some", "unique-value-1")
+
+    every { featureFlagClient.boolVariation(CompressStorageDocuments, any()) } returns false
+    every { serde.serialize(syncOutput) } returns "serialized-sync-output"
+
+    client.writeJSON(ActivityPayloadURI("sync-output"), syncOutput)
+    val uri = client.writeContentAddressedJSON(syncOutput)
+
+    verify {
+      storageClientRaw.write("sync-output", "serialized-sync-output")
+      storageClientRaw.write(uri.id, match<ByteArray> { String(it) == "serialized-sync-output" })
+    }
+  }
+
+  @Test
+  fun `writeContentAddressedJSON writes identical payloads once at the digest of their json`() {
+    val syncOutput = StandardSyncOutput().withAdditionalProperty("some", "unique-value-1")
+    val otherSyncOutput = StandardSyncOutput().withAdditionalProperty("some", "unique-value-2")
+
+    every { serde.serialize(syncOutput) } returns "serialized-sync-output"
+    every { serde.serialize(otherSyncOutput) } returns "other-serialized-sync-output"
+
+    val uri1 = client.writeContentAddressedJSON(syncOutput)
+    val uri2 = client.writeContentAddressedJSON(syncOutput)
+    val uri3 = client.writeContentAddressedJSON(otherSyncOutput)
+
+    Assertions.assertEquals(ActivityPayloadURI.v2(DocumentCompression.digest("serialized-sync-output")).id, uri1.id)
+    Assertions.assertEquals(ActivityPayloadURIVersion.V2.name, uri1.version)
+    Assertions.assertEquals(uri1.id, uri2.id)
+    Assertions.assertNotEquals(uri1.id, uri3.id)
+    verify(exactly = 1) { storageClientRaw.write(uri1.id, any<ByteArray>()) }
+    verify(exactly = 1) { storageClientRaw.write(uri3.id, any<ByteArray>()) }
   }
 
   @Test
@@ -135,7 +182,7 @@ class ActivityPayloadStorageClientTest {
     val uri = ActivityPayloadURI("id", "version")
     val syncOutput = StandardSyncOutput().withAdditionalProperty("some", "unique-value-1")
 
-    every { storageClientRaw.read(uri.id) } returns null
+    every { storageClientRaw.readStream(uri.id) } returns null
 
     client.validateOutput(uri, StandardSyncOutput::class.java, syncOutput, comparator, listOf())
 
@@ -161,7 +208,7 @@ class ActivityPayloadStorageClientTest {
     val uri = ActivityPayloadURI("id", "version")
     val syncOutput = StandardSyncOutput().withAdditionalProperty("some", "unique-value-1")
 
-    every { storageClientRaw.read(uri.id) } throws RuntimeException("yikes")
+    every { storageClientRaw.readStream(uri.id) } throws RuntimeException("yikes")
 
     client.validateOutput(uri, StandardSyncOutput::class.java, syncOutput, comparator, listOf())
 
@@ -15,6 +15,8 @@ import io.mockk.impl.annotations.MockK
 import io.mockk.junit5.MockKExtension
 import io.mockk.mockk
 import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNull
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertDoesNotThrow
@@ -46,25 +48,31 @@ class OutputStorageClientTest {
   @Test
   fun `persist writes json to storage`() {
     val obj = TestClass("test", 123)
-    client.persist(obj, CONNECTION_ID, JOB_ID, ATTEMPT_NUMBER, arrayOf())
+    val uri = ActivityPayloadURI.v2("digest")
+    every { storageClient.writeContentAddressedJSON(obj) } returns uri
 
-    verify(exactly = 1) { storageClient.writeJSON(any(), obj) }
+    val result = client.persist(obj, CONNECTION_ID, JOB_ID, ATTEMPT_NUMBER, arrayOf())
+
+    verify(exactly = 1) { storageClient.writeContentAddressedJSON(obj) }
+    assertEquals(uri.id, result?.id)
+    assertEquals(uri.version, result?.version)
   }
 
   @Test
   fun `persist short circuits if input null`() {
     client.persist(null, CONNECTION_ID, JOB_ID, ATTEMPT_NUMBER, arrayOf())
 
-    verify(exactly = 0) { storageClient.writeJSON(any(), any()) }
+    verify(exactly = 0) { storageClient.writeContentAddressedJSON<Any>(any()) }
   }
 
   @Test
   fun `persist swallows exceptions`() {
     val obj = TestClass("test", 123)
 
-    every { storageClient.writeJSON(any(), any()) } throws Exception("bang")
+    every { storageClient.writeContentAddressedJSON(obj) } throws Exception("bang")
 
-    assertDoesNotThrow { client.persist(obj, CONNECTION_ID, JOB_ID, ATTEMPT_NUMBER, arrayOf()) }
+    val result = assertDoesNotThrow { client.persist(obj, CONNECTION_ID, JOB_ID, ATTEMPT_NUMBER, arrayOf()) }
+    assertNull(result)
   }
 
   object Fixtures {
@@ -9,10 +9,13 @@ import io.airbyte.commons.storage.StorageClient
 import io.airbyte.config.ConnectorJobOutput
 import io.airbyte.config.ReplicationOutput
 import io.airbyte.config.State
+import io.airbyte.featureflag.CompressStorageDocuments
+import io.airbyte.featureflag.FeatureFlagClient
 import io.airbyte.metrics.MetricAttribute
 import io.airbyte.metrics.MetricClient
 import io.airbyte.metrics.OssMetricsRegistry
 import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.workers.storage.DocumentCompression
 import io.airbyte.workers.workload.exception.DocStoreAccessException
 import io.micrometer.core.instrument.Counter
 import io.mockk.every
@@ -36,6 +39,9 @@ internal class JobOutputDocStoreTest {
   @MockK
   private lateinit var metricClient: MetricClient
 
+  @MockK
+  private lateinit var featureFlagClient: FeatureFlagClient
+
   private lateinit var jobOutputDocStore: JobOutputDocStore
 
   private val connectorJobOutput =
@@ -52,12 +58,28 @@ internal class JobOutputDocStoreTest {
 
   @BeforeEach
   fun init() {
-    jobOutputDocStore = JobOutputDocStore(storageClient, metricClient)
+    jobOutputDocStore = JobOutputDocStore(storageClient, metricClient, featureFlagClient)
+
+    every { featureFlagClient.boolVariation(CompressStorageDocuments, any()) } returns true
   }
 
   @Test
   fun `properly create an output`() {
-    every { storageClient.write(workloadId, connectorJobOutputSerialized) } returns Unit
+    every { storageClient.write(workloadId, any<ByteArray>()) } returns Unit
+    every { metricClient.count(OssMetricsRegistry.JOB_OUTPUT_WRITE, 1, MetricAttribute(MetricTags.STATUS, "success")) } returns mockk<Counter>()
+
+    jobOutputDocStore.write(workloadId, connectorJobOutput)
+
+    verifyOrder {
+      storageClient.write(workloadId, match<ByteArray> { DocumentCompression.decompress(it.inputStream()) == connectorJobOutputSerialized })
+      metricClient.count(OssMetricsRegistry.JOB_OUTPUT_WRITE, 1, MetricAttribute(MetricTags.STATUS, "success"))
+    }
+  }
+
+  @Test
+  fun `create an uncompressed output when compression is disabled`() {
+    every { featureFlagClient.boolVariation(CompressStorageDocuments, any()) } returns false
+    every { storageClient.write(workloadId, any<String>()) } returns Unit
     every { metricClient.count(OssMetricsRegistry.JOB_OUTPUT_WRITE, 1, MetricAttribute(MetricTags.STATUS, "success")) } returns mockk<Counter>()
 
     jobOutputDocStore.write(workloadId, connectorJobOutput)
@@ -70,19 +92,29 @@ internal class JobOutputDocStoreTest {
 
   @Test
   fun `properly wrap writing error`() {
-    every { storageClient.write(workloadId, connectorJobOutputSerialized) } throws RuntimeException()
+    every { storageClient.write(workloadId, any<ByteArray>()) } throws RuntimeException()
     every { metricClient.count(OssMetricsRegistry.JOB_OUTPUT_WRITE, 1, MetricAttribute(MetricTags.STATUS, "error")) } returns mockk<Counter>()
 
     assertThrows<DocStoreAccessException> { jobOutputDocStore.write(workloadId, connectorJobOutput) }
     verifyOrder {
-      storageClient.write(workloadId, connectorJobOutputSerialized)
+      storageClient.write(workloadId, match<ByteArray> { DocumentCompression.decompress(it.inputStream()) == connectorJobOutputSerialized })
       metricClient.count(OssMetricsRegistry.JOB_OUTPUT_WRITE, 1, MetricAttribute(MetricTags.STATUS, "error"))
     }
   }
 
   @Test
   fun `properly read an output`() {
-    every { storageClient.read(workloadId) } returns connectorJobOutputSerialized
+    every { storageClient.readStream(workloadId) } returns connectorJobOutputSerialized.byteInputStream()
+
+    val output: Optional<ConnectorJobOutput> = jobOutputDocStore.read(workloadId)
+
+    assertTrue(output.isPresent)
+    assertEquals(connectorJobOutput, output.get())
+  }
+
+  @Test
+  fun `properly read a compressed output`() {
+    every { storageClient.readStream(workloadId) } returns DocumentCompression.compress(connectorJobOutputSerialized).inputStream()
 
     val output: Optional<ConnectorJobOutput> = jobOutputDocStore.read(workloadId)
 
@@ -92,7 +124,7 @@ internal class JobOutputDocStoreTest {
 
   @Test
   fun `properly read a missing output`() {
-    every { storageClient.read(workloadId) } returns null
+    every { storageClient.readStream(workloadId) } returns null
 
     val output: Optional<ConnectorJobOutput> = jobOutputDocStore.read(workloadId)
 
@@ -101,39 +133,39 @@ internal class JobOutputDocStoreTest {
 
   @Test
   fun `properly wrap reading error`() {
-    every { storageClient.read(workloadId) } throws RuntimeException()
+    every { storageClient.readStream(workloadId) } throws RuntimeException()
 
     assertThrows<DocStoreAccessException> { jobOutputDocStore.read(workloadId) }
   }
 
   @Test
   fun `properly create an output for syncs`() {
-    every { storageClient.write(workloadId, replicationOutputSerialized) } returns Unit
+    every { storageClient.write(workloadId, any<ByteArray>()) } returns Unit
     every { metricClient.count(OssMetricsRegistry.JOB_OUTPUT_WRITE, 1, MetricAttribute(MetricTags.STATUS, "success")) } returns mockk<Counter>()
 
     jobOutputDocStore.writeSyncOutput(workloadId, replicationOutput)
 
     verifyOrder {
-      storageClient.write(workloadId, replicationOutputSerialized)
+      storageClient.write(workloadId, match<ByteArray> { DocumentCompression.decompress(it.inputStream()) == replicationOutputSerialized })
       metricClient.count(OssMetricsRegistry.JOB_OUTPUT_WRITE, 1, MetricAttribute(MetricTags.STATUS, "success"))
     }
   }
 
   @Test
   fun `properly wrap writing error for syncs`() {
-    every { storageClient.write(workloadId, replicationOutputSerialized) } throws RuntimeException()
+    every { storageClient.write(workloadId, any<ByteArray>()) } throws RuntimeException()
     every { metricClient.count(OssMetricsRegistry.JOB_OUTPUT_WRITE, 1, MetricAttribute(MetricTags.STATUS, "error")) } returns mockk<Counter>()
 
     assertThrows<DocStoreAccessException> { jobOutputDocStore.writeSyncOutput(workloadId, replicationOutput) }
     verifyOrder {
-      storageClient.write(workloadId, replicationOutputSerialized)
+      storageClient.write(workloadId, match<ByteArray> { DocumentCompression.decompress(it.inputStream()) == replicationOutputSerialized })
       metricClient.count(OssMetricsRegistry.JOB_OUTPUT_WRITE, 1, MetricAttribute(MetricTags.STATUS, "error"))
     }
   }
 
   @Test
   fun `properly read an output for syncs`() {
-    every { storageClient.read(workloadId) } returns replicationOutputSerialized
+    every { storageClient.readStream(workloadId) } returns replicationOutputSerialized.byteInputStream()
     every { metricClient.count(OssMetricsRegistry.JOB_OUTPUT_READ, 1, MetricAttribute(MetricTags.STATUS, "success")) } returns mockk<Counter>()
 
     val output: Optional<ReplicationOutput> = jobOutputDocStore.readSyncOutput(workloadId)
@@ -141,33 +173,33 @@ internal class JobOutputDocStoreTest {
     assertTrue(output.isPresent)
     assertEquals(replicationOutput, output.get())
     verifyOrder {
-      storageClient.read(workloadId)
+      storageClient.readStream(workloadId)
       metricClient.count(OssMetricsRegistry.JOB_OUTPUT_READ, 1, MetricAttribute(MetricTags.STATUS, "success"))
     }
   }
 
   @Test
   fun `properly read a missing output for syncs`() {
-    every { storageClient.read(workloadId) } returns null
+    every { storageClient.readStream(workloadId) } returns null
     every { metricClient.count(OssMetricsRegistry.JOB_OUTPUT_READ, 1, MetricAttribute(MetricTags.STATUS, "success")) } returns mockk<Counter>()
 
     val output: Optional<ReplicationOutput> = jobOutputDocStore.readSyncOutput(workloadId)
 
     assertTrue(output.isEmpty)
     verifyOrder {
-      storageClient.read(workloadId)
+      storageClient.readStream(workloadId)
       metricClient.count(OssMetricsRegistry.JOB_OUTPUT_READ, 1, MetricAttribute(MetricTags.STATUS, "success"))
     }
   }
 
   @Test
   fun `properly wrap reading error for syncs`() {
-    every { storageClient.read(workloadId) } throws RuntimeException()
+    every { storageClient.readStream(workloadId) } throws RuntimeException()
     every { metricClient.count(OssMetricsRegistry.JOB_OUTPUT_READ, 1, MetricAttribute(MetricTags.STATUS, "error")) } returns mockk<Counter>()
 
     assertThrows<DocStoreAccessException> { jobOutputDocStore.readSyncOutput(workloadId) }
     verifyOrder {
-      storageClient.read(workloadId)
+      storageClient.readStream(workloadId)
       metricClient.count(OssMetricsRegistry.JOB_OUTPUT_READ, 1, MetricAttribute(MetricTags.STATUS, "error"))
     }
   }
@@ -4,12 +4,46 @@
 
 package io.airbyte.commons.concurrency;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ClosableQueue<T> {
 
   T poll() throws InterruptedException;
 
   boolean add(final T e) throws InterruptedException;
 
+  /**
+   * Add the messages in order, stopping at the first one that can't be added.
+   *
+   * @return the number of messages added.
+   */
+  default int addAll(final List<? extends T> messages) throws InterruptedException {
+    int added = 0;
+    for (final T message : messages) {
+      if (!add(message)) {
+        break;
+      }
+      added++;
+    }
+    return added;
+  }
+
+  /**
+   * Move up to the given number of messages to the batch, waiting for one the same way as
+   * {@link #poll()}.
+   *
+   * @return the number of messages moved, 0 if none is available.
+   */
+  default int drainTo(final Collection<? super T> batch, final int maxMessages) throws InterruptedException {
+    final T message = poll();
+    if (message == null) {
+      return 0;
+    }
+    batch.add(message);
+    return 1;
+  }
+
   int size();
 
   boolean isDone();
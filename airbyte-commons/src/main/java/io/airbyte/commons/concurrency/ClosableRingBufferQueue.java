@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.concurrency;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.function.ToLongFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded single-producer single-consumer queue backed by a ring buffer.
+ * <p>
+ * No lock is taken: the producer and the consumer each own one end of the ring and only publish
+ * their position. The consumer takes every message available at once and releases the slots back to
+ * the producer in batches, so positions are exchanged once per batch rather than once per message.
+ * {@link #addAll} and {@link #drainTo} hand whole batches over, publishing a single position for
+ * all of them.
+ * A side waiting on the other one spins briefly before parking, and is only unparked once, if it
+ * announced it was parked.
+ * <p>
+ * Capacity is bounded both in number of messages and in bytes, as estimated by the given sizer. A
+ * message larger than the byte capacity is still accepted once the queue is empty.
+ * <p>
+ * {@link #add} and {@link #addAll} must only be called from one thread and {@link #poll} and
+ * {@link #drainTo} from one other thread, the other methods can be called from anywhere.
+ */
+public class ClosableRingBufferQueue<T> implements ClosableQueue<T> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ClosableRingBufferQueue.class);
+
+  // Spinning only helps if the other side is running at the same time.
+  private static final int SPINS_BEFORE_PARKING = Runtime.getRuntime().availableProcessors() > 1 ? 128 : 0;
+  // Slots handed out by the consumer are released to the producer at least this often.
+  private static final int RELEASE_BATCH_SIZE = 64;
+
+  private final Object[] slots;
+  private final long[] sizes;
+  private final int mask;
+  private final long maxBytes;
+  private final ToLongFunction<T> sizer;
+  private final long timeOutNanos;
+
+  // Number of messages and bytes added, written by the producer only. The bytes are published along
+  // with the messages.
+  private final AtomicLong produced = new AtomicLong();
+  private final AtomicLong producedBytes = new AtomicLong();
+  // Number of messages and bytes released, written by the consumer only.
+  private final AtomicLong released = new AtomicLong();
+  private final AtomicLong releasedBytes = new AtomicLong();
+
+  private final AtomicReference<Thread> parkedProducer = new AtomicReference<>();
+  private final AtomicReference<Thread> parkedConsumer = new AtomicReference<>();
+  private volatile boolean closed;
+
+  // Consumer side: messages in [consumed, available) are taken but not handed out yet, messages in
+  // [released, consumed) are handed out but their slots are not released yet.
+  private long consumed;
+  private long available;
+  private long consumedBytes;
+
+  /**
+   * Create a queue.
+   *
+   * @param maxQueueSize maximum number of messages, rounded up to a power of two.
+   * @param maxQueueBytes maximum number of bytes.
+   * @param pollTimeOutDurationInSeconds how long add and poll wait before giving up.
+   * @param sizer estimates the size of a message in bytes, called once per message by the producer.
+   */
+  public ClosableRingBufferQueue(final int maxQueueSize,
+                                 final long maxQueueBytes,
+                                 final int pollTimeOutDurationInSeconds,
+                                 final ToLongFunction<T> sizer) {
+    LOGGER.info("Using ClosableRingBufferQueue");
+    int capacity = 1;
+    while (capacity < maxQueueSize) {
+      capacity <<= 1;
+    }
+    this.slots = new Object[capacity];
+    this.sizes = new long[capacity];
+    this.mask = capacity - 1;
+    this.maxBytes = maxQueueBytes;
+    this.sizer = sizer;
+    this.timeOutNanos = TimeUnit.SECONDS.toNanos(pollTimeOutDurationInSeconds);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T poll() throws InterruptedException {
+    if (consumed == available && !takeMessages()) {
+      return null;
+    }
+
+    final int index = (int) (consumed & mask);
+    final T message = (T) slots[index];
+    slots[index] = null;
+    consumedBytes += sizes[index];
+    consumed++;
+
+    if (consumed == available || consumed - released.get() >= RELEASE_BATCH_SIZE) {
+      releasedBytes.lazySet(consumedBytes);
+      released.set(consumed);
+      wake(parkedProducer);
+    }
+    return message;
+  }
+
+  @Override
+  public boolean add(final T e) throws InterruptedException {
+    if (closed) {
+      return false;
+    }
+
+    final long size = sizer.applyAsLong(e);
+    final long position = produced.get();
+    if (!hasRoom(position, producedBytes.get(), size)
+        && !await(() -> closed || hasRoom(position, producedBytes.get(), size), parkedProducer)
+        || closed) {
+      return false;
+    }
+
+    final int index = (int) (position & mask);
+    slots[index] = e;
+    sizes[index] = size;
+    producedBytes.lazySet(producedBytes.get() + size);
+    produced.set(position + 1);
+    wake(parkedConsumer);
+    return true;
+  }
+
+  /**
+   * Add the messages in order. All the messages there is room for are published at once, the
+   * remaining ones wait for room the same way as {@link #add}.
+   *
+   * @return the number of messages added, less than the number of messages if the queue got closed
+   *         or no room was made before the time out.
+   */
+  @Override
+  public int addAll(final List<? extends T> messages) throws InterruptedException {
+    int added = 0;
+    // Size of the next message to add, kept while waiting for room.
+    long nextSize = -1;
+    while (added < messages.size() && !closed) {
+      final long start = produced.get();
+      long position = start;
+      long bytes = producedBytes.get();
+      while (added < messages.size()) {
+        if (nextSize < 0) {
+          nextSize = sizer.applyAsLong(messages.get(added));
+        }
+        if (!hasRoom(position, bytes, nextSize)) {
+          break;
+        }
+        final int index = (int) (position & mask);
+        slots[index] = messages.get(added);
+        sizes[index] = nextSize;
+        bytes += nextSize;
+        position++;
+        added++;
+        nextSize = -1;
+      }
+
+      if (position > start) {
+        producedBytes.lazySet(bytes);
+        produced.set(position);
+        wake(parkedConsumer);
+      } else {
+        final long size = nextSize;
+        if (!await(() -> closed || hasRoom(start, producedBytes.get(), size), parkedProducer)) {
+          break;
+        }
+      }
+    }
+    return added;
+  }
+
+  /**
+   * Move all the messages available, up to the given number, to the batch and release their slots at
+   * once.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public int drainTo(final Collection<? super T> batch, final int maxMessages) throws InterruptedException {
+    if (consumed == available && !takeMessages()) {
+      return 0;
+    }
+    // Also pick up what was added since the messages were taken.
+    available = produced.get();
+
+    final long end = Math.min(available, consumed + maxMessages);
+    final int count = (int) (end - consumed);
+    while (consumed < end) {
+      final int index = (int) (consumed & mask);
+      batch.add((T) slots[index]);
+      slots[index] = null;
+      consumedBytes += sizes[index];
+      consumed++;
+    }
+
+    releasedBytes.lazySet(consumedBytes);
+    released.set(consumed);
+    wake(parkedProducer);
+    return count;
+  }
+
+  /**
+   * Number of messages in the queue, including the ones the consumer took but didn't hand out yet.
+   */
+  @Override
+  public int size() {
+    // Read released first, it never gets ahead of produced.
+    final long releasedSoFar = released.get();
+    return (int) (produced.get() - releasedSoFar);
+  }
+
+  /**
+   * Estimated size in bytes of the messages in the queue.
+   */
+  public long sizeInBytes() {
+    final long releasedSoFar = releasedBytes.get();
+    return producedBytes.get() - releasedSoFar;
+  }
+
+  @Override
+  public boolean isDone() {
+    return isClosed() && size() == 0;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    wake(parkedProducer);
+    wake(parkedConsumer);
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closed;
+  }
+
+  private boolean hasRoom(final long position, final long bytes, final long size) {
+    final long inQueue = position - released.get();
+    if (inQueue >= slots.length) {
+      return false;
+    }
+    return inQueue == 0 || bytes - releasedBytes.get() + size <= maxBytes;
+  }
+
+  /**
+   * Take all the messages added so far, waiting for some if there are none.
+   *
+   * @return false if nothing was added before the time out, or the queue is closed and empty.
+   */
+  private boolean takeMessages() throws InterruptedException {
+    if (produced.get() == consumed && !await(() -> closed || produced.get() > consumed, parkedConsumer)) {
+      return false;
+    }
+    // Read after closed, the producer may have added a last message before closing.
+    available = produced.get();
+    return available > consumed;
+  }
+
+  /**
+   * Wait for a condition, spinning first then parking until the other side wakes us up.
+   *
+   * @return false if the condition is still false once the time out is reached.
+   */
+  private boolean await(final BooleanSupplier condition, final AtomicReference<Thread> parked) throws InterruptedException {
+    final long deadline = System.nanoTime() + timeOutNanos;
+    int spins = 0;
+    while (!condition.getAsBoolean()) {
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+      final long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        return false;
+      }
+      if (spins++ < SPINS_BEFORE_PARKING) {
+        Thread.onSpinWait();
+        continue;
+      }
+
+      // Positions are published before looking for a parked thread, and the condition is checked
+      // again once we announced we're parking, so a wake-up can't be missed.
+      parked.set(Thread.currentThread());
+      if (!condition.getAsBoolean()) {
+        LockSupport.parkNanos(this, remaining);
+      }
+      parked.set(null);
+    }
+    return true;
+  }
+
+  private static void wake(final AtomicReference<Thread> parked) {
+    final Thread thread = parked.get();
+    if (thread != null && parked.compareAndSet(thread, null)) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+}
@@ -195,6 +195,24 @@ public class Jsons {
     }
   }
 
+  /**
+   * Deserialize a slice of UTF-8 encoded bytes to a JSON object using the exact ObjectMapper.
+   *
+   * @param json bytes holding the json.
+   * @param offset start of the json in the array.
+   * @param length length of the json.
+   * @param klass to deserialize to.
+   * @param <T> type of input object.
+   * @return optional as type T.
+   */
+  public static <T> Optional<T> tryDeserializeExact(final byte[] json, final int offset, final int length, final Class<T> klass) {
+    try {
+      return Optional.of(OBJECT_MAPPER_EXACT.readValue(json, offset, length, klass));
+    } catch (final Throwable e) {
+      return Optional.empty();
+    }
+  }
+
   /**
    * Convert an object to {@link JsonNode}.
    *
@@ -320,9 +338,90 @@ public class Jsons {
    * the string to byte[] and use the length of the byte[]. However, this conversion is expensive in
    * memory consumption. Given that the byte size of the serialized JSON is already an estimation of
    * the actual size of the JSON object, using a cheap operation seems an acceptable compromise.
+   * <p>
+   * The length is computed by walking the tree rather than serializing it, so that counting a record
+   * does not cost a full copy of it. The result matches {@code serialize(jsonNode).length()}.
    */
   public static int getEstimatedByteSize(final JsonNode jsonNode) {
-    return serialize(jsonNode).length();
+    return (int) Math.min(Integer.MAX_VALUE, estimateSerializedLength(jsonNode));
+  }
+
+  private static long estimateSerializedLength(final JsonNode node) {
+    switch (node.getNodeType()) {
+      case OBJECT -> {
+        // braces, plus a comma between each entry
+        long length = node.isEmpty() ? 2 : node.size() + 1;
+        final Iterator<Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+          final Entry<String, JsonNode> field = fields.next();
+          // the key, plus the colon separating it from its value
+          length += estimateQuotedLength(field.getKey()) + 1 + estimateSerializedLength(field.getValue());
+        }
+        return length;
+      }
+      case ARRAY -> {
+        // brackets, plus a comma between each element
+        long length = node.isEmpty() ? 2 : node.size() + 1;
+        for (final JsonNode element : node) {
+          length += estimateSerializedLength(element);
+        }
+        return length;
+      }
+      case STRING -> {
+        return estimateQuotedLength(node.textValue());
+      }
+      case BOOLEAN -> {
+        return node.booleanValue() ? 4 : 5;
+      }
+      case NULL -> {
+        return 4;
+      }
+      case NUMBER -> {
+        if (node.isInt() || node.isLong()) {
+          return countDigits(node.longValue());
+        }
+        if ((node.isDouble() || node.isFloat()) && !Double.isFinite(node.doubleValue())) {
+          // non-finite numbers are written as quoted strings
+          return serialize(node).length();
+        }
+        return node.isBigDecimal() ? node.decimalValue().toPlainString().length() : node.asText().length();
+      }
+      default -> {
+        // binary, POJO and missing nodes are rare enough in records that serializing them is fine
+        return serialize(node).length();
+      }
+    }
+  }
+
+  /**
+   * Length of a string once quoted and escaped the way Jackson does by default: control characters,
+   * quotes and backslashes are escaped, everything else is written as-is.
+   */
+  private static long estimateQuotedLength(final String value) {
+    long length = value.length() + 2;
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      if (c == '"' || c == '\\' || c == '\b' || c == '\t' || c == '\n' || c == '\f' || c == '\r') {
+        length += 1;
+      } else if (c < 0x20) {
+        // written as a six character unicode escape
+        length += 5;
+      }
+    }
+    return length;
+  }
+
+  private static int countDigits(final long value) {
+    if (value == Long.MIN_VALUE) {
+      return 20;
+    }
+    int digits = value < 0 ? 2 : 1;
+    long remaining = Math.abs(value);
+    while (remaining >= 10) {
+      remaining /= 10;
+      digits++;
+    }
+    return digits;
   }
 
   /**
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ClosableRingBufferQueueTest {
+
+  @Test
+  void testKeepsOrderAcrossThreads() throws Exception {
+    final int count = 100_000;
+    final ClosableRingBufferQueue<Integer> queue = new ClosableRingBufferQueue<>(16, Long.MAX_VALUE, 5, i -> 1);
+
+    final CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+      try {
+        for (int i = 0; i < count; i++) {
+          while (!queue.add(i)) {
+            // retry until there is room
+          }
+        }
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      } finally {
+        queue.close();
+      }
+    });
+
+    final List<Integer> received = new ArrayList<>();
+    while (!queue.isDone()) {
+      final Integer message = queue.poll();
+      if (message != null) {
+        received.add(message);
+      }
+    }
+    producer.get(1, TimeUnit.MINUTES);
+
+    assertEquals(count, received.size());
+    for (int i = 0; i < count; i++) {
+      assertEquals(i, received.get(i));
+    }
+  }
+
+  @Test
+  void testHandsOverBatchesAcrossThreads() throws Exception {
+    final int count = 100_000;
+    final ClosableRingBufferQueue<Integer> queue = new ClosableRingBufferQueue<>(16, Long.MAX_VALUE, 5, i -> 1);
+
+    final CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+      try {
+        for (int i = 0; i < count; i += 10) {
+          final List<Integer> batch = new ArrayList<>();
+          for (int j = i; j < i + 10; j++) {
+            batch.add(j);
+          }
+          int added = 0;
+          while (added < batch.size()) {
+            added += queue.addAll(batch.subList(added, batch.size()));
+          }
+        }
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      } finally {
+        queue.close();
+      }
+    });
+
+    final List<Integer> received = new ArrayList<>();
+    while (!queue.isDone()) {
+      queue.drainTo(received, 7);
+    }
+    producer.get(1, TimeUnit.MINUTES);
+
+    assertEquals(count, received.size());
+    for (int i = 0; i < count; i++) {
+      assertEquals(i, received.get(i));
+    }
+  }
+
+  @Test
+  void testAddsAsManyMessagesOfABatchAsThereIsRoomFor() throws InterruptedException {
+    final ClosableRingBufferQueue<String> queue = new ClosableRingBufferQueue<>(100, 10, 0, String::length);
+
+    assertEquals(2, queue.addAll(List.of("12345", "12345", "1")));
+    assertEquals(10, queue.sizeInBytes());
+
+    final List<String> drained = new ArrayList<>();
+    assertEquals(1, queue.drainTo(drained, 1));
+    assertEquals(1, queue.addAll(List.of("1")));
+    assertEquals(2, queue.drainTo(drained, 10));
+    assertEquals(List.of("12345", "12345", "1"), drained);
+    assertEquals(0, queue.sizeInBytes());
+    assertEquals(0, queue.drainTo(drained, 10));
+  }
+
+  @Test
+  void testBoundsTheNumberOfBytes() throws InterruptedException {
+    final ClosableRingBufferQueue<String> queue = new ClosableRingBufferQueue<>(100, 10, 0, String::length);
+
+    assertTrue(queue.add("12345"));
+    assertTrue(queue.add("12345"));
+    assertFalse(queue.add("1"));
+    assertEquals(10, queue.sizeInBytes());
+
+    assertEquals("12345", queue.poll());
+    assertEquals("12345", queue.poll());
+    // A message larger than the capacity still goes through an empty queue.
+    assertTrue(queue.add("123456789012"));
+    assertEquals(1, queue.size());
+  }
+
+  @Test
+  void testBoundsTheNumberOfMessages() throws InterruptedException {
+    final ClosableRingBufferQueue<String> queue = new ClosableRingBufferQueue<>(2, Long.MAX_VALUE, 0, String::length);
+
+    assertTrue(queue.add("a"));
+    assertTrue(queue.add("b"));
+    assertFalse(queue.add("c"));
+  }
+
+  @Test
+  void testDrainsAfterClose() throws InterruptedException {
+    final ClosableRingBufferQueue<String> queue = new ClosableRingBufferQueue<>(4, Long.MAX_VALUE, 0, String::length);
+    queue.add("a");
+    queue.close();
+
+    assertFalse(queue.add("b"));
+    assertFalse(queue.isDone());
+    assertEquals("a", queue.poll());
+    assertNull(queue.poll());
+    assertTrue(queue.isDone());
+  }
+
+}
@@ -264,6 +264,14 @@ class JsonsTest {
     assertEquals(Jsons.toBytes(json).length, Jsons.getEstimatedByteSize(json));
   }
 
+  @Test
+  void testGetEstimatedByteSizeMatchesSerializedLength() {
+    final JsonNode json = Jsons.deserialize(
+        "{\"quote\":\"a\\\"b\\\\c\\n\\u0001\",\"int\":-42,\"long\":9223372036854775807,\"double\":1.5E-7,"
+            + "\"bool\":false,\"null\":null,\"empty_array\":[],\"empty_object\":{},\"nested\":[{\"a\":[1,2,{\"b\":true}]}]}");
+    assertEquals(Jsons.serialize(json).length(), Jsons.getEstimatedByteSize(json));
+  }
+
   @Test
   void testFlatten__noArrays() {
     final JsonNode json = Jsons.deserialize("{ \"abc\": { \"def\": \"ghi\" }, \"jkl\": true, \"pqr\": 1 }");
@@ -24,6 +24,11 @@ interface AirbyteRecord {
 
   fun get(fieldName: String): Value
 
+  /**
+   * Value of a field as a string, null if the record doesn't have the field.
+   */
+  fun getString(fieldName: String): String? = if (has(fieldName)) get(fieldName).asString() else null
+
   fun remove(fieldName: String)
 
   fun rename(
@@ -40,6 +40,8 @@ data class AirbyteJsonRecordAdapter(
 
   override fun get(fieldName: String): Value = JsonValueAdapter(data[fieldName])
 
+  override fun getString(fieldName: String): String? = data[fieldName]?.asText()
+
   override fun remove(fieldName: String) {
     data.remove(fieldName)
   }
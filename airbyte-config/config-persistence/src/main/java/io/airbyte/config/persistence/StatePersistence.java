@@ -15,14 +15,17 @@ import io.airbyte.config.StateWrapper;
 import io.airbyte.config.StreamDescriptor;
 import io.airbyte.config.helpers.ProtocolConverters;
 import io.airbyte.config.helpers.StateMessageHelper;
+import io.airbyte.config.persistence.StateUpdateBatch.StreamKey;
 import io.airbyte.db.Database;
 import io.airbyte.db.ExceptionWrappingDatabase;
+import io.airbyte.metrics.MetricClient;
+import io.airbyte.metrics.OssMetricsRegistry;
 import io.airbyte.protocol.models.AirbyteGlobalState;
 import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.AirbyteStateMessage.AirbyteStateType;
 import io.airbyte.protocol.models.AirbyteStreamState;
 import java.io.IOException;
-import java.time.OffsetDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -30,7 +33,6 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.jooq.DSLContext;
-import org.jooq.JSONB;
 import org.jooq.Record;
 import org.jooq.RecordMapper;
 import org.jooq.impl.DSL;
@@ -46,9 +48,15 @@ import org.jooq.impl.DSL;
 public class StatePersistence {
 
   private final ExceptionWrappingDatabase database;
+  private final MetricClient metricClient;
 
   public StatePersistence(final Database database) {
+    this(database, new MetricClient(null));
+  }
+
+  public StatePersistence(final Database database, final MetricClient metricClient) {
     this.database = new ExceptionWrappingDatabase(database);
+    this.metricClient = metricClient;
   }
 
   /**
@@ -65,7 +73,7 @@ public class StatePersistence {
       return Optional.empty();
     }
 
-    return switch (getStateType(connectionId, records)) {
+    return switch (getStateType(connectionId, records.stream().map(StateRecord::type).collect(Collectors.toSet()))) {
       case GLOBAL -> Optional.of(buildGlobalState(records));
       case STREAM -> Optional.of(buildStreamState(records));
       default -> Optional.of(buildLegacyState(records));
@@ -79,37 +87,56 @@ public class StatePersistence {
    * state. Other state type migrations should go through an explicit reset. An exception will be
    * thrown to prevent the system from getting into a bad state.
    *
+   * The current state isn't loaded: only the ids and types of the stored rows are read, then every
+   * stream is written at once and the streams whose state didn't change are not rewritten.
+   *
    * @param connectionId connection id
    * @param state new state
    * @throws IOException if there is an issue while interacting with the db.
    */
   public void updateOrCreateState(final UUID connectionId, final StateWrapper state)
       throws IOException {
-    final Optional<StateWrapper> previousState = getCurrentState(connectionId);
-    final StateType currentStateType = state.getStateType();
-    final boolean isMigration = StateMessageHelper.isMigration(currentStateType, previousState);
-
-    // The only case where we allow a state migration is moving from LEGACY.
-    // We expect any other migration to go through an explicit reset.
-    if (!isMigration && previousState.isPresent() && previousState.get().getStateType() != currentStateType) {
-      throw new IllegalStateException("Unexpected type migration from '" + previousState.get().getStateType() + "' to '" + currentStateType
-          + "'. Migration of StateType need to go through an explicit reset.");
-    }
+    final long start = System.currentTimeMillis();
+    final StateUpdateBatch.Result result = this.database.transaction(ctx -> {
+      final List<StoredStateRow> storedRows = getStoredStateRows(ctx, connectionId);
+      final StateType previousStateType = storedRows.isEmpty()
+          ? null
+          : Enums.convertTo(getStateType(connectionId, storedRows.stream().map(StoredStateRow::type).collect(Collectors.toSet())), StateType.class);
+      final StateType currentStateType = state.getStateType();
+      final boolean isMigration = StateMessageHelper.isMigration(currentStateType, previousStateType);
+
+      // The only case where we allow a state migration is moving from LEGACY.
+      // We expect any other migration to go through an explicit reset.
+      if (!isMigration && previousStateType != null && previousStateType != currentStateType) {
+        throw new IllegalStateException("Unexpected type migration from '" + previousStateType + "' to '" + currentStateType
+            + "'. Migration of StateType need to go through an explicit reset.");
+      }
 
-    this.database.transaction(ctx -> {
+      final Map<StreamKey, UUID> storedRowIds = new HashMap<>();
+      for (final StoredStateRow row : storedRows) {
+        storedRowIds.put(new StreamKey(row.streamName(), row.namespace()), row.id());
+      }
       if (isMigration) {
         clearLegacyState(ctx, connectionId);
+        storedRowIds.remove(new StreamKey(null, null));
       }
-      switch (state.getStateType()) {
-        case GLOBAL -> saveGlobalState(ctx, connectionId, state.getGlobal().getGlobal());
-        case STREAM -> saveStreamState(ctx, connectionId, state.getStateMessages());
-        case LEGACY -> saveLegacyState(ctx, connectionId, state.getLegacyState());
+
+      final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch(connectionId, storedRowIds);
+      switch (currentStateType) {
+        case GLOBAL -> addGlobalState(stateUpdateBatch, state.getGlobal().getGlobal());
+        case STREAM -> addStreamState(stateUpdateBatch, state.getStateMessages());
+        case LEGACY -> stateUpdateBatch.add(null, null, StateType.LEGACY, state.getLegacyState());
         default -> {
           // no op
         }
       }
-      return null;
+      return stateUpdateBatch.save(ctx);
     });
+
+    metricClient.distribution(OssMetricsRegistry.STATE_PERSISTENCE_FLUSH_TIME_MS, System.currentTimeMillis() - start);
+    metricClient.count(OssMetricsRegistry.STATE_PERSISTENCE_ROWS_WRITTEN, result.written());
+    metricClient.count(OssMetricsRegistry.STATE_PERSISTENCE_ROWS_UNCHANGED, result.unchanged());
+    metricClient.count(OssMetricsRegistry.STATE_PERSISTENCE_ROWS_DELETED, result.deleted());
   }
 
   /**
@@ -161,129 +188,49 @@ public class StatePersistence {
   }
 
   private static void clearLegacyState(final DSLContext ctx, final UUID connectionId) {
-    final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
-    writeStateToDb(ctx, connectionId, null, null, StateType.LEGACY, null, stateUpdateBatch);
-    stateUpdateBatch.save(ctx);
+    ctx.deleteFrom(STATE)
+        .where(
+            STATE.CONNECTION_ID.eq(connectionId),
+            STATE.STREAM_NAME.isNull(),
+            STATE.NAMESPACE.isNull())
+        .execute();
   }
 
-  private static void saveGlobalState(final DSLContext ctx, final UUID connectionId, final AirbyteGlobalState globalState) {
-    final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
-    writeStateToDb(ctx, connectionId, null, null, StateType.GLOBAL, globalState.getSharedState(), stateUpdateBatch);
+  private static void addGlobalState(final StateUpdateBatch stateUpdateBatch, final AirbyteGlobalState globalState) {
+    stateUpdateBatch.add(null, null, StateType.GLOBAL, globalState.getSharedState());
     for (final AirbyteStreamState streamState : globalState.getStreamStates()) {
-      writeStateToDb(ctx,
-          connectionId,
+      stateUpdateBatch.add(
           streamState.getStreamDescriptor().getName(),
           streamState.getStreamDescriptor().getNamespace(),
           StateType.GLOBAL,
-          streamState.getStreamState(),
-          stateUpdateBatch);
+          streamState.getStreamState());
     }
-    stateUpdateBatch.save(ctx);
   }
 
-  private static void saveStreamState(final DSLContext ctx, final UUID connectionId, final List<AirbyteStateMessage> stateMessages) {
-    final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
+  private static void addStreamState(final StateUpdateBatch stateUpdateBatch, final List<AirbyteStateMessage> stateMessages) {
     for (final AirbyteStateMessage stateMessage : stateMessages) {
       final AirbyteStreamState streamState = stateMessage.getStream();
-      writeStateToDb(ctx,
-          connectionId,
+      stateUpdateBatch.add(
           streamState.getStreamDescriptor().getName(),
           streamState.getStreamDescriptor().getNamespace(),
           StateType.STREAM,
-          streamState.getStreamState(),
-          stateUpdateBatch);
-    }
-    stateUpdateBatch.save(ctx);
-  }
-
-  private static void saveLegacyState(final DSLContext ctx, final UUID connectionId, final JsonNode state) {
-    final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
-    writeStateToDb(ctx, connectionId, null, null, StateType.LEGACY, state, stateUpdateBatch);
-    stateUpdateBatch.save(ctx);
-  }
-
-  /**
-   * Performs the actual SQL operation depending on the state.
-   *
-   * If the state is null, it will delete the row, otherwise do an insert or update on conflict
-   */
-  static void writeStateToDb(final DSLContext ctx,
-                             final UUID connectionId,
-                             final String streamName,
-                             final String namespace,
-                             final StateType stateType,
-                             final JsonNode state,
-                             final StateUpdateBatch stateUpdateBatch) {
-    if (state != null) {
-      final boolean hasState = ctx.fetchExists(STATE,
-          STATE.CONNECTION_ID.eq(connectionId),
-          PersistenceHelpers.isNullOrEquals(STATE.STREAM_NAME, streamName),
-          PersistenceHelpers.isNullOrEquals(STATE.NAMESPACE, namespace));
-
-      // NOTE: the legacy code was storing a State object instead of just the State data field. We kept
-      // the same behavior for consistency.
-      final JSONB jsonbState = JSONB.valueOf(Jsons.serialize(stateType != StateType.LEGACY ? state : new State().withState(state)));
-      final OffsetDateTime now = OffsetDateTime.now();
-
-      if (!hasState) {
-        stateUpdateBatch.getCreatedStreamStates().add(
-            ctx.insertInto(STATE)
-                .columns(
-                    STATE.ID,
-                    STATE.CREATED_AT,
-                    STATE.UPDATED_AT,
-                    STATE.CONNECTION_ID,
-                    STATE.STREAM_NAME,
-                    STATE.NAMESPACE,
-                    STATE.STATE_,
-                    STATE.TYPE)
-                .values(
-                    UUID.randomUUID(),
-                    now,
-                    now,
-                    connectionId,
-                    streamName,
-                    namespace,
-                    jsonbState,
-                    Enums.convertTo(stateType, io.airbyte.db.instance.configs.jooq.generated.enums.StateType.class)));
-
-      } else {
-        stateUpdateBatch.getUpdatedStreamStates().add(
-            ctx.update(STATE)
-                .set(STATE.UPDATED_AT, now)
-                .set(STATE.STATE_, jsonbState)
-                .where(
-                    STATE.CONNECTION_ID.eq(connectionId),
-                    PersistenceHelpers.isNullOrEquals(STATE.STREAM_NAME, streamName),
-                    PersistenceHelpers.isNullOrEquals(STATE.NAMESPACE, namespace)));
-      }
-
-    } else {
-      // If the state is null, we remove the state instead of keeping a null row
-      stateUpdateBatch.getDeletedStreamStates().add(
-          ctx.deleteFrom(STATE)
-              .where(
-                  STATE.CONNECTION_ID.eq(connectionId),
-                  PersistenceHelpers.isNullOrEquals(STATE.STREAM_NAME, streamName),
-                  PersistenceHelpers.isNullOrEquals(STATE.NAMESPACE, namespace)));
+          streamState.getStreamState());
     }
   }
 
   /**
-   * Get the StateType for a given list of StateRecords.
+   * Get the StateType for the types of a set of StateRecords.
    *
    * @param connectionId The connectionId of the records, used to add more debugging context if an
    *        error is detected
-   * @param records The list of StateRecords to process, must not be empty
+   * @param types The types of the StateRecords to process, must not be empty
    * @return the StateType of the records
    * @throws IllegalStateException If StateRecords have inconsistent types
    */
   @SuppressWarnings("PMD.AvoidLiteralsInIfCondition")
   private static io.airbyte.db.instance.configs.jooq.generated.enums.StateType getStateType(
                                                                                             final UUID connectionId,
-                                                                                            final List<StateRecord> records) {
-    final Set<io.airbyte.db.instance.configs.jooq.generated.enums.StateType> types =
-        records.stream().map(r -> r.type).collect(Collectors.toSet());
+                                                                                            final Set<io.airbyte.db.instance.configs.jooq.generated.enums.StateType> types) {
     if (types.size() == 1) {
       return types.stream().findFirst().get();
     }
@@ -307,6 +254,20 @@ public class StatePersistence {
         .stream().toList();
   }
 
+  /**
+   * Get the ids, stream descriptors and types of the state records from the DB, without their state.
+   *
+   * @param ctx A valid DSL context to use for the query
+   * @param connectionId the ID of the connection
+   * @return The stored state rows of the connectionId
+   */
+  private static List<StoredStateRow> getStoredStateRows(final DSLContext ctx, final UUID connectionId) {
+    return ctx.select(STATE.ID, STATE.STREAM_NAME, STATE.NAMESPACE, STATE.TYPE)
+        .from(STATE)
+        .where(STATE.CONNECTION_ID.eq(connectionId))
+        .fetch(record -> new StoredStateRow(record.value1(), record.value2(), record.value3(), record.value4()));
+  }
+
   /**
    * Delete all connection state records from the DB.
    *
@@ -393,4 +354,10 @@ public class StatePersistence {
                              String namespace,
                              JsonNode state) {}
 
+  private record StoredStateRow(
+                                UUID id,
+                                String streamName,
+                                String namespace,
+                                io.airbyte.db.instance.configs.jooq.generated.enums.StateType type) {}
+
 }
@@ -4,33 +4,152 @@
 
 package io.airbyte.config.persistence;
 
+import static io.airbyte.db.instance.configs.jooq.generated.Tables.STATE;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.enums.Enums;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.State;
+import io.airbyte.config.StateType;
+import io.airbyte.db.instance.configs.jooq.generated.tables.records.StateRecord;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import org.jooq.DSLContext;
+import org.jooq.InsertValuesStep8;
+import org.jooq.JSONB;
 import org.jooq.Query;
+import org.jooq.impl.DSL;
 
+/**
+ * The state rows of a connection to write in a single flush.
+ * <p>
+ * Rows are matched against the rows already stored for the connection, so the whole batch is
+ * written with one delete and multi-row upserts keyed on the row id, no matter how many streams it
+ * covers. The unique constraint on (connection_id, stream_name, namespace) can't be used as the
+ * conflict target since null stream names and namespaces never conflict.
+ */
 class StateUpdateBatch {
 
-  private final List<Query> updatedStreamStates = new ArrayList<>();
-  private final List<Query> createdStreamStates = new ArrayList<>();
-  private final List<Query> deletedStreamStates = new ArrayList<>();
+  // Keeps the number of bind values of an upsert well under the 65535 allowed by the Postgres protocol.
+  static final int UPSERT_CHUNK_SIZE = 1000;
 
-  void save(final DSLContext ctx) {
-    ctx.batch(updatedStreamStates).execute();
-    ctx.batch(createdStreamStates).execute();
-    ctx.batch(deletedStreamStates).execute();
+  private final UUID connectionId;
+  private final Map<StreamKey, UUID> storedRowIds;
+  // A null state deletes the row of the stream.
+  private final Map<StreamKey, PendingState> pendingStates = new LinkedHashMap<>();
+
+  /**
+   * Create a batch.
+   *
+   * @param connectionId the id of the connection
+   * @param storedRowIds the ids of the state rows currently stored for the connection
+   */
+  StateUpdateBatch(final UUID connectionId, final Map<StreamKey, UUID> storedRowIds) {
+    this.connectionId = connectionId;
+    this.storedRowIds = storedRowIds;
   }
 
-  public List<Query> getDeletedStreamStates() {
-    return deletedStreamStates;
+  /**
+   * Add the state of a stream to the batch. If the state is null, the row is deleted, if a stream is
+   * added more than once, the last state wins.
+   */
+  void add(final String streamName, final String namespace, final StateType stateType, final JsonNode state) {
+    final StreamKey key = new StreamKey(streamName, namespace);
+    if (state == null) {
+      pendingStates.put(key, null);
+      return;
+    }
+    // NOTE: the legacy code was storing a State object instead of just the State data field. We kept
+    // the same behavior for consistency.
+    final JSONB jsonbState = JSONB.valueOf(Jsons.serialize(stateType != StateType.LEGACY ? state : new State().withState(state)));
+    pendingStates.put(key, new PendingState(stateType, jsonbState));
   }
 
-  public List<Query> getCreatedStreamStates() {
-    return createdStreamStates;
+  /**
+   * Write the batch.
+   * <p>
+   * Rows whose stored state is equal to the new one are left untouched, which avoids rewriting the
+   * jsonb of the streams that didn't move since the last flush.
+   *
+   * @return how many rows were written, left unchanged and deleted
+   */
+  Result save(final DSLContext ctx) {
+    final List<UUID> deletedRowIds = new ArrayList<>();
+    final List<Map.Entry<StreamKey, PendingState>> upserts = new ArrayList<>();
+    pendingStates.forEach((key, pendingState) -> {
+      if (pendingState == null) {
+        final UUID rowId = storedRowIds.get(key);
+        if (rowId != null) {
+          deletedRowIds.add(rowId);
+        }
+      } else {
+        upserts.add(Map.entry(key, pendingState));
+      }
+    });
+
+    final int deleted = deletedRowIds.isEmpty()
+        ? 0
+        : ctx.deleteFrom(STATE).where(STATE.CONNECTION_ID.eq(connectionId), STATE.ID.in(deletedRowIds)).execute();
+
+    final OffsetDateTime now = OffsetDateTime.now();
+    int written = 0;
+    for (int from = 0; from < upserts.size(); from += UPSERT_CHUNK_SIZE) {
+      // Rows skipped by the where clause of the upsert are not counted as affected.
+      written += upsert(ctx, upserts.subList(from, Math.min(from + UPSERT_CHUNK_SIZE, upserts.size())), now).execute();
+    }
+    return new Result(written, upserts.size() - written, deleted);
   }
 
-  public List<Query> getUpdatedStreamStates() {
-    return updatedStreamStates;
+  private Query upsert(final DSLContext ctx, final List<Map.Entry<StreamKey, PendingState>> upserts, final OffsetDateTime now) {
+    InsertValuesStep8<StateRecord, UUID, OffsetDateTime, OffsetDateTime, UUID, String, String, JSONB,
+        io.airbyte.db.instance.configs.jooq.generated.enums.StateType> insert = ctx.insertInto(STATE,
+            STATE.ID,
+            STATE.CREATED_AT,
+            STATE.UPDATED_AT,
+            STATE.CONNECTION_ID,
+            STATE.STREAM_NAME,
+            STATE.NAMESPACE,
+            STATE.STATE_,
+            STATE.TYPE);
+    for (final Map.Entry<StreamKey, PendingState> upsert : upserts) {
+      final StreamKey key = upsert.getKey();
+      insert = insert.values(
+          storedRowIds.getOrDefault(key, UUID.randomUUID()),
+          now,
+          now,
+          connectionId,
+          key.streamName(),
+          key.namespace(),
+          upsert.getValue().state(),
+          Enums.convertTo(upsert.getValue().type(), io.airbyte.db.instance.configs.jooq.generated.enums.StateType.class));
+    }
+    return insert
+        .onConflict(STATE.ID, STATE.CONNECTION_ID)
+        .doUpdate()
+        .set(STATE.UPDATED_AT, DSL.excluded(STATE.UPDATED_AT))
+        .set(STATE.STATE_, DSL.excluded(STATE.STATE_))
+        .where(STATE.STATE_.isDistinctFrom(DSL.excluded(STATE.STATE_)));
   }
 
+  /**
+   * Identifies the state row of a stream. Both fields are null for the shared state of a global
+   * state and for a legacy state.
+   */
+  record StreamKey(String streamName, String namespace) {}
+
+  private record PendingState(StateType type, JSONB state) {}
+
+  /**
+   * Outcome of a flush.
+   *
+   * @param written rows inserted or updated
+   * @param unchanged rows skipped because their state did not change
+   * @param deleted rows deleted
+   */
+  record Result(int written, int unchanged, int deleted) {}
+
 }
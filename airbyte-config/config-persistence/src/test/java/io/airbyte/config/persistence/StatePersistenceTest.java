@@ -7,6 +7,7 @@ package io.airbyte.config.persistence;
 import static io.airbyte.config.persistence.OrganizationPersistence.DEFAULT_ORGANIZATION_ID;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.constants.DataplaneConstantsKt;
@@ -45,6 +46,7 @@ import io.airbyte.data.services.impls.jooq.WorkspaceServiceJooqImpl;
 import io.airbyte.db.init.DatabaseInitializationException;
 import io.airbyte.featureflag.TestClient;
 import io.airbyte.metrics.MetricClient;
+import io.airbyte.metrics.OssMetricsRegistry;
 import io.airbyte.protocol.models.AirbyteGlobalState;
 import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.AirbyteStateMessage.AirbyteStateType;
@@ -54,12 +56,15 @@ import io.airbyte.test.utils.BaseConfigDatabaseTest;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import org.jooq.JSONB;
 import org.jooq.impl.DSL;
 import org.junit.jupiter.api.Assertions;
@@ -565,6 +570,75 @@ class StatePersistenceTest extends BaseConfigDatabaseTest {
     Assertions.assertTrue(fullResetResult.isEmpty());
   }
 
+  @Test
+  void testUnchangedStreamsAreNotRewritten() throws IOException, SQLException {
+    final MetricClient metricClient = mock(MetricClient.class);
+    statePersistence = new StatePersistence(database, metricClient);
+    final StateWrapper state0 = new StateWrapper()
+        .withStateType(StateType.STREAM)
+        .withStateMessages(Arrays.asList(
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s1").withNamespace("n1"))
+                    .withStreamState(Jsons.deserialize(STATE_WITH_NAMESPACE))),
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s2"))
+                    .withStreamState(Jsons.deserialize(STREAM_STATE_2)))));
+    statePersistence.updateOrCreateState(connectionId, state0);
+    final Map<String, OffsetDateTime> updatedAt0 = getUpdatedAtByStream();
+
+    final StateWrapper state1 = clone(state0);
+    state1.getStateMessages().get(0).getStream().withStreamState(Jsons.deserialize("\"updated state s1\""));
+    statePersistence.updateOrCreateState(connectionId, state1);
+    final Map<String, OffsetDateTime> updatedAt1 = getUpdatedAtByStream();
+
+    assertEquals(state1, statePersistence.getCurrentState(connectionId).orElseThrow());
+    Assertions.assertNotEquals(updatedAt0.get("s1"), updatedAt1.get("s1"));
+    Assertions.assertEquals(updatedAt0.get("s2"), updatedAt1.get("s2"));
+    verify(metricClient).count(OssMetricsRegistry.STATE_PERSISTENCE_ROWS_WRITTEN, 2L);
+    verify(metricClient).count(OssMetricsRegistry.STATE_PERSISTENCE_ROWS_WRITTEN, 1L);
+    verify(metricClient).count(OssMetricsRegistry.STATE_PERSISTENCE_ROWS_UNCHANGED, 1L);
+  }
+
+  @Test
+  void testManyStreamsAreWrittenInChunks() throws IOException {
+    final List<AirbyteStateMessage> messages = IntStream.range(0, StateUpdateBatch.UPSERT_CHUNK_SIZE + 1)
+        .mapToObj(i -> new AirbyteStateMessage()
+            .withType(AirbyteStateType.STREAM)
+            .withStream(new AirbyteStreamState()
+                .withStreamDescriptor(new StreamDescriptor().withName("s" + i))
+                .withStreamState(Jsons.deserialize("\"state s" + i + "\""))))
+        .toList();
+    final StateWrapper state0 = new StateWrapper().withStateType(StateType.STREAM).withStateMessages(messages);
+
+    statePersistence.updateOrCreateState(connectionId, state0);
+    Assertions.assertEquals(messages.size(), statePersistence.getCurrentState(connectionId).orElseThrow().getStateMessages().size());
+
+    // Writing the same stream twice keeps the last state and a single row, even without a namespace
+    final StateWrapper state1 = new StateWrapper()
+        .withStateType(StateType.STREAM)
+        .withStateMessages(List.of(
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("new"))
+                    .withStreamState(Jsons.deserialize(STATE_ONE))),
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("new"))
+                    .withStreamState(Jsons.deserialize(STATE_TWO)))));
+    statePersistence.updateOrCreateState(connectionId, state1);
+    final List<AirbyteStateMessage> newStates = statePersistence.getCurrentState(connectionId).orElseThrow().getStateMessages().stream()
+        .filter(message -> "new".equals(message.getStream().getStreamDescriptor().getName()))
+        .toList();
+    Assertions.assertEquals(1, newStates.size());
+    Assertions.assertEquals(Jsons.deserialize(STATE_TWO), newStates.get(0).getStream().getStreamState());
+  }
+
   @Test
   void testInconsistentTypeUpdates() throws IOException, SQLException {
     final StateWrapper streamState = new StateWrapper()
@@ -965,6 +1039,13 @@ class StatePersistenceTest extends BaseConfigDatabaseTest {
     return sync.getConnectionId();
   }
 
+  private Map<String, OffsetDateTime> getUpdatedAtByStream() throws SQLException {
+    return database.query(ctx -> ctx.select(DSL.field("stream_name", String.class), DSL.field("updated_at", OffsetDateTime.class))
+        .from(DSL.table(STATE))
+        .where(DSL.field("connection_id").eq(connectionId))
+        .fetchMap(DSL.field("stream_name", String.class), DSL.field("updated_at", OffsetDateTime.class)));
+  }
+
   private StateWrapper clone(final StateWrapper state) {
     return switch (state.getStateType()) {
       case LEGACY -> new StateWrapper()
@@ -161,6 +161,9 @@ object SecretsHelpers {
    * Replaces {"_secret": "full_coordinate"} objects in the partial config with the string secret
    * payloads loaded from the secret persistence at those coordinates.
    *
+   * The coordinates are collected in a single pass over the config and read together through
+   * [ReadOnlySecretPersistence.readAll], so a persistence can fetch them concurrently or in one request.
+   *
    * @param partialConfig configuration containing secret coordinates (references to secrets)
    * @param secretPersistence secret storage mechanism
    * @return full config including actual secret values
@@ -179,15 +182,12 @@ object SecretsHelpers {
         return TextNode(getOrThrowSecretValue(secretPersistence, coordinate))
       }
 
-      // otherwise iterate through all object fields
-      config.fields().forEachRemaining { (fieldName, fieldNode): Map.Entry<String, JsonNode> ->
-        if (fieldNode is ArrayNode) {
-          for (i in 0 until fieldNode.size()) {
-            fieldNode[i] = combineConfig(fieldNode[i], secretPersistence)
-          }
-        } else if (fieldNode is ObjectNode) {
-          (config as ObjectNode).replace(fieldName, combineConfig(fieldNode, secretPersistence))
-        }
+      // otherwise replace every secret coordinate object nested in the config
+      val placeholders = mutableListOf<Pair<SecretCoordinate, (JsonNode) -> Unit>>()
+      collectSecretPlaceholders(config, placeholders)
+      if (placeholders.isNotEmpty()) {
+        val secrets = getOrThrowSecretValues(secretPersistence, placeholders.map { it.first }.toSet())
+        placeholders.forEach { (coordinate, replace) -> replace(TextNode(secrets.getValue(coordinate))) }
       }
       config
     } else {
@@ -195,6 +195,36 @@ object SecretsHelpers {
     }
   }
 
+  /**
+   * Collects the secret coordinate objects nested in the fields of the config, with the function replacing each of them.
+   */
+  private fun collectSecretPlaceholders(
+    config: JsonNode,
+    placeholders: MutableList<Pair<SecretCoordinate, (JsonNode) -> Unit>>,
+  ) {
+    config.fields().forEachRemaining { (fieldName, fieldNode): Map.Entry<String, JsonNode> ->
+      if (fieldNode is ArrayNode) {
+        for (i in 0 until fieldNode.size()) {
+          collectSecretPlaceholder(fieldNode[i], placeholders) { fieldNode[i] = it }
+        }
+      } else if (fieldNode is ObjectNode) {
+        collectSecretPlaceholder(fieldNode, placeholders) { (config as ObjectNode).replace(fieldName, it) }
+      }
+    }
+  }
+
+  private fun collectSecretPlaceholder(
+    node: JsonNode,
+    placeholders: MutableList<Pair<SecretCoordinate, (JsonNode) -> Unit>>,
+    replace: (JsonNode) -> Unit,
+  ) {
+    if (node.has(COORDINATE_FIELD)) {
+      placeholders.add(getCoordinateFromTextNode(node[COORDINATE_FIELD]) to replace)
+    } else {
+      collectSecretPlaceholders(node, placeholders)
+    }
+  }
+
   /**
    * This returns all the unique path to the airbyte secrets based on a schema spec. The path will be
    * return in an ascending alphabetical order.
@@ -301,6 +331,28 @@ object SecretsHelpers {
     }
   }
 
+  /**
+   * Reads the secrets at the coordinates at once.
+   *
+   * @throws SecretCoordinateException when a secret at one of the coordinates is not available in the persistence
+   */
+  @Throws(SecretCoordinateException::class)
+  private fun getOrThrowSecretValues(
+    secretPersistence: ReadOnlySecretPersistence,
+    coordinates: Set<SecretCoordinate>,
+  ): Map<SecretCoordinate, String> {
+    val secrets = secretPersistence.readAll(coordinates)
+    coordinates.firstOrNull { secrets[it].isNullOrBlank() }?.let {
+      throw SecretCoordinateException(
+        String.format(
+          "That secret was not found in the store! Coordinate: %s",
+          it.fullCoordinate,
+        ),
+      )
+    }
+    return secrets
+  }
+
   private fun getCoordinateFromTextNode(node: JsonNode): SecretCoordinate = SecretCoordinate.fromFullCoordinate(node.asText())
 
   /**
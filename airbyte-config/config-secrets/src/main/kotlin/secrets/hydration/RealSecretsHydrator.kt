@@ -12,31 +12,32 @@ import io.micronaut.context.annotation.Requires
 import jakarta.inject.Singleton
 
 /**
- * Adds secrets to a partial config based off a persistence.
+ * Adds secrets to a partial config based off a persistence. Secrets are read through the [SecretHydrationReader].
  */
 @Requires(bean = SecretPersistence::class)
 @Singleton
 class RealSecretsHydrator(
   private val defaultSecretPersistence: SecretPersistence,
+  private val secretHydrationReader: SecretHydrationReader,
 ) : SecretsHydrator {
   override fun hydrateFromDefaultSecretPersistence(partialConfig: JsonNode): JsonNode =
-    SecretsHelpers.combineConfig(partialConfig, defaultSecretPersistence)
+    SecretsHelpers.combineConfig(partialConfig, secretHydrationReader.reader(defaultSecretPersistence))
 
   override fun hydrateFromRuntimeSecretPersistence(
     partialConfig: JsonNode,
     runtimeSecretPersistence: RuntimeSecretPersistence,
-  ): JsonNode = SecretsHelpers.combineConfig(partialConfig, runtimeSecretPersistence)
+  ): JsonNode = SecretsHelpers.combineConfig(partialConfig, secretHydrationReader.reader(runtimeSecretPersistence))
 
   override fun hydrateSecretCoordinateFromDefaultSecretPersistence(secretCoordinate: JsonNode): JsonNode =
-    SecretsHelpers.hydrateSecretCoordinate(secretCoordinate, defaultSecretPersistence)
+    SecretsHelpers.hydrateSecretCoordinate(secretCoordinate, secretHydrationReader.reader(defaultSecretPersistence))
 
   override fun hydrateSecretCoordinateFromRuntimeSecretPersistence(
     secretCoordinate: JsonNode,
     runtimeSecretPersistence: RuntimeSecretPersistence,
-  ): JsonNode = SecretsHelpers.hydrateSecretCoordinate(secretCoordinate, runtimeSecretPersistence)
+  ): JsonNode = SecretsHelpers.hydrateSecretCoordinate(secretCoordinate, secretHydrationReader.reader(runtimeSecretPersistence))
 
   override fun hydrate(
     config: JsonNode,
     secretPersistence: SecretPersistence,
-  ): JsonNode = SecretsHelpers.combineConfig(config, secretPersistence)
+  ): JsonNode = SecretsHelpers.combineConfig(config, secretHydrationReader.reader(secretPersistence))
 }
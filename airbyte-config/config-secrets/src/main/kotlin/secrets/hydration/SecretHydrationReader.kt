@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.secrets.hydration
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.google.common.util.concurrent.ThreadFactoryBuilder
+import io.airbyte.config.secrets.SecretCoordinate
+import io.airbyte.config.secrets.SecretCoordinate.AirbyteManagedSecretCoordinate
+import io.airbyte.config.secrets.persistence.ReadOnlySecretPersistence
+import io.airbyte.config.secrets.persistence.RuntimeSecretPersistence
+import io.micronaut.context.annotation.Value
+import jakarta.annotation.PreDestroy
+import jakarta.inject.Singleton
+import java.time.Duration
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+
+/**
+ * Reads the secrets of a config for hydration, concurrently and through a cache shared by every secret persistence.
+ *
+ * Only the secrets at Airbyte-managed coordinates are cached: these coordinates are versioned, and updating a secret writes a new
+ * version instead of changing the payload of an existing one, so a cached secret can't be stale. The TTL bounds how long a deleted
+ * secret can still be hydrated. Secrets at external coordinates may change, so they are always read from the persistence.
+ */
+@Singleton
+class SecretHydrationReader(
+  @Value("\${airbyte.secret.hydration.cache.max-size:10000}") cacheMaxSize: Long,
+  @Value("\${airbyte.secret.hydration.cache.ttl:10m}") cacheTtl: Duration,
+  @Value("\${airbyte.secret.hydration.parallelism:8}") parallelism: Int,
+) {
+  private data class CacheKey(
+    val scope: Any,
+    val fullCoordinate: String,
+  )
+
+  private val cache: Cache<CacheKey, String> =
+    Caffeine
+      .newBuilder()
+      .maximumSize(cacheMaxSize)
+      .expireAfterWrite(cacheTtl)
+      .build()
+
+  private val executor: ExecutorService =
+    Executors.newFixedThreadPool(
+      parallelism,
+      ThreadFactoryBuilder().setNameFormat("secret-hydration-%d").setDaemon(true).build(),
+    )
+
+  /**
+   * Wraps the persistence to read its secrets through the cache, and to read the missing ones concurrently.
+   */
+  fun reader(secretPersistence: ReadOnlySecretPersistence): ReadOnlySecretPersistence {
+    // Runtime secret persistences are built for every request, so their secrets are cached by the store they read from.
+    val scope = if (secretPersistence is RuntimeSecretPersistence) secretPersistence.cacheScope else secretPersistence
+    return object : ReadOnlySecretPersistence {
+      override fun read(coordinate: SecretCoordinate): String = readAll(listOf(coordinate)).getValue(coordinate)
+
+      override fun readAll(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> =
+        readThroughCache(secretPersistence, scope, coordinates)
+    }
+  }
+
+  @PreDestroy
+  fun close() {
+    executor.shutdownNow()
+  }
+
+  private fun readThroughCache(
+    secretPersistence: ReadOnlySecretPersistence,
+    scope: Any,
+    coordinates: Collection<SecretCoordinate>,
+  ): Map<SecretCoordinate, String> {
+    val secrets = mutableMapOf<SecretCoordinate, String>()
+    val missing = mutableListOf<SecretCoordinate>()
+    coordinates.distinct().forEach { coordinate ->
+      val cached = if (coordinate is AirbyteManagedSecretCoordinate) cache.getIfPresent(CacheKey(scope, coordinate.fullCoordinate)) else null
+      if (cached != null) secrets[coordinate] = cached else missing.add(coordinate)
+    }
+
+    val read =
+      if (missing.size <= 1) {
+        missing.associateWith { secretPersistence.read(it) }
+      } else {
+        missing.zip(executor.invokeAll(missing.map { Callable { secretPersistence.read(it) } }).map(::getOrRethrow)).toMap()
+      }
+    read.forEach { (coordinate, secret) ->
+      if (coordinate is AirbyteManagedSecretCoordinate && secret.isNotBlank()) {
+        cache.put(CacheKey(scope, coordinate.fullCoordinate), secret)
+      }
+    }
+    return secrets + read
+  }
+
+  private fun getOrRethrow(future: Future<String>): String =
+    try {
+      future.get()
+    } catch (e: ExecutionException) {
+      throw e.cause ?: e
+    }
+}
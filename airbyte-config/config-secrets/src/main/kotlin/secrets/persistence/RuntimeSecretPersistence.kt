@@ -29,6 +29,15 @@ class RuntimeSecretPersistence(
   private val awsAccessKey: String? = System.getenv(AWS_ASSUME_ROLE_ACCESS_KEY_ID)
   private val awsSecretKey: String? = System.getenv(AWS_ASSUME_ROLE_SECRET_ACCESS_KEY)
 
+  // Built once, so the clients, and the AWS cache, are shared by every read.
+  private val secretPersistence: SecretPersistence by lazy { buildSecretPersistence(secretPersistenceConfig) }
+
+  /**
+   * Identifies the secret store, so secrets read through different instances configured for the same store can be cached together.
+   */
+  internal val cacheScope: Any
+    get() = secretPersistenceConfig
+
   private fun buildSecretPersistence(secretPersistenceConfig: SecretPersistenceConfig): SecretPersistence =
     when (secretPersistenceConfig.secretPersistenceType) {
       SecretPersistenceConfig.SecretPersistenceType.TESTING -> {
@@ -64,10 +73,7 @@ class RuntimeSecretPersistence(
       )
     }
 
-  override fun read(coordinate: SecretCoordinate): String {
-    val secretPersistence = buildSecretPersistence(secretPersistenceConfig)
-    return secretPersistence.read(coordinate)
-  }
+  override fun read(coordinate: SecretCoordinate): String = secretPersistence.read(coordinate)
 
   override fun write(
     coordinate: AirbyteManagedSecretCoordinate,
@@ -75,7 +81,6 @@ class RuntimeSecretPersistence(
   ) {
     log.debug { "Writing secret to secret persistence: $coordinate" }
     log.debug { "Config: $secretPersistenceConfig" }
-    val secretPersistence: SecretPersistence = buildSecretPersistence(secretPersistenceConfig)
     secretPersistence.write(coordinate, payload)
   }
 
@@ -14,6 +14,11 @@ import java.time.Instant
  */
 fun interface ReadOnlySecretPersistence {
   fun read(coordinate: SecretCoordinate): String
+
+  /**
+   * Reads several secrets at once. Persistences that can fetch many secrets in one request, or concurrently, override it.
+   */
+  fun readAll(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> = coordinates.associateWith { read(it) }
 }
 
 /**
@@ -6,6 +6,7 @@ package io.airbyte.config.secrets
 
 import com.fasterxml.jackson.databind.JsonNode
 import com.fasterxml.jackson.databind.node.JsonNodeFactory
+import io.airbyte.commons.json.Jsons
 import io.airbyte.config.secrets.persistence.ReadOnlySecretPersistence
 import io.airbyte.config.secrets.persistence.SecretPersistence
 import io.airbyte.config.secrets.test.cases.ArrayOneOfTestCase
@@ -22,6 +23,7 @@ import io.airbyte.validation.json.JsonValidationException
 import io.kotlintest.matchers.string.shouldStartWith
 import io.mockk.every
 import io.mockk.mockk
+import io.mockk.verify
 import org.junit.jupiter.api.Assertions
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.params.ParameterizedTest
@@ -184,6 +186,7 @@ internal class SecretsHelpersTest {
     val testCase = SimpleTestCase()
     val secretPersistence: ReadOnlySecretPersistence = mockk()
     every { secretPersistence.read(any()) } returns ""
+    every { secretPersistence.readAll(any()) } answers { firstArg<Collection<SecretCoordinate>>().associateWith { "" } }
 
     Assertions.assertThrows(
       RuntimeException::class.java,
@@ -195,6 +198,43 @@ internal class SecretsHelpersTest {
     }
   }
 
+  @Test
+  fun testCombineReadsAllSecretsAtOnce() {
+    val partialConfig =
+      Jsons.jsonNode(
+        mapOf(
+          "username" to "user",
+          "password" to mapOf("_secret" to "airbyte_workspace_1_secret_1_v1"),
+          "tunnel" to mapOf("key" to mapOf("_secret" to "airbyte_workspace_1_secret_2_v1")),
+          "keys" to listOf(mapOf("_secret" to "airbyte_workspace_1_secret_1_v1")),
+        ),
+      )
+    val secretPersistence: ReadOnlySecretPersistence = mockk()
+    every { secretPersistence.readAll(any()) } answers { firstArg<Collection<SecretCoordinate>>().associateWith { "${it.fullCoordinate}-value" } }
+
+    val combinedConfig = SecretsHelpers.combineConfig(partialConfig, secretPersistence)
+
+    val expectedConfig =
+      Jsons.jsonNode(
+        mapOf(
+          "username" to "user",
+          "password" to "airbyte_workspace_1_secret_1_v1-value",
+          "tunnel" to mapOf("key" to "airbyte_workspace_1_secret_2_v1-value"),
+          "keys" to listOf("airbyte_workspace_1_secret_1_v1-value"),
+        ),
+      )
+    Assertions.assertEquals(expectedConfig, combinedConfig)
+    verify(exactly = 1) {
+      secretPersistence.readAll(
+        setOf(
+          SecretCoordinate.fromFullCoordinate("airbyte_workspace_1_secret_1_v1"),
+          SecretCoordinate.fromFullCoordinate("airbyte_workspace_1_secret_2_v1"),
+        ),
+      )
+    }
+    verify(exactly = 0) { secretPersistence.read(any()) }
+  }
+
   @Test
   fun testUpdatingSecretsOneAtATimeShouldAlwaysIncrementAllVersions() {
     val uuidIterator = SecretsTestCase.UUIDS.iterator()
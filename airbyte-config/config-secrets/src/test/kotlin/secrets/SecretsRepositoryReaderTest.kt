@@ -9,8 +9,10 @@ import io.airbyte.config.DestinationConnection
 import io.airbyte.config.SourceConnection
 import io.airbyte.config.secrets.SecretCoordinate.AirbyteManagedSecretCoordinate
 import io.airbyte.config.secrets.hydration.RealSecretsHydrator
+import io.airbyte.config.secrets.hydration.SecretHydrationReader
 import io.airbyte.config.secrets.hydration.SecretsHydrator
 import org.junit.jupiter.api.BeforeEach
+import java.time.Duration
 import java.util.UUID
 
 private val UUID1 = UUID.randomUUID()
@@ -45,7 +47,7 @@ class SecretsRepositoryReaderTest {
   @BeforeEach
   fun setup() {
     secretPersistence = MemorySecretPersistence()
-    val secretsHydrator: SecretsHydrator = RealSecretsHydrator(secretPersistence)
+    val secretsHydrator: SecretsHydrator = RealSecretsHydrator(secretPersistence, SecretHydrationReader(100, Duration.ofMinutes(1), 2))
     secretsRepositoryReader = SecretsRepositoryReader(secretsHydrator)
   }
 }
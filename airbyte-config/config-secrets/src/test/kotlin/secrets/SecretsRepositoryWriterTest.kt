@@ -10,6 +10,7 @@ import io.airbyte.config.DestinationConnection
 import io.airbyte.config.SourceConnection
 import io.airbyte.config.secrets.SecretCoordinate.AirbyteManagedSecretCoordinate
 import io.airbyte.config.secrets.hydration.RealSecretsHydrator
+import io.airbyte.config.secrets.hydration.SecretHydrationReader
 import io.airbyte.featureflag.FeatureFlagClient
 import io.airbyte.metrics.MetricAttribute
 import io.airbyte.metrics.MetricClient
@@ -28,6 +29,7 @@ import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertDoesNotThrow
+import java.time.Duration
 import java.util.UUID
 
 internal class SecretsRepositoryWriterTest {
@@ -51,7 +53,7 @@ internal class SecretsRepositoryWriterTest {
         metricClient,
         featureFlagClient,
       )
-    secretsHydrator = RealSecretsHydrator(secretPersistence)
+    secretsHydrator = RealSecretsHydrator(secretPersistence, SecretHydrationReader(100, Duration.ofMinutes(1), 2))
     secretsRepositoryReader = SecretsRepositoryReader(secretsHydrator)
   }
 
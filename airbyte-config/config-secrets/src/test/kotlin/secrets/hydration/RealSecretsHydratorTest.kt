@@ -10,6 +10,7 @@ import io.mockk.every
 import io.mockk.mockk
 import org.junit.jupiter.api.Assertions
 import org.junit.jupiter.api.Test
+import java.time.Duration
 
 class RealSecretsHydratorTest {
   @Test
@@ -18,7 +19,7 @@ class RealSecretsHydratorTest {
     val secretValue = "secret_value"
     val secretPersistence: SecretPersistence = mockk()
     every { secretPersistence.read(any()) } returns secretValue
-    val hydrator = RealSecretsHydrator(secretPersistence)
+    val hydrator = RealSecretsHydrator(secretPersistence, SecretHydrationReader(100, Duration.ofMinutes(1), 2))
     val partialConfig = Jsons.jsonNode(mapOf("_secret" to coordinate))
     val hydratedConfig = hydrator.hydrateFromDefaultSecretPersistence(partialConfig)
     Assertions.assertEquals(secretValue, hydratedConfig.asText())
@@ -31,7 +32,7 @@ class RealSecretsHydratorTest {
     val secret = mapOf("config" to secretValue)
     val secretPersistence: SecretPersistence = mockk()
     every { secretPersistence.read(any()) } returns Jsons.serialize(secret)
-    val hydrator = RealSecretsHydrator(secretPersistence)
+    val hydrator = RealSecretsHydrator(secretPersistence, SecretHydrationReader(100, Duration.ofMinutes(1), 2))
     val secretCoordinate = Jsons.jsonNode(mapOf("_secret" to coordinate))
     val hydratedCoordinate = hydrator.hydrateSecretCoordinateFromDefaultSecretPersistence(secretCoordinate)
     Assertions.assertEquals(secret["config"], hydratedCoordinate.get("config").asText())
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.secrets.hydration
+
+import io.airbyte.config.secrets.SecretCoordinate
+import io.airbyte.config.secrets.SecretCoordinate.AirbyteManagedSecretCoordinate
+import io.airbyte.config.secrets.SecretCoordinate.ExternalSecretCoordinate
+import io.airbyte.config.secrets.persistence.SecretPersistence
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class SecretHydrationReaderTest {
+  private val secretHydrationReader = SecretHydrationReader(100, Duration.ofMinutes(1), 2)
+  private val secretPersistence: SecretPersistence = mockk()
+
+  @AfterEach
+  fun tearDown() {
+    secretHydrationReader.close()
+  }
+
+  @Test
+  fun `secrets at airbyte-managed coordinates are cached`() {
+    val coordinate = AirbyteManagedSecretCoordinate("airbyte_workspace_123_secret_456", 1)
+    every { secretPersistence.read(coordinate) } returns SECRET
+
+    assertEquals(SECRET, secretHydrationReader.reader(secretPersistence).read(coordinate))
+    assertEquals(SECRET, secretHydrationReader.reader(secretPersistence).read(coordinate))
+
+    verify(exactly = 1) { secretPersistence.read(coordinate) }
+  }
+
+  @Test
+  fun `secrets at external coordinates are not cached`() {
+    val coordinate = ExternalSecretCoordinate("external_secret")
+    every { secretPersistence.read(coordinate) } returns SECRET
+
+    assertEquals(SECRET, secretHydrationReader.reader(secretPersistence).read(coordinate))
+    assertEquals(SECRET, secretHydrationReader.reader(secretPersistence).read(coordinate))
+
+    verify(exactly = 2) { secretPersistence.read(coordinate) }
+  }
+
+  @Test
+  fun `secrets are cached per persistence`() {
+    val coordinate = AirbyteManagedSecretCoordinate("airbyte_workspace_123_secret_456", 1)
+    val otherSecretPersistence: SecretPersistence = mockk()
+    every { secretPersistence.read(coordinate) } returns SECRET
+    every { otherSecretPersistence.read(coordinate) } returns "other-secret"
+
+    assertEquals(SECRET, secretHydrationReader.reader(secretPersistence).read(coordinate))
+    assertEquals("other-secret", secretHydrationReader.reader(otherSecretPersistence).read(coordinate))
+  }
+
+  @Test
+  fun `blank secrets are not cached`() {
+    val coordinate = AirbyteManagedSecretCoordinate("airbyte_workspace_123_secret_456", 1)
+    every { secretPersistence.read(coordinate) } returns "" andThen SECRET
+
+    assertEquals("", secretHydrationReader.reader(secretPersistence).read(coordinate))
+    assertEquals(SECRET, secretHydrationReader.reader(secretPersistence).read(coordinate))
+  }
+
+  @Test
+  fun `missing secrets are read concurrently`() {
+    val coordinates: List<SecretCoordinate> = (1..2).map { AirbyteManagedSecretCoordinate("airbyte_workspace_123_secret_$it", 1) }
+    val reading = CountDownLatch(2)
+    every { secretPersistence.read(any()) } answers {
+      reading.countDown()
+      // Only returns if the other secret is read at the same time.
+      check(reading.await(10, TimeUnit.SECONDS))
+      firstArg<SecretCoordinate>().fullCoordinate
+    }
+
+    val secrets = secretHydrationReader.reader(secretPersistence).readAll(coordinates)
+
+    assertEquals(coordinates.associateWith { it.fullCoordinate }, secrets)
+  }
+
+  @Test
+  fun `read failures are rethrown`() {
+    val coordinates: List<SecretCoordinate> = (1..2).map { AirbyteManagedSecretCoordinate("airbyte_workspace_123_secret_$it", 1) }
+    every { secretPersistence.read(coordinates[0]) } returns SECRET
+    every { secretPersistence.read(coordinates[1]) } throws IllegalStateException("unavailable")
+
+    assertThrows<IllegalStateException> { secretHydrationReader.reader(secretPersistence).readAll(coordinates) }
+  }
+
+  companion object {
+    private const val SECRET = "secret"
+  }
+}
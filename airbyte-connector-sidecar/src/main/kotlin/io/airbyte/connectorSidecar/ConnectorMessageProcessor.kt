@@ -21,6 +21,7 @@ import io.airbyte.config.StandardCheckConnectionOutput
 import io.airbyte.config.StandardDiscoverCatalogInput
 import io.airbyte.protocol.models.AirbyteCatalog
 import io.airbyte.protocol.models.AirbyteConnectionStatus
+import io.airbyte.protocol.models.AirbyteControlMessage
 import io.airbyte.protocol.models.AirbyteMessage
 import io.airbyte.protocol.models.AirbyteTraceMessage
 import io.airbyte.protocol.models.ConnectorSpecification
@@ -36,7 +37,6 @@ import java.io.IOException
 import java.io.InputStream
 import java.util.Optional
 import java.util.UUID
-import java.util.stream.Collectors
 import javax.naming.OperationNotSupportedException
 
 private val logger = KotlinLogging.logger {}
@@ -317,12 +317,34 @@ class ConnectorMessageProcessor(
         ConnectorJobOutput.OutputType.DISCOVER_CATALOG_ID -> ConnectorCommand.DISCOVER
       }
 
+    /**
+     * Reads the output of the connector as it goes, keeping only the messages an operation needs: the first connection status,
+     * catalog and spec, the first error trace and the most recent connector config control message. Logs are logged by the stream
+     * factory, and records, states and other messages are dropped, so the memory used doesn't grow with the size of the output.
+     */
     fun getMessagesByType(
       inputStream: InputStream,
       streamFactory: AirbyteStreamFactory,
-    ): Map<AirbyteMessage.Type, List<AirbyteMessage>> =
-      streamFactory
-        .create(IOs.newBufferedReader(inputStream))
-        .collect(Collectors.groupingBy { it.type })
+    ): Map<AirbyteMessage.Type, List<AirbyteMessage>> {
+      val messagesByType = mutableMapOf<AirbyteMessage.Type, List<AirbyteMessage>>()
+      streamFactory.create(IOs.newBufferedReader(inputStream)).use { messages ->
+        messages.forEach { message ->
+          when (message.type) {
+            AirbyteMessage.Type.CONNECTION_STATUS, AirbyteMessage.Type.CATALOG, AirbyteMessage.Type.SPEC ->
+              messagesByType.putIfAbsent(message.type, listOf(message))
+            AirbyteMessage.Type.TRACE ->
+              if (message.trace?.type == AirbyteTraceMessage.Type.ERROR) {
+                messagesByType.putIfAbsent(message.type, listOf(message))
+              }
+            AirbyteMessage.Type.CONTROL ->
+              if (message.control?.type == AirbyteControlMessage.Type.CONNECTOR_CONFIG) {
+                messagesByType[message.type] = listOf(message)
+              }
+            else -> {}
+          }
+        }
+      }
+      return messagesByType
+    }
   }
 }
@@ -34,16 +34,24 @@ import io.github.oshai.kotlinlogging.withLoggingContext
 import io.micronaut.context.annotation.Context
 import io.micronaut.context.annotation.Value
 import jakarta.inject.Named
+import java.io.IOException
 import java.io.InputStream
+import java.nio.file.FileSystems
 import java.nio.file.Files
 import java.nio.file.Path
+import java.nio.file.StandardWatchEventKinds
+import java.nio.file.WatchService
 import java.time.Duration
 import java.util.Optional
+import java.util.concurrent.TimeUnit
 import javax.annotation.PostConstruct
 import kotlin.system.exitProcess
 
 private val logger = KotlinLogging.logger {}
 
+private val FILE_WATCH_TIMEOUT = Duration.ofSeconds(1)
+private val FILE_POLL_INTERVAL = Duration.ofMillis(100)
+
 @Context
 class ConnectorWatcher(
   @Named("output") val outputPath: Path,
@@ -98,23 +106,63 @@ class ConnectorWatcher(
 
   private fun waitForConnectorOutput(input: SidecarInput) {
     val stopwatch = Stopwatch.createStarted()
-    while (!areNeededFilesPresent()) {
-      Thread.sleep(100)
-      if (heartbeatMonitor.shouldAbort()) {
-        logger.warn { "Heartbeat indicates that the workload is in a terminal state, exiting process" }
-        exitInternalError()
-      }
-      val isWithinSync = input.discoverCatalogInput?.manual?.not() ?: false
-      if (hasFileTimeoutReached(stopwatch, isWithinSync)) {
-        val message = "Failed to find output files from connector within timeout of $fileTimeoutMinutes minute(s). Is the connector still running?"
-        logger.warn { message }
-        val failureReason =
-          FailureReason()
-            .withFailureOrigin(FailureReason.FailureOrigin.UNKNOWN)
-            .withExternalMessage(message)
-        failWorkload(input.workloadId, failureReason)
-        exitFileNotFound()
+    val watchService = watchOutputFiles()
+    try {
+      while (!areNeededFilesPresent()) {
+        awaitOutputFiles(watchService)
+        if (heartbeatMonitor.shouldAbort()) {
+          logger.warn { "Heartbeat indicates that the workload is in a terminal state, exiting process" }
+          exitInternalError()
+        }
+        val isWithinSync = input.discoverCatalogInput?.manual?.not() ?: false
+        if (hasFileTimeoutReached(stopwatch, isWithinSync)) {
+          val message = "Failed to find output files from connector within timeout of $fileTimeoutMinutes minute(s). Is the connector still running?"
+          logger.warn { message }
+          val failureReason =
+            FailureReason()
+              .withFailureOrigin(FailureReason.FailureOrigin.UNKNOWN)
+              .withExternalMessage(message)
+          failWorkload(input.workloadId, failureReason)
+          exitFileNotFound()
+        }
       }
+    } finally {
+      watchService?.close()
+    }
+  }
+
+  /**
+   * Watches the creation of files in the directories of the output files, so we wake up as soon as the connector writes them. Returns
+   * null if the directories can't be watched, in which case we poll for the files.
+   */
+  private fun watchOutputFiles(): WatchService? {
+    val directories = setOf(outputPath.toAbsolutePath().parent, Path.of(configDir).toAbsolutePath())
+    var watchService: WatchService? = null
+    return try {
+      watchService = FileSystems.getDefault().newWatchService()
+      directories.forEach { it.register(watchService, StandardWatchEventKinds.ENTRY_CREATE) }
+      watchService
+    } catch (e: IOException) {
+      logger.warn(e) { "Unable to watch $directories for the output files, polling them instead" }
+      watchService?.close()
+      null
+    }
+  }
+
+  /**
+   * Waits until a file is created in a watched directory, or for the file poll interval if nothing is watched. Returns at least every
+   * [FILE_WATCH_TIMEOUT], so the caller can check the heartbeat and its timeout.
+   */
+  private fun awaitOutputFiles(watchService: WatchService?) {
+    if (watchService == null) {
+      Thread.sleep(FILE_POLL_INTERVAL.toMillis())
+      return
+    }
+    var key = watchService.poll(FILE_WATCH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+    while (key != null) {
+      key.pollEvents()
+      key.reset()
+      key = watchService.poll()
     }
   }
 
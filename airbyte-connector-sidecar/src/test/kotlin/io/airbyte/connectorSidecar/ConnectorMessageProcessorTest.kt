@@ -41,6 +41,7 @@ import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
 import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.EnumSource
+import java.io.BufferedReader
 import java.io.ByteArrayInputStream
 import java.io.ByteArrayOutputStream
 import java.io.InputStream
@@ -73,19 +74,42 @@ class ConnectorMessageProcessorTest {
   }
 
   @Test
-  fun `test that message are properly aggregated by type`() {
-    every { streamFactory.create(any()) } returns
+  fun `test that only the messages needed by the operations are kept`() {
+    val firstStatus = AirbyteMessage().withType(AirbyteMessage.Type.CONNECTION_STATUS).withAdditionalProperty("status", "one")
+    val firstCatalog = AirbyteMessage().withType(AirbyteMessage.Type.CATALOG).withAdditionalProperty("catalog", "one")
+    val errorTrace =
+      AirbyteMessage().withType(AirbyteMessage.Type.TRACE).withTrace(AirbyteTraceMessage().withType(AirbyteTraceMessage.Type.ERROR))
+    val lastConfigControl =
+      AirbyteMessage()
+        .withType(AirbyteMessage.Type.CONTROL)
+        .withControl(AirbyteControlMessage().withType(AirbyteControlMessage.Type.CONNECTOR_CONFIG).withEmittedAt(2.0))
+    every { streamFactory.create(any<BufferedReader>()) } returns
       Stream.of(
-        AirbyteMessage().withType(AirbyteMessage.Type.CONTROL).withAdditionalProperty("control", "one"),
+        AirbyteMessage().withType(AirbyteMessage.Type.LOG).withAdditionalProperty("log", "one"),
+        firstStatus,
         AirbyteMessage().withType(AirbyteMessage.Type.RECORD).withAdditionalProperty("record", "two"),
-        AirbyteMessage().withType(AirbyteMessage.Type.RECORD).withAdditionalProperty("record", "three"),
+        AirbyteMessage().withType(AirbyteMessage.Type.CONNECTION_STATUS).withAdditionalProperty("status", "two"),
+        AirbyteMessage().withType(AirbyteMessage.Type.TRACE).withTrace(AirbyteTraceMessage().withType(AirbyteTraceMessage.Type.ESTIMATE)),
+        errorTrace,
+        AirbyteMessage()
+          .withType(AirbyteMessage.Type.CONTROL)
+          .withControl(AirbyteControlMessage().withType(AirbyteControlMessage.Type.CONNECTOR_CONFIG).withEmittedAt(1.0)),
+        lastConfigControl,
+        firstCatalog,
+        AirbyteMessage().withType(AirbyteMessage.Type.CATALOG).withAdditionalProperty("catalog", "two"),
       )
 
     val messageByType = ConnectorMessageProcessor.getMessagesByType(InputStream.nullInputStream(), streamFactory)
 
-    assertEquals(2, messageByType.size)
-    assertEquals(1, messageByType[AirbyteMessage.Type.CONTROL]!!.size)
-    assertEquals(2, messageByType[AirbyteMessage.Type.RECORD]!!.size)
+    assertEquals(
+      mapOf(
+        AirbyteMessage.Type.CONNECTION_STATUS to listOf(firstStatus),
+        AirbyteMessage.Type.TRACE to listOf(errorTrace),
+        AirbyteMessage.Type.CONTROL to listOf(lastConfigControl),
+        AirbyteMessage.Type.CATALOG to listOf(firstCatalog),
+      ),
+      messageByType,
+    )
   }
 
   @Test
@@ -374,7 +398,7 @@ class ConnectorMessageProcessorTest {
 
   @Test
   fun `fail if non 0 exit code`() {
-    every { streamFactory.create(any()) } returns Stream.of()
+    every { streamFactory.create(any<BufferedReader>()) } returns Stream.of()
 
     val jobOutput =
       connectorMessageProcessor.run(
@@ -419,7 +443,7 @@ class ConnectorMessageProcessorTest {
 
   @Test
   fun `properly make connection successful`() {
-    every { streamFactory.create(any()) } returns
+    every { streamFactory.create(any<BufferedReader>()) } returns
       Stream.of(
         AirbyteMessage()
           .withType(AirbyteMessage.Type.CONNECTION_STATUS)
@@ -450,7 +474,7 @@ class ConnectorMessageProcessorTest {
 
   @Test
   fun `properly make connection failed`() {
-    every { streamFactory.create(any()) } returns
+    every { streamFactory.create(any<BufferedReader>()) } returns
       Stream.of(
         AirbyteMessage()
           .withType(AirbyteMessage.Type.CONNECTION_STATUS)
@@ -493,7 +517,7 @@ class ConnectorMessageProcessorTest {
             ),
         )
 
-    every { streamFactory.create(any()) } returns
+    every { streamFactory.create(any<BufferedReader>()) } returns
       Stream.of(
         catalog,
       )
@@ -528,7 +552,7 @@ class ConnectorMessageProcessorTest {
             .withProtocolVersion("test"),
         )
 
-    every { streamFactory.create(any()) } returns
+    every { streamFactory.create(any<BufferedReader>()) } returns
       Stream.of(
         specMessage,
       )
@@ -37,11 +37,15 @@ import io.mockk.verifyOrder
 import io.mockk.verifySequence
 import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
 import org.junit.jupiter.api.extension.ExtendWith
+import org.junit.jupiter.api.io.TempDir
 import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.EnumSource
+import java.nio.file.Files
 import java.nio.file.Path
+import kotlin.concurrent.thread
 
 @ExtendWith(MockKExtension::class)
 class ConnectorWatchTest {
@@ -244,6 +248,55 @@ class ConnectorWatchTest {
     assertTrue(exitCauseFileWasNotFound)
   }
 
+  @Test
+  fun `run waits for the output files to be created`(
+    @TempDir tempDir: Path,
+  ) {
+    val watcher =
+      spyk(
+        ConnectorWatcher(
+          tempDir.resolve("output"),
+          tempDir.toString(),
+          fileTimeoutMinutes = 42,
+          fileTimeoutMinutesWithinSync = 43,
+          connectorMessageProcessor,
+          serDeProvider,
+          airbyteProtocolVersionedMigratorFactory,
+          gsonPksExtractor,
+          workloadApiClient,
+          jobOutputDocStore,
+          logContextFactory,
+          heartbeatMonitor,
+          metricClient = metricClient,
+        ),
+      )
+    val output =
+      ConnectorJobOutput()
+        .withCheckConnection(StandardCheckConnectionOutput().withStatus(StandardCheckConnectionOutput.Status.SUCCEEDED))
+    every { watcher.readFile(FileConstants.SIDECAR_INPUT_FILE) } returns
+      Jsons.serialize(SidecarInput(checkInput, discoveryInput, workloadId, IntegrationLauncherConfig(), OperationType.CHECK, ""))
+    every { watcher.readFile(FileConstants.EXIT_CODE_FILE) } returns "0"
+    every { watcher.getStreamFactory(any()) } returns streamFactory
+    every { watcher.exitProperly() } returns Unit
+    every { connectorMessageProcessor.run(any(), any(), any(), any(), eq(OperationType.CHECK)) } returns output
+    every { workloadApi.workloadSuccess(WorkloadSuccessRequest(workloadId)) } returns Unit
+
+    val connector =
+      thread {
+        Thread.sleep(500)
+        Files.createFile(tempDir.resolve("output"))
+        Files.createFile(tempDir.resolve(FileConstants.EXIT_CODE_FILE))
+      }
+    watcher.run()
+    connector.join()
+
+    verifyOrder {
+      connectorMessageProcessor.run(any(), any(), any(), any(), eq(OperationType.CHECK))
+      workloadApi.workloadSuccess(WorkloadSuccessRequest(workloadId))
+      watcher.exitProperly()
+    }
+  }
+
   @ParameterizedTest
   @EnumSource(OperationType::class)
   fun `should start and stop heartbeat monitor correctly`(operationType: OperationType) {
@@ -12,17 +12,34 @@ import io.airbyte.metrics.MetricClient
 import io.airbyte.metrics.OssMetricsRegistry
 import io.airbyte.metrics.lib.MetricTags
 import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Value
 import io.micronaut.scheduling.annotation.Scheduled
 import io.temporal.api.enums.v1.WorkflowExecutionStatus
 import jakarta.inject.Singleton
+import java.time.Duration
+import java.time.Instant
 
 private val log = KotlinLogging.logger {}
 
+/**
+ * Restarts the connection manager workflows that failed.
+ *
+ * The first run lists every failed workflow. The next ones only list the workflows closed since the previous run started, so the
+ * cron doesn't scan the whole closed history of the namespace every 10 seconds. The watermark is moved back by a margin to cover the
+ * clock skew with Temporal, and only moves forward once every workflow listed in a run was restarted.
+ */
 @Singleton
 class SelfHealTemporalWorkflows(
   private val temporalClient: TemporalClient,
   private val metricClient: MetricClient,
+  @Value("\${airbyte.cron.self-heal-temporal.restart-parallelism}") private val restartParallelism: Int,
 ) {
+  companion object {
+    val WATERMARK_MARGIN: Duration = Duration.ofMinutes(1)
+  }
+
+  private var watermark: Instant? = null
+
   init {
     log.debug { "Creating temporal self-healing" }
   }
@@ -35,8 +52,13 @@ class SelfHealTemporalWorkflows(
       attributes = arrayOf(MetricAttribute(MetricTags.CRON_TYPE, "self_heal_temporal")),
     )
 
+    val runStartedAt = Instant.now()
     temporalClient
-      .restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED)
-      .also { metricClient.count(metric = OssMetricsRegistry.WORKFLOWS_HEALED, value = it.toLong()) }
+      .restartClosedWorkflowByStatus(
+        WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED,
+        watermark?.minus(WATERMARK_MARGIN),
+        restartParallelism,
+      ).also { metricClient.count(metric = OssMetricsRegistry.WORKFLOWS_HEALED, value = it.toLong()) }
+    watermark = runStartedAt
   }
 }
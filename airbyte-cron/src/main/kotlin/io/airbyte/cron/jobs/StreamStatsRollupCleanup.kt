@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.cron.jobs
+
+import datadog.trace.api.Trace
+import io.airbyte.cron.SCHEDULED_TRACE_OPERATION_NAME
+import io.airbyte.persistence.job.JobPersistence
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.scheduling.annotation.Scheduled
+import jakarta.inject.Singleton
+import java.time.Duration
+import java.time.Instant
+
+private val logger = KotlinLogging.logger { }
+
+/**
+ * The connection stream history covers the last 30 days, a day more covers every time zone.
+ */
+internal val STREAM_STATS_ROLLUP_RETENTION: Duration = Duration.ofDays(31)
+
+/**
+ * Deletes the hourly buckets of records committed per stream that the connection stream history
+ * doesn't read anymore, so that the rollup doesn't grow with the age of the connections.
+ */
+@Singleton
+class StreamStatsRollupCleanup(
+  private val jobPersistence: JobPersistence,
+) {
+  @Scheduled(fixedRate = "1h", initialDelay = "5m")
+  @Trace(operationName = SCHEDULED_TRACE_OPERATION_NAME)
+  fun deleteExpiredBuckets() {
+    val deleted = jobPersistence.deleteStreamStatsRollupBefore(Instant.now().minus(STREAM_STATS_ROLLUP_RETENTION))
+    logger.info { "Deleted $deleted expired stream stats rollup buckets." }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.cron.jobs
+
+import io.airbyte.commons.temporal.TemporalClient
+import io.airbyte.metrics.MetricClient
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import io.temporal.api.enums.v1.WorkflowExecutionStatus
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.time.Instant
+
+class SelfHealTemporalWorkflowsTest {
+  private val temporalClient = mockk<TemporalClient>()
+  private val metricClient = mockk<MetricClient>(relaxed = true)
+  private val selfHeal = SelfHealTemporalWorkflows(temporalClient, metricClient, RESTART_PARALLELISM)
+
+  @Test
+  fun `only the first run lists every failed workflow`() {
+    val closedSince = mutableListOf<Instant?>()
+    every { temporalClient.restartClosedWorkflowByStatus(FAILED, captureNullable(closedSince), RESTART_PARALLELISM) } returns 0
+
+    val firstRunStartedAt = Instant.now()
+    selfHeal.cleanTemporal()
+    selfHeal.cleanTemporal()
+
+    assertNull(closedSince[0])
+    assertFalse(closedSince[1]!!.isBefore(firstRunStartedAt.minus(SelfHealTemporalWorkflows.WATERMARK_MARGIN)))
+  }
+
+  @Test
+  fun `the watermark doesn't move forward if a run fails`() {
+    every { temporalClient.restartClosedWorkflowByStatus(FAILED, null, RESTART_PARALLELISM) } throws RuntimeException("temporal is down")
+
+    assertThrows<RuntimeException> { selfHeal.cleanTemporal() }
+    assertThrows<RuntimeException> { selfHeal.cleanTemporal() }
+
+    verify(exactly = 2) { temporalClient.restartClosedWorkflowByStatus(FAILED, null, RESTART_PARALLELISM) }
+  }
+
+  companion object {
+    private const val RESTART_PARALLELISM = 5
+    private val FAILED = WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED
+  }
+}
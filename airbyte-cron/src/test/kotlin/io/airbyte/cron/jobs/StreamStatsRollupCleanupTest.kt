@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.cron.jobs
+
+import io.airbyte.persistence.job.JobPersistence
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import java.time.Instant
+
+class StreamStatsRollupCleanupTest {
+  private val jobPersistence = mockk<JobPersistence>()
+
+  @Test
+  fun testDeletesTheBucketsOlderThanTheRetention() {
+    val bucketStartBefore = slot<Instant>()
+    every { jobPersistence.deleteStreamStatsRollupBefore(capture(bucketStartBefore)) } returns 3
+
+    val before = Instant.now()
+    StreamStatsRollupCleanup(jobPersistence).deleteExpiredBuckets()
+    val after = Instant.now()
+
+    assertTrue(bucketStartBefore.captured >= before.minus(STREAM_STATS_ROLLUP_RETENTION))
+    assertTrue(bucketStartBefore.captured <= after.minus(STREAM_STATS_ROLLUP_RETENTION))
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends a notification on the workload_queue channel with the dataplane group of every workload
+ * enqueued, so launchers waiting on the queue can be handed the workload without waiting for their
+ * next poll. Notifications are only delivered once the enqueuing transaction commits.
+ */
+public class V1_1_1_025__AddWorkloadQueueNotifyTrigger extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V1_1_1_025__AddWorkloadQueueNotifyTrigger.class);
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    final DSLContext ctx = DSL.using(context.getConnection());
+    ctx.execute("""
+                CREATE OR REPLACE FUNCTION notify_workload_enqueued() RETURNS trigger AS $$
+                BEGIN
+                  PERFORM pg_notify('workload_queue', NEW.dataplane_group);
+                  RETURN NULL;
+                END;
+                $$ LANGUAGE plpgsql
+                """);
+    ctx.execute("DROP TRIGGER IF EXISTS workload_queue_notify_enqueued ON workload_queue");
+    ctx.execute("""
+                CREATE TRIGGER workload_queue_notify_enqueued
+                AFTER INSERT ON workload_queue
+                FOR EACH ROW EXECUTE FUNCTION notify_workload_enqueued()
+                """);
+
+    LOGGER.info("Completed migration: {}", this.getClass().getSimpleName());
+  }
+
+}
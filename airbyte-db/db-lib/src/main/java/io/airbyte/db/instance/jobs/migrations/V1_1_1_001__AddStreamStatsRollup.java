@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import static org.jooq.impl.DSL.primaryKey;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds the records committed per stream and per hour of the sync jobs of a connection, so the
+ * stream history of a connection doesn't have to be computed from the attempts. Buckets are hourly
+ * rather than daily so they can still be grouped into days in the time zone of the reader.
+ */
+public class V1_1_1_001__AddStreamStatsRollup extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V1_1_1_001__AddStreamStatsRollup.class);
+  private static final String STREAM_STATS_ROLLUP_TABLE_NAME = "stream_stats_rollup";
+  // The stream history covers the last 30 days, a day more covers every time zone.
+  private static final int BACKFILL_DAYS = 31;
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    createStreamStatsRollupTable(ctx);
+    backfillStreamStatsRollup(ctx);
+  }
+
+  static void createStreamStatsRollupTable(final DSLContext ctx) {
+    final Field<UUID> id = DSL.field("id", SQLDataType.UUID.notNull().defaultValue(DSL.field("gen_random_uuid()", SQLDataType.UUID)));
+    final Field<UUID> connectionId = DSL.field("connection_id", SQLDataType.UUID.notNull());
+    final Field<String> streamNamespace = DSL.field("stream_namespace", SQLDataType.VARCHAR);
+    final Field<String> streamName = DSL.field("stream_name", SQLDataType.VARCHAR.notNull());
+    final Field<OffsetDateTime> bucketStart = DSL.field("bucket_start", SQLDataType.TIMESTAMPWITHTIMEZONE.notNull());
+    final Field<Long> recordsCommitted = DSL.field("records_committed", SQLDataType.BIGINT.notNull().defaultValue(0L));
+    final Field<OffsetDateTime> createdAt =
+        DSL.field("created_at", SQLDataType.TIMESTAMPWITHTIMEZONE.notNull().defaultValue(DSL.currentOffsetDateTime()));
+    final Field<OffsetDateTime> updatedAt =
+        DSL.field("updated_at", SQLDataType.TIMESTAMPWITHTIMEZONE.notNull().defaultValue(DSL.currentOffsetDateTime()));
+
+    ctx.createTableIfNotExists(STREAM_STATS_ROLLUP_TABLE_NAME)
+        .columns(id, connectionId, streamNamespace, streamName, bucketStart, recordsCommitted, createdAt, updatedAt)
+        .constraints(primaryKey(id))
+        .execute();
+
+    // Reads are range scans over the buckets of a connection.
+    ctx.createIndexIfNotExists("stream_stats_rollup__connection_id_bucket_start_idx")
+        .on(STREAM_STATS_ROLLUP_TABLE_NAME, connectionId.getName(), bucketStart.getName())
+        .execute();
+
+    // Uniqueness constraint on the bucket of a stream, used as the conflict target of the writes
+    ctx.createUniqueIndexIfNotExists("stream_stats_rollup__connection_id_namespace_name_bucket_start_idx")
+        .on(STREAM_STATS_ROLLUP_TABLE_NAME, connectionId.getName(), streamNamespace.getName(), streamName.getName(), bucketStart.getName())
+        .where(streamNamespace.isNotNull())
+        .execute();
+
+    // Workaround for namespace being null and pg dropping null values from indexes
+    ctx.createUniqueIndexIfNotExists("stream_stats_rollup__connection_id_name_bucket_start_idx")
+        .on(STREAM_STATS_ROLLUP_TABLE_NAME, connectionId.getName(), streamName.getName(), bucketStart.getName())
+        .where(streamNamespace.isNull())
+        .execute();
+  }
+
+  static void backfillStreamStatsRollup(final DSLContext ctx) {
+    ctx.execute("""
+                INSERT INTO stream_stats_rollup (connection_id, stream_namespace, stream_name, bucket_start, records_committed)
+                SELECT CAST(jobs.scope AS uuid), stats.stream_namespace, stats.stream_name, date_trunc('hour', attempts.ended_at),
+                  SUM(COALESCE(stats.records_committed, 0))
+                FROM stream_stats stats
+                INNER JOIN attempts ON stats.attempt_id = attempts.id
+                INNER JOIN jobs ON attempts.job_id = jobs.id
+                WHERE CAST(jobs.config_type AS VARCHAR) = 'sync'
+                  AND attempts.output IS NOT NULL
+                  AND attempts.ended_at > now() - make_interval(days => ?)
+                GROUP BY 1, 2, 3, 4
+                """, BACKFILL_DAYS);
+  }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.table;
+
+import io.airbyte.db.factory.FlywayFactory;
+import io.airbyte.db.instance.development.DevDatabaseMigrator;
+import io.airbyte.db.instance.jobs.AbstractJobsDatabaseTest;
+import io.airbyte.db.instance.jobs.JobsDatabaseMigrator;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.jooq.DSLContext;
+import org.jooq.Record2;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class V1_1_1_001__AddStreamStatsRollupTest extends AbstractJobsDatabaseTest {
+
+  private static final UUID CONNECTION_ID = UUID.randomUUID();
+  private static final String OUTPUT = "{}";
+
+  @BeforeEach
+  void beforeEach() {
+    final Flyway flyway =
+        FlywayFactory.create(dataSource, "V1_1_0_001__AddIsScheduledToJobTable", JobsDatabaseMigrator.DB_IDENTIFIER,
+            JobsDatabaseMigrator.MIGRATION_FILE_LOCATION);
+    final JobsDatabaseMigrator jobsDatabaseMigrator = new JobsDatabaseMigrator(database, flyway);
+
+    final BaseJavaMigration previousMigration = new V1_1_0_001__AddIsScheduledToJobTable();
+    final DevDatabaseMigrator devConfigsDbMigrator = new DevDatabaseMigrator(jobsDatabaseMigrator, previousMigration.getVersion());
+    devConfigsDbMigrator.createBaseline();
+  }
+
+  @Test
+  void testCreateTable() {
+    final DSLContext context = getDslContext();
+    Assertions.assertFalse(tableExists(context));
+
+    V1_1_1_001__AddStreamStatsRollup.createStreamStatsRollupTable(context);
+
+    Assertions.assertTrue(tableExists(context));
+    Assertions.assertTrue(indexExists(context, "stream_stats_rollup__connection_id_bucket_start_idx"));
+    Assertions.assertTrue(indexExists(context, "stream_stats_rollup__connection_id_namespace_name_bucket_start_idx"));
+    Assertions.assertTrue(indexExists(context, "stream_stats_rollup__connection_id_name_bucket_start_idx"));
+  }
+
+  @Test
+  void testUniqueIndexesCoverNullNamespaces() {
+    final DSLContext context = getDslContext();
+    V1_1_1_001__AddStreamStatsRollup.createStreamStatsRollupTable(context);
+    final OffsetDateTime bucketStart = OffsetDateTime.now(ZoneOffset.UTC).withMinute(0).withSecond(0).withNano(0);
+
+    insertBucket(context, "public", "users", bucketStart);
+    insertBucket(context, null, "users", bucketStart);
+
+    Assertions.assertThrows(DataAccessException.class, () -> insertBucket(context, "public", "users", bucketStart));
+    Assertions.assertThrows(DataAccessException.class, () -> insertBucket(context, null, "users", bucketStart));
+  }
+
+  @Test
+  void testBackfill() {
+    final DSLContext context = getDslContext();
+    V1_1_1_001__AddStreamStatsRollup.createStreamStatsRollupTable(context);
+    final OffsetDateTime endedAt = OffsetDateTime.now(ZoneOffset.UTC).minusDays(2);
+
+    final long attemptId = insertAttempt(context, insertJob(context, "sync", "succeeded"), endedAt, OUTPUT);
+    insertStreamStats(context, attemptId, "public", "users", 10L);
+    insertStreamStats(context, attemptId, null, "orders", 5L);
+    final long retriedAttemptId = insertAttempt(context, insertJob(context, "sync", "succeeded"), endedAt, OUTPUT);
+    insertStreamStats(context, retriedAttemptId, "public", "users", 7L);
+    // Records committed by failed jobs are counted too.
+    final long failedAttemptId = insertAttempt(context, insertJob(context, "sync", "failed"), endedAt, OUTPUT);
+    insertStreamStats(context, failedAttemptId, "public", "users", 3L);
+    // None of these are counted: too old, no output, not a sync.
+    final long oldAttemptId = insertAttempt(context, insertJob(context, "sync", "succeeded"), endedAt.minusDays(30), OUTPUT);
+    insertStreamStats(context, oldAttemptId, "public", "users", 1L);
+    final long noOutputAttemptId = insertAttempt(context, insertJob(context, "sync", "succeeded"), endedAt, null);
+    insertStreamStats(context, noOutputAttemptId, "public", "users", 1L);
+    final long resetAttemptId = insertAttempt(context, insertJob(context, "reset_connection", "succeeded"), endedAt, OUTPUT);
+    insertStreamStats(context, resetAttemptId, "public", "users", 1L);
+
+    V1_1_1_001__AddStreamStatsRollup.backfillStreamStatsRollup(context);
+
+    final Map<String, Long> recordsCommitted = context.select(field("stream_name", String.class), field("records_committed", Long.class))
+        .from(table("stream_stats_rollup"))
+        .where(field("connection_id").eq(CONNECTION_ID))
+        .and(field("bucket_start").eq(endedAt.withMinute(0).withSecond(0).withNano(0)))
+        .fetch()
+        .stream()
+        .collect(Collectors.toMap(Record2::value1, Record2::value2));
+    Assertions.assertEquals(Map.of("users", 20L, "orders", 5L), recordsCommitted);
+    Assertions.assertEquals(2, context.fetchCount(table("stream_stats_rollup")));
+  }
+
+  private static boolean tableExists(final DSLContext ctx) {
+    return ctx.fetchExists(DSL.select()
+        .from("information_schema.tables")
+        .where(field("table_name").eq("stream_stats_rollup")));
+  }
+
+  private static boolean indexExists(final DSLContext ctx, final String indexName) {
+    return ctx.fetchExists(DSL.select()
+        .from("pg_indexes")
+        .where(field("tablename").eq("stream_stats_rollup")
+            .and(field("indexname").eq(indexName))));
+  }
+
+  private static void insertBucket(final DSLContext ctx, final String streamNamespace, final String streamName, final OffsetDateTime bucketStart) {
+    ctx.execute("INSERT INTO stream_stats_rollup (connection_id, stream_namespace, stream_name, bucket_start) VALUES (?, ?, ?, ?)",
+        CONNECTION_ID, streamNamespace, streamName, bucketStart);
+  }
+
+  private static long insertJob(final DSLContext ctx, final String configType, final String status) {
+    return ctx.fetchOne(
+        "INSERT INTO jobs (config_type, scope, status, created_at, updated_at) "
+            + "VALUES (CAST(? AS job_config_type), ?, CAST(? AS job_status), now(), now()) RETURNING id",
+        configType, CONNECTION_ID.toString(), status)
+        .get(0, Long.class);
+  }
+
+  private static long insertAttempt(final DSLContext ctx, final long jobId, final OffsetDateTime endedAt, final String output) {
+    return ctx.fetchOne(
+        "INSERT INTO attempts (job_id, attempt_number, output, status, created_at, updated_at, ended_at) "
+            + "VALUES (?, 0, CAST(? AS jsonb), CAST('succeeded' AS attempt_status), now(), now(), ?) RETURNING id",
+        jobId, output, endedAt)
+        .get(0, Long.class);
+  }
+
+  private static void insertStreamStats(final DSLContext ctx,
+                                        final long attemptId,
+                                        final String streamNamespace,
+                                        final String streamName,
+                                        final long recordsCommitted) {
+    ctx.execute("INSERT INTO stream_stats (id, attempt_id, stream_namespace, stream_name, records_committed) VALUES (?, ?, ?, ?, ?)",
+        UUID.randomUUID(), attemptId, streamNamespace, streamName, recordsCommitted);
+  }
+
+}
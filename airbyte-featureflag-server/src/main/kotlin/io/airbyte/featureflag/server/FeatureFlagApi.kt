@@ -6,11 +6,16 @@ package io.airbyte.featureflag.server
 
 import io.airbyte.featureflag.server.model.Context
 import io.airbyte.featureflag.server.model.FeatureFlag
+import io.airbyte.featureflag.server.model.FeatureFlagSnapshot
 import io.airbyte.featureflag.server.model.Rule
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpResponse
 import io.micronaut.http.HttpStatus
+import io.micronaut.http.MutableHttpResponse
 import io.micronaut.http.annotation.Body
 import io.micronaut.http.annotation.Consumes
 import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Header
 import io.micronaut.http.annotation.PathVariable
 import io.micronaut.http.annotation.QueryValue
 import io.micronaut.scheduling.TaskExecutors
@@ -25,6 +30,8 @@ import jakarta.ws.rs.GET
 import jakarta.ws.rs.POST
 import jakarta.ws.rs.PUT
 import jakarta.ws.rs.Path
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
 
 @Controller("/api/v1/feature-flags")
 @ExecuteOn(TaskExecutors.IO)
@@ -47,6 +54,32 @@ class FeatureFlagApi(
     ffs.delete(key)
   }
 
+  @GET
+  @Path("/")
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description = "All the FeatureFlags, with their version as the ETag",
+        content = [Content(schema = Schema(implementation = FeatureFlagSnapshot::class))],
+      ),
+      ApiResponse(
+        responseCode = "304",
+        description = "The FeatureFlags are still at the version in If-None-Match after waitSeconds",
+      ),
+    ],
+  )
+  fun list(
+    @Header(HttpHeaders.IF_NONE_MATCH) ifNoneMatch: String?,
+    @QueryValue("waitSeconds") waitSeconds: Long?,
+  ): CompletableFuture<MutableHttpResponse<FeatureFlagSnapshot>> {
+    val version =
+      ifNoneMatch?.removeSurrounding("\"")?.toLongOrNull()
+        ?: return CompletableFuture.completedFuture(ffs.snapshot().toResponse())
+    val wait = Duration.ofSeconds((waitSeconds ?: 0).coerceIn(0, MAX_WAIT_SECONDS))
+    return ffs.nextSnapshot(version, wait).thenApply { it?.toResponse() ?: HttpResponse.notModified() }
+  }
+
   @GET
   @Path("/{key}")
   @ApiResponses(
@@ -141,6 +174,13 @@ class FeatureFlagApi(
     @PathVariable key: String,
     @RequestBody(content = [Content(schema = Schema(implementation = Rule::class))]) @Body rule: Rule,
   ): FeatureFlag = ffs.updateRule(key, rule)
+
+  private fun FeatureFlagSnapshot.toResponse(): MutableHttpResponse<FeatureFlagSnapshot> =
+    HttpResponse.ok(this).header(HttpHeaders.ETAG, "\"$version\"")
+
+  companion object {
+    const val MAX_WAIT_SECONDS = 60L
+  }
 }
 
 class KnownException(
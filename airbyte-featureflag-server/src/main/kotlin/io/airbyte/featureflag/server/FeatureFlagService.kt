@@ -10,11 +10,15 @@ import com.fasterxml.jackson.module.kotlin.registerKotlinModule
 import io.airbyte.commons.json.Jsons
 import io.airbyte.featureflag.server.model.Context
 import io.airbyte.featureflag.server.model.FeatureFlag
+import io.airbyte.featureflag.server.model.FeatureFlagSnapshot
 import io.airbyte.featureflag.server.model.Rule
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.context.annotation.Property
 import jakarta.inject.Singleton
 import java.nio.file.Path
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
 import kotlin.io.path.exists
 import kotlin.io.path.isRegularFile
 
@@ -27,6 +31,10 @@ open class FeatureFlagService(
 ) {
   private val flags = mutableMapOf<String, MutableFeatureFlag>()
 
+  // Bumped on every change. Starting from the start time keeps the versions of a restarted service apart from the previous ones.
+  private var version = System.currentTimeMillis()
+  private var nextChange = CompletableFuture<Unit>()
+
   init {
     configPath?.also { path ->
       if (path.exists() && path.isRegularFile()) {
@@ -41,7 +49,32 @@ open class FeatureFlagService(
   }
 
   open fun delete(key: String) {
-    flags.remove(key)
+    update { flags.remove(key) }
+  }
+
+  /**
+   * All the flags, and the version they are at.
+   */
+  open fun snapshot(): FeatureFlagSnapshot =
+    synchronized(flags) {
+      FeatureFlagSnapshot(version = version, flags = flags.values.map { it.toFeatureFlag() })
+    }
+
+  /**
+   * Completes with the snapshot of the flags once they change from the given version, right away if they already did, or with null
+   * if they don't change within the timeout.
+   */
+  open fun nextSnapshot(
+    version: Long,
+    timeout: Duration,
+  ): CompletableFuture<FeatureFlagSnapshot?> {
+    val change =
+      synchronized(flags) {
+        if (this.version != version) null else nextChange
+      } ?: return CompletableFuture.completedFuture(snapshot())
+    return change
+      .thenApply<FeatureFlagSnapshot?> { snapshot() }
+      .completeOnTimeout(null, timeout.toMillis(), TimeUnit.MILLISECONDS)
   }
 
   open fun eval(
@@ -57,7 +90,7 @@ open class FeatureFlagService(
     key: String,
     context: Map<String, String>,
   ): String? {
-    val flag = flags[key] ?: return null
+    val flag = synchronized(flags) { flags[key]?.toFeatureFlag() } ?: return null
     for (rule in flag.rules) {
       if (rule.context.matches(context)) {
         return rule.value
@@ -66,47 +99,50 @@ open class FeatureFlagService(
     return flag.default
   }
 
-  open fun get(key: String): FeatureFlag? = flags[key]?.toFeatureFlag()
+  open fun get(key: String): FeatureFlag? = synchronized(flags) { flags[key]?.toFeatureFlag() }
 
   open fun addRule(
     key: String,
     rule: Rule,
-  ): FeatureFlag {
-    val flag = flags[key] ?: throw Exception("$key not found")
+  ): FeatureFlag =
+    update {
+      val flag = flags[key] ?: throw Exception("$key not found")
 
-    if (flag.rules.any { it.context == rule.context }) {
-      throw Exception("$key already has a rule for context ${rule.context}")
+      if (flag.rules.any { it.context == rule.context }) {
+        throw Exception("$key already has a rule for context ${rule.context}")
+      }
+      flag.rules.add(rule.toMutableRule())
+      logger.debug { "Updated $key to $flag" }
+      flag.toFeatureFlag()
     }
-    flag.rules.add(rule.toMutableRule())
-    logger.debug { "Updated $key to $flag" }
-    return flag.toFeatureFlag()
-  }
 
   open fun updateRule(
     key: String,
     rule: Rule,
-  ): FeatureFlag {
-    val flag = flags[key] ?: throw Exception("$key not found")
-    flag.rules
-      .find { it.context == rule.context }
-      ?.apply { value = rule.value }
-      ?: throw Exception("$key does not have a rule for context ${rule.context}")
-    logger.debug { "Updated $key to $flag" }
-    return flag.toFeatureFlag()
-  }
+  ): FeatureFlag =
+    update {
+      val flag = flags[key] ?: throw Exception("$key not found")
+      flag.rules
+        .find { it.context == rule.context }
+        ?.apply { value = rule.value }
+        ?: throw Exception("$key does not have a rule for context ${rule.context}")
+      logger.debug { "Updated $key to $flag" }
+      flag.toFeatureFlag()
+    }
 
   open fun removeRule(
     key: String,
     context: Context,
-  ): FeatureFlag {
-    val flag = flags[key] ?: throw Exception("$key not found")
-    flag.rules.removeIf { it.context == context }
-    logger.debug { "Updated $key to $flag" }
-    return flag.toFeatureFlag()
-  }
+  ): FeatureFlag =
+    update {
+      val flag = flags[key] ?: throw Exception("$key not found")
+      flag.rules.removeIf { it.context == context }
+      logger.debug { "Updated $key to $flag" }
+      flag.toFeatureFlag()
+    }
 
   open fun put(flag: FeatureFlag): FeatureFlag {
-    flags[flag.key] = flag.toMutableFeatureFlag()
+    update { flags[flag.key] = flag.toMutableFeatureFlag() }
     logger.debug { "Updated ${flag.key} to $flag" }
     return get(flag.key) ?: throw Exception("Failed to put flag $flag")
   }
@@ -120,6 +156,20 @@ open class FeatureFlagService(
     return put(flag)
   }
 
+  /**
+   * Applies a change to the flags and wakes up the callers waiting for the next snapshot.
+   */
+  private fun <T> update(change: () -> T): T {
+    val (result, completedChange) =
+      synchronized(flags) {
+        val changeResult = change()
+        version++
+        (changeResult to nextChange).also { nextChange = CompletableFuture() }
+      }
+    completedChange.complete(Unit)
+    return result
+  }
+
   private fun <T : Any> T.toPrettyJson(): String = Jsons.toPrettyString(Jsons.jsonNode(this))
 
   private fun Context.matches(env: Map<String, String>): Boolean = env[kind] == value
@@ -19,3 +19,8 @@ data class FeatureFlag(
   val default: String,
   val rules: List<Rule> = listOf(),
 )
+
+data class FeatureFlagSnapshot(
+  val version: Long,
+  val flags: List<FeatureFlag>,
+)
@@ -7,9 +7,11 @@ package io.airbyte.featureflag.server
 import io.airbyte.commons.json.Jsons
 import io.airbyte.featureflag.server.model.Context
 import io.airbyte.featureflag.server.model.FeatureFlag
+import io.airbyte.featureflag.server.model.FeatureFlagSnapshot
 import io.airbyte.featureflag.server.model.Rule
 import io.micronaut.context.annotation.Replaces
 import io.micronaut.context.env.Environment
+import io.micronaut.http.HttpHeaders
 import io.micronaut.http.HttpRequest
 import io.micronaut.http.HttpResponse
 import io.micronaut.http.client.HttpClient
@@ -22,6 +24,8 @@ import io.mockk.mockk
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
 
 @MicronautTest(environments = [Environment.TEST])
 class FeatureFlagApiTest(
@@ -64,6 +68,37 @@ class FeatureFlagApiTest(
     assertEquals(evalResult, response.body.get())
   }
 
+  @Test
+  fun `test list returns the snapshot with its version`() {
+    val snapshot = FeatureFlagSnapshot(version = 12, flags = listOf(FeatureFlag(key = "my-flag", default = "default")))
+    every { ffs.snapshot() } returns snapshot
+
+    val response = call<FeatureFlagSnapshot>(HttpRequest.GET("/api/v1/feature-flags/"))
+    assertEquals(200, response.status.code)
+    assertEquals("\"12\"", response.header(HttpHeaders.ETAG))
+    assertEquals(snapshot, response.body.get())
+  }
+
+  @Test
+  fun `test list waits for the next version`() {
+    val snapshot = FeatureFlagSnapshot(version = 13, flags = listOf(FeatureFlag(key = "my-flag", default = "default")))
+    every { ffs.nextSnapshot(12, Duration.ofSeconds(5)) } returns CompletableFuture.completedFuture(snapshot)
+
+    val response =
+      call<FeatureFlagSnapshot>(HttpRequest.GET<Any>("/api/v1/feature-flags/?waitSeconds=5").header(HttpHeaders.IF_NONE_MATCH, "\"12\""))
+    assertEquals(200, response.status.code)
+    assertEquals("\"13\"", response.header(HttpHeaders.ETAG))
+    assertEquals(snapshot, response.body.get())
+  }
+
+  @Test
+  fun `test list not modified`() {
+    every { ffs.nextSnapshot(12, Duration.ofSeconds(5)) } returns CompletableFuture.completedFuture(null)
+
+    val response = call<String>(HttpRequest.GET<Any>("/api/v1/feature-flags/?waitSeconds=5").header(HttpHeaders.IF_NONE_MATCH, "\"12\""))
+    assertEquals(304, response.status.code)
+  }
+
   @Test
   fun `test get returns the response`() {
     val flag = FeatureFlag(key = "my-flag", default = "default")
@@ -8,10 +8,15 @@ import io.airbyte.featureflag.server.model.Context
 import io.airbyte.featureflag.server.model.FeatureFlag
 import io.airbyte.featureflag.server.model.Rule
 import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
 import java.nio.file.Path
+import java.time.Duration
+import java.util.concurrent.TimeUnit
 
 class FeatureFlagServiceTest {
   private lateinit var ffs: FeatureFlagService
@@ -34,6 +39,41 @@ class FeatureFlagServiceTest {
     assertEquals(expected, getResult)
   }
 
+  @Test
+  fun `snapshot lists every flag`() {
+    val flag1 = ffs.put(key = "flag1", default = "flag1 default")
+    val flag2 = ffs.put(key = "flag2", default = "flag2 default")
+
+    val snapshot = ffs.snapshot()
+    assertEquals(setOf(flag1, flag2), snapshot.flags.toSet())
+    assertEquals(snapshot, ffs.snapshot())
+  }
+
+  @Test
+  fun `next snapshot completes on the next change`() {
+    ffs.put(key = "flag", default = "default")
+    val version = ffs.snapshot().version
+
+    val nextSnapshot = ffs.nextSnapshot(version, Duration.ofSeconds(30))
+    assertFalse(nextSnapshot.isDone)
+
+    val rule = Rule(context = Context(kind = "workspace", value = "w1"), value = "w1 value")
+    ffs.addRule("flag", rule)
+    val snapshot = nextSnapshot.get(1, TimeUnit.SECONDS)!!
+    assertTrue(snapshot.version > version)
+    assertEquals(listOf(FeatureFlag(key = "flag", default = "default", rules = listOf(rule))), snapshot.flags)
+
+    // an outdated version gets the current snapshot right away
+    assertEquals(snapshot, ffs.nextSnapshot(version, Duration.ofSeconds(30)).getNow(null))
+  }
+
+  @Test
+  fun `next snapshot is null if nothing changes`() {
+    val version = ffs.snapshot().version
+
+    assertNull(ffs.nextSnapshot(version, Duration.ofMillis(10)).get(1, TimeUnit.SECONDS))
+  }
+
   @Test
   fun `deleting a flag`() {
     val flag1 = FeatureFlag(key = "flag1", default = "flag1 default")
@@ -4,6 +4,7 @@
 
 package io.airbyte.featureflag
 
+import com.fasterxml.jackson.databind.DeserializationFeature
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory
 import com.fasterxml.jackson.module.kotlin.readValue
@@ -24,6 +25,7 @@ import java.lang.Thread.MIN_PRIORITY
 import java.nio.file.Path
 import java.nio.file.StandardWatchEventKinds
 import java.nio.file.WatchService
+import java.time.Duration
 import java.util.concurrent.locks.ReentrantReadWriteLock
 import kotlin.concurrent.read
 import kotlin.concurrent.thread
@@ -179,6 +181,14 @@ class LaunchDarklyClient(
   ): Int = client.intVariation(flag.key, context.toLDContext(), flag.default)
 }
 
+/**
+ * FeatureFlagService based feature-flag client.
+ *
+ * Flags are evaluated in-process against a local snapshot of every flag, with the same rules as the FeatureFlagService: the value
+ * of the first rule matching the context, else the default of the flag. The first evaluation loads the snapshot, then a background
+ * thread long polls the service for the next version. While the service is unavailable, the last snapshot keeps being used, and
+ * flags evaluate to their default if none could be loaded.
+ */
 @Singleton
 @Requires(property = CONFIG_FF_CLIENT, value = CONFIG_FF_CLIENT_VAL_FFS)
 class FeatureFlagServiceClient(
@@ -187,40 +197,129 @@ class FeatureFlagServiceClient(
 ) : FeatureFlagClient {
   private val basePath = "/api/v1/feature-flags"
 
+  @Volatile
+  private var snapshot: FeatureFlagSnapshot? = null
+
+  private val watcher: Thread by lazy {
+    try {
+      refreshSnapshot(wait = Duration.ZERO)
+    } catch (e: Exception) {
+      log.warn("Failed to load the feature flags, using the flag defaults until they are loaded", e)
+    }
+    thread(isDaemon = true, name = "feature-flag-service-watcher", priority = MIN_PRIORITY) { watchSnapshot() }
+  }
+
   override fun boolVariation(
     flag: Flag<Boolean>,
     context: Context,
-  ): Boolean = callFeatureFlagService(flag.key, context)?.toBoolean() ?: flag.default
+  ): Boolean = evaluate(flag.key, context)?.toBoolean() ?: flag.default
 
   override fun stringVariation(
     flag: Flag<String>,
     context: Context,
-  ): String = callFeatureFlagService(flag.key, context) ?: flag.default
+  ): String = evaluate(flag.key, context) ?: flag.default
 
   override fun intVariation(
     flag: Flag<Int>,
     context: Context,
-  ): Int = callFeatureFlagService(flag.key, context)?.toInt() ?: flag.default
+  ): Int = evaluate(flag.key, context)?.toInt() ?: flag.default
 
-  private fun callFeatureFlagService(
+  private fun evaluate(
     key: String,
     context: Context,
   ): String? {
+    watcher
+    val flag = snapshot?.flags?.get(key) ?: return null
+    val evalContext = context.toEvalContext()
+    return flag.rules.firstOrNull { evalContext[it.context.kind] == it.context.value }?.value ?: flag.default
+  }
+
+  private fun watchSnapshot() {
+    while (true) {
+      try {
+        val startedAt = System.nanoTime()
+        refreshSnapshot(wait = LONG_POLL_WAIT)
+        // Don't spin if the service answers right away.
+        val elapsed = Duration.ofNanos(System.nanoTime() - startedAt)
+        if (elapsed < MIN_REFRESH_INTERVAL) {
+          Thread.sleep(MIN_REFRESH_INTERVAL.minus(elapsed).toMillis())
+        }
+      } catch (_: InterruptedException) {
+        return
+      } catch (e: Exception) {
+        log.warn("Failed to refresh the feature flags, retrying in $RETRY_DELAY", e)
+        try {
+          Thread.sleep(RETRY_DELAY.toMillis())
+        } catch (_: InterruptedException) {
+          return
+        }
+      }
+    }
+  }
+
+  /**
+   * Fetch the flags, waiting up to [wait] for a version newer than the current snapshot.
+   */
+  private fun refreshSnapshot(wait: Duration) {
+    val current = snapshot
     val request =
       Request
         .Builder()
-        .url("$baseUrl$basePath/$key/evaluate?${context.toQueryParams()}")
+        .url("$baseUrl$basePath/?waitSeconds=${wait.seconds}")
+        .also { builder -> current?.let { builder.header("If-None-Match", "\"${it.version}\"") } }
         .build()
-    return httpClient.newCall(request).execute().use {
-      if (it.code == 200) it.body?.string() else null
+    httpClient.newCall(request).execute().use {
+      when (it.code) {
+        200 -> snapshot = mapper.readValue<FeatureFlagSnapshotResponse>(it.body!!.string()).toSnapshot()
+        304 -> Unit
+        else -> if (current == null) log.warn("Failed to load the feature flags, status ${it.code}, using the flag defaults")
+      }
     }
   }
 
-  private fun Context.toQueryParams(): String =
+  private fun Context.toEvalContext(): Map<String, String> =
     when (this) {
-      is Multi -> contexts.joinToString("&") { it.toQueryParams() }
-      else -> "kind=$kind&value=$key"
+      is Multi -> contexts.associate { it.kind to it.key }
+      else -> mapOf(kind to key)
     }
+
+  private data class FeatureFlagSnapshot(
+    val version: Long,
+    val flags: Map<String, FeatureFlagResponse>,
+  )
+
+  private data class FeatureFlagSnapshotResponse(
+    val version: Long,
+    val flags: List<FeatureFlagResponse>,
+  ) {
+    fun toSnapshot(): FeatureFlagSnapshot = FeatureFlagSnapshot(version = version, flags = flags.associateBy { it.key })
+  }
+
+  private data class FeatureFlagResponse(
+    val key: String,
+    val default: String,
+    val rules: List<RuleResponse> = listOf(),
+  )
+
+  private data class RuleResponse(
+    val context: RuleContextResponse,
+    val value: String,
+  )
+
+  private data class RuleContextResponse(
+    val kind: String,
+    val value: String,
+  )
+
+  companion object {
+    /** How long the service holds a request for the next version of the flags, the read timeout of the http client must be longer. */
+    val LONG_POLL_WAIT: Duration = Duration.ofSeconds(30)
+    private val MIN_REFRESH_INTERVAL = Duration.ofSeconds(1)
+    private val RETRY_DELAY = Duration.ofSeconds(10)
+
+    private val log = LoggerFactory.getLogger(FeatureFlagServiceClient::class.java)
+    private val mapper = ObjectMapper().registerKotlinModule().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+  }
 }
 
 /**
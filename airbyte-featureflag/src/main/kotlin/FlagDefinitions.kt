@@ -172,6 +172,22 @@ object LogStateMsgs : Temporary<Boolean>(key = "platform.log-state-msgs", defaul
 
 object ReplicationBufferOverride : Temporary<Int>(key = "platform.replication-buffer-override", default = 0)
 
+object ReplicationRingBufferQueues : Temporary<Boolean>(key = "platform.replication-ring-buffer-queues", default = false)
+
+object ReplicationBufferMaxBytes : Temporary<Int>(key = "platform.replication-buffer-max-bytes", default = 0)
+
+object ReplicationSchemaValidationThreads : Temporary<Int>(key = "platform.replication-schema-validation-threads", default = 0)
+
+object ReplicationSchemaValidationQueueSize : Temporary<Int>(key = "platform.replication-schema-validation-queue-size", default = 0)
+
+object ReplicationSchemaValidationRecordsPerStream : Temporary<Int>(key = "platform.replication-schema-validation-records-per-stream", default = -1)
+
+object ReplicationSchemaValidationSampleRate : Temporary<Int>(key = "platform.replication-schema-validation-sample-rate", default = 0)
+
+object ReplicationRecordPassthrough : Temporary<Boolean>(key = "platform.replication-record-passthrough", default = false)
+
+object ReplicationMaxLineBytes : Permanent<Int>(key = "platform.replication-max-line-bytes", default = -1)
+
 object NodeSelectorOverride : Temporary<String>(key = "platform.node-selector-override", default = "")
 
 object ReportConnectorDiskUsage : Temporary<Boolean>(key = "platform.report-connector-disk-usage", default = false)
@@ -213,3 +229,8 @@ object WorkloadLauncherUseDataPlaneAuthNFlow : Temporary<Boolean>(key = "platfor
 object LLMSyncJobFailureExplanation : Temporary<Boolean>(key = "platform.llm-sync-job-failure-explanation", default = false)
 
 object UseWorkloadTemporalConsumer : Temporary<Boolean>(key = "platform.use-workload-temporal-consumer", default = true)
+
+/**
+ * Compress the activity payloads and job outputs written to object storage. Only enable it once every reader decompresses them.
+ */
+object CompressStorageDocuments : Temporary<Boolean>(key = "platform.compress-storage-documents", default = false)
@@ -9,6 +9,7 @@ import io.airbyte.featureflag.CONFIG_FF_APIKEY
 import io.airbyte.featureflag.CONFIG_FF_CLIENT
 import io.airbyte.featureflag.CONFIG_FF_CLIENT_VAL_FFS
 import io.airbyte.featureflag.CONFIG_FF_CLIENT_VAL_LAUNCHDARKLY
+import io.airbyte.featureflag.FeatureFlagServiceClient
 import io.micronaut.context.annotation.Factory
 import io.micronaut.context.annotation.Property
 import io.micronaut.context.annotation.Requires
@@ -27,5 +28,9 @@ class Factory {
   @Singleton
   @Requires(property = CONFIG_FF_CLIENT, value = CONFIG_FF_CLIENT_VAL_FFS)
   @Named("ffsHttpClient")
-  fun ffsHttpClient(): OkHttpClient = OkHttpClient.Builder().build()
+  fun ffsHttpClient(): OkHttpClient =
+    OkHttpClient
+      .Builder()
+      .readTimeout(FeatureFlagServiceClient.LONG_POLL_WAIT.plusSeconds(30))
+      .build()
 }
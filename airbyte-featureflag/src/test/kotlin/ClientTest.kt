@@ -260,32 +260,45 @@ class FeatureFlagServiceClientTest {
         match {
           it.url.host == "test.featureflag.ab.com" &&
             it.url.scheme == "http" &&
-            it.url.encodedPath.startsWith("/api/v1/feature-flags/test-url-gen/evaluate")
+            it.url.encodedPath == "/api/v1/feature-flags/" &&
+            it.url.query == "waitSeconds=0" &&
+            it.header("If-None-Match") == null
         },
       )
     }
   }
 
   @Test
-  fun `verify payload generation`() {
-    val testFlag = Temporary(key = "test-feature-flag-client", default = "default")
+  fun `verify evaluation`() {
+    val testFlag = Temporary(key = "test-feature-flag-client", default = "client default")
     val connectionId = UUID.randomUUID()
     val workspaceId = UUID.randomUUID()
+    val otherWorkspaceId = UUID.randomUUID()
 
     val httpClient =
       mockk<OkHttpClient> {
-        every { newCall(match { it.url.query == "kind=connection&value=$connectionId" }) } returns mockResponse("connection-eval")
-        every { newCall(match { it.url.query == "kind=workspace&value=$workspaceId" }) } returns mockResponse("workspace-eval")
-        every {
-          newCall(match { it.url.query == "kind=connection&value=$connectionId&kind=workspace&value=$workspaceId" })
-        } returns mockResponse("multi-eval")
+        every { newCall(any()) } returns
+          mockResponse(
+            snapshot(
+              1,
+              flag(
+                testFlag.key,
+                "service default",
+                rule("workspace", workspaceId.toString(), "workspace-eval"),
+                rule("connection", connectionId.toString(), "connection-eval"),
+              ),
+            ),
+          )
       }
     val client = FeatureFlagServiceClient(httpClient, baseUrl)
 
     with(client) {
       assertEquals("connection-eval", stringVariation(testFlag, Connection(connectionId)))
       assertEquals("workspace-eval", stringVariation(testFlag, Workspace(workspaceId)))
-      assertEquals("multi-eval", stringVariation(testFlag, Multi(listOf(Connection(connectionId), Workspace(workspaceId)))))
+      // the first matching rule wins
+      assertEquals("workspace-eval", stringVariation(testFlag, Multi(listOf(Connection(connectionId), Workspace(workspaceId)))))
+      assertEquals("service default", stringVariation(testFlag, Workspace(otherWorkspaceId)))
+      assertEquals("other default", stringVariation(Temporary(key = "unknown-flag", default = "other default"), Workspace(workspaceId)))
     }
   }
 
@@ -298,9 +311,10 @@ class FeatureFlagServiceClientTest {
 
     val httpClient =
       mockk<OkHttpClient> {
-        every { newCall(match { it.url.encodedPath.endsWith("/${testBooleanFlag.key}/evaluate") }) } returns mockResponse("true")
-        every { newCall(match { it.url.encodedPath.endsWith("/${testIntFlag.key}/evaluate") }) } returns mockResponse("777")
-        every { newCall(match { it.url.encodedPath.endsWith("/${testStringFlag.key}/evaluate") }) } returns mockResponse("airbyte")
+        every { newCall(any()) } returns
+          mockResponse(
+            snapshot(1, flag(testBooleanFlag.key, "true"), flag(testIntFlag.key, "777"), flag(testStringFlag.key, "airbyte")),
+          )
       }
     val client = FeatureFlagServiceClient(httpClient, baseUrl)
 
@@ -316,7 +330,7 @@ class FeatureFlagServiceClientTest {
     val flag = Temporary(key = "error-flag", default = 42)
     val httpClient =
       mockk<OkHttpClient> {
-        every { newCall(match { it.url.encodedPath.endsWith("/${flag.key}/evaluate") }) } returns mockResponse("not found", statusCode = 404)
+        every { newCall(any()) } returns mockResponse("internal error", statusCode = 500)
       }
     val client = FeatureFlagServiceClient(httpClient, baseUrl)
 
@@ -325,6 +339,43 @@ class FeatureFlagServiceClientTest {
     }
   }
 
+  @Test
+  fun `verify new versions are picked up`() {
+    val flag = Temporary(key = "watched-flag", default = "default")
+    val httpClient =
+      mockk<OkHttpClient> {
+        every { newCall(match { it.header("If-None-Match") == null }) } returns mockResponse(snapshot(1, flag(flag.key, "v1")))
+        every { newCall(match { it.header("If-None-Match") == "\"1\"" }) } returns mockResponse(snapshot(2, flag(flag.key, "v2")))
+        every { newCall(match { it.header("If-None-Match") == "\"2\"" }) } returns mockResponse("", statusCode = 304)
+      }
+    val client = FeatureFlagServiceClient(httpClient, baseUrl)
+
+    assertEquals("v1", client.stringVariation(flag, Workspace(UUID.randomUUID())))
+    val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10)
+    while (client.stringVariation(flag, Workspace(UUID.randomUUID())) != "v2" && System.nanoTime() < deadline) {
+      Thread.sleep(100)
+    }
+    assertEquals("v2", client.stringVariation(flag, Workspace(UUID.randomUUID())))
+    verify(atLeast = 1) { httpClient.newCall(match { it.url.query == "waitSeconds=${FeatureFlagServiceClient.LONG_POLL_WAIT.seconds}" }) }
+  }
+
+  private fun snapshot(
+    version: Long,
+    vararg flags: String,
+  ): String = """{"version":$version,"flags":[${flags.joinToString(",")}]}"""
+
+  private fun flag(
+    key: String,
+    default: String,
+    vararg rules: String,
+  ): String = """{"key":"$key","default":"$default","rules":[${rules.joinToString(",")}]}"""
+
+  private fun rule(
+    kind: String,
+    value: String,
+    serve: String,
+  ): String = """{"context":{"kind":"$kind","value":"$value"},"value":"$serve"}"""
+
   private fun mockResponse(
     bodyString: String,
     statusCode: Int = 200,
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.validation.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Fast path for the schemas of flat objects: an object whose properties are only constrained by
+ * their type, such as most stream schemas.
+ * <p>
+ * {@link #test(JsonNode)} only answers true when the full validator would accept the object too. It
+ * may answer false for an object the full validator accepts, so the full validator must be run
+ * whenever it does, which is also where the error messages come from.
+ */
+final class FlatJsonSchema {
+
+  private static final int NULL = 1;
+  private static final int BOOLEAN = 1 << 1;
+  private static final int INTEGER = 1 << 2;
+  private static final int NUMBER = 1 << 3;
+  private static final int STRING = 1 << 4;
+  private static final int ARRAY = 1 << 5;
+  private static final int OBJECT = 1 << 6;
+  private static final int ANY = NULL | BOOLEAN | INTEGER | NUMBER | STRING | ARRAY | OBJECT;
+
+  // Keywords that don't constrain the object itself. Any other keyword makes the schema not flat.
+  private static final Set<String> ANNOTATIONS = Set.of("$schema", "$comment", "title", "description", "examples", "default");
+  private static final Set<String> OBJECT_KEYWORDS = Set.of("type", "properties", "required", "additionalProperties");
+  private static final Set<String> PROPERTY_KEYWORDS = Set.of("type", "airbyte_type");
+
+  private final String[] names;
+  private final int[] types;
+  private final String[] required;
+  private final Set<String> allowedNames;
+
+  private FlatJsonSchema(final String[] names, final int[] types, final String[] required, final Set<String> allowedNames) {
+    this.names = names;
+    this.types = types;
+    this.required = required;
+    this.allowedNames = allowedNames;
+  }
+
+  /**
+   * Returns the fast path of a schema, if it is flat.
+   */
+  static Optional<FlatJsonSchema> of(final JsonNode schema) {
+    if (schema == null || !schema.isObject() || !hasOnlyKeywords(schema, OBJECT_KEYWORDS)) {
+      return Optional.empty();
+    }
+    final JsonNode type = schema.get("type");
+    if (type != null && !(type.isTextual() && "object".equals(type.asText()))) {
+      return Optional.empty();
+    }
+
+    final JsonNode properties = schema.path("properties");
+    if (!properties.isMissingNode() && !properties.isObject()) {
+      return Optional.empty();
+    }
+    final List<String> names = new ArrayList<>();
+    final List<Integer> types = new ArrayList<>();
+    for (final Iterator<Map.Entry<String, JsonNode>> it = properties.fields(); it.hasNext();) {
+      final Map.Entry<String, JsonNode> property = it.next();
+      final int type = typeOf(property.getValue());
+      if (type < 0) {
+        return Optional.empty();
+      }
+      names.add(property.getKey());
+      types.add(type);
+    }
+
+    final JsonNode requiredNode = schema.path("required");
+    final List<String> required = new ArrayList<>();
+    if (!requiredNode.isMissingNode()) {
+      if (!requiredNode.isArray()) {
+        return Optional.empty();
+      }
+      for (final JsonNode name : requiredNode) {
+        if (!name.isTextual()) {
+          return Optional.empty();
+        }
+        required.add(name.asText());
+      }
+    }
+
+    final JsonNode additionalProperties = schema.path("additionalProperties");
+    final Set<String> allowedNames;
+    if (additionalProperties.isMissingNode() || additionalProperties.isBoolean() && additionalProperties.asBoolean()) {
+      allowedNames = null;
+    } else if (additionalProperties.isBoolean()) {
+      allowedNames = new HashSet<>(names);
+    } else {
+      return Optional.empty();
+    }
+
+    return Optional.of(new FlatJsonSchema(
+        names.toArray(new String[0]),
+        types.stream().mapToInt(Integer::intValue).toArray(),
+        required.toArray(new String[0]),
+        allowedNames));
+  }
+
+  /**
+   * Returns true if the object is valid against the schema, false if it may not be.
+   */
+  boolean test(final JsonNode object) {
+    if (object == null || !object.isObject()) {
+      return false;
+    }
+    for (final String name : required) {
+      if (!object.has(name)) {
+        return false;
+      }
+    }
+    for (int i = 0; i < names.length; i++) {
+      final JsonNode value = object.get(names[i]);
+      if (value != null && (types[i] & typeOfValue(value)) == 0) {
+        return false;
+      }
+    }
+    if (allowedNames != null) {
+      for (final Iterator<String> it = object.fieldNames(); it.hasNext();) {
+        if (!allowedNames.contains(it.next())) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the types a property accepts, or -1 if the property is constrained by more than its type.
+   */
+  private static int typeOf(final JsonNode propertySchema) {
+    if (!propertySchema.isObject() || !hasOnlyKeywords(propertySchema, PROPERTY_KEYWORDS)) {
+      return -1;
+    }
+    final JsonNode type = propertySchema.get("type");
+    if (type == null) {
+      return ANY;
+    }
+    if (type.isTextual()) {
+      return typeOf(type.asText());
+    }
+    if (!type.isArray() || type.isEmpty()) {
+      return -1;
+    }
+    int types = 0;
+    for (final JsonNode element : type) {
+      final int elementType = element.isTextual() ? typeOf(element.asText()) : -1;
+      if (elementType < 0) {
+        return -1;
+      }
+      types |= elementType;
+    }
+    return types;
+  }
+
+  private static int typeOf(final String type) {
+    return switch (type) {
+      case "null" -> NULL;
+      case "boolean" -> BOOLEAN;
+      case "integer" -> INTEGER;
+      // integers are numbers too.
+      case "number" -> NUMBER | INTEGER;
+      case "string" -> STRING;
+      case "array" -> ARRAY;
+      case "object" -> OBJECT;
+      default -> -1;
+    };
+  }
+
+  private static int typeOfValue(final JsonNode value) {
+    return switch (value.getNodeType()) {
+      case NULL -> NULL;
+      case BOOLEAN -> BOOLEAN;
+      case NUMBER -> value.isIntegralNumber() ? INTEGER : NUMBER;
+      case STRING -> STRING;
+      case ARRAY -> ARRAY;
+      case OBJECT -> OBJECT;
+      // Binary, POJO and missing nodes are left to the full validator.
+      default -> 0;
+    };
+  }
+
+  private static boolean hasOnlyKeywords(final JsonNode schema, final Set<String> keywords) {
+    for (final Iterator<String> it = schema.fieldNames(); it.hasNext();) {
+      final String keyword = it.next();
+      if (!keywords.contains(keyword) && !ANNOTATIONS.contains(keyword)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}
@@ -22,9 +22,9 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import me.andrz.jackson.JsonContext;
 import me.andrz.jackson.JsonReferenceException;
@@ -52,7 +52,8 @@ public class JsonSchemaValidator {
 
   private final JsonSchemaFactory jsonSchemaFactory;
   private final URI baseUri;
-  private final Map<String, JsonSchema> schemaToValidators = new HashMap<>();
+  private final Map<String, JsonSchema> schemaToValidators = new ConcurrentHashMap<>();
+  private final Map<String, FlatJsonSchema> schemaToFastPaths = new ConcurrentHashMap<>();
 
   public JsonSchemaValidator() {
     this(DEFAULT_BASE_URI);
@@ -76,9 +77,18 @@ public class JsonSchemaValidator {
    * Create and cache a schema validator for a particular schema. This validator is used when
    * {@link #testInitializedSchema(String, JsonNode)} and
    * {@link #validateInitializedSchema(String, JsonNode)} is called.
+   * <p>
+   * Flat schemas also get a fast path that skips the full validator for the objects it can tell are
+   * valid. Initialized schemas can then be used from several threads at once.
    */
   public void initializeSchemaValidator(final String schemaName, final JsonNode schemaJson) {
-    schemaToValidators.put(schemaName, getSchemaValidator(schemaJson));
+    final JsonSchema schema = getSchemaValidator(schemaJson);
+    // Validators are otherwise created lazily by the first validation.
+    schema.initializeValidators();
+    schemaToValidators.put(schemaName, schema);
+    FlatJsonSchema.of(schemaJson).ifPresentOrElse(
+        fastPath -> schemaToFastPaths.put(schemaName, fastPath),
+        () -> schemaToFastPaths.remove(schemaName));
   }
 
   /**
@@ -87,6 +97,9 @@ public class JsonSchemaValidator {
   public boolean testInitializedSchema(final String schemaName, final JsonNode objectJson) {
     final var schema = schemaToValidators.get(schemaName);
     Preconditions.checkNotNull(schema, schemaName + " needs to be initialised before calling this method");
+    if (passesFastPath(schemaName, objectJson)) {
+      return true;
+    }
 
     final var validate = schema.validate(objectJson);
     return validate.isEmpty();
@@ -99,11 +112,19 @@ public class JsonSchemaValidator {
   public Set<String> validateInitializedSchema(final String schemaName, final JsonNode objectNode) {
     final var schema = schemaToValidators.get(schemaName);
     Preconditions.checkNotNull(schema, schemaName + " needs to be initialised before calling this method");
+    if (passesFastPath(schemaName, objectNode)) {
+      return Set.of();
+    }
 
     final Set<ValidationMessage> validationMessages = schema.validate(objectNode);
     return validationMessages.stream().map(ValidationMessage::getMessage).collect(Collectors.toSet());
   }
 
+  private boolean passesFastPath(final String schemaName, final JsonNode objectJson) {
+    final FlatJsonSchema fastPath = schemaToFastPaths.get(schemaName);
+    return fastPath != null && fastPath.test(objectJson);
+  }
+
   /**
    * Test if a JSON object conforms to a given JSONSchema.
    * <p>
@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 
@@ -167,4 +168,46 @@ class JsonSchemaValidatorTest {
     assert !errorMessages.isEmpty();
   }
 
+  @Test
+  void testFlatSchemaFastPathAgreesWithFullValidation() {
+    final JsonNode flatSchema = Jsons.deserialize("""
+                                                  {
+                                                    "type": "object",
+                                                    "required": ["id"],
+                                                    "properties": {
+                                                      "id": {"type": "integer"},
+                                                      "name": {"type": ["null", "string"], "description": "name"},
+                                                      "score": {"type": "number", "airbyte_type": "float"},
+                                                      "tags": {"type": "array"},
+                                                      "anything": {}
+                                                    }
+                                                  }
+                                                  """);
+    assertTrue(FlatJsonSchema.of(flatSchema).isPresent());
+
+    final JsonSchemaValidator validator = new JsonSchemaValidator();
+    validator.initializeSchemaValidator("flat", flatSchema);
+    final List<JsonNode> objects = List.of(
+        Jsons.deserialize("{\"id\": 1}"),
+        Jsons.deserialize("{\"id\": 1, \"name\": null, \"score\": 2, \"tags\": [], \"anything\": {}}"),
+        Jsons.deserialize("{\"id\": 1, \"score\": 2.5, \"other\": true}"),
+        Jsons.deserialize("{\"id\": 1.0}"),
+        Jsons.deserialize("{\"id\": \"1\"}"),
+        Jsons.deserialize("{\"name\": \"a\"}"),
+        Jsons.deserialize("{\"id\": 1, \"tags\": {}}"),
+        Jsons.deserialize("[]"));
+    for (final JsonNode object : objects) {
+      assertEquals(validator.validate(flatSchema, object), validator.validateInitializedSchema("flat", object), object.toString());
+    }
+  }
+
+  @Test
+  void testSchemasWithMoreThanTypesAreNotFlat() {
+    assertTrue(FlatJsonSchema.of(VALID_SCHEMA).isEmpty());
+    assertTrue(FlatJsonSchema.of(Jsons.deserialize("{\"type\": \"object\", \"properties\": {\"a\": {\"type\": \"object\", \"properties\": {}}}}"))
+        .isEmpty());
+    assertTrue(FlatJsonSchema.of(Jsons.deserialize("{\"type\": \"object\", \"properties\": {\"a\": {\"$ref\": \"#/definitions/a\"}}}")).isEmpty());
+    assertTrue(FlatJsonSchema.of(Jsons.deserialize("{\"oneOf\": [{\"type\": \"object\"}]}")).isEmpty());
+  }
+
 }
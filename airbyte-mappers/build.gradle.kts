@@ -26,4 +26,7 @@ dependencies {
   testImplementation(libs.mockito.core)
   testImplementation(libs.mockk)
   testImplementation(libs.bundles.micronaut.test)
+  testImplementation(libs.jmh.core)
+
+  testAnnotationProcessor(libs.jmh.annotation.processor)
 }
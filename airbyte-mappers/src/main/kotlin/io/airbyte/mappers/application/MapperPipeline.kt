@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.mappers.application
+
+import io.airbyte.commons.timer.Stopwatch
+import io.airbyte.config.adapters.AirbyteRecord
+import io.github.oshai.kotlinlogging.KotlinLogging
+
+private val log = KotlinLogging.logger {}
+
+/**
+ * Mappers of a stream, resolved and compiled by [RecordMapper.compile] when the sync starts.
+ *
+ * Records go through the mappers in order, and stop as soon as one of them filters the record out.
+ */
+class MapperPipeline internal constructor(
+  steps: List<Step>,
+) {
+  internal class Step(
+    val stopwatch: Stopwatch,
+    val map: (AirbyteRecord) -> Unit,
+  )
+
+  private val steps = steps.toTypedArray()
+
+  fun isEmpty(): Boolean = steps.isEmpty()
+
+  fun apply(record: AirbyteRecord) {
+    try {
+      for (step in steps) {
+        if (!record.shouldInclude()) {
+          return
+        }
+        step.stopwatch.time { step.map(record) }
+      }
+    } catch (e: Exception) {
+      log.debug { "Error applying mappers: ${e.message}" }
+    }
+  }
+}
@@ -43,6 +43,20 @@ class RecordMapper(
     }
   }
 
+  /**
+   * Resolves the mappers configured for a stream once, so that mapping a record doesn't need to look
+   * them up again. Mappers without an implementation are skipped, as in [applyMappers].
+   */
+  @Suppress("UNCHECKED_CAST")
+  fun <T : MapperConfig> compile(configuredMappers: List<T>): MapperPipeline =
+    MapperPipeline(
+      configuredMappers.mapNotNull { mapperConfig ->
+        mappersByName[mapperConfig.name()]?.let { (mapper, stopwatch) ->
+          MapperPipeline.Step(stopwatch, (mapper as Mapper<T>).compile(mapperConfig))
+        }
+      },
+    )
+
   fun collectStopwatches(): Map<String, Stopwatch> =
     mappersByName
       .filterValues { it.stopwatch.getExecutionCount() > 0 }
@@ -5,6 +5,9 @@
 package io.airbyte.mappers.transformations
 
 import com.fasterxml.jackson.databind.JsonNode
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.google.common.hash.Hashing
 import io.airbyte.commons.json.Jsons
 import io.airbyte.config.AirbyteSecret
 import io.airbyte.config.ConfiguredMapper
@@ -19,6 +22,7 @@ import jakarta.inject.Singleton
 import java.security.KeyFactory
 import java.security.SecureRandom
 import java.security.spec.X509EncodedKeySpec
+import java.time.Duration
 import javax.crypto.Cipher
 import javax.crypto.spec.IvParameterSpec
 import javax.crypto.spec.SecretKeySpec
@@ -52,6 +56,15 @@ class EncryptionMapper : FilteredRecordsMapper<EncryptionMapperConfig>() {
 
   override fun spec(): MapperSpec<EncryptionMapperConfig> = EncryptionMapperSpec()
 
+  // Only filled when mapping records outside of a compiled pipeline. Configs hold secrets: they are
+  // not kept as keys, and encryptors of configs that are no longer used are evicted.
+  private val encryptors: Cache<String, Encryptor> =
+    Caffeine
+      .newBuilder()
+      .maximumSize(100)
+      .expireAfterAccess(Duration.ofMinutes(30))
+      .build<String, Encryptor>()
+
   override fun schema(
     config: EncryptionMapperConfig,
     slimStream: SlimStream,
@@ -71,40 +84,55 @@ class EncryptionMapper : FilteredRecordsMapper<EncryptionMapperConfig>() {
     config: EncryptionMapperConfig,
     record: AirbyteRecord,
   ) {
-    if (record.has(config.config.targetField)) {
-      val outputFieldName = getOutputFieldName(config)
+    encryptField(record, config.config.targetField, getOutputFieldName(config)) {
+      encryptors.get(digest(config.config)) { newEncryptor(config.config) }
+    }
+  }
+
+  override fun compile(config: EncryptionMapperConfig): (AirbyteRecord) -> Unit {
+    val targetField = config.config.targetField
+    val outputFieldName = getOutputFieldName(config)
+    // Created on the first record, so that a config that can't be used fails the records rather than the sync.
+    val encryptor by lazy { newEncryptor(config.config) }
+    return { record ->
+      if (record.shouldInclude()) {
+        encryptField(record, targetField, outputFieldName) { encryptor }
+      }
+    }
+  }
+
+  private fun encryptField(
+    record: AirbyteRecord,
+    targetField: String,
+    outputFieldName: String,
+    encryptor: () -> Encryptor,
+  ) {
+    if (record.has(targetField)) {
       var failed = false
       try {
-        val data = record.get(config.config.targetField).asString()
-        val encryptedData = encrypt(data.toByteArray(Charsets.UTF_8), config.config)
+        val data = record.get(targetField).asString()
+        val encryptedData = encryptor().encrypt(data.toByteArray(Charsets.UTF_8))
         record.set(outputFieldName, encryptedData)
       } catch (e: Exception) {
         // TODO We should use a more precise Reason once available in the protocol
         record.trackFieldError(outputFieldName, AirbyteRecord.Change.NULLED, AirbyteRecord.Reason.PLATFORM_SERIALIZATION_ERROR)
         failed = true
       } finally {
-        if (failed || outputFieldName != config.config.targetField) {
-          record.remove(config.config.targetField)
+        if (failed || outputFieldName != targetField) {
+          record.remove(targetField)
         }
       }
     }
   }
 
-  private fun getOutputFieldName(config: EncryptionMapperConfig): String = "${config.config.targetField}${config.config.fieldNameSuffix ?: ""}"
+  private fun digest(config: EncryptionConfig): String = Hashing.sha256().hashString(Jsons.serialize(config), Charsets.UTF_8).toString()
 
-  private fun encrypt(
-    data: ByteArray,
-    config: EncryptionConfig,
-  ): String =
-    when (config) {
-      is AesEncryptionConfig -> encryptAES(data, config)
-      is RsaEncryptionConfig -> encryptRSA(data, config)
-    }
+  private fun getOutputFieldName(config: EncryptionMapperConfig): String = "${config.config.targetField}${config.config.fieldNameSuffix ?: ""}"
 
   private fun encryptSample(config: EncryptionConfig) {
     val sampleData = "sample data"
     try {
-      encrypt(sampleData.toByteArray(Charsets.UTF_8), config)
+      newEncryptor(config).encrypt(sampleData.toByteArray(Charsets.UTF_8))
     } catch (e: MissingSecretValueException) {
       // ignore if key is not hydrated
     } catch (e: Exception) {
@@ -112,40 +140,61 @@ class EncryptionMapper : FilteredRecordsMapper<EncryptionMapperConfig>() {
     }
   }
 
-  private fun getCipher(config: EncryptionConfig): Cipher =
+  private fun newEncryptor(config: EncryptionConfig): Encryptor =
     when (config) {
-      is AesEncryptionConfig ->
-        try {
-          Cipher.getInstance("${config.algorithm}/${config.mode}/${config.padding}")
-        } catch (e: Exception) {
-          throw EncryptionConfigException("Mode ${config.mode} and padding ${config.padding} are incompatible for AES Encryption", e)
-        }
-      is RsaEncryptionConfig -> Cipher.getInstance(config.algorithm)
+      is AesEncryptionConfig -> AesEncryptor(config)
+      is RsaEncryptionConfig -> RsaEncryptor(config)
     }
 
+  /**
+   * Encrypts data for a given config. Keys are parsed once, and as ciphers aren't thread safe each
+   * thread gets its own.
+   */
+  private sealed class Encryptor {
+    abstract fun encrypt(data: ByteArray): String
+  }
+
   @OptIn(ExperimentalStdlibApi::class)
-  private fun encryptAES(
-    data: ByteArray,
+  private class AesEncryptor(
     config: AesEncryptionConfig,
-  ): String {
-    val key = config.key as? AirbyteSecret.Hydrated ?: throw MissingSecretValueException("key hasn't been hydrated")
-    val cipher = getCipher(config)
-    val iv = ByteArray(16)
-    SecureRandom().nextBytes(iv)
-    cipher.init(Cipher.ENCRYPT_MODE, SecretKeySpec(key.value.hexToByteArray(), config.algorithm), IvParameterSpec(iv))
-    val encryptedData = cipher.doFinal(data)
-    return (iv + encryptedData).toHexString()
+  ) : Encryptor() {
+    private val key =
+      (config.key as? AirbyteSecret.Hydrated ?: throw MissingSecretValueException("key hasn't been hydrated"))
+        .let { SecretKeySpec(it.value.hexToByteArray(), config.algorithm) }
+    private val ciphers = ThreadLocal.withInitial { getCipher(config) }
+
+    override fun encrypt(data: ByteArray): String {
+      val cipher = ciphers.get()
+      val iv = ByteArray(16)
+      secureRandom.get().nextBytes(iv)
+      cipher.init(Cipher.ENCRYPT_MODE, key, IvParameterSpec(iv))
+      val encryptedData = cipher.doFinal(data)
+      return (iv + encryptedData).toHexString()
+    }
   }
 
   @OptIn(ExperimentalStdlibApi::class)
-  private fun encryptRSA(
-    data: ByteArray,
+  private class RsaEncryptor(
     config: RsaEncryptionConfig,
-  ): String {
-    val cipher = getCipher(config)
-    val keyFactory = KeyFactory.getInstance(config.algorithm)
-    val keySpec = X509EncodedKeySpec(config.publicKey.hexToByteArray())
-    cipher.init(Cipher.ENCRYPT_MODE, keyFactory.generatePublic(keySpec))
-    return cipher.doFinal(data).toHexString()
+  ) : Encryptor() {
+    private val publicKey = KeyFactory.getInstance(config.algorithm).generatePublic(X509EncodedKeySpec(config.publicKey.hexToByteArray()))
+
+    // The cipher goes back to its initialized state after each doFinal, it only needs to be initialized once.
+    private val ciphers = ThreadLocal.withInitial { getCipher(config).apply { init(Cipher.ENCRYPT_MODE, publicKey) } }
+
+    override fun encrypt(data: ByteArray): String = ciphers.get().doFinal(data).toHexString()
   }
 }
+
+private val secureRandom = ThreadLocal.withInitial { SecureRandom() }
+
+private fun getCipher(config: EncryptionConfig): Cipher =
+  when (config) {
+    is AesEncryptionConfig ->
+      try {
+        Cipher.getInstance("${config.algorithm}/${config.mode}/${config.padding}")
+      } catch (e: Exception) {
+        throw EncryptionConfigException("Mode ${config.mode} and padding ${config.padding} are incompatible for AES Encryption", e)
+      }
+    is RsaEncryptionConfig -> Cipher.getInstance(config.algorithm)
+  }
@@ -12,6 +12,7 @@ import jakarta.inject.Named
 import jakarta.inject.Singleton
 import java.security.MessageDigest
 import java.util.HexFormat
+import java.util.concurrent.ConcurrentHashMap
 
 @Singleton
 @Named("HashingMapper")
@@ -32,10 +33,15 @@ class HashingMapper : FilteredRecordsMapper<HashingMapperConfig>() {
     const val SHA512 = "SHA-512"
 
     val supportedMethods = listOf(MD2, MD5, SHA1, SHA224, SHA256, SHA384, SHA512)
+
+    private val hexFormat = HexFormat.of()
   }
 
   private val hashingMapperSpec = HashingMapperSpec()
 
+  // MessageDigest instances aren't thread safe, each thread gets its own per method.
+  private val digests = ConcurrentHashMap<String, ThreadLocal<MessageDigest>>()
+
   override val name: String
     get() = MapperOperationName.HASHING
 
@@ -56,19 +62,37 @@ class HashingMapper : FilteredRecordsMapper<HashingMapperConfig>() {
     config: HashingMapperConfig,
     record: AirbyteRecord,
   ) {
+    hashField(record, config.config.targetField, "${config.config.targetField}${config.config.fieldNameSuffix}", config.config.method.value)
+  }
+
+  override fun compile(config: HashingMapperConfig): (AirbyteRecord) -> Unit {
+    val targetField = config.config.targetField
     val outputFieldName = "${config.config.targetField}${config.config.fieldNameSuffix}"
+    val method = config.config.method.value
+    return { record ->
+      if (record.shouldInclude()) {
+        hashField(record, targetField, outputFieldName, method)
+      }
+    }
+  }
 
-    if (record.has(config.config.targetField)) {
+  private fun hashField(
+    record: AirbyteRecord,
+    targetField: String,
+    outputFieldName: String,
+    method: String,
+  ) {
+    if (record.has(targetField)) {
       try {
-        val data = record.get(config.config.targetField).asString().toByteArray()
+        val data = record.get(targetField).asString().toByteArray()
 
-        val hashedAndEncodeValue: String = hashAndEncodeData(config.config.method.value, data)
+        val hashedAndEncodeValue: String = hashAndEncodeData(method, data)
         record.set(outputFieldName, hashedAndEncodeValue)
       } catch (e: Exception) {
         // TODO We should use a more precise Reason once available in the protocol
         record.trackFieldError(outputFieldName, AirbyteRecord.Change.NULLED, AirbyteRecord.Reason.PLATFORM_SERIALIZATION_ERROR)
       } finally {
-        record.remove(config.config.targetField)
+        record.remove(targetField)
       }
     }
   }
@@ -77,12 +101,19 @@ class HashingMapper : FilteredRecordsMapper<HashingMapperConfig>() {
     method: String,
     data: ByteArray,
   ): String {
-    if (supportedMethods.contains(method).not()) {
-      throw MapperException(type = DestinationCatalogGenerator.MapperErrorType.INVALID_MAPPER_CONFIG, message = "Unsupported hashing method: $method")
-    }
-
-    val hashedValue = MessageDigest.getInstance(method).digest(data)
-
-    return HexFormat.of().formatHex(hashedValue)
+    val digest =
+      digests
+        .computeIfAbsent(method) {
+          if (supportedMethods.contains(method).not()) {
+            throw MapperException(
+              type = DestinationCatalogGenerator.MapperErrorType.INVALID_MAPPER_CONFIG,
+              message = "Unsupported hashing method: $method",
+            )
+          }
+          ThreadLocal.withInitial { MessageDigest.getInstance(method) }
+        }.get()
+
+    // digest() resets the instance, it's ready for the next record.
+    return hexFormat.formatHex(digest.digest(data))
   }
 }
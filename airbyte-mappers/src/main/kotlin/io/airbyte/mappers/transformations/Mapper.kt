@@ -21,4 +21,10 @@ interface Mapper<T : MapperConfig> {
     config: T,
     record: AirbyteRecord,
   )
+
+  /**
+   * Returns a function mapping records with the given config. It is called once per stream when the
+   * sync starts, mappers can override it to do the work that only depends on the config up front.
+   */
+  fun compile(config: T): (AirbyteRecord) -> Unit = { record -> map(config, record) }
 }
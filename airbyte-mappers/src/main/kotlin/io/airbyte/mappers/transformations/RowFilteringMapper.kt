@@ -6,6 +6,11 @@ package io.airbyte.mappers.transformations
 
 import io.airbyte.config.MapperOperationName.ROW_FILTERING
 import io.airbyte.config.adapters.AirbyteRecord
+import io.airbyte.config.mapper.configs.AndOperation
+import io.airbyte.config.mapper.configs.EqualOperation
+import io.airbyte.config.mapper.configs.NotOperation
+import io.airbyte.config.mapper.configs.Operation
+import io.airbyte.config.mapper.configs.OrOperation
 import io.airbyte.config.mapper.configs.RowFilteringMapperConfig
 import jakarta.inject.Named
 import jakarta.inject.Singleton
@@ -31,4 +36,39 @@ class RowFilteringMapper : FilteredRecordsMapper<RowFilteringMapperConfig>() {
     val conditionEvalResult = config.config.conditions.eval(record)
     record.setInclude(conditionEvalResult)
   }
+
+  override fun compile(config: RowFilteringMapperConfig): (AirbyteRecord) -> Unit {
+    val condition = compileCondition(config.config.conditions)
+    return { record ->
+      if (record.shouldInclude()) {
+        record.setInclude(condition(record))
+      }
+    }
+  }
+
+  /**
+   * Turns a condition tree into nested functions, so that evaluating it doesn't go through the
+   * operations again for every record.
+   */
+  private fun compileCondition(operation: Operation): (AirbyteRecord) -> Boolean =
+    when (operation) {
+      is EqualOperation -> equalCondition(operation.fieldName, operation.comparisonValue)
+      is NotOperation -> noneCondition(operation.conditions.map { compileCondition(it) }.toTypedArray())
+      is OrOperation -> anyCondition(operation.conditions.map { compileCondition(it) }.toTypedArray())
+      is AndOperation -> allCondition(operation.conditions.map { compileCondition(it) }.toTypedArray())
+    }
+
+  private fun equalCondition(
+    fieldName: String,
+    comparisonValue: String,
+  ): (AirbyteRecord) -> Boolean = { record -> record.getString(fieldName) == comparisonValue }
+
+  private fun noneCondition(conditions: Array<(AirbyteRecord) -> Boolean>): (AirbyteRecord) -> Boolean =
+    { record -> conditions.none { it(record) } }
+
+  private fun anyCondition(conditions: Array<(AirbyteRecord) -> Boolean>): (AirbyteRecord) -> Boolean =
+    { record -> conditions.any { it(record) } }
+
+  private fun allCondition(conditions: Array<(AirbyteRecord) -> Boolean>): (AirbyteRecord) -> Boolean =
+    { record -> conditions.all { it(record) } }
 }
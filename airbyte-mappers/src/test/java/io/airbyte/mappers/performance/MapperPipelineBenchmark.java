@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.mappers.performance;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.AirbyteSecret;
+import io.airbyte.config.MapperConfig;
+import io.airbyte.config.MapperOperationName;
+import io.airbyte.config.adapters.AirbyteJsonRecordAdapter;
+import io.airbyte.config.mapper.configs.AesEncryptionConfig;
+import io.airbyte.config.mapper.configs.AesMode;
+import io.airbyte.config.mapper.configs.AesPadding;
+import io.airbyte.config.mapper.configs.EncryptionMapperConfig;
+import io.airbyte.config.mapper.configs.EqualOperation;
+import io.airbyte.config.mapper.configs.FieldRenamingConfig;
+import io.airbyte.config.mapper.configs.FieldRenamingMapperConfig;
+import io.airbyte.config.mapper.configs.HashingConfig;
+import io.airbyte.config.mapper.configs.HashingMapperConfig;
+import io.airbyte.config.mapper.configs.HashingMethods;
+import io.airbyte.config.mapper.configs.NotOperation;
+import io.airbyte.config.mapper.configs.RowFilteringConfig;
+import io.airbyte.config.mapper.configs.RowFilteringMapperConfig;
+import io.airbyte.mappers.application.MapperPipeline;
+import io.airbyte.mappers.application.RecordMapper;
+import io.airbyte.mappers.transformations.EncryptionMapper;
+import io.airbyte.mappers.transformations.FieldRenamingMapper;
+import io.airbyte.mappers.transformations.HashingMapper;
+import io.airbyte.mappers.transformations.RowFilteringMapper;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares applying the mappers of a stream by looking them up for every record against running
+ * the pipeline compiled once for the stream, for the common mapper chains.
+ * <p>
+ * Mappers modify the record they are given, so each invocation maps a fresh copy of the record,
+ * the cost of the copy is the same for both benchmarks.
+ * <p>
+ * Run with {@code org.openjdk.jmh.Main.main(new String[] {"MapperPipelineBenchmark", "-prof",
+ * "gc"})} to also compare allocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperPipelineBenchmark {
+
+  @Param({"hashing", "encryption", "renaming", "filtering", "all"})
+  public String chain;
+
+  private RecordMapper recordMapper;
+  private List<MapperConfig> mappers;
+  private MapperPipeline pipeline;
+  private ObjectNode data;
+
+  @Setup
+  public void setup() {
+    recordMapper = new RecordMapper(List.of(new HashingMapper(), new EncryptionMapper(), new FieldRenamingMapper(), new RowFilteringMapper()));
+
+    final MapperConfig hashing = new HashingMapperConfig(MapperOperationName.HASHING, null,
+        new HashingConfig("email", HashingMethods.SHA256, "_hashed"), null);
+    final MapperConfig encryption = new EncryptionMapperConfig(MapperOperationName.ENCRYPTION, null,
+        new AesEncryptionConfig("AES", "ssn", "_encrypted", AesMode.CBC, AesPadding.PKCS5Padding,
+            new AirbyteSecret.Hydrated(HexFormat.of().formatHex(new byte[16]))),
+        null);
+    final MapperConfig renaming = new FieldRenamingMapperConfig(MapperOperationName.FIELD_RENAMING, null,
+        new FieldRenamingConfig("name", "full_name"), null);
+    final MapperConfig filtering = new RowFilteringMapperConfig(MapperOperationName.ROW_FILTERING, null,
+        new RowFilteringConfig(new NotOperation("NOT", List.of(new EqualOperation("EQUAL", "status", "deleted")))), null);
+
+    mappers = switch (chain) {
+      case "hashing" -> List.of(hashing);
+      case "encryption" -> List.of(encryption);
+      case "renaming" -> List.of(renaming);
+      case "filtering" -> List.of(filtering);
+      default -> List.of(filtering, renaming, hashing, encryption);
+    };
+    pipeline = recordMapper.compile(mappers);
+
+    data = (ObjectNode) Jsons.emptyObject();
+    data.put("id", 42L);
+    data.put("name", "Jane Doe");
+    data.put("email", "jane.doe@example.com");
+    data.put("ssn", "123-45-6789");
+    data.put("status", "active");
+    data.put("updated_at", "2025-01-01T00:00:00Z");
+  }
+
+  @Benchmark
+  public AirbyteJsonRecordAdapter lookedUpPerRecord() {
+    final AirbyteJsonRecordAdapter record = newRecord();
+    recordMapper.applyMappers(record, mappers);
+    return record;
+  }
+
+  @Benchmark
+  public AirbyteJsonRecordAdapter compiledPipeline() {
+    final AirbyteJsonRecordAdapter record = newRecord();
+    pipeline.apply(record);
+    return record;
+  }
+
+  private AirbyteJsonRecordAdapter newRecord() {
+    return new AirbyteJsonRecordAdapter(new AirbyteMessage()
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(new AirbyteRecordMessage().withStream("users").withData(data.deepCopy())));
+  }
+
+}
@@ -6,15 +6,21 @@ package io.airbyte.mappers.application
 
 import io.airbyte.commons.json.Jsons
 import io.airbyte.config.adapters.AirbyteJsonRecordAdapter
+import io.airbyte.config.mapper.configs.EqualOperation
+import io.airbyte.config.mapper.configs.RowFilteringConfig
+import io.airbyte.config.mapper.configs.RowFilteringMapperConfig
 import io.airbyte.config.mapper.configs.TEST_MAPPER_NAME
 import io.airbyte.config.mapper.configs.TestConfig
 import io.airbyte.config.mapper.configs.TestEnums
 import io.airbyte.config.mapper.configs.TestMapperConfig
 import io.airbyte.mappers.mocks.TestMapper
+import io.airbyte.mappers.transformations.RowFilteringMapper
 import io.airbyte.protocol.models.AirbyteMessage
 import io.airbyte.protocol.models.AirbyteRecordMessage
 import io.mockk.spyk
+import io.mockk.verify
 import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
 import org.junit.jupiter.api.Test
 
 class RecordMapperTest {
@@ -48,6 +54,40 @@ class RecordMapperTest {
     assertEquals(expectedRecord, testRecord)
   }
 
+  @Test
+  fun testCompiledMappers() {
+    val testRecord = sampleRecord.deepCopy()
+
+    recordMapper
+      .compile(
+        listOf(
+          TestMapperConfig(TEST_MAPPER_NAME, null, null, TestConfig("field1", TestEnums.ONE, "field2")),
+          TestMapperConfig(TEST_MAPPER_NAME, null, null, TestConfig("field1_test", TestEnums.ONE, "field2")),
+        ),
+      ).apply(testRecord)
+
+    val expectedRecord = createRecord(mapOf("field1_test_test" to "value1"))
+    assertEquals(expectedRecord, testRecord)
+  }
+
+  @Test
+  fun testCompiledMappersStopOnceRecordIsFilteredOut() {
+    val recordMapper = RecordMapper(listOf(mapper, RowFilteringMapper()))
+    val testRecord = sampleRecord.deepCopy()
+
+    recordMapper
+      .compile(
+        listOf(
+          RowFilteringMapperConfig(config = RowFilteringConfig(EqualOperation(fieldName = "field1", comparisonValue = "other"))),
+          TestMapperConfig(TEST_MAPPER_NAME, null, null, TestConfig("field1", TestEnums.ONE, "field2")),
+        ),
+      ).apply(testRecord)
+
+    assertFalse(testRecord.shouldInclude())
+    assertEquals(sampleRecord.asProtocol, testRecord.asProtocol)
+    verify(exactly = 0) { mapper.map(any(), any()) }
+  }
+
   fun createRecord(data: Map<String, String>) =
     AirbyteJsonRecordAdapter(
       AirbyteMessage()
@@ -30,6 +30,7 @@ import org.junit.jupiter.api.assertDoesNotThrow
 import org.junit.jupiter.api.assertThrows
 import java.security.KeyPairGenerator
 import java.security.PrivateKey
+import java.util.concurrent.Executors
 import javax.crypto.Cipher
 import javax.crypto.SecretKey
 import javax.crypto.SecretKeyFactory
@@ -330,6 +331,37 @@ class EncryptionMapperTest {
     }
   }
 
+  @Test
+  fun `compiled encryption can be used for many records from several threads`() {
+    val keyFactory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256")
+    val key = keyFactory.generateSecret(PBEKeySpec("my secret".toCharArray(), "salt".toByteArray(), 65536, 256))
+    val aesConfig =
+      AesEncryptionConfig(
+        algorithm = "AES",
+        targetField = "testField",
+        fieldNameSuffix = "_encrypted",
+        mode = AesMode.CBC,
+        padding = AesPadding.PKCS5Padding,
+        key = AirbyteSecret.Hydrated(key.encoded.toHexString()),
+      )
+    val compiled = encryptionMapper.compile(EncryptionMapperConfig(config = aesConfig))
+
+    val executor = Executors.newFixedThreadPool(4)
+    val records =
+      try {
+        (0 until 100)
+          .map { i -> executor.submit<AirbyteRecord> { createRecord("testField", "value $i").also { compiled(it) } } }
+          .map { it.get() }
+      } finally {
+        executor.shutdownNow()
+      }
+
+    val encryptedValues = records.map { verifyRecordInvariant(it).get("testField_encrypted").asString() }
+    encryptedValues.forEachIndexed { i, encrypted -> assertEquals("value $i", decryptAES(encrypted, aesConfig, key)) }
+    // Every record gets its own IV.
+    assertEquals(encryptedValues.size, encryptedValues.map { it.substring(0, 32) }.toSet().size)
+  }
+
   @Test
   fun `testing rsa encryption schema rejects config with invalid key`() {
     val rsaConfig =
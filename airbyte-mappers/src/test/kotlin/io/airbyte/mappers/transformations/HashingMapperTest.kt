@@ -26,7 +26,10 @@ import org.junit.jupiter.api.Test
 import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.ValueSource
 import java.io.File
+import java.security.MessageDigest
 import java.security.Security
+import java.util.HexFormat
+import java.util.concurrent.Executors
 
 private const val MAPPER_NAME = "hashing"
 
@@ -102,6 +105,30 @@ class HashingMapperTest {
     assertEquals("value2", record.get("field2").asString())
   }
 
+  @Test
+  fun compiledHashingMatchesMessageDigestFromSeveralThreads() {
+    val config = HashingMapperConfig(MAPPER_NAME, null, HashingConfig("field1", HashingMethods.SHA256, "_hashed"))
+    val compiled = hashingMapper.compile(config)
+
+    val executor = Executors.newFixedThreadPool(4)
+    val records =
+      try {
+        (0 until 100)
+          .map { i ->
+            executor.submit<TestRecordAdapter> {
+              TestRecordAdapter(StreamDescriptor().withName("stream"), mapOf("field1" to "value$i")).also { compiled(it) }
+            }
+          }.map { it.get() }
+      } finally {
+        executor.shutdownNow()
+      }
+
+    records.forEachIndexed { i, record ->
+      val expected = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest("value$i".toByteArray()))
+      assertEquals(expected, record.get("field1_hashed").asString())
+    }
+  }
+
   @Test
   fun testAllMethodAreSupported() {
     val messageDigestAlgorithms = Security.getAlgorithms("MessageDigest")
@@ -10,6 +10,11 @@ import io.airbyte.commons.json.Jsons
 import io.airbyte.config.ConfiguredMapper
 import io.airbyte.config.adapters.AirbyteJsonRecordAdapter
 import io.airbyte.config.adapters.AirbyteRecord
+import io.airbyte.config.mapper.configs.AndOperation
+import io.airbyte.config.mapper.configs.EqualOperation
+import io.airbyte.config.mapper.configs.NotOperation
+import io.airbyte.config.mapper.configs.OrOperation
+import io.airbyte.config.mapper.configs.RowFilteringConfig
 import io.airbyte.config.mapper.configs.RowFilteringMapperConfig
 import io.airbyte.protocol.models.AirbyteMessage
 import io.airbyte.protocol.models.AirbyteRecordMessage
@@ -309,6 +314,44 @@ class RowFilteringMapperTest {
     assertNoChangesMadeToRecord(recordToInclude, recordToIncludeData)
   }
 
+  @Test
+  fun `compiled conditions give the same result as evaluated conditions`() {
+    val conditions =
+      NotOperation(
+        conditions =
+          listOf(
+            OrOperation(
+              conditions =
+                listOf(
+                  EqualOperation(fieldName = "region", comparisonValue = "us"),
+                  AndOperation(
+                    conditions =
+                      listOf(
+                        EqualOperation(fieldName = "status", comparisonValue = "inactive"),
+                        EqualOperation(fieldName = "region", comparisonValue = "eu"),
+                      ),
+                  ),
+                ),
+            ),
+          ),
+      )
+    val config = RowFilteringMapperConfig(config = RowFilteringConfig(conditions))
+    val compiled = mapper.compile(config)
+
+    val statuses = listOf("active", "inactive", null)
+    val regions = listOf("us", "eu", "asia", null)
+    statuses.forEach { status ->
+      regions.forEach { region ->
+        val data = listOfNotNull(status?.let { "status" to it }, region?.let { "region" to it }).toMap()
+        val record = getRecord(data)
+
+        compiled(record)
+
+        Assertions.assertEquals(conditions.eval(getRecord(data)), record.shouldInclude(), "Unexpected result for $data")
+      }
+    }
+  }
+
   @Nested
   internal inner class RowFilteringMapperSpecTest {
     @Test
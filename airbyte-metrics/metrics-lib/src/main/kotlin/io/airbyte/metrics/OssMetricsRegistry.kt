@@ -201,6 +201,10 @@ enum class OssMetricsRegistry(
     metricName = "kube_pod_process_create_time_millisecs",
     metricDescription = "time taken to create a new kube pod process",
   ),
+  LOG_APPENDER_EVENTS_DROPPED(
+    metricName = "log_appender_events_dropped",
+    metricDescription = "the number of log events dropped because the remote log upload buffer was full",
+  ),
   LOG_CLIENT_FILE_LINE_BYTES_RETRIEVED(
     metricName = "log_client_file_byte_count",
     metricDescription = "the number of bytes retrieved from the job log file(s)",
@@ -265,6 +269,10 @@ enum class OssMetricsRegistry(
     metricName = "schemas_unexpected_fields",
     metricDescription = "number of unexpected (top level) fields for a given stream",
   ),
+  NUM_DROPPED_SCHEMA_VALIDATIONS(
+    metricName = "record_schema_validation_dropped",
+    metricDescription = "number of records not validated because schema validation was falling behind",
+  ),
   NUM_TOTAL_SCHEDULED_SYNCS_IN_LAST_DAY(
     metricName = "num_total_scheduled_syncs_last_day",
     metricDescription = "number of total syncs runs in last day.",
@@ -389,6 +397,22 @@ enum class OssMetricsRegistry(
       "number of syncs where the state timestamp metric tracker ran out of memory or " +
         "was unable to match destination state message to source state message",
   ),
+  STATE_PERSISTENCE_FLUSH_TIME_MS(
+    metricName = "state_persistence_flush_time_ms",
+    metricDescription = "the amount of time spent persisting the state of a connection in milliseconds",
+  ),
+  STATE_PERSISTENCE_ROWS_DELETED(
+    metricName = "state_persistence_rows_deleted",
+    metricDescription = "number of state rows deleted because their stream was reset",
+  ),
+  STATE_PERSISTENCE_ROWS_UNCHANGED(
+    metricName = "state_persistence_rows_unchanged",
+    metricDescription = "number of state rows not rewritten because their content did not change",
+  ),
+  STATE_PERSISTENCE_ROWS_WRITTEN(
+    metricName = "state_persistence_rows_written",
+    metricDescription = "number of state rows inserted or updated",
+  ),
   STATE_PROCESSED_FROM_DESTINATION(
     metricName = "state_processed_from_destination",
     metricDescription = "counter for number of state messages received from destination",
@@ -703,6 +727,18 @@ enum class OssMetricsRegistry(
     metricName = "workload_queue_messages_polled",
     metricDescription = "Count of messages polled",
   ),
+  WORKLOAD_QUEUE_POLLS(
+    metricName = "workload_queue_polls",
+    metricDescription = "Count of polls of the workload queue",
+  ),
+  WORKLOAD_QUEUE_EMPTY_POLLS(
+    metricName = "workload_queue_empty_polls",
+    metricDescription = "Count of polls of the workload queue that returned no workload",
+  ),
+  WORKLOAD_QUEUE_DISPATCH_LATENCY(
+    metricName = "workload_queue_dispatch_latency",
+    metricDescription = "time between the creation of a workload and its delivery to a launcher by the workload queue",
+  ),
   WORKLOAD_QUEUE_SIZE(
     metricName = "workload_queue_size",
     metricDescription = "used to track the queue size launcher does not processes a workload successfully",
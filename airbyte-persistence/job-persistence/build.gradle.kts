@@ -51,4 +51,7 @@ dependencies {
   testImplementation(libs.assertj.core)
 
   testImplementation(libs.junit.pioneer)
+  testImplementation(libs.jmh.core)
+
+  testAnnotationProcessor(libs.jmh.annotation.processor)
 }
@@ -11,6 +11,7 @@ import static io.airbyte.db.instance.jobs.jooq.generated.Tables.STREAM_ATTEMPT_M
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.STREAM_STATS;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.SYNC_STATS;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import datadog.trace.api.Trace;
@@ -34,6 +35,7 @@ import io.airbyte.config.JobOutput;
 import io.airbyte.config.JobStatus;
 import io.airbyte.config.JobStatusSummary;
 import io.airbyte.config.StreamSyncStats;
+import io.airbyte.config.SyncMode;
 import io.airbyte.config.SyncStats;
 import io.airbyte.config.persistence.PersistenceHelpers;
 import io.airbyte.db.Database;
@@ -45,6 +47,7 @@ import io.airbyte.protocol.models.v0.StreamDescriptor;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
@@ -55,11 +58,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -97,6 +101,8 @@ public class DefaultJobPersistence implements JobPersistence {
   private static final String DEPLOYMENT_ID_KEY = "deployment_id";
   private static final String METADATA_KEY_COL = "key";
   private static final String METADATA_VAL_COL = "value";
+  private static final String LEGACY_WAS_BACKFILLED_FIELD = "legacy_was_backfilled";
+  private static final String LEGACY_WAS_RESUMED_FIELD = "legacy_was_resumed";
   private static final String AIRBYTE_METADATA_TABLE = "airbyte_metadata";
   private static final String ORDER_BY_JOB_TIME_ATTEMPT_TIME =
       "ORDER BY jobs.created_at DESC, jobs.id DESC, attempts.created_at ASC, attempts.id ASC ";
@@ -119,6 +125,31 @@ public class DefaultJobPersistence implements JobPersistence {
                                                  attempts.updated_at AS attempt_updated_at,
                                                  attempts.ended_at AS attempt_ended_at
                                                """;
+  private static final String NAME_KEY = "name";
+  private static final String NAMESPACE_KEY = "namespace";
+  private static final String SYNC_MODE_KEY = "sync_mode";
+  private static final String CATALOG_STREAMS = "COALESCE(jobs.config #> '{sync,configuredAirbyteCatalog,streams}', "
+      + "jobs.config #> '{refresh,configuredAirbyteCatalog,streams}', "
+      + "jobs.config #> '{resetConnection,configuredAirbyteCatalog,streams}')";
+  // Only the name, namespace and sync mode of each stream leave the database, not the catalog.
+  private static final Field<JSONB> STREAM_SYNC_MODES = DSL.field(
+      "(SELECT jsonb_agg(jsonb_build_object('" + NAME_KEY + "', s->'stream'->>'name', '" + NAMESPACE_KEY + "', s->'stream'->>'namespace', '"
+          + SYNC_MODE_KEY + "', s->>'sync_mode')) "
+          + "FROM jsonb_array_elements(CASE WHEN jsonb_typeof(" + CATALOG_STREAMS + ") = 'array' THEN " + CATALOG_STREAMS + " END) s)",
+      JSONB.class).as("stream_sync_modes");
+  private static final Field<JSONB> LAST_ATTEMPT_FAILURE_SUMMARY = DSL.field(
+      "(SELECT failure_summary FROM attempts WHERE attempts.job_id = jobs.id ORDER BY attempts.attempt_number DESC LIMIT 1)",
+      JSONB.class).as("last_attempt_failure_summary");
+  private static final String STREAM_STATS_ROLLUP_SELECT = "SELECT CAST(jobs.scope AS uuid), stats.stream_namespace, stats.stream_name, "
+      + "date_trunc('hour', attempts.ended_at), SUM(COALESCE(stats.records_committed, 0)) "
+      + "FROM stream_stats stats "
+      + "INNER JOIN attempts ON stats.attempt_id = attempts.id "
+      + "INNER JOIN jobs ON attempts.job_id = jobs.id "
+      + "WHERE attempts.job_id = ? AND attempts.attempt_number = ? AND CAST(jobs.config_type AS VARCHAR) = '" + toSqlName(ConfigType.SYNC) + "' "
+      + "AND attempts.output IS NOT NULL AND attempts.ended_at IS NOT NULL ";
+  private static final String STREAM_STATS_ROLLUP_GROUP_BY = "GROUP BY 1, 2, 3, 4 ";
+  private static final String STREAM_STATS_ROLLUP_ON_CONFLICT =
+      "DO UPDATE SET records_committed = stream_stats_rollup.records_committed + excluded.records_committed, updated_at = now()";
   @VisibleForTesting
   static final String BASE_JOB_SELECT_AND_JOIN = jobSelectAndJoin("jobs");
   private static final String ATTEMPT_SELECT =
@@ -285,36 +316,18 @@ public class DefaultJobPersistence implements JobPersistence {
    * This method needed to be called after
    * {@link DefaultJobPersistence#hydrateSyncStats(String, DSLContext)} as it assumes hydrateSyncStats
    * has prepopulated the map.
+   * <p>
+   * The backfilled and resumed flags come from stream_attempt_metadata. Attempts that predate it only
+   * have them in their output, so for the streams without metadata, the flags are projected out of
+   * the output by the database rather than loading and parsing the whole output, which contains the
+   * catalog.
    */
   private static void hydrateStreamStats(final String jobIdsStr, final DSLContext ctx, final Map<JobAttemptPair, AttemptStats> attemptStats) {
-
-    final var attemptOutputs = ctx.fetch("SELECT id, output FROM attempts WHERE job_id in (%s);".formatted(jobIdsStr));
-    final Map<Long, Set<StreamDescriptor>> backFilledStreamsPerAttemptId = new HashMap<>();
-    final Map<Long, Set<StreamDescriptor>> resumedStreamsPerAttemptId = new HashMap<>();
-    for (final var result : attemptOutputs) {
-      final long attemptId = result.get(ATTEMPTS.ID);
-      final var backfilledStreams = backFilledStreamsPerAttemptId.computeIfAbsent(attemptId, (k) -> new HashSet<>());
-      final var resumedStreams = resumedStreamsPerAttemptId.computeIfAbsent(attemptId, (k) -> new HashSet<>());
-      final JSONB attemptOutput = result.get(ATTEMPTS.OUTPUT);
-      final JobOutput output = attemptOutput != null ? parseJobOutputFromString(attemptOutput.toString()) : null;
-      if (output != null && output.getSync() != null && output.getSync().getStandardSyncSummary() != null
-          && output.getSync().getStandardSyncSummary().getStreamStats() != null) {
-        for (final var streamSyncStats : output.getSync().getStandardSyncSummary().getStreamStats()) {
-          if (Boolean.TRUE == streamSyncStats.getWasBackfilled()) {
-            backfilledStreams
-                .add(new StreamDescriptor().withNamespace(streamSyncStats.getStreamNamespace()).withName(streamSyncStats.getStreamName()));
-          }
-          if (Boolean.TRUE == streamSyncStats.getWasResumed()) {
-            resumedStreams.add(new StreamDescriptor().withNamespace(streamSyncStats.getStreamNamespace()).withName(streamSyncStats.getStreamName()));
-          }
-        }
-      }
-    }
-
     final var streamResults = ctx.fetch(
         "SELECT atmpt.id, atmpt.attempt_number, atmpt.job_id, "
             + "stats.stream_name, stats.stream_namespace, stats.estimated_bytes, stats.estimated_records, stats.bytes_emitted, stats.records_emitted,"
-            + "stats.bytes_committed, stats.records_committed, sam.was_backfilled, sam.was_resumed "
+            + "stats.bytes_committed, stats.records_committed, sam.was_backfilled, sam.was_resumed, "
+            + "legacy.was_backfilled AS " + LEGACY_WAS_BACKFILLED_FIELD + ", legacy.was_resumed AS " + LEGACY_WAS_RESUMED_FIELD + " "
             + "FROM stream_stats stats "
             + "INNER JOIN attempts atmpt ON atmpt.id = stats.attempt_id "
             + "LEFT JOIN stream_attempt_metadata sam ON ("
@@ -322,21 +335,31 @@ public class DefaultJobPersistence implements JobPersistence {
             + "sam.stream_name = stats.stream_name and "
             + "((sam.stream_namespace is null and stats.stream_namespace is null) or (sam.stream_namespace = stats.stream_namespace))"
             + ") "
+            // The output is only read when the stream has no metadata. It is then detoasted and walked once per
+            // stream row rather than once per attempt, which is only acceptable because this is limited to the
+            // attempts written before stream_attempt_metadata existed.
+            + "LEFT JOIN LATERAL ("
+            + "SELECT bool_or((output_stats->>'wasBackfilled')::boolean) AS was_backfilled, "
+            + "bool_or((output_stats->>'wasResumed')::boolean) AS was_resumed "
+            + "FROM jsonb_array_elements(CASE WHEN sam.id IS NULL "
+            + "AND jsonb_typeof(atmpt.output #> '{sync,standardSyncSummary,streamStats}') = 'array' "
+            + "THEN atmpt.output #> '{sync,standardSyncSummary,streamStats}' END) output_stats "
+            + "WHERE output_stats->>'streamName' = stats.stream_name "
+            + "AND output_stats->>'streamNamespace' IS NOT DISTINCT FROM stats.stream_namespace"
+            + ") legacy ON true "
             + "WHERE stats.attempt_id IN "
             + "( SELECT id FROM attempts WHERE job_id IN ( " + jobIdsStr + "));");
 
     streamResults.forEach(r -> {
       final String streamNamespace = r.get(STREAM_STATS.STREAM_NAMESPACE);
       final String streamName = r.get(STREAM_STATS.STREAM_NAME);
-      final long attemptId = r.get(ATTEMPTS.ID);
-      final var streamDescriptor = new StreamDescriptor().withName(streamName).withNamespace(streamNamespace);
 
       // We merge the information from the database and what is retrieved from the attemptOutput because
       // the historical data is only present in the attemptOutput
       final boolean wasBackfilled = getOrDefaultFalse(r, STREAM_ATTEMPT_METADATA.WAS_BACKFILLED)
-          || backFilledStreamsPerAttemptId.getOrDefault(attemptId, new HashSet<>()).contains(streamDescriptor);
+          || getOrDefaultFalse(r, DSL.field(LEGACY_WAS_BACKFILLED_FIELD, Boolean.class));
       final boolean wasResumed = getOrDefaultFalse(r, STREAM_ATTEMPT_METADATA.WAS_RESUMED)
-          || resumedStreamsPerAttemptId.getOrDefault(attemptId, new HashSet<>()).contains(streamDescriptor);
+          || getOrDefaultFalse(r, DSL.field(LEGACY_WAS_RESUMED_FIELD, Boolean.class));
 
       final var streamSyncStats = new StreamSyncStats()
           .withStreamNamespace(streamNamespace)
@@ -693,6 +716,7 @@ public class DefaultJobPersistence implements JobPersistence {
     // TODO: stop using LocalDateTime
     // https://github.com/airbytehq/airbyte-platform-internal/issues/10815
     jobDatabase.transaction(ctx -> {
+      final boolean attemptEnds = isAttemptRunning(ctx, jobId, attemptNumber);
       final LocalDateTime now = updateJobStatus(ctx, jobId, JobStatus.INCOMPLETE);
 
       ctx.execute(
@@ -702,6 +726,9 @@ public class DefaultJobPersistence implements JobPersistence {
           now,
           jobId,
           attemptNumber);
+      if (attemptEnds) {
+        rollUpStreamStats(ctx, jobId, attemptNumber);
+      }
       return null;
     });
   }
@@ -711,6 +738,7 @@ public class DefaultJobPersistence implements JobPersistence {
     // TODO: stop using LocalDateTime
     // https://github.com/airbytehq/airbyte-platform-internal/issues/10815
     jobDatabase.transaction(ctx -> {
+      final boolean attemptEnds = isAttemptRunning(ctx, jobId, attemptNumber);
       final LocalDateTime now = updateJobStatus(ctx, jobId, JobStatus.SUCCEEDED);
 
       ctx.execute(
@@ -720,10 +748,42 @@ public class DefaultJobPersistence implements JobPersistence {
           now,
           jobId,
           attemptNumber);
+      if (attemptEnds) {
+        rollUpStreamStats(ctx, jobId, attemptNumber);
+      }
       return null;
     });
   }
 
+  private static boolean isAttemptRunning(final DSLContext ctx, final long jobId, final int attemptNumber) {
+    return ctx.fetchExists(ctx.selectOne().from(ATTEMPTS)
+        .where(ATTEMPTS.JOB_ID.eq(jobId), ATTEMPTS.ATTEMPT_NUMBER.eq(attemptNumber), ATTEMPTS.ENDED_AT.isNull()));
+  }
+
+  /**
+   * Adds the records committed by an attempt of a sync job to the hourly buckets of its streams,
+   * which is what the stream history of a connection reads. Attempts are rolled up whether their job
+   * succeeds or not, since failed attempts may still have committed records. Nothing is added until
+   * the attempt has ended and its output has been written, so callers roll up each attempt once, when
+   * the last of the two happens.
+   */
+  private static void rollUpStreamStats(final DSLContext ctx, final long jobId, final int attemptNumber) {
+    // Null namespaces have their own unique index, so each kind of stream needs its own conflict
+    // target.
+    ctx.execute(
+        "INSERT INTO stream_stats_rollup (connection_id, stream_namespace, stream_name, bucket_start, records_committed) "
+            + STREAM_STATS_ROLLUP_SELECT + "AND stats.stream_namespace IS NOT NULL " + STREAM_STATS_ROLLUP_GROUP_BY
+            + "ON CONFLICT (connection_id, stream_namespace, stream_name, bucket_start) WHERE stream_namespace IS NOT NULL "
+            + STREAM_STATS_ROLLUP_ON_CONFLICT,
+        jobId, attemptNumber);
+    ctx.execute(
+        "INSERT INTO stream_stats_rollup (connection_id, stream_namespace, stream_name, bucket_start, records_committed) "
+            + STREAM_STATS_ROLLUP_SELECT + "AND stats.stream_namespace IS NULL " + STREAM_STATS_ROLLUP_GROUP_BY
+            + "ON CONFLICT (connection_id, stream_name, bucket_start) WHERE stream_namespace IS NULL "
+            + STREAM_STATS_ROLLUP_ON_CONFLICT,
+        jobId, attemptNumber);
+  }
+
   @Override
   public Optional<Attempt> getAttemptForJob(final long jobId, final int attemptNumber) throws IOException {
     final var result = jobDatabase.query(ctx -> ctx.fetch(
@@ -742,6 +802,10 @@ public class DefaultJobPersistence implements JobPersistence {
     final Job job = getJob(jobId);
     final UUID connectionId = UUID.fromString(job.getScope());
     jobDatabase.transaction(ctx -> {
+      // Attempts that ended before their output was written are rolled up here rather than when they
+      // ended.
+      final boolean attemptEndedWithoutOutput = ctx.fetchExists(ctx.selectOne().from(ATTEMPTS)
+          .where(ATTEMPTS.JOB_ID.eq(jobId), ATTEMPTS.ATTEMPT_NUMBER.eq(attemptNumber), ATTEMPTS.ENDED_AT.isNotNull(), ATTEMPTS.OUTPUT.isNull()));
       ctx.update(ATTEMPTS)
           .set(ATTEMPTS.OUTPUT, JSONB.valueOf(Jsons.serialize(output)))
           .set(ATTEMPTS.UPDATED_AT, now)
@@ -758,6 +822,9 @@ public class DefaultJobPersistence implements JobPersistence {
       if (streamSyncStats != null && !streamSyncStats.isEmpty()) {
         saveToStreamStatsTableBatch(now, output.getSync().getStandardSyncSummary().getStreamStats(), attemptId, connectionId, ctx);
       }
+      if (attemptEndedWithoutOutput) {
+        rollUpStreamStats(ctx, jobId, attemptNumber);
+      }
       return null;
     });
 
@@ -1017,6 +1084,109 @@ public class DefaultJobPersistence implements JobPersistence {
     });
   }
 
+  @Override
+  public JobSummaryPage listJobSummaries(final Set<ConfigType> configTypes,
+                                         final String configId,
+                                         final Set<JobStatus> statuses,
+                                         final OffsetDateTime createdAtStart,
+                                         final OffsetDateTime createdAtEnd,
+                                         final OffsetDateTime updatedAtStart,
+                                         final OffsetDateTime updatedAtEnd,
+                                         final Set<JobSummaryField> fields,
+                                         final JobSummaryCursor after,
+                                         final int limit)
+      throws IOException {
+    final List<Field<?>> selectedFields = new ArrayList<>(List.of(JOBS.ID, JOBS.CONFIG_TYPE, JOBS.SCOPE, JOBS.CREATED_AT));
+    if (fields.contains(JobSummaryField.STATUS)) {
+      selectedFields.add(JOBS.STATUS);
+    }
+    if (fields.contains(JobSummaryField.TIMESTAMPS)) {
+      selectedFields.add(JOBS.STARTED_AT);
+      selectedFields.add(JOBS.UPDATED_AT);
+    }
+    if (fields.contains(JobSummaryField.STREAM_SYNC_MODES)) {
+      selectedFields.add(STREAM_SYNC_MODES);
+    }
+    if (fields.contains(JobSummaryField.FAILURE_SUMMARY)) {
+      selectedFields.add(LAST_ATTEMPT_FAILURE_SUMMARY);
+    }
+
+    return jobDatabase.query(ctx -> {
+      // One more job than requested tells whether there is a next page.
+      final Result<Record> result = ctx.select(selectedFields).from(JOBS)
+          .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
+          .and(configId == null ? DSL.noCondition()
+              : JOBS.SCOPE.eq(configId))
+          .and(statuses == null ? DSL.noCondition()
+              : JOBS.STATUS.in(statuses.stream()
+                  .map(status -> io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus.lookupLiteral(toSqlName(status)))
+                  .collect(Collectors.toList())))
+          .and(createdAtStart == null ? DSL.noCondition() : JOBS.CREATED_AT.ge(createdAtStart))
+          .and(createdAtEnd == null ? DSL.noCondition() : JOBS.CREATED_AT.le(createdAtEnd))
+          .and(updatedAtStart == null ? DSL.noCondition() : JOBS.UPDATED_AT.ge(updatedAtStart))
+          .and(updatedAtEnd == null ? DSL.noCondition() : JOBS.UPDATED_AT.le(updatedAtEnd))
+          .and(after == null ? DSL.noCondition()
+              : DSL.row(JOBS.CREATED_AT, JOBS.ID).lt(after.createdAt(), after.id()))
+          .orderBy(JOBS.CREATED_AT.desc(), JOBS.ID.desc())
+          .limit(limit + 1)
+          .fetch();
+
+      final List<Record> records = result.size() > limit ? result.subList(0, limit) : result;
+      final Map<Long, SortedMap<Integer, AttemptStats>> statsByJob = new HashMap<>();
+      if (fields.contains(JobSummaryField.STATS) && !records.isEmpty()) {
+        final String jobIdsStr = records.stream()
+            .map(r -> r.get(JOBS.ID).toString())
+            .collect(Collectors.joining(","));
+        final Map<JobAttemptPair, AttemptStats> attemptStats = hydrateSyncStats(jobIdsStr, ctx);
+        hydrateStreamStats(jobIdsStr, ctx, attemptStats);
+        attemptStats.forEach((pair, stats) -> statsByJob.computeIfAbsent(pair.id(), id -> new TreeMap<>()).put(pair.attemptNumber(), stats));
+      }
+
+      final List<JobSummary> jobs = records.stream()
+          .map(r -> getJobSummaryFromRecord(r, fields, statsByJob))
+          .toList();
+      final Record last = records.isEmpty() ? null : records.getLast();
+      final JobSummaryCursor next = result.size() > limit ? new JobSummaryCursor(last.get(JOBS.CREATED_AT), last.get(JOBS.ID)) : null;
+      return new JobSummaryPage(jobs, next);
+    });
+  }
+
+  private static JobSummary getJobSummaryFromRecord(final Record record,
+                                                    final Set<JobSummaryField> fields,
+                                                    final Map<Long, SortedMap<Integer, AttemptStats>> statsByJob) {
+    final long jobId = record.get(JOBS.ID);
+    final boolean withTimestamps = fields.contains(JobSummaryField.TIMESTAMPS);
+    final OffsetDateTime startedAt = withTimestamps ? record.get(JOBS.STARTED_AT) : null;
+    final JSONB failureSummary = fields.contains(JobSummaryField.FAILURE_SUMMARY) ? record.get(LAST_ATTEMPT_FAILURE_SUMMARY) : null;
+    return new JobSummary(
+        jobId,
+        Enums.toEnum(record.get(JOBS.CONFIG_TYPE).getLiteral(), ConfigType.class).orElseThrow(),
+        record.get(JOBS.SCOPE),
+        record.get(JOBS.CREATED_AT).toEpochSecond(),
+        fields.contains(JobSummaryField.STATUS) ? JobStatus.valueOf(record.get(JOBS.STATUS).getLiteral().toUpperCase()) : null,
+        startedAt == null ? null : startedAt.toEpochSecond(),
+        withTimestamps ? record.get(JOBS.UPDATED_AT).toEpochSecond() : null,
+        fields.contains(JobSummaryField.STREAM_SYNC_MODES) ? getStreamSyncModes(record.get(STREAM_SYNC_MODES)) : null,
+        fields.contains(JobSummaryField.STATS) ? statsByJob.getOrDefault(jobId, Collections.emptySortedMap()) : null,
+        failureSummary == null ? null : Jsons.deserialize(failureSummary.data(), AttemptFailureSummary.class));
+  }
+
+  private static Map<io.airbyte.config.StreamDescriptor, SyncMode> getStreamSyncModes(final JSONB streamSyncModes) {
+    final Map<io.airbyte.config.StreamDescriptor, SyncMode> syncModes = new HashMap<>();
+    if (streamSyncModes == null) {
+      return syncModes;
+    }
+    for (final JsonNode stream : Jsons.deserialize(streamSyncModes.data())) {
+      final JsonNode syncMode = stream.get(SYNC_MODE_KEY);
+      syncModes.put(
+          new io.airbyte.config.StreamDescriptor()
+              .withName(stream.get(NAME_KEY).asText())
+              .withNamespace(stream.hasNonNull(NAMESPACE_KEY) ? stream.get(NAMESPACE_KEY).asText() : null),
+          syncMode == null || syncMode.isNull() ? SyncMode.FULL_REFRESH : SyncMode.fromValue(syncMode.asText()));
+    }
+    return syncModes;
+  }
+
   @VisibleForTesting
   List<Job> listJobs(final Set<ConfigType> configTypes,
                      final String configId,
@@ -1103,6 +1273,17 @@ public class DefaultJobPersistence implements JobPersistence {
     });
   }
 
+  @Override
+  public List<Job> listJobs(final Set<Long> jobIds) throws IOException {
+    return jobDatabase.query(ctx -> {
+      final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
+          .where(JOBS.ID.in(jobIds))
+          .getSQL(ParamType.INLINED) + ") AS jobs";
+
+      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery) + ORDER_BY_JOB_TIME_ATTEMPT_TIME));
+    });
+  }
+
   @Override
   public List<Job> listJobsLight(final Set<ConfigType> configTypes, final String configId, final int pagesize) throws IOException {
     return getJobsFromResultLight(listJobsQuery(configTypes, configId, pagesize, ORDER_BY_JOB_TIME_ATTEMPT_TIME));
@@ -1202,6 +1383,41 @@ public class DefaultJobPersistence implements JobPersistence {
         timeConvertedIntoLocalDateTime)));
   }
 
+  @Override
+  public List<StreamDailyRecordsCommitted> getStreamDailyRecordsCommitted(final UUID connectionId,
+                                                                          final Instant endedAfter,
+                                                                          final ZoneId timeZone)
+      throws IOException {
+    // Postgres reads POSIX offsets such as +05:00 with the opposite sign of ISO 8601, so fixed offsets
+    // are passed as intervals instead.
+    final ZoneId normalizedTimeZone = timeZone.normalized();
+    final boolean isFixedOffset = normalizedTimeZone instanceof ZoneOffset;
+    final String timeZoneValue = isFixedOffset ? ((ZoneOffset) normalizedTimeZone).getTotalSeconds() + " seconds" : normalizedTimeZone.getId();
+
+    return jobDatabase.query(ctx -> ctx.fetch(
+        "SELECT CAST(bucket_start AT TIME ZONE " + (isFixedOffset ? "CAST(? AS INTERVAL)" : "?") + " AS DATE) AS day, "
+            + "stream_namespace, stream_name, SUM(records_committed) AS records_committed "
+            + "FROM stream_stats_rollup "
+            + "WHERE connection_id = ? AND bucket_start >= date_trunc('hour', CAST(? AS TIMESTAMPTZ)) "
+            + "GROUP BY day, stream_namespace, stream_name "
+            + "ORDER BY day, stream_namespace, stream_name",
+        timeZoneValue,
+        connectionId,
+        OffsetDateTime.ofInstant(endedAfter, ZoneOffset.UTC))
+        .map(r -> new StreamDailyRecordsCommitted(
+            r.get("day", LocalDate.class),
+            r.get("stream_namespace", String.class),
+            r.get("stream_name", String.class),
+            r.get("records_committed", Long.class))));
+  }
+
+  @Override
+  public int deleteStreamStatsRollupBefore(final Instant bucketStartBefore) throws IOException {
+    return jobDatabase.query(ctx -> ctx.execute(
+        "DELETE FROM stream_stats_rollup WHERE bucket_start < ?",
+        OffsetDateTime.ofInstant(bucketStartBefore, ZoneOffset.UTC)));
+  }
+
   @Override
   public Optional<Job> getLastReplicationJob(final UUID connectionId) throws IOException {
     return jobDatabase.query(ctx -> ctx
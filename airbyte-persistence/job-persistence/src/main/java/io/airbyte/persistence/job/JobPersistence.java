@@ -16,16 +16,21 @@ import io.airbyte.config.JobConfig.ConfigType;
 import io.airbyte.config.JobOutput;
 import io.airbyte.config.JobStatus;
 import io.airbyte.config.JobStatusSummary;
+import io.airbyte.config.StreamDescriptor;
 import io.airbyte.config.StreamSyncStats;
+import io.airbyte.config.SyncMode;
 import io.airbyte.config.SyncStats;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.UUID;
 
 /**
@@ -227,6 +232,38 @@ public interface JobPersistence {
 
   List<Job> listJobs(Set<ConfigType> configTypes, Set<JobStatus> jobStatuses, String configId, int pagesize) throws IOException;
 
+  /**
+   * List a page of jobs of a connection, reading only the requested fields.
+   * <p>
+   * Unlike {@link #listJobs}, the config of the jobs is never loaded, and pages are chained with a
+   * cursor on (created_at, id) rather than an offset, so the cost of a page neither depends on the
+   * size of the catalog nor on how deep in the history the page is.
+   *
+   * @param configTypes - type of config, e.g. sync
+   * @param configId - id of that config
+   * @param statuses - statuses to filter by, all statuses if null
+   * @param createdAtStart - earliest creation time, if any
+   * @param createdAtEnd - latest creation time, if any
+   * @param updatedAtStart - earliest update time, if any
+   * @param updatedAtEnd - latest update time, if any
+   * @param fields - fields to read on top of the id, config type, scope and creation time
+   * @param after - cursor returned with the previous page, null for the first page
+   * @param limit - maximum number of jobs in the page
+   * @return jobs in descending order by created_at, and the cursor of the next page if there is one
+   * @throws IOException - what you do when you IO
+   */
+  JobSummaryPage listJobSummaries(Set<ConfigType> configTypes,
+                                  String configId,
+                                  Set<JobStatus> statuses,
+                                  OffsetDateTime createdAtStart,
+                                  OffsetDateTime createdAtEnd,
+                                  OffsetDateTime updatedAtStart,
+                                  OffsetDateTime updatedAtEnd,
+                                  Set<JobSummaryField> fields,
+                                  JobSummaryCursor after,
+                                  int limit)
+      throws IOException;
+
   List<Job> listJobsForConvertingToEvents(Set<ConfigType> configTypes,
                                           Set<JobStatus> jobStatuses,
                                           OffsetDateTime createdAtStart,
@@ -242,6 +279,15 @@ public interface JobPersistence {
    */
   List<Job> listJobsLight(final Set<Long> jobIds) throws IOException;
 
+  /**
+   * List jobs with the given ids, with their configs.
+   *
+   * @param jobIds ids of the jobs
+   * @return jobs in descending order by created_at
+   * @throws IOException you never know
+   */
+  List<Job> listJobs(Set<Long> jobIds) throws IOException;
+
   List<Job> listJobsLight(Set<ConfigType> configTypes, String configId, int pagesize) throws IOException;
 
   List<Job> listJobsLight(Set<ConfigType> configTypes,
@@ -292,6 +338,33 @@ public interface JobPersistence {
                                                                    Instant attemptEndedAtTimestamp)
       throws IOException;
 
+  /**
+   * Get the records committed per stream and per day by the sync attempts of a connection,
+   * whether their jobs succeeded or not.
+   * <p>
+   * Reads the hourly rollup written as sync attempts finish, so neither attempts nor their outputs
+   * are loaded. Attempts are bucketed by the hour they ended in, so for time zones that are not a
+   * whole number of hours away from UTC, an attempt that ended less than an hour after midnight
+   * can be counted in the previous day.
+   *
+   * @param connectionId - id of the connection
+   * @param endedAfter - only count attempts that ended after this time, rounded down to the hour
+   * @param timeZone - time zone in which the days are computed
+   * @return records committed per day and stream, ordered by day, namespace and name
+   * @throws IOException - what you do when you IO
+   */
+  List<StreamDailyRecordsCommitted> getStreamDailyRecordsCommitted(UUID connectionId, Instant endedAfter, ZoneId timeZone) throws IOException;
+
+  /**
+   * Delete the hourly buckets of records committed per stream that are too old to be read by
+   * {@link #getStreamDailyRecordsCommitted}.
+   *
+   * @param bucketStartBefore - buckets that start before this time are deleted
+   * @return number of buckets deleted
+   * @throws IOException - what you do when you IO
+   */
+  int deleteStreamStatsRollupBefore(Instant bucketStartBefore) throws IOException;
+
   Optional<Job> getLastReplicationJob(UUID connectionId) throws IOException;
 
   Optional<Job> getLastReplicationJobWithCancel(final UUID connectionId, final boolean withScheduledOnly) throws IOException;
@@ -375,4 +448,78 @@ public interface JobPersistence {
 
   }
 
+  /**
+   * Records committed by a stream in a day.
+   *
+   * @param date day in the requested time zone
+   * @param streamNamespace stream namespace
+   * @param streamName stream name
+   * @param recordsCommitted records committed
+   */
+  record StreamDailyRecordsCommitted(LocalDate date, String streamNamespace, String streamName, long recordsCommitted) {
+
+  }
+
+  /**
+   * Fields of a job that {@link #listJobSummaries} can read on top of the ones it always reads.
+   */
+  enum JobSummaryField {
+    STATUS,
+    TIMESTAMPS,
+    STREAM_SYNC_MODES,
+    STATS,
+    FAILURE_SUMMARY
+  }
+
+  /**
+   * A job without its config. The fields that were not requested are null.
+   *
+   * @param id job id
+   * @param configType type of config of the job
+   * @param scope scope of the job, e.g. the connection id
+   * @param createdAtInSecond creation time of the job
+   * @param status status of the job, read with {@link JobSummaryField#STATUS}
+   * @param startedAtInSecond start time of the job, if started, read with
+   *        {@link JobSummaryField#TIMESTAMPS}
+   * @param updatedAtInSecond last update time of the job, read with {@link JobSummaryField#TIMESTAMPS}
+   * @param streamSyncModes sync mode of each stream of the catalog of the job, read with
+   *        {@link JobSummaryField#STREAM_SYNC_MODES}
+   * @param attemptStats stats of the attempts that have some, by attempt number in ascending order,
+   *        read with {@link JobSummaryField#STATS}
+   * @param failureSummary failure summary of the last attempt, if any, read with
+   *        {@link JobSummaryField#FAILURE_SUMMARY}
+   */
+  record JobSummary(long id,
+                    ConfigType configType,
+                    String scope,
+                    long createdAtInSecond,
+                    JobStatus status,
+                    Long startedAtInSecond,
+                    Long updatedAtInSecond,
+                    Map<StreamDescriptor, SyncMode> streamSyncModes,
+                    SortedMap<Integer, AttemptStats> attemptStats,
+                    AttemptFailureSummary failureSummary) {
+
+  }
+
+  /**
+   * Position of the last job of a page of {@link #listJobSummaries}.
+   *
+   * @param createdAt creation time of the job
+   * @param id job id
+   */
+  record JobSummaryCursor(OffsetDateTime createdAt, long id) {
+
+  }
+
+  /**
+   * A page of {@link #listJobSummaries}.
+   *
+   * @param jobs jobs of the page
+   * @param next cursor of the next page, null if this is the last page
+   */
+  record JobSummaryPage(List<JobSummary> jobs, JobSummaryCursor next) {
+
+  }
+
 }
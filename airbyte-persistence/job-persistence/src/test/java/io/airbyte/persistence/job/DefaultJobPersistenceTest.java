@@ -28,11 +28,14 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
 import io.airbyte.commons.version.Version;
+import io.airbyte.config.AirbyteStream;
 import io.airbyte.config.Attempt;
 import io.airbyte.config.AttemptFailureSummary;
 import io.airbyte.config.AttemptStatus;
 import io.airbyte.config.AttemptSyncConfig;
 import io.airbyte.config.AttemptWithJobInfo;
+import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.config.ConfiguredAirbyteStream;
 import io.airbyte.config.FailureReason;
 import io.airbyte.config.FailureReason.FailureOrigin;
 import io.airbyte.config.Job;
@@ -46,7 +49,9 @@ import io.airbyte.config.JobSyncConfig;
 import io.airbyte.config.StandardSyncOutput;
 import io.airbyte.config.StandardSyncSummary;
 import io.airbyte.config.State;
+import io.airbyte.config.StreamDescriptor;
 import io.airbyte.config.StreamSyncStats;
+import io.airbyte.config.SyncMode;
 import io.airbyte.config.SyncStats;
 import io.airbyte.db.Database;
 import io.airbyte.db.factory.DSLContextFactory;
@@ -55,21 +60,31 @@ import io.airbyte.db.instance.DatabaseConstants;
 import io.airbyte.db.instance.test.TestDatabaseProviders;
 import io.airbyte.persistence.job.JobPersistence.AttemptStats;
 import io.airbyte.persistence.job.JobPersistence.JobAttemptPair;
+import io.airbyte.persistence.job.JobPersistence.JobSummary;
+import io.airbyte.persistence.job.JobPersistence.JobSummaryCursor;
+import io.airbyte.persistence.job.JobPersistence.JobSummaryField;
+import io.airbyte.persistence.job.JobPersistence.JobSummaryPage;
+import io.airbyte.persistence.job.JobPersistence.StreamDailyRecordsCommitted;
 import io.airbyte.test.utils.Databases;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
@@ -233,6 +248,7 @@ class DefaultJobPersistenceTest {
     jobDatabase.query(ctx -> ctx.truncateTable(AIRBYTE_METADATA).cascade().execute());
     jobDatabase.query(ctx -> ctx.truncateTable(SYNC_STATS));
     jobDatabase.query(ctx -> ctx.truncateTable(STREAM_ATTEMPT_METADATA));
+    jobDatabase.query(ctx -> ctx.execute("TRUNCATE TABLE stream_stats_rollup"));
   }
 
   private Result<Record> getJobRecord(final long jobId) throws SQLException {
@@ -914,6 +930,52 @@ class DefaultJobPersistenceTest {
 
     }
 
+    @Test
+    @DisplayName("Retrieving attempts stats should read the flags of legacy attempts from their output")
+    void testGetMultipleStatsFromLegacyOutput() throws IOException, SQLException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG, true).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      final var streamStats = List.of(
+          new StreamSyncStats().withStreamName("name1")
+              .withStats(new SyncStats().withBytesEmitted(100L).withRecordsEmitted(10L)),
+          new StreamSyncStats().withStreamName("name2").withStreamNamespace("ns")
+              .withStats(new SyncStats().withBytesEmitted(200L).withRecordsEmitted(20L)),
+          new StreamSyncStats().withStreamName("name3")
+              .withStats(new SyncStats().withBytesEmitted(300L).withRecordsEmitted(30L)));
+      jobPersistence.writeStats(jobId, attemptNumber, 60L, 600L, 60L, 600L, 60L, 600L, CONNECTION_ID, streamStats);
+      jobPersistence.writeOutput(jobId, attemptNumber, new JobOutput().withOutputType(JobOutput.OutputType.SYNC).withSync(
+          new StandardSyncOutput().withStandardSyncSummary(new StandardSyncSummary().withStreamStats(List.of(
+              new StreamSyncStats().withStreamName("name1").withWasBackfilled(true).withWasResumed(false),
+              new StreamSyncStats().withStreamName("name1").withStreamNamespace("other").withWasResumed(true),
+              new StreamSyncStats().withStreamName("name2").withStreamNamespace("ns").withWasBackfilled(true).withWasResumed(true))))));
+
+      // Only streams without metadata fall back to the output.
+      final long attemptId = jobDatabase.query(
+          ctx -> ctx.select(ATTEMPTS.ID).from(ATTEMPTS).where(ATTEMPTS.JOB_ID.eq(jobId)).fetchOne(ATTEMPTS.ID));
+      jobDatabase.query(
+          ctx -> ctx.insertInto(
+              STREAM_ATTEMPT_METADATA,
+              STREAM_ATTEMPT_METADATA.ID,
+              STREAM_ATTEMPT_METADATA.ATTEMPT_ID,
+              STREAM_ATTEMPT_METADATA.STREAM_NAME,
+              STREAM_ATTEMPT_METADATA.STREAM_NAMESPACE,
+              STREAM_ATTEMPT_METADATA.WAS_BACKFILLED,
+              STREAM_ATTEMPT_METADATA.WAS_RESUMED)
+              .values(UUID.randomUUID(), attemptId, "name2", "ns", false, true)
+              .execute());
+
+      final var stats = jobPersistence.getAttemptStats(List.of(jobId)).get(new JobAttemptPair(jobId, attemptNumber));
+      final Map<String, StreamSyncStats> statsByStream = stats.perStreamStats().stream()
+          .collect(Collectors.toMap(StreamSyncStats::getStreamName, Function.identity()));
+      assertEquals(3, statsByStream.size());
+      assertTrue(statsByStream.get("name1").getWasBackfilled());
+      assertFalse(statsByStream.get("name1").getWasResumed());
+      assertFalse(statsByStream.get("name2").getWasBackfilled());
+      assertTrue(statsByStream.get("name2").getWasResumed());
+      assertFalse(statsByStream.get("name3").getWasBackfilled());
+      assertFalse(statsByStream.get("name3").getWasResumed());
+    }
+
     @Test
     @DisplayName("Writing stats for different streams should not have side effects")
     void testWritingStatsForDifferentStreams() throws IOException {
@@ -2218,6 +2280,221 @@ class DefaultJobPersistenceTest {
 
   }
 
+  @Nested
+  @DisplayName("When listing job summaries")
+  class ListJobSummaries {
+
+    @Test
+    @DisplayName("Should walk every page with the cursor, most recent first")
+    void testListJobSummariesByPage() throws IOException {
+      final List<Long> ids = new ArrayList<>();
+      for (int i = 0; i < 25; i++) {
+        // These have strictly the same created_at, so the cursor has to break ties on the id.
+        ids.add(jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG, true).orElseThrow());
+        jobPersistence.enqueueJob(CONNECTION_ID2.toString(), SPEC_JOB_CONFIG, true).orElseThrow();
+      }
+      Collections.reverse(ids);
+
+      final List<Long> actualIds = new ArrayList<>();
+      JobSummaryCursor cursor = null;
+      int pages = 0;
+      do {
+        final JobSummaryPage page =
+            jobPersistence.listJobSummaries(Set.of(ConfigType.GET_SPEC), SCOPE, null, null, null, null, null, Set.of(), cursor, 10);
+        page.jobs().forEach(job -> actualIds.add(job.id()));
+        cursor = page.next();
+        pages++;
+      } while (cursor != null);
+
+      assertEquals(3, pages);
+      assertEquals(ids, actualIds);
+    }
+
+    @Test
+    @DisplayName("Should not return a cursor when the last page is full")
+    void testListJobSummariesLastPageIsFull() throws IOException {
+      jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG, true).orElseThrow();
+      jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG, true).orElseThrow();
+
+      final JobSummaryPage page =
+          jobPersistence.listJobSummaries(Set.of(ConfigType.GET_SPEC), SCOPE, null, null, null, null, null, Set.of(), null, 2);
+
+      assertEquals(2, page.jobs().size());
+      assertNull(page.next());
+    }
+
+    @Test
+    @DisplayName("Should only read the requested fields")
+    void testListJobSummariesProjection() throws IOException {
+      final JobConfig syncJobConfig = new JobConfig()
+          .withConfigType(ConfigType.SYNC)
+          .withSync(new JobSyncConfig().withConfiguredAirbyteCatalog(new ConfiguredAirbyteCatalog().withStreams(List.of(
+              new ConfiguredAirbyteStream(new AirbyteStream("users", Jsons.emptyObject(), List.of(SyncMode.INCREMENTAL)).withNamespace("public"))
+                  .withSyncMode(SyncMode.INCREMENTAL),
+              new ConfiguredAirbyteStream(new AirbyteStream("orders", Jsons.emptyObject(), List.of(SyncMode.FULL_REFRESH)))))));
+      final long jobId = jobPersistence.enqueueJob(SCOPE, syncJobConfig, true).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      final List<StreamSyncStats> streamStats = List.of(new StreamSyncStats()
+          .withStreamName("users")
+          .withStreamNamespace("public")
+          .withStats(new SyncStats().withRecordsEmitted(10L).withBytesEmitted(100L).withRecordsCommitted(10L).withBytesCommitted(100L)));
+      jobPersistence.writeStats(jobId, attemptNumber, 10L, 100L, 10L, 100L, 10L, 100L, CONNECTION_ID, streamStats);
+      final AttemptFailureSummary failureSummary = new AttemptFailureSummary()
+          .withFailures(List.of(new FailureReason().withFailureOrigin(FailureOrigin.SOURCE)));
+      jobPersistence.writeAttemptFailureSummary(jobId, attemptNumber, failureSummary);
+      jobPersistence.failAttempt(jobId, attemptNumber);
+      jobPersistence.failJob(jobId);
+      jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG, true).orElseThrow();
+
+      final JobSummary allFields = jobPersistence.listJobSummaries(Set.of(ConfigType.SYNC), SCOPE, Set.of(JobStatus.FAILED), null, null, null, null,
+          Set.of(JobSummaryField.values()), null, 10).jobs().getFirst();
+
+      assertEquals(jobId, allFields.id());
+      assertEquals(ConfigType.SYNC, allFields.configType());
+      assertEquals(SCOPE, allFields.scope());
+      assertEquals(NOW.getEpochSecond(), allFields.createdAtInSecond());
+      assertEquals(JobStatus.FAILED, allFields.status());
+      assertEquals(NOW.getEpochSecond(), allFields.updatedAtInSecond());
+      assertEquals(Map.of(
+          new StreamDescriptor().withName("users").withNamespace("public"), SyncMode.INCREMENTAL,
+          new StreamDescriptor().withName("orders"), SyncMode.FULL_REFRESH), allFields.streamSyncModes());
+      assertEquals(Set.of(attemptNumber), allFields.attemptStats().keySet());
+      assertEquals(10L, allFields.attemptStats().get(attemptNumber).combinedStats().getRecordsEmitted());
+      assertEquals("users", allFields.attemptStats().get(attemptNumber).perStreamStats().getFirst().getStreamName());
+      assertEquals(failureSummary, allFields.failureSummary());
+
+      final List<JobSummary> noFields =
+          jobPersistence.listJobSummaries(Set.of(ConfigType.SYNC), SCOPE, null, null, null, null, null, Set.of(), null, 10).jobs();
+
+      assertEquals(2, noFields.size());
+      assertEquals(jobId, noFields.get(1).id());
+      assertNull(noFields.get(1).status());
+      assertNull(noFields.get(1).updatedAtInSecond());
+      assertNull(noFields.get(1).streamSyncModes());
+      assertNull(noFields.get(1).attemptStats());
+      assertNull(noFields.get(1).failureSummary());
+    }
+
+    @Test
+    @DisplayName("Should only return jobs in the requested time range")
+    void testListJobSummariesInTimeRange() throws IOException {
+      jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG, true).orElseThrow();
+
+      final OffsetDateTime start = OffsetDateTime.ofInstant(Instant.ofEpochSecond(NOW.getEpochSecond()), ZoneOffset.UTC);
+      final OffsetDateTime end = start.plusSeconds(1);
+      assertEquals(1, jobPersistence.listJobSummaries(Set.of(ConfigType.GET_SPEC), SCOPE, null, start, end, null, null, Set.of(), null, 10)
+          .jobs().size());
+      assertEquals(0, jobPersistence.listJobSummaries(Set.of(ConfigType.GET_SPEC), SCOPE, null, end, null, null, null, Set.of(), null, 10)
+          .jobs().size());
+    }
+
+    @Test
+    @DisplayName("Should load the jobs of a page with their configs")
+    void testListJobsByIds() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG, true).orElseThrow();
+      final long latestJobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG, true).orElseThrow();
+      jobPersistence.createAttempt(jobId, LOG_PATH);
+      jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG, true).orElseThrow();
+
+      final List<Job> jobs = jobPersistence.listJobs(Set.of(jobId, latestJobId));
+
+      assertEquals(List.of(latestJobId, jobId), jobs.stream().map(Job::getId).toList());
+      assertEquals(SPEC_JOB_CONFIG, jobs.get(1).getConfig());
+      assertEquals(1, jobs.get(1).getAttempts().size());
+    }
+
+  }
+
+  @Nested
+  @DisplayName("When getting the daily records committed per stream")
+  class GetStreamDailyRecordsCommitted {
+
+    @Test
+    @DisplayName("Should count each attempt of a sync job once it has ended and written its output")
+    void testStreamDailyRecordsCommitted() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG, true).orElseThrow();
+      final int failedAttempt = jobPersistence.createAttempt(jobId, LOG_PATH);
+      jobPersistence.failAttempt(jobId, failedAttempt);
+      jobPersistence.writeOutput(jobId, failedAttempt, syncOutput(streamStats("public", "users", 10L), streamStats(null, "orders", 5L)));
+      final int succeededAttempt = jobPersistence.createAttempt(jobId, LOG_PATH);
+      jobPersistence.writeOutput(jobId, succeededAttempt, syncOutput(streamStats("public", "users", 20L)));
+
+      // The failed attempt is counted as soon as its output is written, the running one is not.
+      final Instant endedAfter = NOW.minus(Duration.ofDays(30));
+      final LocalDate today = LocalDate.ofInstant(NOW, ZoneOffset.UTC);
+      assertEquals(List.of(
+          new StreamDailyRecordsCommitted(today, null, "orders", 5L),
+          new StreamDailyRecordsCommitted(today, "public", "users", 10L)),
+          getSortedStreamDailyRecordsCommitted(endedAfter, ZoneOffset.UTC));
+
+      jobPersistence.succeedAttempt(jobId, succeededAttempt);
+      // Succeeding again must not count the attempt twice.
+      jobPersistence.succeedAttempt(jobId, succeededAttempt);
+
+      for (final ZoneId timeZone : List.of(ZoneOffset.UTC, ZoneId.of("America/Los_Angeles"), ZoneOffset.ofHours(9))) {
+        final LocalDate day = LocalDate.ofInstant(NOW, timeZone);
+        assertEquals(List.of(
+            new StreamDailyRecordsCommitted(day, null, "orders", 5L),
+            new StreamDailyRecordsCommitted(day, "public", "users", 30L)),
+            getSortedStreamDailyRecordsCommitted(endedAfter, timeZone));
+      }
+      assertEquals(List.of(), jobPersistence.getStreamDailyRecordsCommitted(CONNECTION_ID, NOW.plus(Duration.ofHours(1)), ZoneOffset.UTC));
+      assertEquals(List.of(), jobPersistence.getStreamDailyRecordsCommitted(CONNECTION_ID2, endedAfter, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should count the records committed by a job that failed")
+    void testStreamDailyRecordsCommittedByFailedJob() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG, true).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      jobPersistence.writeOutput(jobId, attemptNumber, syncOutput(streamStats("public", "users", 1000L)));
+      jobPersistence.failAttempt(jobId, attemptNumber);
+      // Failing the attempt again must not count it twice.
+      jobPersistence.failAttempt(jobId, attemptNumber);
+      jobPersistence.failJob(jobId);
+
+      assertEquals(List.of(new StreamDailyRecordsCommitted(LocalDate.ofInstant(NOW, ZoneOffset.UTC), "public", "users", 1000L)),
+          getSortedStreamDailyRecordsCommitted(NOW.minus(Duration.ofDays(30)), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should only delete the buckets that start before the given time")
+    void testDeleteStreamStatsRollupBefore() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG, true).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      jobPersistence.writeOutput(jobId, attemptNumber, syncOutput(streamStats("public", "users", 20L), streamStats(null, "orders", 5L)));
+      jobPersistence.succeedAttempt(jobId, attemptNumber);
+      final Instant endedAfter = NOW.minus(Duration.ofDays(30));
+
+      assertEquals(0, jobPersistence.deleteStreamStatsRollupBefore(NOW.minus(Duration.ofHours(1))));
+      assertEquals(2, jobPersistence.getStreamDailyRecordsCommitted(CONNECTION_ID, endedAfter, ZoneOffset.UTC).size());
+
+      assertEquals(2, jobPersistence.deleteStreamStatsRollupBefore(NOW.plus(Duration.ofHours(1))));
+      assertEquals(List.of(), jobPersistence.getStreamDailyRecordsCommitted(CONNECTION_ID, endedAfter, ZoneOffset.UTC));
+    }
+
+    private List<StreamDailyRecordsCommitted> getSortedStreamDailyRecordsCommitted(final Instant endedAfter, final ZoneId timeZone)
+        throws IOException {
+      return jobPersistence.getStreamDailyRecordsCommitted(CONNECTION_ID, endedAfter, timeZone).stream()
+          .sorted(Comparator.comparing(StreamDailyRecordsCommitted::streamName))
+          .toList();
+    }
+
+    private static StreamSyncStats streamStats(final String namespace, final String name, final long recordsCommitted) {
+      return new StreamSyncStats()
+          .withStreamNamespace(namespace)
+          .withStreamName(name)
+          .withStats(new SyncStats().withRecordsCommitted(recordsCommitted));
+    }
+
+    private static JobOutput syncOutput(final StreamSyncStats... streamStats) {
+      return new JobOutput()
+          .withOutputType(JobOutput.OutputType.SYNC)
+          .withSync(new StandardSyncOutput().withStandardSyncSummary(new StandardSyncSummary().withStreamStats(List.of(streamStats))));
+    }
+
+  }
+
   @Nested
   @DisplayName("When resetting job")
   class ResetJob {
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.persistence.job.performance;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.JobConfig;
+import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.config.JobOutput;
+import io.airbyte.config.JobSyncConfig;
+import io.airbyte.config.StandardSyncOutput;
+import io.airbyte.config.StandardSyncSummary;
+import io.airbyte.config.StreamSyncStats;
+import io.airbyte.config.SyncStats;
+import io.airbyte.db.factory.DSLContextFactory;
+import io.airbyte.db.factory.DataSourceFactory;
+import io.airbyte.db.instance.DatabaseConstants;
+import io.airbyte.db.instance.test.TestDatabaseProviders;
+import io.airbyte.persistence.job.DefaultJobPersistence;
+import io.airbyte.persistence.job.JobPersistence.AttemptStats;
+import io.airbyte.persistence.job.JobPersistence.JobAttemptPair;
+import io.airbyte.test.utils.Databases;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.jooq.SQLDialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Measures listing the stats of a page of sync jobs whose attempts have large outputs, the way the
+ * job history of a connection with many streams does.
+ * <p>
+ * Each attempt stores stats for every stream and an output holding the catalog of every stream, so
+ * the cost of reading the outputs grows with the number of streams. Requires docker for the
+ * database.
+ * <p>
+ * Run with {@code org.openjdk.jmh.Main.main(new String[] {"AttemptStatsBenchmark"})}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AttemptStatsBenchmark {
+
+  private static final int ATTEMPTS_PER_JOB = 3;
+  private static final int COLUMNS_PER_STREAM = 50;
+  private static final JobConfig SYNC_JOB_CONFIG = new JobConfig()
+      .withConfigType(ConfigType.SYNC)
+      .withSync(new JobSyncConfig());
+
+  @Param({"20", "100"})
+  public int jobs;
+
+  @Param({"100", "1000"})
+  public int streams;
+
+  private PostgreSQLContainer<?> container;
+  private DataSource dataSource;
+  private DefaultJobPersistence jobPersistence;
+  private List<Long> jobIds;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    container = new PostgreSQLContainer<>(DatabaseConstants.DEFAULT_DATABASE_VERSION)
+        .withDatabaseName("airbyte")
+        .withUsername("docker")
+        .withPassword("docker");
+    container.start();
+    dataSource = Databases.createDataSource(container);
+    final var databaseProviders = new TestDatabaseProviders(dataSource, DSLContextFactory.create(dataSource, SQLDialect.POSTGRES));
+    jobPersistence = new DefaultJobPersistence(databaseProviders.createNewJobsDatabase());
+
+    final UUID connectionId = UUID.randomUUID();
+    final List<StreamSyncStats> streamStats = new ArrayList<>();
+    for (int i = 0; i < streams; i++) {
+      streamStats.add(new StreamSyncStats()
+          .withStreamName("stream_" + i)
+          .withStreamNamespace("public")
+          .withStats(new SyncStats().withBytesEmitted(1000L * i).withRecordsEmitted(10L * i))
+          .withWasBackfilled(i % 2 == 0)
+          .withWasResumed(false));
+    }
+    final JobOutput output = new JobOutput()
+        .withOutputType(JobOutput.OutputType.SYNC)
+        .withSync(new StandardSyncOutput()
+            .withStandardSyncSummary(new StandardSyncSummary().withStreamStats(streamStats))
+            .withAdditionalProperty("output_catalog", catalog(streams)));
+
+    jobIds = new ArrayList<>();
+    for (int job = 0; job < jobs; job++) {
+      final long jobId = jobPersistence.enqueueJob(connectionId.toString(), SYNC_JOB_CONFIG, true).orElseThrow();
+      for (int attempt = 0; attempt < ATTEMPTS_PER_JOB; attempt++) {
+        final int attemptNumber = jobPersistence.createAttempt(jobId, Path.of("/tmp/logs"));
+        jobPersistence.writeStats(jobId, attemptNumber, 10L, 100L, 10L, 100L, 10L, 100L, connectionId, streamStats);
+        jobPersistence.writeOutput(jobId, attemptNumber, output);
+        jobPersistence.failAttempt(jobId, attemptNumber);
+      }
+      jobIds.add(jobId);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    DataSourceFactory.close(dataSource);
+    container.close();
+  }
+
+  @Benchmark
+  public Map<JobAttemptPair, AttemptStats> getAttemptStats() throws Exception {
+    return jobPersistence.getAttemptStats(jobIds);
+  }
+
+  private static ObjectNode catalog(final int streams) {
+    final ObjectNode catalog = (ObjectNode) Jsons.emptyObject();
+    final ArrayNode configuredStreams = catalog.putArray("streams");
+    for (int i = 0; i < streams; i++) {
+      final ObjectNode properties = (ObjectNode) Jsons.emptyObject();
+      for (int column = 0; column < COLUMNS_PER_STREAM; column++) {
+        properties.putObject("column_" + column).put("type", "string").put("description", "column " + column + " of stream " + i);
+      }
+      final ObjectNode stream = configuredStreams.addObject();
+      stream.putObject("stream")
+          .put("name", "stream_" + i)
+          .put("namespace", "public")
+          .set("json_schema", Jsons.jsonNode(Map.of("type", "object", "properties", properties)));
+      stream.put("sync_mode", "incremental").put("destination_sync_mode", "append_dedup");
+    }
+    return catalog;
+  }
+
+}
@@ -24,6 +24,8 @@ import io.airbyte.api.model.generated.JobOptionalRead
 import io.airbyte.api.model.generated.JobReadList
 import io.airbyte.api.model.generated.JobSuccessWithAttemptNumberRequest
 import io.airbyte.api.model.generated.PersistCancelJobRequestBody
+import io.airbyte.api.model.generated.ReplicationBootstrapRead
+import io.airbyte.api.model.generated.ReplicationBootstrapRequestBody
 import io.airbyte.api.model.generated.ReportJobStartRequest
 import io.airbyte.api.model.generated.SyncInput
 import io.airbyte.api.problems.throwable.generated.ApiNotImplementedInOssProblem
@@ -33,6 +35,7 @@ import io.airbyte.commons.auth.permissions.RequiresIntent
 import io.airbyte.commons.server.handlers.JobHistoryHandler
 import io.airbyte.commons.server.handlers.JobInputHandler
 import io.airbyte.commons.server.handlers.JobsHandler
+import io.airbyte.commons.server.handlers.ReplicationBootstrapHandler
 import io.airbyte.commons.server.handlers.SchedulerHandler
 import io.airbyte.commons.server.scheduling.AirbyteTaskExecutors
 import io.airbyte.commons.temporal.StreamResetRecordsHelper
@@ -56,6 +59,7 @@ open class JobsApiController(
   private val jobInputHandler: JobInputHandler,
   private val jobsHandler: JobsHandler,
   private val streamResetRecordsHelper: StreamResetRecordsHelper,
+  private val replicationBootstrapHandler: ReplicationBootstrapHandler,
 ) : JobsApi {
   @Post("/cancel")
   @ExecuteOn(AirbyteTaskExecutors.SCHEDULER)
@@ -118,6 +122,13 @@ open class JobsApiController(
     @Body syncInput: SyncInput?,
   ): Any? = execute { jobInputHandler.getJobInput(syncInput) }
 
+  @Post("/get_replication_bootstrap")
+  @Secured(AuthRoleConstants.WORKSPACE_READER, AuthRoleConstants.ORGANIZATION_READER)
+  @ExecuteOn(AirbyteTaskExecutors.IO)
+  override fun getReplicationBootstrap(
+    @Body replicationBootstrapRequestBody: ReplicationBootstrapRequestBody,
+  ): ReplicationBootstrapRead? = execute { replicationBootstrapHandler.getReplicationBootstrap(replicationBootstrapRequestBody) }
+
   @Post("/get_light")
   @Secured(AuthRoleConstants.WORKSPACE_READER, AuthRoleConstants.ORGANIZATION_READER)
   @ExecuteOn(AirbyteTaskExecutors.IO)
@@ -16,6 +16,7 @@ import io.airbyte.db.check.impl.JobsDatabaseAvailabilityCheck
 import io.airbyte.db.factory.DSLContextFactory
 import io.airbyte.db.factory.DatabaseCheckFactory
 import io.airbyte.db.instance.DatabaseConstants
+import io.airbyte.metrics.MetricClient
 import io.airbyte.persistence.job.DefaultJobPersistence
 import io.airbyte.persistence.job.DefaultMetadataPersistence
 import io.airbyte.persistence.job.JobPersistence
@@ -96,7 +97,8 @@ class DatabaseBeanFactory {
   @Singleton
   fun statePersistence(
     @Named("configDatabase") configDatabase: Database?,
-  ): StatePersistence = StatePersistence(configDatabase)
+    metricClient: MetricClient,
+  ): StatePersistence = StatePersistence(configDatabase, metricClient)
 
   @Singleton
   fun userPersistence(
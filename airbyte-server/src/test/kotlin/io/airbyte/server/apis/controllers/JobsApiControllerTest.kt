@@ -8,7 +8,10 @@ import io.airbyte.api.model.generated.JobCreate
 import io.airbyte.api.model.generated.JobDebugInfoRead
 import io.airbyte.api.model.generated.JobIdRequestBody
 import io.airbyte.api.model.generated.JobInfoRead
+import io.airbyte.api.model.generated.ReplicationBootstrapRead
+import io.airbyte.api.model.generated.ReplicationBootstrapRequestBody
 import io.airbyte.commons.server.handlers.JobHistoryHandler
+import io.airbyte.commons.server.handlers.ReplicationBootstrapHandler
 import io.airbyte.commons.server.handlers.SchedulerHandler
 import io.airbyte.data.exceptions.ConfigNotFoundException
 import io.airbyte.server.assertStatus
@@ -33,6 +36,9 @@ internal class JobsApiControllerTest {
   @Inject
   lateinit var jobHistoryHandler: JobHistoryHandler
 
+  @Inject
+  lateinit var replicationBootstrapHandler: ReplicationBootstrapHandler
+
   @Inject
   @Client("/")
   lateinit var client: HttpClient
@@ -43,6 +49,9 @@ internal class JobsApiControllerTest {
   @MockBean(JobHistoryHandler::class)
   fun jobHistoryHandler(): JobHistoryHandler = mockk()
 
+  @MockBean(ReplicationBootstrapHandler::class)
+  fun replicationBootstrapHandler(): ReplicationBootstrapHandler = mockk()
+
   @Test
   fun testCreateJob() {
     every { schedulerHandler.createJob(any()) } returns JobInfoRead() andThenThrows ConfigNotFoundException("", "")
@@ -68,4 +77,14 @@ internal class JobsApiControllerTest {
     assertStatus(HttpStatus.OK, client.status(HttpRequest.POST(path, JobIdRequestBody())))
     assertStatus(HttpStatus.NOT_FOUND, client.statusException(HttpRequest.POST(path, JobIdRequestBody())))
   }
+
+  @Test
+  fun testGetReplicationBootstrap() {
+    every { replicationBootstrapHandler.getReplicationBootstrap(any()) } returns ReplicationBootstrapRead() andThenThrows
+      ConfigNotFoundException("", "")
+
+    val path = "/api/v1/jobs/get_replication_bootstrap"
+    assertStatus(HttpStatus.OK, client.status(HttpRequest.POST(path, ReplicationBootstrapRequestBody())))
+    assertStatus(HttpStatus.NOT_FOUND, client.statusException(HttpRequest.POST(path, ReplicationBootstrapRequestBody())))
+  }
 }
@@ -10,6 +10,7 @@ import io.airbyte.commons.storage.StorageClient;
 import io.airbyte.commons.storage.StorageClientFactory;
 import io.airbyte.config.ConfiguredAirbyteCatalog;
 import io.airbyte.config.State;
+import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.metrics.MetricClient;
 import io.airbyte.workers.storage.activities.ActivityPayloadStorageClient;
 import io.airbyte.workers.storage.activities.OutputStorageClient;
@@ -65,11 +66,13 @@ public class CloudStorageBeanFactory {
   public ActivityPayloadStorageClient activityPayloadStorageClient(
                                                                    @Named("payloadDocumentStore") final StorageClient storageClientRaw,
                                                                    final JsonSerde jsonSerde,
-                                                                   final MetricClient metricClient) {
+                                                                   final MetricClient metricClient,
+                                                                   final FeatureFlagClient featureFlagClient) {
     return new ActivityPayloadStorageClient(
         storageClientRaw,
         jsonSerde,
-        metricClient);
+        metricClient,
+        featureFlagClient);
   }
 
   @Singleton
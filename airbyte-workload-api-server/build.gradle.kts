@@ -30,6 +30,7 @@ dependencies {
   implementation(libs.micronaut.security)
   implementation(libs.micronaut.security.jwt)
   implementation(libs.okhttp)
+  implementation(libs.postgresql)
   implementation(libs.v3.swagger.annotations)
   implementation(libs.jakarta.ws.rs.api)
   implementation(libs.reactor.core)
@@ -17,10 +17,13 @@ import io.airbyte.workload.api.domain.WorkloadClaimRequest
 import io.airbyte.workload.api.domain.WorkloadCreateRequest
 import io.airbyte.workload.api.domain.WorkloadDepthResponse
 import io.airbyte.workload.api.domain.WorkloadFailureRequest
+import io.airbyte.workload.api.domain.WorkloadHeartbeatBatchRequest
+import io.airbyte.workload.api.domain.WorkloadHeartbeatBatchResponse
 import io.airbyte.workload.api.domain.WorkloadHeartbeatRequest
 import io.airbyte.workload.api.domain.WorkloadLaunchedRequest
 import io.airbyte.workload.api.domain.WorkloadListRequest
 import io.airbyte.workload.api.domain.WorkloadListResponse
+import io.airbyte.workload.api.domain.WorkloadQueueLongPollRequest
 import io.airbyte.workload.api.domain.WorkloadQueuePollRequest
 import io.airbyte.workload.api.domain.WorkloadQueueQueryRequest
 import io.airbyte.workload.api.domain.WorkloadQueueStatsResponse
@@ -28,6 +31,8 @@ import io.airbyte.workload.api.domain.WorkloadRunningRequest
 import io.airbyte.workload.api.domain.WorkloadSuccessRequest
 import io.airbyte.workload.handler.DefaultDeadlineValues
 import io.airbyte.workload.handler.WorkloadHandler
+import io.airbyte.workload.handler.WorkloadHeartbeatCoalescer
+import io.airbyte.workload.handler.WorkloadQueuePoller
 import io.micronaut.http.HttpResponse
 import io.micronaut.http.HttpStatus
 import io.micronaut.http.annotation.Body
@@ -50,6 +55,8 @@ import jakarta.ws.rs.PUT
 import jakarta.ws.rs.Path
 import jakarta.ws.rs.PathParam
 import jakarta.ws.rs.Produces
+import java.time.Duration
+import java.time.OffsetDateTime
 import java.util.UUID
 
 @Controller("/api/v1/workload")
@@ -59,6 +66,8 @@ open class WorkloadApi(
   private val workloadHandler: WorkloadHandler,
   private val workloadService: WorkloadService,
   private val defaultDeadlineValues: DefaultDeadlineValues,
+  private val workloadHeartbeatCoalescer: WorkloadHeartbeatCoalescer,
+  private val workloadQueuePoller: WorkloadQueuePoller,
 ) {
   @POST
   @Path("/create")
@@ -403,7 +412,36 @@ open class WorkloadApi(
     ) @Body workloadHeartbeatRequest: WorkloadHeartbeatRequest,
   ) {
     ApmTraceUtils.addTagsToTrace(mutableMapOf(MetricTags.WORKLOAD_ID_TAG to workloadHeartbeatRequest.workloadId) as Map<String, Any>?)
-    workloadHandler.heartbeat(workloadHeartbeatRequest.workloadId, workloadHeartbeatRequest.deadline ?: defaultDeadlineValues.heartbeatDeadline())
+    workloadHeartbeatCoalescer.heartbeat(
+      workloadHeartbeatRequest.workloadId,
+      workloadHeartbeatRequest.deadline ?: defaultDeadlineValues.heartbeatDeadline(),
+    )
+  }
+
+  @PUT
+  @Path("/heartbeat/batch")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @Operation(summary = "Heartbeat from many workloads", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description = "The result of the heartbeat of every workload. Workloads that weren't heartbeated should stop.",
+        content = [Content(schema = Schema(implementation = WorkloadHeartbeatBatchResponse::class))],
+      ),
+    ],
+  )
+  open fun workloadHeartbeatBatch(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadHeartbeatBatchRequest::class))],
+    ) @Body workloadHeartbeatBatchRequest: WorkloadHeartbeatBatchRequest,
+  ): WorkloadHeartbeatBatchResponse {
+    val deadlines = mutableMapOf<String, OffsetDateTime>()
+    workloadHeartbeatBatchRequest.heartbeats.forEach {
+      deadlines.merge(it.workloadId, it.deadline ?: defaultDeadlineValues.heartbeatDeadline()) { current, new -> maxOf(current, new) }
+    }
+    return WorkloadHeartbeatBatchResponse(workloadHandler.heartbeat(deadlines))
   }
 
   @POST
@@ -538,7 +576,36 @@ open class WorkloadApi(
         MetricTags.DATA_PLANE_GROUP_TAG to req.dataplaneGroup,
       ),
     )
-    val workloads = workloadHandler.pollWorkloadQueue(req.dataplaneGroup, req.priority, req.quantity)
+    val workloads = workloadQueuePoller.poll(req.dataplaneGroup, req.priority, req.quantity, Duration.ZERO)
+    return WorkloadListResponse(workloads)
+  }
+
+  @POST
+  @Path("/queue/long_poll")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @ExecuteOn("workload-queue-poll")
+  @Operation(summary = "Poll for workloads to process, waiting for workloads to be enqueued if there are none", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description = "Success, the list of workloads is empty if none was enqueued before the wait ended.",
+        content = [Content(schema = Schema(implementation = WorkloadListResponse::class))],
+      ),
+    ],
+  )
+  open fun longPollWorkloadQueue(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadQueueLongPollRequest::class))],
+    ) @Body req: WorkloadQueueLongPollRequest,
+  ): WorkloadListResponse {
+    ApmTraceUtils.addTagsToTrace(
+      mutableMapOf<String, Any?>(
+        MetricTags.DATA_PLANE_GROUP_TAG to req.dataplaneGroup,
+      ),
+    )
+    val workloads = workloadQueuePoller.poll(req.dataplaneGroup, req.priority, req.quantity, Duration.ofSeconds(req.waitSeconds))
     return WorkloadListResponse(workloads)
   }
 
@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.api.domain
+
+import io.swagger.v3.oas.annotations.media.Schema
+
+data class WorkloadHeartbeatBatchRequest(
+  @Schema(required = true)
+  var heartbeats: List<WorkloadHeartbeatRequest> = ArrayList(),
+)
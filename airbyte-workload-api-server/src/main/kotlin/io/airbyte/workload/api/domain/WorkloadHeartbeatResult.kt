@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.api.domain
+
+import io.swagger.v3.oas.annotations.media.Schema
+
+/**
+ * The outcome of the heartbeat of a workload. A workload that wasn't heartbeated should stop, its status is null if it doesn't exist.
+ */
+data class WorkloadHeartbeatResult(
+  @Schema(required = true)
+  var workloadId: String = "",
+  @Schema(required = true)
+  var heartbeated: Boolean = false,
+  var status: WorkloadStatus? = null,
+)
@@ -7,6 +7,7 @@ package io.airbyte.workload.handler
 import io.airbyte.config.WorkloadPriority
 import io.airbyte.config.WorkloadType
 import io.airbyte.workload.api.domain.Workload
+import io.airbyte.workload.api.domain.WorkloadHeartbeatResult
 import io.airbyte.workload.api.domain.WorkloadLabel
 import io.airbyte.workload.api.domain.WorkloadQueueStats
 import jakarta.transaction.Transactional
@@ -84,6 +85,8 @@ interface WorkloadHandler {
     deadline: OffsetDateTime,
   )
 
+  fun heartbeat(deadlines: Map<String, OffsetDateTime>): List<WorkloadHeartbeatResult>
+
   fun getWorkloadsRunningCreatedBefore(
     dataplaneId: List<String>?,
     workloadType: List<ApiWorkloadType>?,
@@ -17,6 +17,7 @@ import io.airbyte.metrics.MetricClient
 import io.airbyte.metrics.OssMetricsRegistry
 import io.airbyte.metrics.lib.MetricTags
 import io.airbyte.workload.api.domain.Workload
+import io.airbyte.workload.api.domain.WorkloadHeartbeatResult
 import io.airbyte.workload.api.domain.WorkloadLabel
 import io.airbyte.workload.api.domain.WorkloadQueueStats
 import io.airbyte.workload.errors.ConflictException
@@ -278,21 +279,31 @@ class WorkloadHandlerImpl(
     workloadId: String,
     deadline: OffsetDateTime,
   ) {
-    val workload: DomainWorkload = getDomainWorkload(workloadId)
+    heartbeat(mapOf(workloadId to deadline)).single().throwIfNotHeartbeated()
+  }
 
-    when (workload.status) {
-      WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING -> {
-        workloadRepository.update(
-          workloadId,
-          WorkloadStatus.RUNNING,
-          offsetDateTime(),
-          deadline,
-        )
+  override fun heartbeat(deadlines: Map<String, OffsetDateTime>): List<WorkloadHeartbeatResult> {
+    if (deadlines.isEmpty()) {
+      return listOf()
+    }
+
+    val workloadIds = deadlines.keys.toList()
+    val heartbeatedWorkloads =
+      workloadRepository
+        .heartbeat(workloadIds, workloadIds.map { deadlines.getValue(it) }, offsetDateTime())
+        .associateBy { it.id }
+    // Only the workloads that weren't heartbeated are read back, to report why.
+    val missedWorkloadIds = workloadIds.filterNot { heartbeatedWorkloads.containsKey(it) }
+    val missedWorkloads =
+      if (missedWorkloadIds.isEmpty()) mapOf() else workloadRepository.findByIdInList(missedWorkloadIds).associateBy { it.id }
+
+    return workloadIds.map { workloadId ->
+      val heartbeatedWorkload = heartbeatedWorkloads[workloadId]
+      if (heartbeatedWorkload != null) {
+        WorkloadHeartbeatResult(workloadId, heartbeated = true, status = heartbeatedWorkload.status.toApi())
+      } else {
+        WorkloadHeartbeatResult(workloadId, heartbeated = false, status = missedWorkloads[workloadId]?.status?.toApi())
       }
-      WorkloadStatus.CANCELLED, WorkloadStatus.FAILURE, WorkloadStatus.SUCCESS -> throw InvalidStatusTransitionException(
-        "Heartbeat a workload in a terminal state",
-      )
-      WorkloadStatus.PENDING -> throw InvalidStatusTransitionException("Heartbeat a non claimed workload")
     }
   }
 
@@ -331,6 +342,18 @@ class WorkloadHandlerImpl(
         workloadRepository.getPendingWorkloads(dataplaneGroup, priority?.toInt(), quantity)
       }
 
+    val now = offsetDateTime()
+    domainWorkloads.forEach { workload ->
+      workload.createdAt?.let { createdAt ->
+        metricClient.distribution(
+          OssMetricsRegistry.WORKLOAD_QUEUE_DISPATCH_LATENCY,
+          Duration.between(createdAt, now).toMillis().toDouble(),
+          MetricAttribute(MetricTags.DATA_PLANE_GROUP_TAG, dataplaneGroup ?: "undefined"),
+          MetricAttribute(MetricTags.PRIORITY_TAG, priority?.toString() ?: "undefined"),
+        )
+      }
+    }
+
     return domainWorkloads.map { it.toApi() }
   }
 
@@ -452,3 +475,17 @@ class WorkloadHandlerImpl(
       }
     }
 }
+
+/**
+ * Throws the error the heartbeat of a single workload reports when the workload wasn't heartbeated.
+ */
+internal fun WorkloadHeartbeatResult.throwIfNotHeartbeated() {
+  if (heartbeated) {
+    return
+  }
+  when (status) {
+    null -> throw NotFoundException("Could not find workload with id: $workloadId")
+    ApiWorkloadStatus.PENDING -> throw InvalidStatusTransitionException("Heartbeat a non claimed workload")
+    else -> throw InvalidStatusTransitionException("Heartbeat a workload in a terminal state")
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.handler
+
+import io.airbyte.workload.api.domain.WorkloadHeartbeatResult
+import io.micronaut.context.annotation.Property
+import jakarta.inject.Singleton
+import java.time.Duration
+import java.time.OffsetDateTime
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+/**
+ * Merges the heartbeats of single workloads into batched updates.
+ *
+ * Every caller queues its heartbeat. If no write is in flight, the caller writes all the queued heartbeats with a single update.
+ * Otherwise, it waits for the write in flight to end, and writes the queue itself if its heartbeat wasn't picked up, so a caller
+ * writes at most once and a request thread is never kept writing the heartbeats of others. Callers wait for at most [timeout].
+ * Heartbeats arriving while a write is in flight, or within the coalescing window before it starts, are written together by the next
+ * write instead of each running its own. A workload heartbeated more than once in a batch keeps the latest deadline.
+ */
+@Singleton
+class WorkloadHeartbeatCoalescer(
+  private val workloadHandler: WorkloadHandler,
+  @Property(name = "airbyte.workload-api.heartbeat-coalescing-window") private val coalescingWindow: Duration,
+  @Property(name = "airbyte.workload-api.heartbeat-coalescing-timeout") private val timeout: Duration,
+) {
+  private val flushing = AtomicBoolean()
+  private val flushLock = ReentrantLock()
+  private val flushEnded = flushLock.newCondition()
+  private val pendingLock = Any()
+  private var pendingHeartbeats = mutableMapOf<String, PendingHeartbeat>()
+
+  /**
+   * Heartbeat a workload, throws the same errors as [WorkloadHandler.heartbeat] if the workload wasn't heartbeated.
+   */
+  fun heartbeat(
+    workloadId: String,
+    deadline: OffsetDateTime,
+  ) {
+    val result = enqueue(workloadId, deadline)
+    val waitUntil = System.nanoTime() + timeout.toNanos()
+    write(result, waitUntil)
+
+    val heartbeatResult =
+      try {
+        result.get(maxOf(waitUntil - System.nanoTime(), 0L), TimeUnit.NANOSECONDS)
+      } catch (e: ExecutionException) {
+        throw e.cause ?: e
+      } catch (e: TimeoutException) {
+        throw IllegalStateException("Timed out after $timeout waiting for the heartbeat of workload $workloadId to be written", e)
+      }
+    heartbeatResult.throwIfNotHeartbeated()
+  }
+
+  private fun enqueue(
+    workloadId: String,
+    deadline: OffsetDateTime,
+  ): CompletableFuture<WorkloadHeartbeatResult> =
+    synchronized(pendingLock) {
+      val pendingHeartbeat = pendingHeartbeats.getOrPut(workloadId) { PendingHeartbeat(deadline) }
+      pendingHeartbeat.deadline = maxOf(pendingHeartbeat.deadline, deadline)
+      pendingHeartbeat.result
+    }
+
+  /**
+   * Writes the queued heartbeats once unless another caller is already writing them, in which case it waits for that write to end and
+   * tries again if [result] wasn't part of it. A heartbeat is queued before its caller tries to write, so the only write of a caller
+   * always includes its heartbeat. Gives up once [waitUntil] is reached, leaving the heartbeat to the next write.
+   */
+  private fun write(
+    result: CompletableFuture<WorkloadHeartbeatResult>,
+    waitUntil: Long,
+  ) {
+    while (!result.isDone) {
+      if (flushing.compareAndSet(false, true)) {
+        try {
+          if (!coalescingWindow.isZero) {
+            Thread.sleep(coalescingWindow.toMillis())
+          }
+          flush()
+        } finally {
+          flushLock.withLock {
+            flushing.set(false)
+            flushEnded.signalAll()
+          }
+        }
+        return
+      }
+
+      flushLock.withLock {
+        val remainingNanos = waitUntil - System.nanoTime()
+        if (remainingNanos <= 0) {
+          return
+        }
+        if (flushing.get()) {
+          flushEnded.awaitNanos(remainingNanos)
+        }
+      }
+    }
+  }
+
+  private fun flush() {
+    val batch =
+      synchronized(pendingLock) {
+        pendingHeartbeats.also { pendingHeartbeats = mutableMapOf() }
+      }
+    if (batch.isEmpty()) {
+      return
+    }
+
+    try {
+      val results = workloadHandler.heartbeat(batch.mapValues { it.value.deadline }).associateBy { it.workloadId }
+      batch.forEach { (workloadId, pendingHeartbeat) -> results[workloadId]?.let { pendingHeartbeat.result.complete(it) } }
+    } catch (e: Exception) {
+      batch.values.forEach { it.result.completeExceptionally(e) }
+    } finally {
+      // Nobody else will complete the heartbeats of this batch, whatever went wrong.
+      batch.forEach { (workloadId, pendingHeartbeat) ->
+        pendingHeartbeat.result.completeExceptionally(IllegalStateException("No heartbeat result for workload $workloadId"))
+      }
+    }
+  }
+
+  private class PendingHeartbeat(
+    var deadline: OffsetDateTime,
+  ) {
+    val result = CompletableFuture<WorkloadHeartbeatResult>()
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.handler
+
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Property
+import jakarta.annotation.PreDestroy
+import jakarta.inject.Singleton
+import org.postgresql.PGConnection
+import java.sql.DriverManager
+import java.time.Duration
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.thread
+import kotlin.concurrent.withLock
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Listens to the notifications sent by the database when a workload is enqueued, see the workload_queue_notify_enqueued trigger.
+ *
+ * The listening connection is opened outside the connection pool, on the first wait, and reopened if it breaks. Notifications sent while
+ * it isn't listening are lost, so every waiter is woken up once it (re)starts listening and polls the queue again.
+ */
+@Singleton
+class WorkloadQueueNotificationListener(
+  @Property(name = "datasources.workload.url") private val url: String,
+  @Property(name = "datasources.workload.username") private val username: String,
+  @Property(name = "datasources.workload.password") private val password: String,
+) {
+  companion object {
+    const val CHANNEL = "workload_queue"
+    private val NOTIFICATION_POLL_TIMEOUT = Duration.ofSeconds(10)
+    private val RECONNECT_DELAY = Duration.ofSeconds(5)
+
+    // How long to wait before polling the queue again while notifications can't be received.
+    private val NOT_LISTENING_WAIT = Duration.ofSeconds(1)
+  }
+
+  private val lock = ReentrantLock()
+  private val notified = lock.newCondition()
+
+  // Bumped on every notification of a dataplane group, and for every group when the listening connection (re)starts.
+  private val versions = mutableMapOf<String, Long>()
+  private var restarts = 0L
+  private var listener: Thread? = null
+  private var listening = false
+
+  @Volatile
+  private var closed = false
+
+  /**
+   * The current version of the notifications of a dataplane group, or of all the groups if null. Read it before polling the queue, and
+   * wait on it if the poll is empty, so workloads enqueued in between aren't missed.
+   */
+  fun version(dataplaneGroup: String?): Long =
+    lock.withLock {
+      startListening()
+      currentVersion(dataplaneGroup)
+    }
+
+  /**
+   * Wait until a workload is enqueued for the dataplane group since the given version. While notifications can't be received, returns
+   * after a short wait instead, so the caller falls back to polling.
+   *
+   * @return true if a workload may have been enqueued, false if the timeout elapsed first
+   */
+  fun awaitEnqueued(
+    dataplaneGroup: String?,
+    version: Long,
+    timeout: Duration,
+  ): Boolean =
+    lock.withLock {
+      var remainingNanos = (if (listening) timeout else minOf(timeout, NOT_LISTENING_WAIT)).toNanos()
+      while (currentVersion(dataplaneGroup) == version && remainingNanos > 0) {
+        remainingNanos = notified.awaitNanos(remainingNanos)
+      }
+      currentVersion(dataplaneGroup) != version
+    }
+
+  @PreDestroy
+  fun close() {
+    closed = true
+    listener?.interrupt()
+  }
+
+  private fun currentVersion(dataplaneGroup: String?): Long =
+    restarts + if (dataplaneGroup == null) versions.values.sum() else versions[dataplaneGroup] ?: 0L
+
+  private fun startListening() {
+    if (listener == null) {
+      listener = thread(name = "workload-queue-listener", isDaemon = true) { listen() }
+    }
+  }
+
+  private fun listen() {
+    while (!closed) {
+      try {
+        DriverManager.getConnection(url, username, password).use { connection ->
+          connection.createStatement().use { it.execute("LISTEN $CHANNEL") }
+          val pgConnection = connection.unwrap(PGConnection::class.java)
+          logger.info { "Listening to the $CHANNEL notifications" }
+          lock.withLock {
+            listening = true
+            restarts++
+            notified.signalAll()
+          }
+
+          while (!closed) {
+            val notifications = pgConnection.getNotifications(NOTIFICATION_POLL_TIMEOUT.toMillis().toInt()) ?: continue
+            if (notifications.isNotEmpty()) {
+              lock.withLock {
+                notifications.forEach { versions.merge(it.parameter, 1L) { current, increment -> current + increment } }
+                notified.signalAll()
+              }
+            }
+          }
+        }
+      } catch (e: Exception) {
+        lock.withLock { listening = false }
+        if (closed) {
+          return
+        }
+        logger.warn(e) { "Lost the $CHANNEL notifications, reconnecting in $RECONNECT_DELAY" }
+        try {
+          Thread.sleep(RECONNECT_DELAY.toMillis())
+        } catch (_: InterruptedException) {
+          return
+        }
+      }
+    }
+  }
+}
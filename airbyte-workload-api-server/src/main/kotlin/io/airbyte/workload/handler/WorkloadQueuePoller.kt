@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.handler
+
+import io.airbyte.config.WorkloadPriority
+import io.airbyte.metrics.MetricAttribute
+import io.airbyte.metrics.MetricClient
+import io.airbyte.metrics.OssMetricsRegistry
+import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.workload.api.domain.Workload
+import io.micronaut.context.annotation.Property
+import jakarta.inject.Singleton
+import java.time.Duration
+
+/**
+ * Polls the workload queue, optionally waiting for workloads to be enqueued when it is empty.
+ *
+ * Waiting doesn't hold a database connection: every poll runs in its own transaction, and in between the poller waits for the
+ * notification of a workload enqueued for the dataplane group.
+ */
+@Singleton
+class WorkloadQueuePoller(
+  private val workloadHandler: WorkloadHandler,
+  private val notificationListener: WorkloadQueueNotificationListener,
+  private val metricClient: MetricClient,
+  @Property(name = "airbyte.workload-api.queue-long-poll-max-wait") private val maxWait: Duration,
+) {
+  /**
+   * Poll the workload queue. If no workload is available, wait up to the given time, capped by the configured maximum, for one to be
+   * enqueued. Returns an empty list if none was enqueued in time.
+   */
+  fun poll(
+    dataplaneGroup: String?,
+    priority: WorkloadPriority?,
+    quantity: Int,
+    wait: Duration,
+  ): List<Workload> {
+    val waitNanos = minOf(wait, maxWait).toNanos()
+    val deadlineNanos = System.nanoTime() + waitNanos
+    var workloads: List<Workload>
+    while (true) {
+      // Read before polling, so a workload enqueued after the poll wakes us up.
+      val version = if (waitNanos > 0) notificationListener.version(dataplaneGroup) else 0L
+      workloads = workloadHandler.pollWorkloadQueue(dataplaneGroup, priority, quantity)
+      val remainingNanos = deadlineNanos - System.nanoTime()
+      if (workloads.isNotEmpty() || remainingNanos <= 0) {
+        break
+      }
+      // Another launcher may get the workload first, in which case we poll an empty queue again and keep waiting.
+      notificationListener.awaitEnqueued(dataplaneGroup, version, Duration.ofNanos(remainingNanos))
+    }
+
+    val attributes =
+      arrayOf(
+        MetricAttribute(MetricTags.DATA_PLANE_GROUP_TAG, dataplaneGroup ?: "undefined"),
+        MetricAttribute(MetricTags.PRIORITY_TAG, priority?.toString() ?: "undefined"),
+      )
+    metricClient.count(OssMetricsRegistry.WORKLOAD_QUEUE_POLLS, 1, *attributes)
+    if (workloads.isEmpty()) {
+      metricClient.count(OssMetricsRegistry.WORKLOAD_QUEUE_EMPTY_POLLS, 1, *attributes)
+    }
+    return workloads
+  }
+}
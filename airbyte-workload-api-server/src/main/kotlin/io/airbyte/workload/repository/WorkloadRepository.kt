@@ -99,6 +99,32 @@ interface WorkloadRepository : PageableRepository<Workload, String> {
     deadline: OffsetDateTime,
   ): Workload?
 
+  /**
+   * Heartbeat transitions the claimed, launched and running workloads among the given ones into running and updates their deadline,
+   * with a single statement. The deadline of a workload is the one at the same index in the deadlines.
+   * Heartbeat returns the workloads that were heartbeated, workloads in any other status are left untouched.
+   */
+  @Query(
+    """
+      UPDATE workload
+      SET
+       status = 'running',
+       last_heartbeat_at = :lastHeartbeatAt,
+       deadline = heartbeat.deadline,
+       updated_at = now()
+      FROM unnest(CAST(ARRAY[:workloadIds] AS varchar[]), CAST(ARRAY[:deadlines] AS timestamptz[])) AS heartbeat(id, deadline)
+      WHERE workload.id = heartbeat.id AND workload.status IN ('claimed', 'launched', 'running')
+      RETURNING workload.*
+    """,
+  )
+  fun heartbeat(
+    @Expandable workloadIds: List<String>,
+    @Expandable deadlines: List<OffsetDateTime>,
+    lastHeartbeatAt: OffsetDateTime,
+  ): List<Workload>
+
+  fun findByIdInList(ids: Collection<String>): List<Workload>
+
   fun update(
     @Id id: String,
     status: WorkloadStatus,
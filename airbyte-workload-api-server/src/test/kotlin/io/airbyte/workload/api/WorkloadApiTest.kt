@@ -13,17 +13,23 @@ import io.airbyte.workload.api.domain.WorkloadCancelRequest
 import io.airbyte.workload.api.domain.WorkloadClaimRequest
 import io.airbyte.workload.api.domain.WorkloadCreateRequest
 import io.airbyte.workload.api.domain.WorkloadFailureRequest
+import io.airbyte.workload.api.domain.WorkloadHeartbeatBatchRequest
+import io.airbyte.workload.api.domain.WorkloadHeartbeatBatchResponse
 import io.airbyte.workload.api.domain.WorkloadHeartbeatRequest
+import io.airbyte.workload.api.domain.WorkloadHeartbeatResult
 import io.airbyte.workload.api.domain.WorkloadListRequest
+import io.airbyte.workload.api.domain.WorkloadQueueLongPollRequest
 import io.airbyte.workload.api.domain.WorkloadQueuePollRequest
 import io.airbyte.workload.api.domain.WorkloadQueueQueryRequest
 import io.airbyte.workload.api.domain.WorkloadRunningRequest
+import io.airbyte.workload.api.domain.WorkloadStatus
 import io.airbyte.workload.api.domain.WorkloadSuccessRequest
 import io.airbyte.workload.errors.InvalidStatusTransitionException
 import io.airbyte.workload.errors.NotFoundException
 import io.airbyte.workload.handler.ApiWorkload
 import io.airbyte.workload.handler.WorkloadHandler
 import io.airbyte.workload.handler.WorkloadHandlerImpl
+import io.airbyte.workload.handler.WorkloadQueueNotificationListener
 import io.micrometer.core.instrument.MeterRegistry
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import io.micronaut.context.annotation.Property
@@ -46,6 +52,7 @@ import jakarta.inject.Singleton
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
+import java.time.OffsetDateTime
 
 @Property(name = "airbyte.workload-api.workload-redelivery-window", value = "PT30M")
 @MicronautTest(environments = [Environment.TEST])
@@ -84,6 +91,12 @@ class WorkloadApiTest(
   @Replaces(WorkflowClientWrapped::class)
   fun workloadClientWrapped(): WorkflowClientWrapped = workloadClientWrapped
 
+  private val notificationListener = mockk<WorkloadQueueNotificationListener>()
+
+  @MockBean(WorkloadQueueNotificationListener::class)
+  @Replaces(WorkloadQueueNotificationListener::class)
+  fun notificationListener(): WorkloadQueueNotificationListener = notificationListener
+
   @Test
   fun `test create success`() {
     every { workloadHandler.workloadAlreadyExists(any()) } returns false
@@ -150,32 +163,69 @@ class WorkloadApiTest(
 
   @Test
   fun `test heartbeat success`() {
-    every { workloadHandler.heartbeat(any(), any()) }.returns(Unit)
+    every { workloadHandler.heartbeat(any<Map<String, OffsetDateTime>>()) }
+      .returns(listOf(WorkloadHeartbeatResult("", heartbeated = true, status = WorkloadStatus.RUNNING)))
     testEndpointStatus(HttpRequest.PUT("/api/v1/workload/heartbeat", Jsons.serialize(WorkloadHeartbeatRequest())), HttpStatus.NO_CONTENT)
   }
 
   @Test
   fun `test heartbeat workload id not found`() {
-    val exceptionMessage = "workload id not found"
-    every { workloadHandler.heartbeat(any(), any()) } throws NotFoundException(exceptionMessage)
+    every { workloadHandler.heartbeat(any<Map<String, OffsetDateTime>>()) }
+      .returns(listOf(WorkloadHeartbeatResult("", heartbeated = false, status = null)))
     testErrorEndpointResponse(
       HttpRequest.PUT("/api/v1/workload/heartbeat", WorkloadHeartbeatRequest()),
       HttpStatus.NOT_FOUND,
-      exceptionMessage,
+      "Could not find workload with id: ",
     )
   }
 
   @Test
   fun `test heartbeat workload in invalid status`() {
-    val exceptionMessage = "workload in invalid status"
-    every { workloadHandler.heartbeat(any(), any()) } throws InvalidStatusTransitionException(exceptionMessage)
+    every { workloadHandler.heartbeat(any<Map<String, OffsetDateTime>>()) }
+      .returns(listOf(WorkloadHeartbeatResult("", heartbeated = false, status = WorkloadStatus.CANCELLED)))
     testErrorEndpointResponse(
       HttpRequest.PUT("/api/v1/workload/heartbeat", WorkloadHeartbeatRequest()),
       HttpStatus.GONE,
-      exceptionMessage,
+      "Heartbeat a workload in a terminal state",
     )
   }
 
+  @Test
+  fun `test heartbeat batch success`() {
+    val deadline = OffsetDateTime.now().plusMinutes(10)
+    val results =
+      listOf(
+        WorkloadHeartbeatResult("workload-1", heartbeated = true, status = WorkloadStatus.RUNNING),
+        WorkloadHeartbeatResult("workload-2", heartbeated = false, status = WorkloadStatus.FAILURE),
+      )
+    every { workloadHandler.heartbeat(any<Map<String, OffsetDateTime>>()) }.returns(results)
+
+    val response =
+      client.toBlocking().exchange(
+        HttpRequest.PUT(
+          "/api/v1/workload/heartbeat/batch",
+          WorkloadHeartbeatBatchRequest(
+            listOf(
+              WorkloadHeartbeatRequest("workload-1", deadline),
+              WorkloadHeartbeatRequest("workload-1", deadline.minusMinutes(5)),
+              WorkloadHeartbeatRequest("workload-2", deadline),
+            ),
+          ),
+        ),
+        String::class.java,
+      )
+
+    assertEquals(HttpStatus.OK, response.status)
+    assertEquals(results, Jsons.deserialize(response.body(), WorkloadHeartbeatBatchResponse::class.java).results)
+    verify(exactly = 1) {
+      workloadHandler.heartbeat(
+        match<Map<String, OffsetDateTime>> {
+          it.keys == setOf("workload-1", "workload-2") && it.getValue("workload-1").isEqual(deadline)
+        },
+      )
+    }
+  }
+
   @Test
   fun `test list success`() {
     every { workloadHandler.getWorkloads(any(), any(), any()) }.returns(emptyList())
@@ -307,6 +357,21 @@ class WorkloadApiTest(
     testEndpointStatus(HttpRequest.POST("/api/v1/workload/queue/poll", req), HttpStatus.OK)
   }
 
+  @Test
+  fun `long poll workloads happy path`() {
+    val req =
+      WorkloadQueueLongPollRequest(
+        dataplaneGroup = "dataplane-group-1",
+        priority = WorkloadPriority.DEFAULT,
+        quantity = 10,
+        waitSeconds = 0,
+      )
+
+    every { workloadHandler.pollWorkloadQueue(req.dataplaneGroup, req.priority, 10) }.returns(emptyList())
+    testEndpointStatus(HttpRequest.POST("/api/v1/workload/queue/long_poll", req), HttpStatus.OK)
+    verify(exactly = 0) { notificationListener.awaitEnqueued(any(), any(), any()) }
+  }
+
   @Test
   fun `count queue depth happy path`() {
     val req =
@@ -16,6 +16,7 @@ import io.airbyte.metrics.MetricAttribute
 import io.airbyte.metrics.MetricClient
 import io.airbyte.metrics.OssMetricsRegistry
 import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.workload.api.domain.WorkloadHeartbeatResult
 import io.airbyte.workload.api.domain.WorkloadLabel
 import io.airbyte.workload.errors.ConflictException
 import io.airbyte.workload.errors.InvalidStatusTransitionException
@@ -256,27 +257,22 @@ class WorkloadHandlerImplTest {
     assertEquals(WorkloadPriority.DEFAULT, workloads[0].priority)
   }
 
-  @ParameterizedTest
-  @EnumSource(value = WorkloadStatus::class, names = ["CLAIMED", "LAUNCHED", "RUNNING"])
-  fun `test successfulHeartbeat`(workloadStatus: WorkloadStatus) {
-    every { workloadRepository.findById(WORKLOAD_ID) }.returns(
-      Optional.of(
-        Fixtures.workload(
-          id = WORKLOAD_ID,
-          status = workloadStatus,
-        ),
-      ),
+  @Test
+  fun `test successfulHeartbeat`() {
+    every { workloadRepository.heartbeat(listOf(WORKLOAD_ID), listOf(now.plusMinutes(10)), now) }.returns(
+      listOf(Fixtures.workload(id = WORKLOAD_ID, status = WorkloadStatus.RUNNING)),
     )
-    every { workloadRepository.update(eq(WORKLOAD_ID), any(), ofType(OffsetDateTime::class), eq(now.plusMinutes(10))) }.returns(Unit)
     workloadHandler.heartbeat(WORKLOAD_ID, now.plusMinutes(10))
-    verify { workloadRepository.update(eq(WORKLOAD_ID), eq(WorkloadStatus.RUNNING), any(), eq(now.plusMinutes(10))) }
+    verify { workloadRepository.heartbeat(listOf(WORKLOAD_ID), listOf(now.plusMinutes(10)), now) }
+    verify(exactly = 0) { workloadRepository.findByIdInList(any()) }
   }
 
   @ParameterizedTest
   @EnumSource(value = WorkloadStatus::class, names = ["CANCELLED", "FAILURE", "SUCCESS", "PENDING"])
   fun `test nonAuthorizedHeartbeat`(workloadStatus: WorkloadStatus) {
-    every { workloadRepository.findById(WORKLOAD_ID) }.returns(
-      Optional.of(
+    every { workloadRepository.heartbeat(listOf(WORKLOAD_ID), listOf(now), now) }.returns(listOf())
+    every { workloadRepository.findByIdInList(listOf(WORKLOAD_ID)) }.returns(
+      listOf(
         Fixtures.workload(
           id = WORKLOAD_ID,
           status = workloadStatus,
@@ -286,6 +282,38 @@ class WorkloadHandlerImplTest {
     assertThrows<InvalidStatusTransitionException> { workloadHandler.heartbeat(WORKLOAD_ID, now) }
   }
 
+  @Test
+  fun `test heartbeat of a workload that doesn't exist`() {
+    every { workloadRepository.heartbeat(listOf(WORKLOAD_ID), listOf(now), now) }.returns(listOf())
+    every { workloadRepository.findByIdInList(listOf(WORKLOAD_ID)) }.returns(listOf())
+    assertThrows<NotFoundException> { workloadHandler.heartbeat(WORKLOAD_ID, now) }
+  }
+
+  @Test
+  fun `batch heartbeat reports the result of every workload`() {
+    val deadlines =
+      linkedMapOf(
+        "running" to now.plusMinutes(10),
+        "failed" to now.plusMinutes(5),
+        "missing" to now.plusMinutes(10),
+      )
+    every { workloadRepository.heartbeat(deadlines.keys.toList(), deadlines.values.toList(), now) }.returns(
+      listOf(Fixtures.workload(id = "running", status = WorkloadStatus.RUNNING)),
+    )
+    every { workloadRepository.findByIdInList(listOf("failed", "missing")) }.returns(
+      listOf(Fixtures.workload(id = "failed", status = WorkloadStatus.FAILURE)),
+    )
+
+    assertEquals(
+      listOf(
+        WorkloadHeartbeatResult("running", heartbeated = true, status = ApiWorkloadStatus.RUNNING),
+        WorkloadHeartbeatResult("failed", heartbeated = false, status = ApiWorkloadStatus.FAILURE),
+        WorkloadHeartbeatResult("missing", heartbeated = false, status = null),
+      ),
+      workloadHandler.heartbeat(deadlines),
+    )
+  }
+
   @Test
   fun `claiming a workload unsuccesfully returns false`() {
     every { workloadRepository.claim(WORKLOAD_ID, any(), any()) }.returns(null)
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.handler
+
+import io.airbyte.workload.api.domain.WorkloadHeartbeatResult
+import io.airbyte.workload.errors.InvalidStatusTransitionException
+import io.airbyte.workload.errors.NotFoundException
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.time.Duration
+import java.time.OffsetDateTime
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+private val TIMEOUT: Duration = Duration.ofSeconds(10)
+
+class WorkloadHeartbeatCoalescerTest {
+  private val now: OffsetDateTime = OffsetDateTime.now()
+  private val workloadHandler = mockk<WorkloadHandler>()
+
+  @Test
+  fun `heartbeats within the coalescing window are written together`() {
+    val coalescer = WorkloadHeartbeatCoalescer(workloadHandler, Duration.ofMillis(500), TIMEOUT)
+    val deadlines = slot<Map<String, OffsetDateTime>>()
+    every { workloadHandler.heartbeat(capture(deadlines)) } answers {
+      deadlines.captured.keys.map { WorkloadHeartbeatResult(it, heartbeated = true, status = ApiWorkloadStatus.RUNNING) }
+    }
+
+    val executor = Executors.newFixedThreadPool(3)
+    val start = CountDownLatch(1)
+    val heartbeats =
+      listOf(
+        "workload-1" to now.plusMinutes(5),
+        "workload-1" to now.plusMinutes(10),
+        "workload-2" to now.plusMinutes(10),
+      ).map { (workloadId, deadline) ->
+        executor.submit {
+          start.await()
+          coalescer.heartbeat(workloadId, deadline)
+        }
+      }
+    start.countDown()
+    heartbeats.forEach { it.get(10, TimeUnit.SECONDS) }
+    executor.shutdown()
+
+    verify(exactly = 1) { workloadHandler.heartbeat(any<Map<String, OffsetDateTime>>()) }
+    assertEquals(mapOf("workload-1" to now.plusMinutes(10), "workload-2" to now.plusMinutes(10)), deadlines.captured)
+  }
+
+  @Test
+  fun `heartbeat throws if the workload wasn't heartbeated`() {
+    val coalescer = WorkloadHeartbeatCoalescer(workloadHandler, Duration.ZERO, TIMEOUT)
+    every { workloadHandler.heartbeat(mapOf("terminal" to now)) }
+      .returns(listOf(WorkloadHeartbeatResult("terminal", heartbeated = false, status = ApiWorkloadStatus.SUCCESS)))
+    every { workloadHandler.heartbeat(mapOf("missing" to now)) }
+      .returns(listOf(WorkloadHeartbeatResult("missing", heartbeated = false, status = null)))
+
+    assertThrows<InvalidStatusTransitionException> { coalescer.heartbeat("terminal", now) }
+    assertThrows<NotFoundException> { coalescer.heartbeat("missing", now) }
+  }
+
+  @Test
+  fun `heartbeat rethrows the errors of the write`() {
+    val coalescer = WorkloadHeartbeatCoalescer(workloadHandler, Duration.ZERO, TIMEOUT)
+    every { workloadHandler.heartbeat(any<Map<String, OffsetDateTime>>()) } throws IllegalStateException("db is down")
+
+    val exception = assertThrows<IllegalStateException> { coalescer.heartbeat("workload-1", now) }
+    assertEquals("db is down", exception.message)
+  }
+
+  @Test
+  fun `heartbeat throws if the write returned no result for the workload`() {
+    val coalescer = WorkloadHeartbeatCoalescer(workloadHandler, Duration.ZERO, TIMEOUT)
+    every { workloadHandler.heartbeat(any<Map<String, OffsetDateTime>>()) } returns emptyList()
+
+    val exception = assertThrows<IllegalStateException> { coalescer.heartbeat("workload-1", now) }
+    assertEquals("No heartbeat result for workload workload-1", exception.message)
+  }
+
+  @Test
+  fun `heartbeat gives up waiting for a write in flight after the timeout`() {
+    val coalescer = WorkloadHeartbeatCoalescer(workloadHandler, Duration.ZERO, Duration.ofMillis(100))
+    val writing = CountDownLatch(1)
+    val release = CountDownLatch(1)
+    every { workloadHandler.heartbeat(any<Map<String, OffsetDateTime>>()) } answers {
+      writing.countDown()
+      release.await()
+      firstArg<Map<String, OffsetDateTime>>().keys.map { WorkloadHeartbeatResult(it, heartbeated = true, status = ApiWorkloadStatus.RUNNING) }
+    }
+
+    val executor = Executors.newSingleThreadExecutor()
+    val writer = executor.submit { coalescer.heartbeat("workload-1", now) }
+    writing.await(10, TimeUnit.SECONDS)
+
+    assertThrows<IllegalStateException> { coalescer.heartbeat("workload-2", now) }
+    release.countDown()
+    writer.get(10, TimeUnit.SECONDS)
+    executor.shutdown()
+    // The heartbeat that timed out is still written, with the next batch.
+    coalescer.heartbeat("workload-3", now)
+    verify(exactly = 1) { workloadHandler.heartbeat(mapOf("workload-2" to now, "workload-3" to now)) }
+  }
+
+  @Test
+  fun `a caller writes at most once`() {
+    val coalescer = WorkloadHeartbeatCoalescer(workloadHandler, Duration.ZERO, TIMEOUT)
+    val firstWriting = CountDownLatch(1)
+    val firstRelease = CountDownLatch(1)
+    val secondWriting = CountDownLatch(1)
+    val secondRelease = CountDownLatch(1)
+    every { workloadHandler.heartbeat(mapOf("workload-1" to now)) } answers {
+      firstWriting.countDown()
+      firstRelease.await()
+      listOf(WorkloadHeartbeatResult("workload-1", heartbeated = true, status = ApiWorkloadStatus.RUNNING))
+    }
+    every { workloadHandler.heartbeat(mapOf("workload-2" to now)) } answers {
+      secondWriting.countDown()
+      secondRelease.await()
+      listOf(WorkloadHeartbeatResult("workload-2", heartbeated = true, status = ApiWorkloadStatus.RUNNING))
+    }
+
+    val executor = Executors.newFixedThreadPool(2)
+    val firstCaller = executor.submit { coalescer.heartbeat("workload-1", now) }
+    firstWriting.await(10, TimeUnit.SECONDS)
+    val secondCaller = executor.submit { coalescer.heartbeat("workload-2", now) }
+    // Gives the second heartbeat time to be queued while the first write is in flight.
+    Thread.sleep(100)
+    firstRelease.countDown()
+
+    // The first caller returns without writing the heartbeat queued during its write, which its own caller writes.
+    assertTrue(secondWriting.await(10, TimeUnit.SECONDS))
+    firstCaller.get(10, TimeUnit.SECONDS)
+    secondRelease.countDown()
+    secondCaller.get(10, TimeUnit.SECONDS)
+    executor.shutdown()
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.handler
+
+import io.airbyte.config.WorkloadPriority
+import io.airbyte.metrics.MetricClient
+import io.airbyte.metrics.OssMetricsRegistry
+import io.airbyte.workload.api.domain.Workload
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+import java.time.Duration
+
+class WorkloadQueuePollerTest {
+  private val workloadHandler = mockk<WorkloadHandler>()
+  private val notificationListener = mockk<WorkloadQueueNotificationListener>()
+  private val metricClient = mockk<MetricClient>(relaxed = true)
+  private val poller = WorkloadQueuePoller(workloadHandler, notificationListener, metricClient, Duration.ofSeconds(30))
+
+  private val workload = mockk<Workload>()
+
+  @Test
+  fun `poll returns the available workloads without waiting`() {
+    every { notificationListener.version(GROUP) } returns 1
+    every { workloadHandler.pollWorkloadQueue(GROUP, WorkloadPriority.HIGH, 10) } returns listOf(workload)
+
+    assertEquals(listOf(workload), poller.poll(GROUP, WorkloadPriority.HIGH, 10, Duration.ofSeconds(10)))
+
+    verify(exactly = 0) { notificationListener.awaitEnqueued(any(), any(), any()) }
+    verify(exactly = 1) { metricClient.count(OssMetricsRegistry.WORKLOAD_QUEUE_POLLS, 1, *anyVararg()) }
+    verify(exactly = 0) { metricClient.count(OssMetricsRegistry.WORKLOAD_QUEUE_EMPTY_POLLS, 1, *anyVararg()) }
+  }
+
+  @Test
+  fun `poll waits for a workload to be enqueued and polls again`() {
+    every { notificationListener.version(GROUP) } returns 1 andThen 2
+    every { notificationListener.awaitEnqueued(GROUP, 1, any()) } returns true
+    every { workloadHandler.pollWorkloadQueue(GROUP, WorkloadPriority.HIGH, 10) } returns listOf() andThen listOf(workload)
+
+    assertEquals(listOf(workload), poller.poll(GROUP, WorkloadPriority.HIGH, 10, Duration.ofSeconds(10)))
+
+    verify(exactly = 1) { notificationListener.awaitEnqueued(GROUP, 1, any()) }
+    verify(exactly = 2) { workloadHandler.pollWorkloadQueue(GROUP, WorkloadPriority.HIGH, 10) }
+    verify(exactly = 0) { metricClient.count(OssMetricsRegistry.WORKLOAD_QUEUE_EMPTY_POLLS, 1, *anyVararg()) }
+  }
+
+  @Test
+  fun `poll returns an empty list once the wait is over`() {
+    every { notificationListener.version(GROUP) } returns 1
+    every { notificationListener.awaitEnqueued(GROUP, 1, any()) } answers {
+      Thread.sleep(thirdArg<Duration>().toMillis())
+      false
+    }
+    every { workloadHandler.pollWorkloadQueue(GROUP, null, 10) } returns listOf()
+
+    assertEquals(listOf<Workload>(), poller.poll(GROUP, null, 10, Duration.ofMillis(100)))
+
+    verify(exactly = 1) { metricClient.count(OssMetricsRegistry.WORKLOAD_QUEUE_POLLS, 1, *anyVararg()) }
+    verify(exactly = 1) { metricClient.count(OssMetricsRegistry.WORKLOAD_QUEUE_EMPTY_POLLS, 1, *anyVararg()) }
+  }
+
+  @Test
+  fun `poll without wait doesn't listen to notifications`() {
+    every { workloadHandler.pollWorkloadQueue(GROUP, null, 10) } returns listOf()
+
+    assertEquals(listOf<Workload>(), poller.poll(GROUP, null, 10, Duration.ZERO))
+
+    verify(exactly = 0) { notificationListener.version(any()) }
+    verify(exactly = 0) { notificationListener.awaitEnqueued(any(), any(), any()) }
+  }
+
+  @Test
+  fun `poll caps the wait to the configured maximum`() {
+    val shortPoller = WorkloadQueuePoller(workloadHandler, notificationListener, metricClient, Duration.ZERO)
+    every { workloadHandler.pollWorkloadQueue(GROUP, null, 10) } returns listOf()
+
+    assertEquals(listOf<Workload>(), shortPoller.poll(GROUP, null, 10, Duration.ofMinutes(5)))
+
+    verify(exactly = 0) { notificationListener.awaitEnqueued(any(), any(), any()) }
+  }
+
+  companion object {
+    private const val GROUP = "dataplane-group-1"
+  }
+}
@@ -7,6 +7,7 @@ package io.airbyte.workload.repository
 import io.airbyte.db.factory.DSLContextFactory
 import io.airbyte.db.instance.DatabaseConstants
 import io.airbyte.db.instance.test.TestDatabaseProviders
+import io.airbyte.workload.handler.WorkloadQueueNotificationListener
 import io.airbyte.workload.repository.WorkloadRepositoryTest.Fixtures.WORKLOAD_ID
 import io.airbyte.workload.repository.WorkloadRepositoryTest.Fixtures.defaultDeadline
 import io.airbyte.workload.repository.WorkloadRepositoryTest.Fixtures.labelList1
@@ -26,6 +27,7 @@ import org.jooq.SQLDialect
 import org.junit.jupiter.api.AfterAll
 import org.junit.jupiter.api.AfterEach
 import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
 import org.junit.jupiter.api.Assertions.assertNotNull
 import org.junit.jupiter.api.Assertions.assertNull
 import org.junit.jupiter.api.Assertions.assertTrue
@@ -35,6 +37,7 @@ import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.Arguments
 import org.junit.jupiter.params.provider.MethodSource
 import org.testcontainers.containers.PostgreSQLContainer
+import java.time.Duration
 import java.time.OffsetDateTime
 import java.time.temporal.ChronoUnit
 import javax.sql.DataSource
@@ -249,6 +252,37 @@ internal class WorkloadRepositoryTest {
     assertEquals(nowPlusOneMinute.toEpochSecond(), persistedWorkload.get().deadline?.toEpochSecond())
   }
 
+  @Test
+  fun `batch heartbeat should only update the workloads expected to be running`() {
+    WorkloadStatus.entries.forEach {
+      workloadRepo.save(Fixtures.workload(id = "workload-${it.name}", status = it, deadline = defaultDeadline))
+    }
+    val workloadIds = WorkloadStatus.entries.map { "workload-${it.name}" } + "workload-missing"
+    val now = OffsetDateTime.now()
+    val deadlines = workloadIds.indices.map { now.plusMinutes(it.toLong()) }
+
+    val heartbeatedWorkloads = workloadRepo.heartbeat(workloadIds, deadlines, now)
+
+    assertEquals(setOf("workload-CLAIMED", "workload-LAUNCHED", "workload-RUNNING"), heartbeatedWorkloads.map { it.id }.toSet())
+    WorkloadStatus.entries.forEachIndexed { index, status ->
+      val persistedWorkload = workloadRepo.findById("workload-${status.name}").get()
+      if (status in listOf(WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING)) {
+        assertEquals(WorkloadStatus.RUNNING, persistedWorkload.status)
+        assertEquals(now.toEpochSecond(), persistedWorkload.lastHeartbeatAt?.toEpochSecond())
+        assertEquals(deadlines[index].toEpochSecond(), persistedWorkload.deadline?.toEpochSecond())
+      } else {
+        assertEquals(status, persistedWorkload.status)
+        assertNull(persistedWorkload.lastHeartbeatAt)
+        assertEquals(defaultDeadline.toEpochSecond(), persistedWorkload.deadline?.toEpochSecond())
+      }
+    }
+
+    assertEquals(
+      setOf("workload-PENDING", "workload-SUCCESS"),
+      workloadRepo.findByIdInList(listOf("workload-PENDING", "workload-SUCCESS", "workload-missing")).map { it.id }.toSet(),
+    )
+  }
+
   // TODO: we should delete this once we are using atomic claims by default because it should be the only way to set a dataplane.
   @Test
   fun `updating a workload with a dataplane should update the workload`() {
@@ -687,6 +721,30 @@ internal class WorkloadRepositoryTest {
     assertWorkloadsEqual(workloads, result)
   }
 
+  @Test
+  fun `enqueueing a workload notifies the listeners of its dataplane group`() {
+    val listener = WorkloadQueueNotificationListener(container.jdbcUrl, container.username, container.password)
+    try {
+      // The listener wakes up the waiters once it starts listening.
+      val initialVersion = listener.version("group-1")
+      val listenerStarted = System.nanoTime() + Duration.ofSeconds(30).toNanos()
+      while (listener.version("group-1") == initialVersion && System.nanoTime() < listenerStarted) {
+        listener.awaitEnqueued("group-1", initialVersion, Duration.ofSeconds(1))
+      }
+
+      val version = listener.version("group-1")
+      workloadRepo.save(Fixtures.workload(id = "workload-group-2", dataplaneGroup = "group-2"))
+      workloadQueueRepo.enqueueWorkload("group-2", 0, "workload-group-2")
+      assertFalse(listener.awaitEnqueued("group-1", version, Duration.ofMillis(500)))
+
+      workloadRepo.save(Fixtures.workload(id = "workload-group-1", dataplaneGroup = "group-1"))
+      workloadQueueRepo.enqueueWorkload("group-1", 0, "workload-group-1")
+      assertTrue(listener.awaitEnqueued("group-1", version, Duration.ofSeconds(30)))
+    } finally {
+      listener.close()
+    }
+  }
+
   @ParameterizedTest
   @MethodSource("pendingWorkloadMatrix")
   fun `subsequent calls to poll workload do not return duplicate workloads within poll deadline`(
@@ -11,6 +11,7 @@ import io.airbyte.workload.api.client.model.generated.WorkloadClaimRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadFailureRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadLaunchedRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadPriority
+import io.airbyte.workload.api.client.model.generated.WorkloadQueueLongPollRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadQueuePollRequest
 import io.airbyte.workload.launcher.authn.DataplaneIdentityService
 import io.github.oshai.kotlinlogging.KotlinLogging
@@ -105,4 +106,26 @@ class WorkloadApiClient(
 
     return resp.workloads
   }
+
+  /**
+   * Polls the queue, the Workload API holds the request for up to [waitSeconds] until workloads are enqueued if there are none.
+   */
+  fun longPollQueue(
+    groupId: String?,
+    priority: WorkloadPriority?,
+    pollSizeItems: Int,
+    waitSeconds: Long,
+  ): List<Workload> {
+    val req = WorkloadQueueLongPollRequest(quantity = pollSizeItems, waitSeconds = waitSeconds, dataplaneGroup = groupId, priority = priority)
+
+    val resp = workloadApiClient.workloadApi.longPollWorkloadQueue(req)
+
+    if (resp.workloads.isNotEmpty()) {
+      logger.info {
+        "$groupId-$priority resp: $resp"
+      }
+    }
+
+    return resp.workloads
+  }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.config
+
+import io.airbyte.workload.launcher.metrics.ReactorMetricsWrapper
+import io.airbyte.workload.launcher.pipeline.LaunchStageSchedulers
+import io.airbyte.workload.launcher.pipeline.stages.StageName
+import io.micronaut.context.annotation.Bean
+import io.micronaut.context.annotation.Factory
+import io.micronaut.context.annotation.Value
+import jakarta.inject.Singleton
+
+@Factory
+class LaunchPipelineBeanFactory {
+  @Singleton
+  @Bean(preDestroy = "close")
+  fun launchStageSchedulers(
+    reactorMetricsWrapper: ReactorMetricsWrapper,
+    @Value("\${airbyte.workload-launcher.pipeline.stage-queue-cap}") queueCap: Int,
+    @Value("\${airbyte.workload-launcher.pipeline.stage-concurrency.build}") buildConcurrency: Int,
+    @Value("\${airbyte.workload-launcher.pipeline.stage-concurrency.claim}") claimConcurrency: Int,
+    @Value("\${airbyte.workload-launcher.pipeline.stage-concurrency.load-shed}") loadShedConcurrency: Int,
+    @Value("\${airbyte.workload-launcher.pipeline.stage-concurrency.check}") checkConcurrency: Int,
+    @Value("\${airbyte.workload-launcher.pipeline.stage-concurrency.mutex}") mutexConcurrency: Int,
+    @Value("\${airbyte.workload-launcher.pipeline.stage-concurrency.launch}") launchConcurrency: Int,
+  ): LaunchStageSchedulers =
+    LaunchStageSchedulers(
+      stageConcurrency =
+        mapOf(
+          StageName.BUILD to buildConcurrency,
+          StageName.CLAIM to claimConcurrency,
+          StageName.LOAD_SHED to loadShedConcurrency,
+          StageName.CHECK_STATUS to checkConcurrency,
+          StageName.MUTEX to mutexConcurrency,
+          StageName.LAUNCH to launchConcurrency,
+        ),
+      queueCap = queueCap,
+      reactorMetricsWrapper = reactorMetricsWrapper,
+    )
+}
@@ -25,6 +25,7 @@ class WorkloadApiQueueBeanFactory {
     featureFlagClient: FeatureFlagClient,
     @Value("\${airbyte.workload-launcher.consumer.high-priority-queue.poll-size-items}") pollSizeItems: Int,
     @Value("\${airbyte.workload-launcher.consumer.high-priority-queue.poll-interval-seconds}") pollIntervalSeconds: Long,
+    @Value("\${airbyte.workload-launcher.consumer.long-poll-wait-seconds}") longPollWaitSeconds: Long,
     @Property(name = "airbyte.data-plane-name") dataPlaneName: String,
   ): WorkloadApiQueuePoller =
     WorkloadApiQueuePoller(
@@ -35,6 +36,7 @@ class WorkloadApiQueueBeanFactory {
       pollIntervalSeconds,
       WorkloadPriority.HIGH,
       dataPlaneName,
+      longPollWaitSeconds,
     )
 
   @Singleton
@@ -45,6 +47,7 @@ class WorkloadApiQueueBeanFactory {
     featureFlagClient: FeatureFlagClient,
     @Value("\${airbyte.workload-launcher.consumer.default-queue.poll-size-items}") pollSizeItems: Int,
     @Value("\${airbyte.workload-launcher.consumer.default-queue.poll-interval-seconds}") pollIntervalSeconds: Long,
+    @Value("\${airbyte.workload-launcher.consumer.long-poll-wait-seconds}") longPollWaitSeconds: Long,
     @Property(name = "airbyte.data-plane-name") dataPlaneName: String,
   ): WorkloadApiQueuePoller =
     WorkloadApiQueuePoller(
@@ -55,5 +58,6 @@ class WorkloadApiQueueBeanFactory {
       pollIntervalSeconds,
       WorkloadPriority.DEFAULT,
       dataPlaneName,
+      longPollWaitSeconds,
     )
 }
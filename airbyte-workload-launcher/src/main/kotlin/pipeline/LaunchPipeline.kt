@@ -15,29 +15,38 @@ import jakarta.inject.Named
 import jakarta.inject.Singleton
 import reactor.core.publisher.Flux
 import reactor.core.publisher.Mono
-import reactor.core.scheduler.Schedulers
 import reactor.kotlin.core.publisher.toMono
 
+/**
+ * Runs the launch stages for each workload. Every stage runs on its own bounded scheduler, see [LaunchStageSchedulers], so the
+ * caller's thread is released as soon as the first stage is scheduled.
+ */
 @Singleton
 class LaunchPipeline(
-  @Named("build") private val build: LaunchStage,
-  @Named("loadShed") private val loadShed: LaunchStage,
-  @Named("claim") private val claim: LaunchStage,
-  @Named("check") private val check: LaunchStage,
-  @Named("mutex") private val mutex: LaunchStage,
-  @Named("launch") private val launch: LaunchStage,
+  @Named("build") build: LaunchStage,
+  @Named("loadShed") loadShed: LaunchStage,
+  @Named("claim") claim: LaunchStage,
+  @Named("check") check: LaunchStage,
+  @Named("mutex") mutex: LaunchStage,
+  @Named("launch") launch: LaunchStage,
   private val successHandler: SuccessHandler,
   private val failureHandler: FailureHandler,
   private val ingressAdapter: PipelineIngressAdapter,
+  private val stageSchedulers: LaunchStageSchedulers,
 ) {
+  private val build = stageSchedulers.runOn(build)
+  private val claim = stageSchedulers.runOn(claim)
+  private val loadShed = stageSchedulers.runOn(loadShed)
+  private val check = stageSchedulers.runOn(check)
+  private val mutex = stageSchedulers.runOn(mutex)
+  private val launch = stageSchedulers.runOn(launch)
+
+  /*
+   * Runs the pipeline for a single input, blocking until it completes.
+   */
   @Trace(operationName = LAUNCH_PIPELINE_OPERATION_NAME)
   fun accept(input: LauncherInput) {
-    val disposable =
-      buildPipeline(input)
-        .subscribeOn(Schedulers.immediate())
-        .subscribe()
-
-    disposable.dispose()
+    buildPipeline(input).block()
   }
 
   /*
@@ -63,13 +72,6 @@ class LaunchPipeline(
    */
   fun apply(publisher: Flux<LauncherInput>): Flux<LaunchStageIO> =
     publisher
-      .map(ingressAdapter::apply)
-      .flatMap(build)
-      .flatMap(claim)
-      .flatMap(loadShed)
-      .flatMap(check)
-      .flatMap(mutex)
-      .flatMap(launch)
+      .flatMap(this::buildPipeline)
       .onErrorContinue(failureHandler::accept)
-      .doOnNext(successHandler::accept)
 }
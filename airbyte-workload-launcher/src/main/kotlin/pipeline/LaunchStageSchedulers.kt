@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pipeline
+
+import io.airbyte.metrics.MetricAttribute
+import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.workload.launcher.metrics.ReactorMetricsWrapper
+import io.airbyte.workload.launcher.pipeline.stages.StageName
+import io.airbyte.workload.launcher.pipeline.stages.model.Stage
+import io.airbyte.workload.launcher.pipeline.stages.model.StageIO
+import reactor.core.publisher.Mono
+import reactor.core.scheduler.Scheduler
+import reactor.core.scheduler.Schedulers
+import java.util.function.Function
+
+/**
+ * Runs every stage of the launch pipeline on its own bounded scheduler.
+ *
+ * Stages block on the Workload API and on Kubernetes, so running them on the thread of the caller lets a slow stage, e.g. pod
+ * creation during a launch storm, hold the threads every other workload needs. With a scheduler per stage, a workload only waits
+ * for a thread of the stage it is in, and the concurrency of each stage, hence its load on the Kubernetes API, is bounded by its
+ * thread cap. Tasks waiting for a thread are reported by the timed scheduler metrics.
+ */
+class LaunchStageSchedulers(
+  stageConcurrency: Map<StageName, Int>,
+  queueCap: Int,
+  reactorMetricsWrapper: ReactorMetricsWrapper,
+) {
+  companion object {
+    const val STAGE_SCHEDULER_METRIC_PREFIX = "workload_launcher_stage"
+  }
+
+  private val schedulers: Map<StageName, Scheduler> =
+    StageName.entries.associateWith { stageName ->
+      reactorMetricsWrapper.asTimedScheduler(
+        scheduler =
+          Schedulers.newBoundedElastic(
+            stageConcurrency.getValue(stageName),
+            queueCap,
+            "launch-stage-${stageName.name.lowercase()}",
+          ),
+        metricPrefix = STAGE_SCHEDULER_METRIC_PREFIX,
+        MetricAttribute(MetricTags.STAGE_NAME_TAG, stageName.toString()),
+      )
+    }
+
+  /**
+   * Wraps the stage so it runs on its scheduler.
+   */
+  fun <T : StageIO> runOn(stage: Stage<T>): Function<T, Mono<T>> {
+    val scheduler = schedulers.getValue(stage.getStageName())
+    return Function { input -> Mono.defer { stage.apply(input) }.subscribeOn(scheduler) }
+  }
+
+  fun close() {
+    schedulers.values.forEach(Scheduler::dispose)
+  }
+}
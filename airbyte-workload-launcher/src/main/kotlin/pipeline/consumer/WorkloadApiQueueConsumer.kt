@@ -28,6 +28,7 @@ class WorkloadApiQueueConsumer(
   @Value("\${airbyte.workload-launcher.parallelism.default-queue}") private val defaultPriorityParallelism: Int,
   @Value("\${airbyte.workload-launcher.parallelism.high-priority-queue}") private val highPriorityParallelism: Int,
   @Value("\${airbyte.workload-launcher.consumer.queue-task-cap}") private val queueTaskCap: Int,
+  @Value("\${airbyte.workload-launcher.consumer.max-in-flight}") private val maxInFlight: Int,
 ) {
   companion object {
     const val QUEUE_CONSUMER_METRIC_PREFIX = "workload_queue_consumer"
@@ -66,18 +67,25 @@ class WorkloadApiQueueConsumer(
       highPriorityQueuePoller
         .initialize(dataplaneGroupId)
         .flux
-        .parallel(defaultPriorityParallelism)
+        .parallel(highPriorityParallelism)
         .runOn(highPriorityThreadPool)
 
+    // The pipeline runs its stages on their own schedulers, so the rails only hand workloads over. Bound how many are in flight
+    // so the consumer stops polling while the stages are saturated instead of queueing every available workload.
     highPriorityQueuePollerFlux
-      .flatMap(pipeline::buildPipeline)
+      .flatMap(pipeline::buildPipeline, false, maxInFlightPerRail(highPriorityParallelism))
       .subscribe()
 
     defaultPriorityQueuePollerFlux
-      .flatMap(pipeline::buildPipeline)
+      .flatMap(pipeline::buildPipeline, false, maxInFlightPerRail(defaultPriorityParallelism))
       .subscribe()
   }
 
+  /**
+   * Spreads the workloads in flight of a queue across its rails, rounding up so that every rail can take at least one.
+   */
+  internal fun maxInFlightPerRail(rails: Int): Int = (maxInFlight + rails - 1) / rails
+
   fun suspendPolling() {
     highPriorityQueuePoller.suspendPolling()
     defaultPriorityQueuePoller.suspendPolling()
@@ -18,6 +18,7 @@ import io.airbyte.workload.launcher.model.toLauncherInput
 import io.github.oshai.kotlinlogging.KotlinLogging
 import reactor.core.publisher.Flux
 import reactor.core.publisher.Mono
+import reactor.core.scheduler.Schedulers
 import java.time.Duration
 import kotlin.concurrent.Volatile
 
@@ -27,6 +28,9 @@ private val logger = KotlinLogging.logger {}
  * Polls the workload api backed queue with given configuration.
  * Emits a Flux<LauncherInput> for consumption by the pipeline.
  *
+ * If longPollWaitSeconds is positive, the poller long polls: the Workload API holds each poll until workloads are enqueued, and the next
+ * poll is sent as soon as the previous one returns. It falls back to polling every pollIntervalSeconds while suspended and after errors.
+ *
  * Starts in a suspended state until #resumePolling is called.
  */
 class WorkloadApiQueuePoller(
@@ -37,6 +41,7 @@ class WorkloadApiQueuePoller(
   private val pollIntervalSeconds: Long,
   private val priority: WorkloadPriority,
   private val dataplaneName: String,
+  private val longPollWaitSeconds: Long,
 ) {
   @Volatile
   private var suspended = true
@@ -67,18 +72,15 @@ class WorkloadApiQueuePoller(
 
   fun isSuspended(): Boolean = !featureFlagClient.boolVariation(UseWorkloadQueueTableConsumer, PlaneName(dataplaneName)) || suspended
 
-  private fun buildInputFlux(): Flux<LauncherInput> {
+  private fun buildInputFlux(): Flux<LauncherInput> = if (longPollWaitSeconds > 0) buildLongPollInputFlux() else buildIntervalInputFlux()
+
+  private fun buildIntervalInputFlux(): Flux<LauncherInput> {
     val interval = Flux.interval(Duration.ofSeconds(pollIntervalSeconds))
 
     val pollFlux: Flux<Workload> =
       Flux.create { sink ->
         val results = workloadApiClient.pollQueue(groupId, priority, pollSizeItems)
-        metricClient.count(
-          OssMetricsRegistry.WORKLOAD_QUEUE_MESSAGES_POLLED,
-          results.size.toLong(),
-          MetricAttribute(MetricTags.DATA_PLANE_GROUP_TAG, groupId),
-          MetricAttribute(MetricTags.PRIORITY_TAG, priority.toString()),
-        )
+        countPolledMessages(results)
         results.forEach(sink::next)
         sink.complete()
       }
@@ -91,6 +93,36 @@ class WorkloadApiQueuePoller(
       .onErrorContinue(this::handlePollError)
   }
 
+  private fun buildLongPollInputFlux(): Flux<LauncherInput> {
+    val pollInterval = Duration.ofSeconds(pollIntervalSeconds)
+
+    val longPoll: Mono<List<Workload>> =
+      Mono
+        .fromCallable {
+          workloadApiClient.longPollQueue(groupId, priority, pollSizeItems, longPollWaitSeconds).also(this::countPolledMessages)
+        }.subscribeOn(Schedulers.boundedElastic())
+        .onErrorResume { e ->
+          handlePollError(e, null)
+          Mono.delay(pollInterval).thenReturn(listOf<Workload>())
+        }
+
+    return Mono
+      .defer { if (isSuspended()) Mono.delay(pollInterval).thenReturn(listOf<Workload>()) else longPoll }
+      .repeat()
+      .flatMapIterable { it }
+      .map(Workload::toLauncherInput)
+      .onErrorContinue(this::handlePollError)
+  }
+
+  private fun countPolledMessages(results: List<Workload>) {
+    metricClient.count(
+      OssMetricsRegistry.WORKLOAD_QUEUE_MESSAGES_POLLED,
+      results.size.toLong(),
+      MetricAttribute(MetricTags.DATA_PLANE_GROUP_TAG, groupId),
+      MetricAttribute(MetricTags.PRIORITY_TAG, priority.toString()),
+    )
+  }
+
   private fun handlePollError(
     e: Throwable,
     _input: Any?,
@@ -5,7 +5,9 @@
 package pipeline
 
 import fixtures.RecordFixtures.launcherInput
+import io.airbyte.workload.launcher.metrics.ReactorMetricsWrapper
 import io.airbyte.workload.launcher.pipeline.LaunchPipeline
+import io.airbyte.workload.launcher.pipeline.LaunchStageSchedulers
 import io.airbyte.workload.launcher.pipeline.PipelineIngressAdapter
 import io.airbyte.workload.launcher.pipeline.handlers.FailureHandler
 import io.airbyte.workload.launcher.pipeline.handlers.SuccessHandler
@@ -17,12 +19,17 @@ import io.mockk.impl.annotations.MockK
 import io.mockk.junit5.MockKExtension
 import io.mockk.mockk
 import io.mockk.verify
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
 import reactor.core.publisher.Flux
 import reactor.test.StepVerifier
 import java.lang.RuntimeException
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
 
 @ExtendWith(MockKExtension::class)
 class LaunchPipelineTest {
@@ -35,8 +42,16 @@ class LaunchPipelineTest {
   @MockK(relaxed = true)
   private lateinit var ingressAdapter: PipelineIngressAdapter
 
+  // A single thread per stage keeps the inputs in order.
+  private val stageSchedulers = LaunchStageSchedulers(StageName.entries.associateWith { 1 }, 100, ReactorMetricsWrapper(null))
+
   private lateinit var pipeline: LaunchPipeline
 
+  @AfterEach
+  fun teardown() {
+    stageSchedulers.close()
+  }
+
   @BeforeEach
   fun setup() {
     every { ingressAdapter.apply(any()) } answers { LaunchStageIO(msg = firstArg()) }
@@ -52,6 +67,7 @@ class LaunchPipelineTest {
         successHandler = successHandler,
         failureHandler = failureHandler,
         ingressAdapter = ingressAdapter,
+        stageSchedulers = stageSchedulers,
       )
   }
 
@@ -109,6 +125,7 @@ class LaunchPipelineTest {
         successHandler = successHandler,
         failureHandler = failureHandler,
         ingressAdapter = ingressAdapter,
+        stageSchedulers = stageSchedulers,
       )
 
     val appliedPipe = pipeline.apply(inputFlux)
@@ -124,6 +141,48 @@ class LaunchPipelineTest {
     verify { successHandler.accept(LaunchStageIO(msg = workload3)) }
   }
 
+  @Test
+  fun `the pipeline runs each stage on up to its concurrency of inputs at once`() {
+    val concurrentLaunchSchedulers =
+      LaunchStageSchedulers(StageName.entries.associateWith { if (it == StageName.LAUNCH) 3 else 1 }, 100, ReactorMetricsWrapper(null))
+    val launching = CountDownLatch(3)
+    val running = AtomicInteger()
+    val maxRunning = AtomicInteger()
+
+    pipeline =
+      LaunchPipeline(
+        build = MockStage(StageName.BUILD),
+        claim = MockStage(StageName.CLAIM),
+        loadShed = MockStage(StageName.LOAD_SHED),
+        check = MockStage(StageName.CHECK_STATUS),
+        mutex = MockStage(StageName.MUTEX),
+        // every launch waits for the 2 others to start
+        launch =
+          MockStage(StageName.LAUNCH) {
+            maxRunning.accumulateAndGet(running.incrementAndGet()) { current, new -> maxOf(current, new) }
+            launching.countDown()
+            launching.await(10, TimeUnit.SECONDS)
+            running.decrementAndGet()
+            it
+          },
+        successHandler = successHandler,
+        failureHandler = failureHandler,
+        ingressAdapter = ingressAdapter,
+        stageSchedulers = concurrentLaunchSchedulers,
+      )
+
+    val inputs = (1..4).map { launcherInput("workload-$it") }
+
+    StepVerifier
+      .create(pipeline.apply(Flux.fromIterable(inputs)))
+      .expectNextCount(4)
+      .verifyComplete()
+    concurrentLaunchSchedulers.close()
+
+    assertEquals(3, maxRunning.get())
+    inputs.forEach { verify { successHandler.accept(LaunchStageIO(msg = it)) } }
+  }
+
   // Manually mock as using mockk w/ inheritance and Reactor gets complicated
   class MockStage(
     val name: StageName,
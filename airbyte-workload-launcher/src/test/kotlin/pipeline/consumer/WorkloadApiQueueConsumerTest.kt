@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pipeline.consumer
+
+import io.mockk.mockk
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+
+class WorkloadApiQueueConsumerTest {
+  private val consumer =
+    WorkloadApiQueueConsumer(
+      reactorMetricsWrapper = mockk(),
+      pipeline = mockk(),
+      highPriorityQueuePoller = mockk(),
+      defaultPriorityQueuePoller = mockk(),
+      defaultPriorityParallelism = 10,
+      highPriorityParallelism = 4,
+      queueTaskCap = 100,
+      maxInFlight = 10,
+    )
+
+  @Test
+  fun `the workloads in flight are spread across the rails of each queue`() {
+    assertEquals(1, consumer.maxInFlightPerRail(10))
+    assertEquals(3, consumer.maxInFlightPerRail(4))
+    assertEquals(10, consumer.maxInFlightPerRail(1))
+    assertEquals(1, consumer.maxInFlightPerRail(20))
+  }
+}
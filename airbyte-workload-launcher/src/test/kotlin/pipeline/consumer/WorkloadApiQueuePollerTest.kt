@@ -65,6 +65,7 @@ class WorkloadApiQueuePollerTest {
         pollIntervalSeconds,
         priority,
         dataplaneName,
+        0,
       )
   }
 
@@ -196,6 +197,86 @@ class WorkloadApiQueuePollerTest {
     verify(exactly = 3) { workloadApiClient.pollQueue(groupId, priority, pollSizeItems) }
   }
 
+  @Test
+  fun `long polls again as soon as the previous poll returns`() {
+    val longPoller = longPoller(pollIntervalSeconds)
+    every { workloadApiClient.longPollQueue(groupId, priority, pollSizeItems, LONG_POLL_WAIT_SECONDS) } returns
+      listOf(
+        workload1,
+        workload2,
+      ) andThen
+      listOf() andThen
+      listOf(
+        workload3,
+      )
+
+    longPoller.initialize(groupId)
+    longPoller.resumePolling()
+    StepVerifier
+      .create(longPoller.flux.take(3))
+      .expectNext(workload1.toLauncherInput())
+      .expectNext(workload2.toLauncherInput())
+      .expectNext(workload3.toLauncherInput())
+      .verifyComplete()
+
+    verify(exactly = 3) { workloadApiClient.longPollQueue(groupId, priority, pollSizeItems, LONG_POLL_WAIT_SECONDS) }
+    verify(exactly = 0) { workloadApiClient.pollQueue(any(), any(), any()) }
+  }
+
+  @Test
+  fun `long polling waits for the poll interval after errors`() {
+    val longPoller = longPoller(1)
+    every { workloadApiClient.longPollQueue(groupId, priority, pollSizeItems, LONG_POLL_WAIT_SECONDS) } throws
+      RuntimeException("bang") andThen
+      listOf(
+        workload1,
+      )
+
+    longPoller.initialize(groupId)
+    longPoller.resumePolling()
+    StepVerifier
+      .create(longPoller.flux.take(1))
+      .expectSubscription()
+      .expectNoEvent(Duration.ofMillis(500))
+      .expectNext(workload1.toLauncherInput())
+      .verifyComplete()
+
+    verify(exactly = 2) { workloadApiClient.longPollQueue(groupId, priority, pollSizeItems, LONG_POLL_WAIT_SECONDS) }
+  }
+
+  @Test
+  fun `does not long poll while suspended`() {
+    val longPoller = longPoller(1)
+    every { workloadApiClient.longPollQueue(groupId, priority, pollSizeItems, LONG_POLL_WAIT_SECONDS) } returns listOf(workload1)
+
+    longPoller.initialize(groupId)
+    StepVerifier
+      .create(longPoller.flux.take(1))
+      .expectSubscription()
+      .expectNoEvent(Duration.ofSeconds(2))
+      .then { longPoller.resumePolling() }
+      .expectNext(workload1.toLauncherInput())
+      .verifyComplete()
+
+    verify(exactly = 1) { workloadApiClient.longPollQueue(groupId, priority, pollSizeItems, LONG_POLL_WAIT_SECONDS) }
+  }
+
+  private fun longPoller(pollIntervalSeconds: Long) =
+    WorkloadApiQueuePoller(
+      workloadApiClient,
+      metricClient,
+      featureFlagClient,
+      pollSizeItems,
+      pollIntervalSeconds,
+      priority,
+      dataplaneName,
+      LONG_POLL_WAIT_SECONDS,
+    )
+
+  companion object {
+    private const val LONG_POLL_WAIT_SECONDS = 20L
+  }
+
   object Fixtures {
     val groupId = "dataplane-group-1"
 